@@ -0,0 +1,103 @@
+package com.example.chillisauce.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * 참석자 일정 생성 이벤트 처리용 스레드 풀
+     * 큐가 가득 차면 버리고, 남은 이벤트는 주기 처리에서 다시 가져간다
+     */
+    @Bean(name = "outboxExecutor")
+    public Executor outboxExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("outbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 타임테이블 변경 푸시 전송용 스레드 풀
+     * 구독 연결 수와 관계없이 변경 건수만큼만 일하며, 큐가 가득 차면 커밋한 스레드에서 직접 보낸다
+     */
+    @Bean(name = "timetableEventExecutor")
+    public Executor timetableEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("timetable-sse-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 좌석 점유 변경 푸시 전송용 스레드 풀
+     * 출근 시간처럼 이동이 몰릴 때 요청 스레드가 전송을 떠안지 않도록 큐가 가득 차면 버린다
+     * 빠진 변경은 revision 이 건너뛰므로 클라이언트가 전체를 다시 읽는다
+     */
+    @Bean(name = "occupancyEventExecutor")
+    public Executor occupancyEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("occupancy-sse-");
+        executor.setRejectedExecutionHandler(discardWithLog("occupancyEventExecutor"));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 회의실 이용률 재계산용 스레드 풀
+     * 큐가 가득 차면 로그를 남기고 버린다, 버린 작업은 매일 전날부터 마지막 예약일까지 재집계할 때 바로잡힌다
+     */
+    @Bean(name = "utilizationExecutor")
+    public Executor utilizationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("utilization-");
+        executor.setRejectedExecutionHandler(discardWithLog("utilizationExecutor"));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * @Scheduled 작업용 스케줄러
+     * 보관 작업이 오래 걸려도 outbox 재처리, SSE heartbeat 가 밀리지 않도록 스레드를 나눠 쓴다
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(3);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    private static RejectedExecutionHandler discardWithLog(String name) {
+        return (task, executor) -> log.warn("{} 큐가 가득 차 작업을 버림 queued={}", name, executor.getQueue().size());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.chillisauce.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableStructure;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시퀀스로 id 를 만드는 엔티티의 시퀀스를 테이블의 최대 id 뒤로 맞춘다
+ * IDENTITY 로 쌓인 행이 있는 스키마에서 시퀀스가 1 부터 시작해 기존 id 와 겹치지 않게 한다
+ * 스키마 생성 이후, 요청과 스케줄 작업이 시작되기 전에 실행되고 이미 앞서 있는 시퀀스는 건드리지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+
+        // 시퀀스별로 다음에 나와야 할 최소 값, 상속 엔티티처럼 여러 엔티티가 같은 시퀀스를 쓸 수 있다
+        Map<String, Long> required = new HashMap<>();
+        Map<String, DatabaseStructure> structures = new HashMap<>();
+        for (EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values()) {
+            if (!(persister.getIdentifierGenerator() instanceof SequenceStyleGenerator generator)
+                    || !(persister instanceof AbstractEntityPersister entityPersister)) {
+                continue;
+            }
+            Long maxId = jdbcTemplate.queryForObject("select max(" + entityPersister.getIdentifierColumnNames()[0]
+                    + ") from " + entityPersister.getRootTableName(), Long.class);
+            if (maxId == null) {
+                continue;
+            }
+            // pooled optimizer 는 시퀀스 값에서 allocationSize 만큼 아래 구간을 쓰므로 그만큼 더 띄운다
+            long next = maxId + generator.getOptimizer().getIncrementSize() + 1;
+            String name = generator.getDatabaseStructure().getName();
+            required.merge(name, next, Math::max);
+            structures.putIfAbsent(name, generator.getDatabaseStructure());
+        }
+
+        required.forEach((name, next) -> {
+            if (structures.get(name) instanceof TableStructure) {
+                advanceTable(name, next);
+            } else {
+                advanceSequence(dialect, name, next);
+            }
+        });
+    }
+
+    // MySQL 처럼 시퀀스가 없는 DB 는 한 행짜리 테이블로 흉내 낸다
+    private void advanceTable(String table, long next) {
+        int updated = jdbcTemplate.update("update " + table + " set " + SequenceStyleGenerator.DEF_VALUE_COLUMN
+                + " = ? where " + SequenceStyleGenerator.DEF_VALUE_COLUMN + " < ?", next, next);
+        if (updated > 0) {
+            log.info("id 시퀀스 조정 table={}, next={}", table, next);
+        }
+    }
+
+    private void advanceSequence(Dialect dialect, String sequence, long next) {
+        Long current = jdbcTemplate.queryForObject(dialect.getSequenceNextValString(sequence), Long.class);
+        if (current != null && current < next) {
+            jdbcTemplate.execute("alter sequence " + sequence + " restart with " + next);
+            log.info("id 시퀀스 조정 sequence={}, next={}", sequence, next);
+        }
+    }
+}
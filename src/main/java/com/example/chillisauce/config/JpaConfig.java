@@ -0,0 +1,51 @@
+package com.example.chillisauce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // 엔티티 시퀀스의 allocationSize 와 맞춘 JDBC 배치 크기
+    public static final int BATCH_SIZE = 50;
+
+    /**
+     * INSERT/UPDATE JDBC 배치 설정
+     * application.properties 에 같은 키가 있으면 그 값을 우선한다
+     */
+    @Bean
+    public HibernatePropertiesCustomizer batchPropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE));
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, "true");
+        };
+    }
+
+    /**
+     * MySQL 드라이버는 기본적으로 결과 전체를 메모리에 올리므로 fetch size 힌트가 무시된다
+     * useCursorFetch 로 서버 커서를 열어야 캘린더 피드 같은 Stream 조회가 fetch size 만큼씩 읽힌다
+     * 설정에 같은 키가 있으면 그 값을 우선한다
+     */
+    @Bean
+    public static BeanPostProcessor cursorFetchPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")
+                        && !dataSource.getJdbcUrl().contains("useCursorFetch")
+                        && !dataSource.getDataSourceProperties().containsKey("useCursorFetch")) {
+                    dataSource.addDataSourceProperty("useCursorFetch", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.chillisauce.config;
 
+import com.example.chillisauce.reservations.dto.response.SlotPolicyResponse;
+import com.example.chillisauce.reservations.service.ReservationDayCache;
+import com.example.chillisauce.reservations.service.SlotPolicyService;
+import com.example.chillisauce.reservations.vo.ReservationDayIntervals;
 import com.example.chillisauce.security.GrantedAuthorityDeserializer;
 import com.example.chillisauce.security.GrantedAuthoritySerializer;
 import com.example.chillisauce.security.UserDetailsImpl;
@@ -80,6 +84,14 @@ public class RedisConfig {
         grantedAuthorityModule.addDeserializer(GrantedAuthority.class, new GrantedAuthorityDeserializer());
         objectMapper.registerModule(grantedAuthorityModule);
 
+        Jackson2JsonRedisSerializer<ReservationDayIntervals> reservationDaySerializer =
+                new Jackson2JsonRedisSerializer<>(ReservationDayIntervals.class);
+        reservationDaySerializer.setObjectMapper(objectMapper);
+
+        Jackson2JsonRedisSerializer<SlotPolicyResponse> slotPolicySerializer =
+                new Jackson2JsonRedisSerializer<>(SlotPolicyResponse.class);
+        slotPolicySerializer.setObjectMapper(objectMapper);
+
         RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory);
 
         builder.withCacheConfiguration("FloorResponseDtoList",
@@ -117,6 +129,22 @@ public class RedisConfig {
                         .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(userDetailsSerializer))
         );
 
+        // 예약 변경 시 다시 적재하므로 TTL 은 동시 갱신 순서가 뒤바뀐 경우의 보정용
+        builder.withCacheConfiguration(ReservationDayCache.CACHE_NAME,
+                RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(Duration.ofMinutes(10))
+                        .disableCachingNullValues()
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(reservationDaySerializer))
+        );
+
+        // 정책 변경 시 지우므로 TTL 은 변경 중 장애로 지우지 못한 경우의 보정용
+        builder.withCacheConfiguration(SlotPolicyService.CACHE_NAME,
+                RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(Duration.ofMinutes(60))
+                        .disableCachingNullValues()
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(slotPolicySerializer))
+        );
+
         return builder.build();
     }
 
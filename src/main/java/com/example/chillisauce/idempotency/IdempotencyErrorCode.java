@@ -0,0 +1,35 @@
+package com.example.chillisauce.idempotency;
+
+import com.example.chillisauce.message.ErrorStatusMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import static org.springframework.http.HttpStatus.*;
+
+@Getter
+@AllArgsConstructor
+public enum IdempotencyErrorCode implements ErrorStatusMessage {
+    /* 400 */
+    INVALID_IDEMPOTENCY_KEY(BAD_REQUEST, "유효하지 않은 Idempotency-Key 입니다."),
+
+    /* 409 */
+    REQUEST_IN_PROGRESS(CONFLICT, "같은 Idempotency-Key 의 요청을 처리 중입니다."),
+
+    /* 422 */
+    IDEMPOTENCY_KEY_REUSED(UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 Idempotency-Key 입니다.");
+
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return this.httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return this.message;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.chillisauce.idempotency;
+
+import com.example.chillisauce.message.ErrorStatusMessage;
+import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 예약, 스케줄 등록 요청의 Idempotency-Key 처리
+ * 같은 유저가 같은 키로 다시 요청하면 저장된 응답을 그대로 돌려주어, 재시도가 DB 까지 가지 않는다
+ * 보안 필터 이후에 실행되어 인증된 유저 단위로 키를 구분한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final List<String> TARGET_PATTERNS = List.of("/reservations/{meetingRoomId}", "/schedules");
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return TARGET_PATTERNS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long userId = currentUserId();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            errorResponse(response, IdempotencyErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        String fingerprint = fingerprint(request, body);
+        String key = userId + ":" + idempotencyKey;
+
+        IdempotentResponse existing = idempotencyStore.begin(key, fingerprint);
+        if (existing != null) {
+            replay(response, existing, fingerprint);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), wrapper);
+            if (HttpStatus.valueOf(wrapper.getStatus()).is2xxSuccessful()) {
+                idempotencyStore.complete(key, IdempotentResponse.completed(fingerprint, wrapper.getStatus(),
+                        wrapper.getContentType(), new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8)));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponse existing, String fingerprint) throws IOException {
+        if (!existing.fingerprint().equals(fingerprint)) {
+            errorResponse(response, IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        if (!existing.completed()) {
+            errorResponse(response, IdempotencyErrorCode.REQUEST_IN_PROGRESS);
+            return;
+        }
+
+        response.setStatus(existing.status());
+        response.setContentType(existing.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(existing.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+            return null;
+        }
+        return userDetails.getUser().getId();
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        return request.getMethod() + " " + request.getRequestURI() + " " + DigestUtils.md5DigestAsHex(body);
+    }
+
+    private void errorResponse(HttpServletResponse response, ErrorStatusMessage errorCode) {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        try {
+            String json = objectMapper.writeValueAsString(
+                    new ResponseMessage<>(errorCode.getMessage(), errorCode.getHttpStatus().value(), ""));
+            response.getWriter().write(json);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    // 본문을 미리 읽어 fingerprint 를 만들었으므로, 이후 필터와 컨트롤러가 다시 읽을 수 있게 감싼다
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽을 수 있음을 알리고, 다 읽었으면 완료를 알린다
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+            };
+        }
+    }
+}
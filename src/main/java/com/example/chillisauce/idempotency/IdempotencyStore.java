@@ -0,0 +1,131 @@
+package com.example.chillisauce.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Idempotency-Key 별 처리 결과 저장소
+ * Redis 에 TTL 을 두고 저장하고, Redis 장애 시에는 크기가 제한된 메모리 저장소로 대체한다
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 완료된 응답 보관 기간
+    private final Duration ttl;
+
+    // 처리 중 표시 보관 기간, 처리 도중 서버가 내려가도 이 시간이 지나면 다시 요청할 수 있다
+    private final Duration lockTtl;
+
+    private final Map<String, LocalEntry> local;
+
+    public IdempotencyStore(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper,
+                            @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${idempotency.lock-seconds:30}") long lockSeconds,
+                            @Value("${idempotency.local-max-entries:10000}") int localMaxEntries) {
+        this.redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.lockTtl = Duration.ofSeconds(lockSeconds);
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localMaxEntries;
+            }
+        };
+    }
+
+    /**
+     * 처리 중 표시를 남기고 요청 처리를 시작한다
+     *
+     * @return 이미 같은 키로 저장된 결과, 처음 들어온 요청이면 null
+     */
+    public IdempotentResponse begin(String key, String fingerprint) {
+        String pending = write(IdempotentResponse.pending(fingerprint));
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, pending, lockTtl);
+            if (Boolean.TRUE.equals(acquired)) {
+                return null;
+            }
+            String existing = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            // 확인 사이에 만료된 경우, 처리 중으로 응답하고 클라이언트 재시도에 맡긴다
+            return existing == null ? IdempotentResponse.pending(fingerprint) : read(existing);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency 저장소 조회 실패, 메모리 저장소 사용 key={}", key, e);
+            return beginLocal(key, fingerprint);
+        }
+    }
+
+    public void complete(String key, IdempotentResponse response) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, write(response), ttl);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency 저장소 기록 실패, 메모리 저장소 사용 key={}", key, e);
+            putLocal(key, response, ttl);
+        }
+    }
+
+    // 실패한 요청은 결과를 남기지 않아 같은 키로 다시 시도할 수 있게 한다
+    public void release(String key) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + key);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency 저장소 삭제 실패 key={}", key, e);
+        }
+        synchronized (local) {
+            local.remove(key);
+        }
+    }
+
+    private IdempotentResponse beginLocal(String key, String fingerprint) {
+        synchronized (local) {
+            LocalEntry entry = local.get(key);
+            if (entry != null && !entry.isExpired()) {
+                return entry.response();
+            }
+            putLocal(key, IdempotentResponse.pending(fingerprint), lockTtl);
+            return null;
+        }
+    }
+
+    private void putLocal(String key, IdempotentResponse response, Duration duration) {
+        synchronized (local) {
+            local.put(key, new LocalEntry(response, System.currentTimeMillis() + duration.toMillis()));
+        }
+    }
+
+    private String write(IdempotentResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private IdempotentResponse read(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotentResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record LocalEntry(IdempotentResponse response, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
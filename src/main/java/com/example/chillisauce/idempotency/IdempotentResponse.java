@@ -0,0 +1,17 @@
+package com.example.chillisauce.idempotency;
+
+/**
+ * Idempotency-Key 로 저장한 요청 처리 결과
+ * completed 가 false 이면 같은 키의 요청이 아직 처리 중인 상태
+ *
+ * @param fingerprint : 요청 method, uri, body 로 만든 값, 같은 키로 다른 요청이 오면 구분한다
+ */
+public record IdempotentResponse(String fingerprint, boolean completed, int status, String contentType, String body) {
+    public static IdempotentResponse pending(String fingerprint) {
+        return new IdempotentResponse(fingerprint, false, 0, null, null);
+    }
+
+    public static IdempotentResponse completed(String fingerprint, int status, String contentType, String body) {
+        return new IdempotentResponse(fingerprint, true, status, contentType, body);
+    }
+}
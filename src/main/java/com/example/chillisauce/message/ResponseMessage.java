@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -25,6 +26,18 @@ public record ResponseMessage<T>(String message, int statusCode, T data) {
                 );
     }
 
+    // 오류 상세(잘못된 행 목록 등)를 data 로 함께 내려준다
+    public static ResponseEntity<ResponseMessage<Object>> responseError(ErrorStatusMessage errorCode, Object data) {
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ResponseMessage.<Object>builder()
+                        .statusCode(errorCode.getHttpStatus().value())
+                        .message(errorCode.getMessage())
+                        .data(data)
+                        .build()
+                );
+    }
+
     public static ResponseEntity<ResponseMessage<Object>> responseError(String message, HttpStatus statusCode) {
         return ResponseEntity
                 .status(statusCode)
@@ -46,4 +59,17 @@ public record ResponseMessage<T>(String message, int statusCode, T data) {
                         .build()
                 );
     }
-}
\ No newline at end of file
+
+    // 조건부 GET 응답용, ETag 는 WebRequest.checkNotModified 가 이미 응답 헤더에 넣는다
+    public static <T> ResponseEntity<ResponseMessage<T>> responseSuccess(String message, T data, CacheControl cacheControl) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .cacheControl(cacheControl)
+                .body(ResponseMessage.<T>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message(message)
+                        .data(data)
+                        .build()
+                );
+    }
+}
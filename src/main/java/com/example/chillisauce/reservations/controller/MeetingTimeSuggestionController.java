@@ -0,0 +1,51 @@
+package com.example.chillisauce.reservations.controller;
+
+import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.reservations.dto.response.MeetingTimeSuggestionListResponse;
+import com.example.chillisauce.reservations.service.MeetingTimeSuggestionService;
+import com.example.chillisauce.security.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "예약 API", description = "예약 도메인의 API 명세서입니다.")
+public class MeetingTimeSuggestionController {
+    private final MeetingTimeSuggestionService meetingTimeSuggestionService;
+
+    /**
+     * 참석자들의 일정을 고려한 회의 시간 추천
+     */
+    @Operation(summary = "회의 시간 추천",
+            description = "참석자들의 스케줄, 예약과 회의실 예약을 합쳐 겹치는 인원이 적은 회의 시간을 추천합니다.")
+    @GetMapping("/reservations/suggestions")
+    public ResponseEntity<ResponseMessage<MeetingTimeSuggestionListResponse>> getSuggestions(
+            @Parameter(description = "참석자 유저 id 리스트", example = "2,3,4")
+            @RequestParam(value = "userList", required = false, defaultValue = "") List<Long> userList,
+            @Parameter(description = "회의실 id, 있으면 회의실이 비어있는 시간만 추천", example = "3")
+            @RequestParam(value = "mrId", required = false) Long meetingRoomId,
+            @Parameter(description = "조회 시작 날짜", required = true, example = "2023-04-10")
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료 날짜", required = true, example = "2023-04-14")
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "회의 길이(슬롯 수)", example = "1")
+            @RequestParam(value = "slots", required = false, defaultValue = "1") int slots,
+            @Parameter(description = "추천 후보 수", example = "10")
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("회의 시간 추천 성공",
+                meetingTimeSuggestionService.getSuggestions(userList, meetingRoomId, from, to, slots, size, userDetails));
+    }
+}
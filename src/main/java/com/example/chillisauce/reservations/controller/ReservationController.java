@@ -2,7 +2,10 @@ package com.example.chillisauce.reservations.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
 import com.example.chillisauce.reservations.dto.request.ReservationRequest;
+import com.example.chillisauce.reservations.dto.response.AvailableMeetingRoomListResponse;
+import com.example.chillisauce.reservations.dto.response.ReservationCursorListResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationListResponse;
+import com.example.chillisauce.reservations.dto.response.ReservationRangeTimetableResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationTimetableResponse;
 import com.example.chillisauce.reservations.service.ReservationService;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.validation.Valid;
 import java.awt.print.Pageable;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 @Slf4j
 @RestController
@@ -46,6 +50,24 @@ public class ReservationController {
                 .responseSuccess("전체 예약 조회 성공", reservationService.getAllReservations(companyName, page-1, userDetails));
     }
 
+    /**
+     * 전체 예약 커서 기반 조회
+     * cursor 파라미터가 있으면 이 API 로 매핑, 첫 페이지는 빈 값으로 요청
+     */
+    @Operation(summary = "전체 예약 커서 조회",
+            description = "회사의 전체 예약을 id 순으로 조회합니다. 응답의 nextCursor 로 다음 페이지를 요청합니다.")
+    @GetMapping(value = "/reservations/{companyName}/all", params = "cursor")
+    public ResponseEntity<ResponseMessage<ReservationCursorListResponse>> getAllReservationsByCursor(
+            @Parameter(description = "회사 이름", required = true, example = "testCompany")
+            @PathVariable String companyName,
+            @Parameter(description = "이전 응답의 nextCursor, 첫 페이지는 빈 값", example = "MjA")
+            @RequestParam(value = "cursor", required = false, defaultValue = "") String cursor,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage
+                .responseSuccess("전체 예약 조회 성공", reservationService.getAllReservationsByCursor(companyName, cursor, userDetails));
+    }
+
     /**
      * 1개 회의실의 해당 날짜의 예약 타임 테이블 조회
      * 쿼리파라미터가 없으면 오늘 날짜의 예약 타임 테이블 조회
@@ -59,10 +81,57 @@ public class ReservationController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate selDate,
             @Parameter(description = "회의실 id 값", required = true, example = "3")
             @PathVariable Long meetingRoomId,
+            @Parameter(description = "true 이면 timeList 없이 점유 비트맵(occupied)만 응답", example = "false")
+            @RequestParam(value = "compact", required = false, defaultValue = "false") boolean compact,
             @Parameter(hidden = true)
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ResponseMessage
-                .responseSuccess("예약 조회 성공", reservationService.getReservationTimetable(selDate, meetingRoomId, userDetails));
+        return ResponseMessage.responseSuccess("예약 조회 성공",
+                reservationService.getReservationTimetable(selDate, meetingRoomId, compact, userDetails));
+    }
+
+    /**
+     * 1개 회의실의 기간 예약 타임 테이블 조회 (주간 뷰 등)
+     */
+    @Operation(summary = "기간 예약 타임테이블 조회",
+            description = "특정 회의실의 시작 날짜부터 종료 날짜까지 예약 내역을 일자별 타임단위로 조회합니다. 최대 31일까지 조회할 수 있습니다.")
+    @GetMapping("/reservations/{meetingRoomId}/timetable")
+    public ResponseEntity<ResponseMessage<ReservationRangeTimetableResponse>> getReservationTimetables(
+            @Parameter(description = "시작 날짜", required = true, example = "2023-04-10")
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 날짜", required = true, example = "2023-04-16")
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "회의실 id 값", required = true, example = "3")
+            @PathVariable Long meetingRoomId,
+            @Parameter(description = "true 이면 일자별 timeList 없이 점유 비트맵(occupied)만 응답", example = "false")
+            @RequestParam(value = "compact", required = false, defaultValue = "false") boolean compact,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("기간 예약 조회 성공",
+                reservationService.getReservationTimetables(from, to, meetingRoomId, compact, userDetails));
+    }
+
+    /**
+     * 회사 회의실 중 선택 날짜, 시간대에 예약 가능한 회의실 조회
+     */
+    @Operation(summary = "예약 가능 회의실 조회",
+            description = "선택 날짜의 시작 시각부터 종료 시각까지 예약이 없는 회의실을 조회합니다. 층 id로 범위를 좁힐 수 있습니다.")
+    @GetMapping("/reservations/{companyName}/available")
+    public ResponseEntity<ResponseMessage<AvailableMeetingRoomListResponse>> getAvailableMeetingRooms(
+            @Parameter(description = "회사 이름", required = true, example = "testCompany")
+            @PathVariable String companyName,
+            @Parameter(description = "선택날짜", example = "2023-04-10")
+            @RequestParam(value = "selDate", required = false, defaultValue = "#{T(java.time.LocalDate).now()}")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate selDate,
+            @Parameter(description = "시작 시각", required = true, example = "14:00")
+            @RequestParam("start") @DateTimeFormat(pattern = "HH:mm") LocalTime start,
+            @Parameter(description = "종료 시각", required = true, example = "16:00")
+            @RequestParam("end") @DateTimeFormat(pattern = "HH:mm") LocalTime end,
+            @Parameter(description = "층 id 값", example = "1")
+            @RequestParam(value = "floorId", required = false) Long floorId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("예약 가능 회의실 조회 성공",
+                reservationService.getAvailableMeetingRooms(companyName, selDate, start, end, floorId, userDetails));
     }
 
     /**
@@ -0,0 +1,52 @@
+package com.example.chillisauce.reservations.controller;
+
+import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.reservations.dto.request.SlotPolicyRequest;
+import com.example.chillisauce.reservations.dto.response.SlotPolicyResponse;
+import com.example.chillisauce.reservations.service.SlotPolicyService;
+import com.example.chillisauce.security.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "예약 API", description = "예약 도메인의 API 명세서입니다.")
+public class SlotPolicyController {
+    private final SlotPolicyService slotPolicyService;
+
+    /**
+     * 회사 슬롯 정책 조회
+     */
+    @Operation(summary = "슬롯 정책 조회",
+            description = "회사 타임테이블의 슬롯 길이(분)와 운영 시간을 조회합니다.")
+    @GetMapping("/reservations/slot-policy")
+    public ResponseEntity<ResponseMessage<SlotPolicyResponse>> getSlotPolicy(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("슬롯 정책 조회 성공", slotPolicyService.getSlotPolicy(userDetails));
+    }
+
+    /**
+     * 회사 슬롯 정책 변경
+     */
+    @Operation(summary = "슬롯 정책 변경",
+            description = "회사 타임테이블의 슬롯 길이(15, 30, 60분)와 운영 시간을 변경합니다. 관리자만 가능합니다.")
+    @PutMapping("/reservations/slot-policy")
+    public ResponseEntity<ResponseMessage<SlotPolicyResponse>> updateSlotPolicy(
+            @RequestBody @Valid SlotPolicyRequest request,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("슬롯 정책 변경 성공",
+                slotPolicyService.updateSlotPolicy(request, userDetails));
+    }
+}
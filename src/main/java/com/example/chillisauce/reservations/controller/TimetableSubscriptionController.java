@@ -0,0 +1,47 @@
+package com.example.chillisauce.reservations.controller;
+
+import com.example.chillisauce.reservations.service.TimetableSubscriptionService;
+import com.example.chillisauce.security.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "예약 API", description = "예약 도메인의 API 명세서입니다.")
+public class TimetableSubscriptionController {
+    private final TimetableSubscriptionService timetableSubscriptionService;
+
+    /**
+     * 1개 회의실의 타임테이블 변경 구독
+     */
+    @Operation(summary = "회의실 타임테이블 변경 구독",
+            description = "특정 회의실의 예약 등록, 수정, 삭제로 바뀐 구간을 SSE(timetable 이벤트)로 받습니다.")
+    @GetMapping(value = "/reservations/{meetingRoomId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMeetingRoom(
+            @Parameter(description = "회의실 id 값", required = true, example = "3")
+            @PathVariable Long meetingRoomId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return timetableSubscriptionService.subscribeMeetingRoom(meetingRoomId, userDetails);
+    }
+
+    /**
+     * 회사 전체 회의실의 타임테이블 변경 구독
+     */
+    @Operation(summary = "회사 타임테이블 변경 구독",
+            description = "회사 전체 회의실의 예약 변경 구간을 SSE(timetable 이벤트)로 받습니다.")
+    @GetMapping(value = "/reservations/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeCompany(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return timetableSubscriptionService.subscribeCompany(userDetails);
+    }
+}
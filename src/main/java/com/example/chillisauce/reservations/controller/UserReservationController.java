@@ -5,22 +5,32 @@ import com.example.chillisauce.reservations.dto.response.UserReservationListResp
 import com.example.chillisauce.reservations.service.UserReservationService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 public class UserReservationController {
     private final UserReservationService userReservationService;
 
     /**
-     * 회원의 예약 전체 조회
+     * 회원의 예약 조회
+     * from, to 로 기간을 제한하고, cursor 를 보내면 페이지 단위로 조회 (첫 페이지는 빈 값)
      */
     @GetMapping("/users/reservations")
-    public ResponseEntity<ResponseMessage<UserReservationListResponse>> getUserReservations(@AuthenticationPrincipal UserDetailsImpl userDetails){
+    public ResponseEntity<ResponseMessage<UserReservationListResponse>> getUserReservations(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @AuthenticationPrincipal UserDetailsImpl userDetails){
         return ResponseMessage
-                .responseSuccess("회원의 예약 조회 성공", userReservationService.getUserReservations(userDetails));
+                .responseSuccess("회원의 예약 조회 성공",
+                        userReservationService.getUserReservations(from, to, cursor, userDetails));
     }
 }
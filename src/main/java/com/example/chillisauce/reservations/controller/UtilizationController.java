@@ -0,0 +1,42 @@
+package com.example.chillisauce.reservations.controller;
+
+import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.reservations.dto.response.UtilizationResponse;
+import com.example.chillisauce.reservations.service.UtilizationService;
+import com.example.chillisauce.security.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "예약 API", description = "예약 도메인의 API 명세서입니다.")
+public class UtilizationController {
+    private final UtilizationService utilizationService;
+
+    /**
+     * 회의실 이용률 조회
+     */
+    @Operation(summary = "회의실 이용률 조회",
+            description = "기간 동안 회의실, 플로어, 시간대별 예약 비율을 조회합니다. 관리자, 매니저만 가능합니다.")
+    @GetMapping("/reservations/utilization")
+    public ResponseEntity<ResponseMessage<UtilizationResponse>> getUtilization(
+            @Parameter(description = "조회 시작 날짜", required = true, example = "2023-04-01")
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료 날짜", required = true, example = "2023-04-30")
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("회의실 이용률 조회 성공",
+                utilizationService.getUtilization(from, to, userDetails));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.chillisauce.reservations.dto;
+
+public interface MeetingRoomFloorWrapper {
+    Long getMeetingRoomId();
+    String getMeetingRoomName();
+    Long getFloorId();
+    String getFloorName();
+}
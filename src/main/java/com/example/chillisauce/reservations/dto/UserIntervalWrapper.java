@@ -0,0 +1,10 @@
+package com.example.chillisauce.reservations.dto;
+
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+
+/**
+ * 유저 id 와 해당 유저가 점유한 구간, 여러 유저의 점유를 한 번에 조회할 때 사용
+ */
+public interface UserIntervalWrapper extends SlotBitmap.Interval {
+    Long getUserId();
+}
@@ -0,0 +1,12 @@
+package com.example.chillisauce.reservations.dto;
+
+import java.time.LocalDateTime;
+
+public interface UserReservationWrapper {
+    Long getReservationId();
+    Long getMrId();
+    String getMrName();
+    String getUsername();
+    LocalDateTime getStartTime();
+    LocalDateTime getEndTime();
+}
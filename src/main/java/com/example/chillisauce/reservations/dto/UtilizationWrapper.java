@@ -0,0 +1,9 @@
+package com.example.chillisauce.reservations.dto;
+
+/**
+ * 이용률 집계 합계, groupKey 는 회의실 id 또는 시(0 ~ 23)
+ */
+public interface UtilizationWrapper {
+    Long getGroupKey();
+    Long getMinutes();
+}
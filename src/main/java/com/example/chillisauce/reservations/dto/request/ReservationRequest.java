@@ -1,17 +1,40 @@
 package com.example.chillisauce.reservations.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.AssertTrue;
+import java.time.LocalDate;
 import java.util.List;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class ReservationRequest {
-    @NotEmpty(message = "요청의 시각 목록이 비어있습니다.")
     List<ReservationTime> startList;
     List<ReservationAttendee> userList;
+
+    // startList 대신 날짜와 회사 슬롯 정책의 슬롯 index 목록으로 요청할 수 있다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    LocalDate date;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    List<Integer> slotList;
+
+    public ReservationRequest(List<ReservationTime> startList, List<ReservationAttendee> userList) {
+        this.startList = startList;
+        this.userList = userList;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "요청의 시각 목록이 비어있습니다.")
+    public boolean isValidTime() {
+        boolean hasStartList = startList != null && !startList.isEmpty();
+        boolean hasSlotList = date != null && slotList != null && !slotList.isEmpty();
+        return hasStartList || hasSlotList;
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.chillisauce.reservations.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotPolicyRequest {
+    @NotNull(message = "슬롯 길이를 입력해주세요.")
+    Integer slotMinutes;
+    Integer openHour;
+    Integer closeHour;
+}
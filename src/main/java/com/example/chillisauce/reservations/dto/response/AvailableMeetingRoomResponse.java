@@ -0,0 +1,28 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요청한 시간대에 예약이 없는 회의실 정보
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "예약 가능 회의실 응답 DTO")
+public class AvailableMeetingRoomResponse {
+    @Schema(description = "회의실 Id")
+    Long mrId;
+    @Schema(description = "회의실 이름")
+    String mrName;
+    @Schema(description = "스페이스 Id")
+    Long spaceId;
+    @Schema(description = "스페이스 이름")
+    String spaceName;
+    @Schema(description = "층 Id")
+    Long floorId;
+    @Schema(description = "층 이름")
+    String floorName;
+}
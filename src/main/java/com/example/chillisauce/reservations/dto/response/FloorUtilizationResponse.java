@@ -0,0 +1,27 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "플로어별 이용률 응답 DTO")
+public class FloorUtilizationResponse {
+    @Schema(description = "플로어 id")
+    Long floorId;
+
+    @Schema(description = "플로어 이름")
+    String floorName;
+
+    @Schema(description = "플로어의 회의실 수")
+    Integer mrCount;
+
+    @Schema(description = "예약된 시간(분)")
+    Long reservedMinutes;
+
+    @Schema(description = "회의실 운영 시간 합계 대비 예약 비율 (0 ~ 1)")
+    Double rate;
+}
@@ -0,0 +1,21 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "시간대별 이용률 응답 DTO")
+public class HourUtilizationResponse {
+    @Schema(description = "시 (0 ~ 23)")
+    Integer hour;
+
+    @Schema(description = "예약된 시간(분)")
+    Long reservedMinutes;
+
+    @Schema(description = "전체 회의실의 해당 시간대 대비 예약 비율 (0 ~ 1)")
+    Double rate;
+}
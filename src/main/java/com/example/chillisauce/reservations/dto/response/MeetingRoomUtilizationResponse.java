@@ -0,0 +1,27 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실별 이용률 응답 DTO")
+public class MeetingRoomUtilizationResponse {
+    @Schema(description = "회의실 id")
+    Long mrId;
+
+    @Schema(description = "회의실 이름")
+    String mrName;
+
+    @Schema(description = "플로어 id, 플로어에 속하지 않으면 null")
+    Long floorId;
+
+    @Schema(description = "예약된 시간(분)")
+    Long reservedMinutes;
+
+    @Schema(description = "운영 시간 대비 예약 비율 (0 ~ 1)")
+    Double rate;
+}
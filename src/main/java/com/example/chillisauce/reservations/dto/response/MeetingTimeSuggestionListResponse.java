@@ -0,0 +1,17 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "회의 시간 추천 목록 응답 DTO")
+public class MeetingTimeSuggestionListResponse {
+    @Schema(description = "겹치는 인원이 적은 순, 같으면 이른 시각 순으로 정렬된 후보 리스트")
+    List<MeetingTimeSuggestionResponse> suggestionList;
+}
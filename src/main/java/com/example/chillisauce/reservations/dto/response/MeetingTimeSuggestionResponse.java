@@ -0,0 +1,33 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "회의 시간 추천 응답 DTO")
+public class MeetingTimeSuggestionResponse {
+    @Schema(description = "시작 시각")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+    LocalDateTime start;
+
+    @Schema(description = "종료 시각")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+    LocalDateTime end;
+
+    @Schema(description = "주최자를 포함한 참석자 수")
+    Integer attendeeCount;
+
+    @Schema(description = "참석 가능한 인원 수")
+    Integer availableCount;
+
+    @Schema(description = "일정이 겹치는 유저 id 리스트")
+    List<Long> busyUserList;
+}
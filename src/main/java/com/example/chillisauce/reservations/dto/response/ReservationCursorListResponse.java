@@ -0,0 +1,19 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "커서 기반 예약 목록 응답 DTO")
+public class ReservationCursorListResponse {
+    @Schema(description = "예약 리스트")
+    List<ReservationDetailResponse> reservationList;
+    @Schema(description = "다음 페이지 커서, 마지막 페이지면 null")
+    String nextCursor;
+}
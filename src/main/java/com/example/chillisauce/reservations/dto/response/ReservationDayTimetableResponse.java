@@ -0,0 +1,32 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간 타임테이블의 하루 단위 요소
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "일자별 예약 타임테이블 응답 DTO")
+public class ReservationDayTimetableResponse {
+    @Schema(description = "날짜")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    LocalDate date;
+    @Schema(description = "타임테이블 리스트")
+    List<ReservationTimeResponse> timeList;
+    @Schema(description = "슬롯 점유 비트맵(16진수), i번째 비트가 i번째 슬롯")
+    String occupied;
+
+    public ReservationDayTimetableResponse(LocalDate date, List<ReservationTimeResponse> timeList) {
+        this.date = date;
+        this.timeList = timeList;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 기간 예약 정보 타임테이블
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "기간 예약 타임테이블 응답 DTO")
+public class ReservationRangeTimetableResponse {
+    @Schema(description = "회의실 Id")
+    Long mrId;
+    @Schema(description = "회의실 이름")
+    String mrName;
+    @Schema(description = "일자별 타임테이블 리스트")
+    List<ReservationDayTimetableResponse> dayList;
+    @Schema(description = "슬롯 길이(분)")
+    Integer slotMinutes;
+    @Schema(description = "첫 슬롯 시작 시각")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm", timezone = "Asia/Seoul")
+    LocalTime open;
+
+    public ReservationRangeTimetableResponse(Long mrId, String mrName, List<ReservationDayTimetableResponse> dayList) {
+        this.mrId = mrId;
+        this.mrName = mrName;
+        this.dayList = dayList;
+    }
+}
@@ -1,16 +1,21 @@
 package com.example.chillisauce.reservations.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
  * 예약 정보 타임테이블
+ * compact 조회 시 timeList 없이 슬롯 정책과 점유 비트맵만 보낸다
  */
 @Getter
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "예약 타임테이블 응답 DTO")
 public class ReservationTimetableResponse {
     @Schema(description = "회의실 Id")
@@ -19,4 +24,17 @@ public class ReservationTimetableResponse {
     String mrName;
     @Schema(description = "타임테이블 리스트")
     List<ReservationTimeResponse> timeList;
+    @Schema(description = "슬롯 길이(분)")
+    Integer slotMinutes;
+    @Schema(description = "첫 슬롯 시작 시각")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm", timezone = "Asia/Seoul")
+    LocalTime open;
+    @Schema(description = "슬롯 점유 비트맵(16진수), i번째 비트가 i번째 슬롯")
+    String occupied;
+
+    public ReservationTimetableResponse(Long mrId, String mrName, List<ReservationTimeResponse> timeList) {
+        this.mrId = mrId;
+        this.mrName = mrName;
+        this.timeList = timeList;
+    }
 }
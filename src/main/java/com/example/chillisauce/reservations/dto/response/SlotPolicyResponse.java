@@ -0,0 +1,30 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@Schema(description = "회사 슬롯 정책 응답 DTO")
+public class SlotPolicyResponse {
+    @Schema(description = "슬롯 길이(분)")
+    Integer slotMinutes;
+
+    @Schema(description = "운영 시작 시")
+    Integer openHour;
+
+    @Schema(description = "마지막 슬롯이 속한 시")
+    Integer closeHour;
+
+    @Schema(description = "하루 슬롯 수")
+    Integer slotCount;
+
+    public SlotPolicyResponse(SlotPolicy policy) {
+        this.slotMinutes = policy.getSlotMinutes();
+        this.openHour = policy.getOpenHour();
+        this.closeHour = policy.getCloseHour();
+        this.slotCount = policy.getSlotCount();
+    }
+}
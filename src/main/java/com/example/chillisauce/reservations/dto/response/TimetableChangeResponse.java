@@ -0,0 +1,39 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import com.example.chillisauce.reservations.vo.ReservationChangedEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@Schema(description = "타임테이블 변경 푸시 DTO")
+public class TimetableChangeResponse {
+    @Schema(description = "RESERVED : 구간 점유, RELEASED : 구간 점유 해제")
+    String type;
+
+    @Schema(description = "회의실 id")
+    Long mrId;
+
+    @Schema(description = "예약 id")
+    Long reservationId;
+
+    @Schema(description = "시작 시각")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+    LocalDateTime start;
+
+    @Schema(description = "종료 시각")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+    LocalDateTime end;
+
+    public TimetableChangeResponse(ReservationChangedEvent event) {
+        this.type = event.getType().name();
+        this.mrId = event.getMeetingRoomId();
+        this.reservationId = event.getReservationId();
+        this.start = event.getStart();
+        this.end = event.getEnd();
+    }
+}
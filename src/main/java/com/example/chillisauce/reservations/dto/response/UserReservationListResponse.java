@@ -1,5 +1,6 @@
 package com.example.chillisauce.reservations.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -9,4 +10,12 @@ import java.util.List;
 @AllArgsConstructor
 public class UserReservationListResponse {
     List<UserReservationResponse> reservationList;
+
+    // 커서 조회일 때만 응답에 포함, 마지막 페이지면 null
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor;
+
+    public UserReservationListResponse(List<UserReservationResponse> reservationList) {
+        this.reservationList = reservationList;
+    }
 }
@@ -1,6 +1,8 @@
 package com.example.chillisauce.reservations.dto.response;
 
+import com.example.chillisauce.reservations.dto.UserReservationWrapper;
 import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationArchive;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -46,4 +48,24 @@ public class UserReservationResponse {
         this.end = reservation.getEndTime();
         this.userList = userList;
     }
+
+    public UserReservationResponse(UserReservationWrapper reservation, List<UsernameResponse> userList) {
+        this.reservationId = reservation.getReservationId();
+        this.mrId = reservation.getMrId() == null ? 0 : reservation.getMrId();
+        this.mrName = reservation.getMrName() == null ? "삭제된 회의실" : reservation.getMrName();
+        this.username = reservation.getUsername();
+        this.start = reservation.getStartTime();
+        this.end = reservation.getEndTime();
+        this.userList = userList;
+    }
+
+    public UserReservationResponse(ReservationArchive reservation) {
+        this.reservationId = reservation.getId();
+        this.mrId = reservation.getMeetingRoomId() == null ? 0 : reservation.getMeetingRoomId();
+        this.mrName = reservation.getMeetingRoomName() == null ? "삭제된 회의실" : reservation.getMeetingRoomName();
+        this.username = reservation.getUsername();
+        this.start = reservation.getStartTime();
+        this.end = reservation.getEndTime();
+        this.userList = reservation.getAttendeeNameList().stream().map(UsernameResponse::new).toList();
+    }
 }
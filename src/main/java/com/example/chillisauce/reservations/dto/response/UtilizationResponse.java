@@ -0,0 +1,33 @@
+package com.example.chillisauce.reservations.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실 이용률 응답 DTO")
+public class UtilizationResponse {
+    @Schema(description = "조회 시작 날짜")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    LocalDate from;
+
+    @Schema(description = "조회 종료 날짜")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    LocalDate to;
+
+    @Schema(description = "회의실별 이용률")
+    List<MeetingRoomUtilizationResponse> mrList;
+
+    @Schema(description = "플로어별 이용률")
+    List<FloorUtilizationResponse> floorList;
+
+    @Schema(description = "운영 시간 안의 시간대별 이용률")
+    List<HourUtilizationResponse> hourList;
+}
@@ -0,0 +1,8 @@
+package com.example.chillisauce.reservations.entity;
+
+public enum OutboxStatus {
+    PENDING,     // 처리 대기 (재시도 대기 포함)
+    PROCESSING,  // 디스패처가 점유 중, nextAttemptAt 까지 끝나지 않으면 다시 점유 가능
+    DONE,
+    FAILED       // 최대 재시도 초과
+}
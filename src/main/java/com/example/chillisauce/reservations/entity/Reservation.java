@@ -1,5 +1,7 @@
 package com.example.chillisauce.reservations.entity;
 
+import com.example.chillisauce.config.JpaConfig;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
 import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.users.entity.User;
 import lombok.AllArgsConstructor;
@@ -12,13 +14,22 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_mr_time", columnList = "meeting_room_id, startTime, endTime"),
+        // 주최자의 기간별 예약 조회용
+        @Index(name = "idx_reservation_user_start", columnList = "user_id, startTime"),
+        // 보관 대상 조회용
+        @Index(name = "idx_reservation_end_time", columnList = "endTime")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Reservation {
+public class Reservation implements SlotBitmap.Interval {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq_generator")
+    @SequenceGenerator(name = "reservation_seq_generator", sequenceName = "reservation_seq",
+            allocationSize = JpaConfig.BATCH_SIZE)
     Long id;
 
     @Column(nullable = false)
@@ -37,6 +48,18 @@ public class Reservation {
     @OneToMany(mappedBy = "reservation", cascade = CascadeType.ALL, orphanRemoval = true)
     List<ReservationUser> reservationUser;
 
+    @OneToMany(mappedBy = "reservation", cascade = CascadeType.REMOVE)
+    List<ReservationSlot> slots;
+
+    // 캘린더 피드의 변경 여부(ETag, Last-Modified) 판단용
+    LocalDateTime modifiedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.modifiedAt = LocalDateTime.now();
+    }
+
     public void update(LocalDateTime startTime, LocalDateTime endTime) {
         this.startTime = startTime;
         this.endTime = endTime;
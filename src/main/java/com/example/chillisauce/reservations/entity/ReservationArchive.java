@@ -0,0 +1,87 @@
+package com.example.chillisauce.reservations.entity;
+
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 지난 예약 보관 테이블
+ * 운영 테이블에서 옮겨온 시점의 스냅샷이며, 회원, 회의실 삭제와 무관하게 남도록 FK 없이 id 와 이름을 보관한다
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_reservation_archive_user_start", columnList = "userId, startTime"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationArchive implements SlotBitmap.Interval, Persistable<Long> {
+    // 운영 테이블의 예약 id 를 그대로 사용
+    @Id
+    Long id;
+
+    Long userId;
+
+    String username;
+
+    Long meetingRoomId;
+
+    String meetingRoomName;
+
+    @Column(nullable = false)
+    LocalDateTime startTime;
+
+    @Column(nullable = false)
+    LocalDateTime endTime;
+
+    // 참석자 이름 목록, 쉼표 구분
+    @Lob
+    @Column(nullable = false)
+    String attendeeNames;
+
+    @Column(nullable = false)
+    LocalDateTime archivedAt;
+
+    // id 를 직접 지정하므로 save 시 merge(select) 대신 persist 하도록 새 엔티티 여부를 따로 관리
+    @Transient
+    boolean persisted;
+
+    public ReservationArchive(Reservation reservation, List<String> attendeeNames, LocalDateTime now) {
+        this.id = reservation.getId();
+        if (reservation.getUser() != null) {
+            this.userId = reservation.getUser().getId();
+            this.username = reservation.getUser().getUsername();
+        }
+        if (reservation.getMeetingRoom() != null) {
+            this.meetingRoomId = reservation.getMeetingRoom().getId();
+            this.meetingRoomName = reservation.getMeetingRoom().getLocationName();
+        }
+        this.startTime = reservation.getStartTime();
+        this.endTime = reservation.getEndTime();
+        this.attendeeNames = String.join(",", attendeeNames);
+        this.archivedAt = now;
+    }
+
+    public List<String> getAttendeeNameList() {
+        if (attendeeNames.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(attendeeNames.split(",")).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.chillisauce.reservations.entity;
+
+import com.example.chillisauce.config.JpaConfig;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 참석자 일정 생성 이벤트
+ * 예약 트랜잭션에서 함께 저장되고, 디스패처가 커밋 이후 참석자 연결 정보와 스케줄을 생성한다
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_outbox_status_next", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_reservation_outbox_status_completed", columnList = "status, completedAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationOutbox {
+    public static final int MAX_ATTEMPTS = 5;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_outbox_seq_generator")
+    @SequenceGenerator(name = "reservation_outbox_seq_generator", sequenceName = "reservation_outbox_seq",
+            allocationSize = JpaConfig.BATCH_SIZE)
+    Long id;
+
+    // 예약 삭제와 무관하게 남아야 하므로 FK 없이 id 만 보관
+    @Column(nullable = false)
+    Long reservationId;
+
+    // 참석자 user id 목록, 쉼표 구분
+    @Lob
+    @Column(nullable = false)
+    String attendeeIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    OutboxStatus status;
+
+    @Column(nullable = false)
+    int attempts;
+
+    @Column(nullable = false)
+    LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    LocalDateTime createdAt;
+
+    // 처리 완료 시각, 완료 전에는 null
+    LocalDateTime completedAt;
+
+    public ReservationOutbox(Long reservationId, List<Long> attendeeIds, LocalDateTime now) {
+        this.reservationId = reservationId;
+        this.attendeeIds = attendeeIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    public List<Long> getAttendeeIdList() {
+        if (attendeeIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(attendeeIds.split(",")).map(Long::valueOf).toList();
+    }
+
+    public void done(LocalDateTime now) {
+        this.status = OutboxStatus.DONE;
+        this.completedAt = now;
+    }
+
+    // 지수 백오프로 재시도 예약, 최대 횟수를 넘으면 실패 처리
+    public void fail(LocalDateTime now) {
+        if (attempts >= MAX_ATTEMPTS) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = now.plusSeconds(1L << attempts);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.chillisauce.reservations.entity;
+
+import com.example.chillisauce.config.JpaConfig;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회의실 슬롯 점유 장부
+ * (회의실, 슬롯 시작 시각) 유니크 제약으로 같은 슬롯을 두 예약이 동시에 점유할 수 없다
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_reservation_slot_mr_start",
+        columnNames = {"meeting_room_id", "slot_start"}))
+public class ReservationSlot {
+    // 회사마다 슬롯 길이가 달라도, 정책이 바뀌어도 겹치는 예약이 같은 행에서 충돌하도록 가장 작은 단위로 점유
+    public static final int SLOT_MINUTES = SlotPolicy.BASE_MINUTES;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_slot_seq_generator")
+    @SequenceGenerator(name = "reservation_slot_seq_generator", sequenceName = "reservation_slot_seq",
+            allocationSize = JpaConfig.BATCH_SIZE)
+    Long id;
+
+    // 회의실 삭제 후에도 예약 이력은 남으므로 FK 없이 id 만 보관
+    @Column(name = "meeting_room_id", nullable = false)
+    Long meetingRoomId;
+
+    @Column(name = "slot_start", nullable = false)
+    LocalDateTime slotStart;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    Reservation reservation;
+
+    public ReservationSlot(Long meetingRoomId, LocalDateTime slotStart, Reservation reservation) {
+        this.meetingRoomId = meetingRoomId;
+        this.slotStart = slotStart;
+        this.reservation = reservation;
+    }
+
+    /**
+     * 예약 구간에 조금이라도 걸치는 모든 슬롯을 점유
+     */
+    public static List<ReservationSlot> of(Reservation reservation) {
+        Long meetingRoomId = reservation.getMeetingRoom().getId();
+        LocalDateTime end = reservation.getEndTime();
+        LocalDateTime slot = floor(reservation.getStartTime());
+
+        List<ReservationSlot> slots = new ArrayList<>();
+        while (slot.isBefore(end)) {
+            slots.add(new ReservationSlot(meetingRoomId, slot, reservation));
+            slot = slot.plusMinutes(SLOT_MINUTES);
+        }
+        return slots;
+    }
+
+    private static LocalDateTime floor(LocalDateTime time) {
+        int minuteOfDay = time.getHour() * 60 + time.getMinute();
+        int slotMinute = minuteOfDay - minuteOfDay % SLOT_MINUTES;
+        return time.toLocalDate().atStartOfDay().plusMinutes(slotMinute);
+    }
+}
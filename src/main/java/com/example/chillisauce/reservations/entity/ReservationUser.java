@@ -1,5 +1,6 @@
 package com.example.chillisauce.reservations.entity;
 
+import com.example.chillisauce.config.JpaConfig;
 import com.example.chillisauce.users.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +10,8 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
+// 참석자 기준 예약 조회용, 예약 id 까지 포함해 조인을 인덱스만으로 처리한다
+@Table(indexes = @Index(name = "idx_reservation_user_attendee", columnList = "user_id, reservation_id"))
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +19,9 @@ import javax.persistence.*;
 public class ReservationUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_user_seq_generator")
+    @SequenceGenerator(name = "reservation_user_seq_generator", sequenceName = "reservation_user_seq",
+            allocationSize = JpaConfig.BATCH_SIZE)
     Long id;
 
     // 회의 참석자
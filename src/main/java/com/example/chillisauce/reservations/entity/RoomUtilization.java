@@ -0,0 +1,51 @@
+package com.example.chillisauce.reservations.entity;
+
+import com.example.chillisauce.config.JpaConfig;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 회의실 이용률 집계, (회의실, 날짜, 시) 별 예약된 분
+ * 예약 변경 커밋 이후 해당 회의실의 하루치를 다시 계산하며, 조회 API 는 예약 이력 대신 이 테이블만 읽는다
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_room_utilization_mr_date_hour",
+        columnNames = {"meeting_room_id", "use_date", "hour_of_day"}),
+        indexes = @Index(name = "idx_room_utilization_date", columnList = "use_date"))
+public class RoomUtilization {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_utilization_seq_generator")
+    @SequenceGenerator(name = "room_utilization_seq_generator", sequenceName = "room_utilization_seq",
+            allocationSize = JpaConfig.BATCH_SIZE)
+    Long id;
+
+    // 회의실이 삭제되어도 지난 이용률은 남도록 FK 없이 id 만 보관
+    @Column(name = "meeting_room_id", nullable = false)
+    Long meetingRoomId;
+
+    @Column(name = "use_date", nullable = false)
+    LocalDate useDate;
+
+    @Column(name = "hour_of_day", nullable = false)
+    int hourOfDay;
+
+    @Column(nullable = false)
+    int reservedMinutes;
+
+    public RoomUtilization(Long meetingRoomId, LocalDate useDate, int hourOfDay, int reservedMinutes) {
+        this.meetingRoomId = meetingRoomId;
+        this.useDate = useDate;
+        this.hourOfDay = hourOfDay;
+        this.reservedMinutes = reservedMinutes;
+    }
+
+    public void update(int reservedMinutes) {
+        this.reservedMinutes = reservedMinutes;
+    }
+}
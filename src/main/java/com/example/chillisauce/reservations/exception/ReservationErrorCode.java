@@ -16,6 +16,13 @@ public enum ReservationErrorCode implements ErrorStatusMessage {
     INVALID_USER_RESERVATION_UPDATE(BAD_REQUEST, "예약을 수정할 권한이 없는 유저입니다."),
     INVALID_USER(BAD_REQUEST, "예약에 접근할 수 없는 유저입니다."),
     LOCATION_NOT_MEETING_ROOM(BAD_REQUEST, "해당 장소는 회의실이 아닙니다."),
+    INVALID_CURSOR(BAD_REQUEST, "유효하지 않은 커서입니다."),
+    INVALID_DATE_RANGE(BAD_REQUEST, "조회 기간이 올바르지 않습니다."),
+    INVALID_SLOT_POLICY(BAD_REQUEST, "지원하지 않는 슬롯 설정입니다."),
+    TOO_MANY_ATTENDEES(BAD_REQUEST, "한 번에 조회할 수 있는 참석자 수를 넘었습니다."),
+
+    /* 403 */
+    NOT_HAVE_PERMISSION(FORBIDDEN, "권한이 없습니다."),
 
     /* 404 */
     MEETING_ROOM_NOT_FOUND(NOT_FOUND, "등록된 회의실이 없습니다."),
@@ -0,0 +1,158 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.reservations.vo.CascadeTarget;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.chillisauce.reservations.entity.QReservation.reservation;
+import static com.example.chillisauce.reservations.entity.QReservationOutbox.reservationOutbox;
+import static com.example.chillisauce.reservations.entity.QReservationSlot.reservationSlot;
+import static com.example.chillisauce.reservations.entity.QReservationUser.reservationUser;
+import static com.example.chillisauce.schedules.entity.QSchedule.schedule;
+import static com.example.chillisauce.spaces.entity.QMr.mr;
+import static com.example.chillisauce.spaces.entity.QUserLocation.userLocation;
+import static com.example.chillisauce.users.entity.QCompanies.companies;
+import static com.example.chillisauce.users.entity.QUser.user;
+
+/**
+ * 유저, 회의실, 공간, 플로어 삭제 시의 연쇄 처리 쿼리
+ * 엔티티를 읽지 않고 id 묶음 단위의 UPDATE, DELETE 로 처리하며 영향받은 행 수를 돌려준다
+ * 대상 조회는 모두 id 오름차순 keyset 이므로 lastId 로 다음 묶음을 이어서 읽는다
+ */
+@Repository
+public class BulkCascadeRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public BulkCascadeRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    public List<Long> findMeetingRoomIdsBySpaceId(Long spaceId) {
+        return queryFactory
+                .select(mr.id)
+                .from(mr)
+                .where(mr.space.id.eq(spaceId))
+                .fetch();
+    }
+
+    public List<Long> findMeetingRoomIdsByFloorId(Long floorId) {
+        return queryFactory
+                .select(mr.id)
+                .from(mr)
+                .where(mr.space.floor.id.eq(floorId))
+                .fetch();
+    }
+
+    public List<CascadeTarget> findReservationsByMeetingRoomIds(List<Long> meetingRoomIds, Long lastId, int limit) {
+        return findTargets(reservation.meetingRoom.id.in(meetingRoomIds), lastId, limit);
+    }
+
+    public List<CascadeTarget> findReservationsByUserId(Long userId, Long lastId, int limit) {
+        return findTargets(reservation.user.id.eq(userId), lastId, limit);
+    }
+
+    private List<CascadeTarget> findTargets(BooleanExpression condition, Long lastId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(CascadeTarget.class,
+                        reservation.id,
+                        reservation.meetingRoom.id,
+                        reservation.startTime,
+                        reservation.endTime,
+                        companies.companyName))
+                .from(reservation)
+                .leftJoin(reservation.user, user)
+                .leftJoin(user.companies, companies)
+                .where(condition, reservation.id.gt(lastId))
+                .orderBy(reservation.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public long detachMeetingRoom(List<Long> reservationIds) {
+        return queryFactory
+                .update(reservation)
+                .set(reservation.meetingRoom, (Mr) null)
+                // 벌크 DML 은 @PreUpdate 를 거치지 않으므로 캘린더 피드의 변경 시각을 직접 갱신한다
+                .set(reservation.modifiedAt, LocalDateTime.now())
+                .where(reservation.id.in(reservationIds))
+                .execute();
+    }
+
+    public long deleteReservations(List<Long> reservationIds) {
+        return queryFactory
+                .delete(reservation)
+                .where(reservation.id.in(reservationIds))
+                .execute();
+    }
+
+    public long deleteAttendeesByReservationIds(List<Long> reservationIds) {
+        return queryFactory
+                .delete(reservationUser)
+                .where(reservationUser.reservation.id.in(reservationIds))
+                .execute();
+    }
+
+    public long deleteSlotsByReservationIds(List<Long> reservationIds) {
+        return queryFactory
+                .delete(reservationSlot)
+                .where(reservationSlot.reservation.id.in(reservationIds))
+                .execute();
+    }
+
+    public long deleteOutboxByReservationIds(List<Long> reservationIds) {
+        return queryFactory
+                .delete(reservationOutbox)
+                .where(reservationOutbox.reservationId.in(reservationIds))
+                .execute();
+    }
+
+    // 다른 유저의 예약에 참석자로 등록된 행
+    public List<Long> findAttendanceIdsByUserId(Long userId, Long lastId, int limit) {
+        return queryFactory
+                .select(reservationUser.id)
+                .from(reservationUser)
+                .where(reservationUser.attendee.id.eq(userId), reservationUser.id.gt(lastId))
+                .orderBy(reservationUser.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public long deleteAttendees(List<Long> reservationUserIds) {
+        return queryFactory
+                .delete(reservationUser)
+                .where(reservationUser.id.in(reservationUserIds))
+                .execute();
+    }
+
+    public List<Long> findScheduleIdsByUserId(Long userId, Long lastId, int limit) {
+        return queryFactory
+                .select(schedule.id)
+                .from(schedule)
+                .where(schedule.user.id.eq(userId), schedule.id.gt(lastId))
+                .orderBy(schedule.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public long deleteSchedules(List<Long> scheduleIds) {
+        return queryFactory
+                .delete(schedule)
+                .where(schedule.id.in(scheduleIds))
+                .execute();
+    }
+
+    public long deleteUserLocationsByUserId(Long userId) {
+        return queryFactory
+                .delete(userLocation)
+                .where(userLocation.userId.eq(userId))
+                .execute();
+    }
+}
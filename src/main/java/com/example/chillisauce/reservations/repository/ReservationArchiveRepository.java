@@ -0,0 +1,22 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.reservations.entity.ReservationArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReservationArchiveRepository extends JpaRepository<ReservationArchive, Long> {
+    // ReservationRepository.findUserReservations 와 같은 조건의 보관 예약 조회
+    @Query("select r from ReservationArchive r " +
+            "where r.userId = :userId and r.startTime >= :from and r.startTime < :to and r.id > :lastId " +
+            "order by r.id asc")
+    List<ReservationArchive> findUserReservations(@Param("userId") Long userId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to,
+                                                  @Param("lastId") Long lastId,
+                                                  Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.reservations.entity.OutboxStatus;
+import com.example.chillisauce.reservations.entity.ReservationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReservationOutboxRepository extends JpaRepository<ReservationOutbox, Long> {
+    // 처리할 차례가 된 이벤트 id, 점유 기한이 지난 PROCESSING 포함
+    @Query("select o.id from ReservationOutbox o " +
+            "where o.status in :statuses and o.nextAttemptAt <= :now " +
+            "order by o.id asc")
+    List<Long> findDispatchableIds(@Param("statuses") List<OutboxStatus> statuses,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    // 조건부 UPDATE 로 점유, 반환값이 1 인 디스패처만 처리한다, 시도 횟수를 다 쓴 이벤트는 점유하지 않는다
+    @Modifying(clearAutomatically = true)
+    @Query("update ReservationOutbox o " +
+            "set o.status = :processing, " +
+            "o.attempts = o.attempts + 1, o.nextAttemptAt = :leaseUntil " +
+            "where o.id = :id and o.status in :statuses and o.nextAttemptAt <= :now " +
+            "and o.attempts < :maxAttempts")
+    int claim(@Param("id") Long id,
+              @Param("processing") OutboxStatus processing,
+              @Param("statuses") List<OutboxStatus> statuses,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("maxAttempts") int maxAttempts);
+
+    // 처리 중 디스패처가 죽어 fail 이 기록되지 않은 채 시도 횟수를 다 쓴 이벤트를 실패 처리
+    @Modifying(clearAutomatically = true)
+    @Query("update ReservationOutbox o set o.status = :failed " +
+            "where o.status = :processing and o.nextAttemptAt <= :now and o.attempts >= :maxAttempts")
+    int failExhausted(@Param("failed") OutboxStatus failed,
+                      @Param("processing") OutboxStatus processing,
+                      @Param("now") LocalDateTime now,
+                      @Param("maxAttempts") int maxAttempts);
+
+    // 정리 대상 : status 상태로 before 이전에 끝난 이벤트, (상태, 시각) 인덱스 순으로 batch 크기만큼
+    @Query("select o.id from ReservationOutbox o " +
+            "where o.status = :status and o.completedAt < :before " +
+            "order by o.completedAt asc")
+    List<Long> findPurgeableIds(@Param("status") OutboxStatus status,
+                                @Param("before") LocalDateTime before,
+                                Pageable pageable);
+
+    @Modifying
+    @Query("delete from ReservationOutbox o where o.id in :ids")
+    void deleteAllByIdIn(@Param("ids") List<Long> ids);
+}
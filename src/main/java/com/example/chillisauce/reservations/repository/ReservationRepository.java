@@ -1,38 +1,113 @@
 package com.example.chillisauce.reservations.repository;
 
+import com.example.chillisauce.config.JpaConfig;
 import com.example.chillisauce.reservations.dto.ReservationDetailWrapper;
+import com.example.chillisauce.reservations.dto.UserIntervalWrapper;
+import com.example.chillisauce.reservations.dto.UserReservationWrapper;
 import com.example.chillisauce.reservations.dto.response.ReservationDetailResponse;
 import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.schedules.dto.CalendarEventWrapper;
+import com.example.chillisauce.schedules.dto.CalendarStampWrapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepositorySupport {
+    // 보관 대상 : 종료 시각이 before 이전인 예약, 종료 시각 인덱스 순으로 batch 크기만큼
+    @Query("select r.id from Reservation r where r.endTime < :before order by r.endTime asc")
+    List<Long> findArchivableIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 슬롯 장부 채우기 대상 : 끝나지 않았는데 점유한 슬롯이 없는 회의실 예약, afterId 다음부터 id 순으로 batch 크기만큼
+    @Query("select r.id from Reservation r " +
+            "where r.meetingRoom is not null and r.endTime >= :now and r.id > :afterId " +
+            "and not exists (select s.id from ReservationSlot s where s.reservation = r) " +
+            "order by r.id asc")
+    List<Long> findIdsWithoutSlots(@Param("now") LocalDateTime now, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 날짜를 넘는 예약 : 하루 안 검증 도입 전에 저장되어 아직 끝나지 않은 예약, id 순으로 최대 pageable 크기만큼
+    @Query("select r.id from Reservation r " +
+            "where r.endTime >= :now and cast(r.startTime as date) <> cast(r.endTime as date) " +
+            "order by r.id asc")
+    List<Long> findCrossDayIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 이용률 재집계 대상 : 기간 안에 시작하는 예약이 있는 회의실
+    @Query("select distinct r.meetingRoom.id from Reservation r " +
+            "where r.meetingRoom is not null and r.startTime >= :from and r.startTime < :to")
+    List<Long> findMeetingRoomIdsByStartTimeBetween(@Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
+
+    // 이용률 재집계 범위 : 가장 늦게 시작하는 회의실 예약, 없으면 null
+    @Query("select max(r.startTime) from Reservation r where r.meetingRoom is not null")
+    LocalDateTime findLastStartTime();
+
+    @Query("select r from Reservation r " +
+            "left join fetch r.user " +
+            "left join fetch r.meetingRoom " +
+            "where r.id in :ids")
+    List<Reservation> findAllWithUserAndMeetingRoomByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("delete from Reservation r where r.id in :ids")
+    void deleteAllByIdIn(@Param("ids") List<Long> ids);
 
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     @Query("select r from Reservation r " +
             "left join fetch r.user " +
             "left join fetch r.meetingRoom " +
             "where r.user.id=:userId")
     List<Reservation> findAllByUserId(@Param("userId") Long userId);
 
+    // 유저의 예약을 기간, 커서(id) 조건으로 필요한 컬럼만 조회
+    @Query("select r.id as reservationId, m.id as mrId, m.locationName as mrName, u.username as username, " +
+            "r.startTime as startTime, r.endTime as endTime " +
+            "from Reservation r " +
+            "join r.user u " +
+            "left join r.meetingRoom m " +
+            "where u.id = :userId and r.startTime >= :from and r.startTime < :to and r.id > :lastId " +
+            "order by r.id asc")
+    List<UserReservationWrapper> findUserReservations(@Param("userId") Long userId,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to,
+                                                      @Param("lastId") Long lastId,
+                                                      Pageable pageable);
+
     @Query(value = "select r " +
             "from Reservation r " +
             "left join fetch r.user as ru " +
             "left join fetch ru.companies as rc "+
             "left join fetch r.meetingRoom as rm " +
             "where rc.companyName = :companyName",
-            countQuery="select count(r) from Reservation r")
+            countQuery="select count(r) from Reservation r " +
+                    "left join r.user as ru " +
+                    "left join ru.companies as rc " +
+                    "where rc.companyName = :companyName")
     Page<Reservation> findAllByCompanyName(@Param("companyName") String companyName, Pageable pageable);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // 커서(id) 이후의 예약을 id 순으로 조회, count 쿼리 없음
+    @Query("select r " +
+            "from Reservation r " +
+            "left join fetch r.user as ru " +
+            "left join fetch ru.companies as rc " +
+            "left join fetch r.meetingRoom as rm " +
+            "where rc.companyName = :companyName and r.id > :lastId " +
+            "order by r.id asc")
+    List<Reservation> findAllByCompanyNameAndIdGreaterThan(@Param("companyName") String companyName,
+                                                           @Param("lastId") Long lastId,
+                                                           Pageable pageable);
+
     @Query("select r from Reservation r " +
             "where r.meetingRoom.id = :meetingRoomId and r.startTime < :endTime and r.endTime > :startTime")
     Optional<Reservation> findFirstByMeetingRoomIdAndStartTimeLessThanAndEndTimeGreaterThan(
@@ -57,4 +132,32 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("endTime") LocalDateTime endTime);
 
     List<Reservation> findAllByMeetingRoomId(Long mrId);
+
+    // 여러 유저가 주최하는 예약 구간, 참석 구간과 OR 로 묶지 않고 따로 조회해 각각 인덱스를 탄다
+    @Query("select r.user.id as userId, r.startTime as startTime, r.endTime as endTime from Reservation r " +
+            "where r.user.id in :userIds and r.startTime between :startTime and :endTime")
+    List<UserIntervalWrapper> findIntervalsByOrganizerIdIn(@Param("userIds") Collection<Long> userIds,
+                                                           @Param("startTime") LocalDateTime startTime,
+                                                           @Param("endTime") LocalDateTime endTime);
+
+    // 여러 유저가 참석하는 예약 구간
+    @Query("select ru.attendee.id as userId, r.startTime as startTime, r.endTime as endTime " +
+            "from ReservationUser ru join ru.reservation r " +
+            "where ru.attendee.id in :userIds and r.startTime between :startTime and :endTime")
+    List<UserIntervalWrapper> findIntervalsByAttendeeIdIn(@Param("userIds") Collection<Long> userIds,
+                                                          @Param("startTime") LocalDateTime startTime,
+                                                          @Param("endTime") LocalDateTime endTime);
+
+    // 캘린더 피드용 주최 예약, 참석 예약은 참석자 스케줄로 이미 피드에 들어간다
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + JpaConfig.BATCH_SIZE))
+    @Query("select r.id as id, '회의' as title, m.locationName as description, " +
+            "r.startTime as startTime, r.endTime as endTime, r.modifiedAt as modifiedAt " +
+            "from Reservation r left join r.meetingRoom m " +
+            "where r.user.id = :userId and r.startTime >= :from")
+    Stream<CalendarEventWrapper> streamCalendarEvents(@Param("userId") Long userId,
+                                                      @Param("from") LocalDateTime from);
+
+    @Query("select count(r) as count, max(r.modifiedAt) as modifiedAt " +
+            "from Reservation r where r.user.id = :userId and r.startTime >= :from")
+    CalendarStampWrapper findCalendarStamp(@Param("userId") Long userId, @Param("from") LocalDateTime from);
 }
@@ -0,0 +1,68 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.reservations.dto.response.AvailableMeetingRoomResponse;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.chillisauce.reservations.entity.QReservation.reservation;
+import static com.example.chillisauce.spaces.entity.QFloor.floor;
+import static com.example.chillisauce.spaces.entity.QMr.mr;
+import static com.example.chillisauce.spaces.entity.QSpace.space;
+
+@Repository
+public class ReservationRepositoryImpl extends QuerydslRepositorySupport implements ReservationRepositorySupport {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ReservationRepositoryImpl(EntityManager em) {
+        super(Reservation.class);
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 회사(선택 시 층)의 회의실 중 [start, end) 구간과 겹치는 예약이 없는 회의실 조회
+     * 회의실 - 스페이스 - 층 조인과 예약 구간 검사를 한 번의 쿼리로 처리
+     * 예약은 하루 안에서 끝나므로 겹치는 예약은 start 날짜 0시 이후에 시작한다,
+     * 시작 시각 하한을 두어 (회의실, 시작 시각) 인덱스를 범위로 탄다
+     */
+    public List<AvailableMeetingRoomResponse> findAvailableMeetingRooms(String companyName, Long floorId,
+                                                                        LocalDateTime start, LocalDateTime end) {
+        return queryFactory
+                .select(Projections.constructor(
+                        AvailableMeetingRoomResponse.class,
+                        mr.id,
+                        mr.locationName,
+                        space.id,
+                        space.spaceName,
+                        floor.id,
+                        floor.floorName
+                ))
+                .from(mr)
+                .join(mr.space, space)
+                .leftJoin(space.floor, floor)
+                .where(space.companies.companyName.eq(companyName),
+                        floorIdEquals(floorId),
+                        JPAExpressions.selectOne()
+                                .from(reservation)
+                                .where(reservation.meetingRoom.id.eq(mr.id),
+                                        reservation.startTime.goe(start.toLocalDate().atStartOfDay()),
+                                        reservation.startTime.lt(end),
+                                        reservation.endTime.gt(start))
+                                .notExists())
+                .orderBy(space.id.asc(), mr.id.asc())
+                .fetch();
+    }
+
+    private BooleanExpression floorIdEquals(Long floorId) {
+        return floorId == null ? null : floor.id.eq(floorId);
+    }
+}
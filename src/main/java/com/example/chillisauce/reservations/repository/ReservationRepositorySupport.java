@@ -0,0 +1,11 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.reservations.dto.response.AvailableMeetingRoomResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReservationRepositorySupport {
+    List<AvailableMeetingRoomResponse> findAvailableMeetingRooms(String companyName, Long floorId,
+                                                                 LocalDateTime start, LocalDateTime end);
+}
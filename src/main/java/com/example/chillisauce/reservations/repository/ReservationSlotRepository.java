@@ -0,0 +1,19 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+    @Modifying
+    @Query("delete from ReservationSlot s where s.reservation.id = :reservationId")
+    void deleteAllByReservationId(@Param("reservationId") Long reservationId);
+
+    @Modifying
+    @Query("delete from ReservationSlot s where s.reservation.id in :reservationIds")
+    void deleteAllByReservationIdIn(@Param("reservationIds") List<Long> reservationIds);
+}
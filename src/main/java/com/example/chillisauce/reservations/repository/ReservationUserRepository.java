@@ -3,9 +3,11 @@ package com.example.chillisauce.reservations.repository;
 import com.example.chillisauce.reservations.dto.ReservationUserWrapper;
 import com.example.chillisauce.reservations.entity.ReservationUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReservationUserRepository extends JpaRepository<ReservationUser, Long> {
@@ -14,4 +16,24 @@ public interface ReservationUserRepository extends JpaRepository<ReservationUser
             "left join r.attendee " +
             "left join r.reservation where r.reservation.id in :reservationId")
     List<ReservationUserWrapper> findReservationUserByReservationIdIn(@Param("reservationId") List<Long> reservationId);
+
+    // 주최자의 예약 중 기간, id 범위(lastId, maxId]에 해당하는 참석자, IN 절 없이 조인으로 조회
+    @Query("select a.username as username, r.id as reservationId " +
+            "from ReservationUser ru " +
+            "join ru.reservation r " +
+            "left join ru.attendee a " +
+            "where r.user.id = :userId and r.startTime >= :from and r.startTime < :to " +
+            "and r.id > :lastId and r.id <= :maxId")
+    List<ReservationUserWrapper> findAttendeesByOrganizer(@Param("userId") Long userId,
+                                                          @Param("from") LocalDateTime from,
+                                                          @Param("to") LocalDateTime to,
+                                                          @Param("lastId") Long lastId,
+                                                          @Param("maxId") Long maxId);
+
+    @Query("select ru.attendee.id from ReservationUser ru where ru.reservation.id = :reservationId")
+    List<Long> findAttendeeIdsByReservationId(@Param("reservationId") Long reservationId);
+
+    @Modifying
+    @Query("delete from ReservationUser ru where ru.reservation.id in :reservationIds")
+    void deleteAllByReservationIdIn(@Param("reservationIds") List<Long> reservationIds);
 }
@@ -0,0 +1,45 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.reservations.dto.MeetingRoomFloorWrapper;
+import com.example.chillisauce.reservations.dto.UtilizationWrapper;
+import com.example.chillisauce.reservations.entity.RoomUtilization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RoomUtilizationRepository extends JpaRepository<RoomUtilization, Long> {
+    List<RoomUtilization> findAllByMeetingRoomIdAndUseDate(Long meetingRoomId, LocalDate useDate);
+
+    @Query("select distinct u.meetingRoomId from RoomUtilization u where u.useDate = :useDate")
+    List<Long> findMeetingRoomIdsByUseDate(@Param("useDate") LocalDate useDate);
+
+    @Query("select max(u.useDate) from RoomUtilization u")
+    LocalDate findLastUseDate();
+
+    @Query("select u.meetingRoomId as groupKey, sum(u.reservedMinutes) as minutes " +
+            "from RoomUtilization u " +
+            "where u.meetingRoomId in :meetingRoomIds and u.useDate between :from and :to " +
+            "group by u.meetingRoomId")
+    List<UtilizationWrapper> sumByMeetingRoom(@Param("meetingRoomIds") List<Long> meetingRoomIds,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+
+    @Query("select u.hourOfDay as groupKey, sum(u.reservedMinutes) as minutes " +
+            "from RoomUtilization u " +
+            "where u.meetingRoomId in :meetingRoomIds and u.useDate between :from and :to " +
+            "group by u.hourOfDay")
+    List<UtilizationWrapper> sumByHourOfDay(@Param("meetingRoomIds") List<Long> meetingRoomIds,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+
+    // 회사의 회의실과 소속 플로어, 예약은 함께 읽지 않는다
+    @Query("select m.id as meetingRoomId, m.locationName as meetingRoomName, " +
+            "f.id as floorId, f.floorName as floorName " +
+            "from Mr m join m.space s left join s.floor f " +
+            "where s.companies.companyName = :companyName " +
+            "order by m.id")
+    List<MeetingRoomFloorWrapper> findMeetingRoomsByCompanyName(@Param("companyName") String companyName);
+}
@@ -0,0 +1,43 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 날짜를 넘는 예약 확인
+ * 빈 회의실 조회는 예약이 하루 안에 끝난다고 보고 조회 시작일 0시 이전에 시작한 예약을 읽지 않는다
+ * 하루 안 검증 도입 전에 저장된 예약 중 아직 끝나지 않은 것이 있으면, 다음 날 그 회의실이 비어 있는 것처럼 보이므로 기동할 때 알린다
+ * 슬롯 장부가 겹치는 예약 등록은 막으므로 중복 예약으로 이어지지는 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrossDayReservationCheck {
+    // 로그에 남길 최대 예약 id 수
+    static final int MAX_REPORTED = 100;
+
+    private final ReservationRepository reservationRepository;
+
+    @PostConstruct
+    public void initialize() {
+        check();
+    }
+
+    /**
+     * 아직 끝나지 않았는데 날짜를 넘는 예약 id, 최대 MAX_REPORTED 건
+     */
+    public List<Long> check() {
+        List<Long> ids = reservationRepository.findCrossDayIds(LocalDateTime.now(), PageRequest.of(0, MAX_REPORTED));
+        if (!ids.isEmpty()) {
+            log.warn("날짜를 넘는 예약이 있어 빈 회의실 조회에 빠질 수 있음, 하루 단위로 나눠 다시 등록 필요 reservationIds={}", ids);
+        }
+        return ids;
+    }
+}
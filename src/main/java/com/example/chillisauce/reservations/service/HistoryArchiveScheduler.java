@@ -0,0 +1,77 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.schedules.service.ScheduleArchiveProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 지난 예약, 스케줄 보관과 처리 완료된 outbox 이벤트 정리 스케줄러
+ * 업무 시간 밖(기본 매일 03시)에 보관 기간이 지난 행을 작은 batch 로 나눠 옮기고, batch 사이에 잠시 쉰다
+ * 운영 테이블에는 최근 데이터만 남아 범위 조회가 작은 인덱스 안에서 끝난다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryArchiveScheduler {
+    private final ReservationArchiveProcessor reservationArchiveProcessor;
+    private final ScheduleArchiveProcessor scheduleArchiveProcessor;
+
+    @Value("${archive.retention-days:90}")
+    private int retentionDays;
+
+    // 처리 완료된 outbox 이벤트 보관 기간
+    @Value("${archive.outbox-retention-days:7}")
+    private int outboxRetentionDays;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    // 한 번 실행에서 옮길 최대 batch 수, 남은 행은 다음 실행에서 이어서 옮긴다
+    @Value("${archive.max-batches:200}")
+    private int maxBatches;
+
+    @Value("${archive.batch-pause-millis:100}")
+    private long batchPauseMillis;
+
+    @Scheduled(cron = "${archive.cron:0 0 3 * * *}")
+    public void archive() {
+        LocalDateTime before = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+
+        int reservations = archiveAll(size -> reservationArchiveProcessor.archive(before, size));
+        int schedules = archiveAll(size -> scheduleArchiveProcessor.archive(before, size));
+        log.info("보관 완료 before={}, 예약 {}건, 스케줄 {}건", before, reservations, schedules);
+
+        LocalDateTime outboxBefore = LocalDate.now().minusDays(outboxRetentionDays).atStartOfDay();
+        int outbox = archiveAll(size -> reservationArchiveProcessor.purgeOutbox(outboxBefore, size));
+        log.info("outbox 정리 완료 before={}, {}건", outboxBefore, outbox);
+    }
+
+    private int archiveAll(IntUnaryOperator batch) {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int moved = batch.applyAsInt(batchSize);
+            total += moved;
+            if (moved < batchSize || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
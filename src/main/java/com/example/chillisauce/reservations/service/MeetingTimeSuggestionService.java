@@ -0,0 +1,128 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.dto.response.MeetingTimeSuggestionListResponse;
+import com.example.chillisauce.reservations.dto.response.MeetingTimeSuggestionResponse;
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.vo.ReservationTimetable;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.schedules.service.PersonalOccupancyService;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.repository.LocationRepository;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 참석자의 빈 시간 추천
+ * 참석자별 점유 비트맵과 회의실 점유 비트맵을 한 번에 읽어 메모리에서 슬롯 단위로 교차한다
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingTimeSuggestionService {
+    // 주최자를 제외한 한 번에 조회할 수 있는 최대 참석자 수
+    static final int MAX_ATTENDEES = 100;
+    static final int MAX_SIZE = 50;
+
+    private final PersonalOccupancyService personalOccupancyService;
+    private final ReservationRepository reservationRepository;
+    private final LocationRepository locationRepository;
+    private final UserRepository userRepository;
+    private final SlotPolicyService slotPolicyService;
+
+    /**
+     * from ~ to 기간에서 연속 slots 개 슬롯 길이의 회의 후보 시간
+     *
+     * @param meetingRoomId : 회의실 id, 있으면 회의실이 비어있는 시간만 후보로 한다
+     * @param size          : 반환할 후보 수
+     */
+    @Transactional(readOnly = true)
+    public MeetingTimeSuggestionListResponse getSuggestions(List<Long> userList, Long meetingRoomId,
+                                                            LocalDate from, LocalDate to,
+                                                            int slots, int size, UserDetailsImpl userDetails) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= ReservationTimetable.MAX_RANGE_DAYS) {
+            throw new ReservationException(ReservationErrorCode.INVALID_DATE_RANGE);
+        }
+        if (userList.size() > MAX_ATTENDEES) {
+            throw new ReservationException(ReservationErrorCode.TOO_MANY_ATTENDEES);
+        }
+
+        User organizer = userDetails.getUser();
+        String companyName = organizer.getCompanies().getCompanyName();
+        SlotPolicy policy = slotPolicyService.findSlotPolicy(companyName);
+        if (slots < 1 || slots > policy.getSlotCount()) {
+            throw new ReservationException(ReservationErrorCode.NOT_PROPER_TIME);
+        }
+
+        // 주최자와 같은 회사 유저만 참석자로 본다
+        Set<Long> attendeeIds = new LinkedHashSet<>();
+        attendeeIds.add(organizer.getId());
+        if (!userList.isEmpty()) {
+            userRepository.findAllByIdInAndCompanies_CompanyName(userList, companyName)
+                    .forEach(x -> attendeeIds.add(x.getId()));
+        }
+
+        SlotBitmap[] room = meetingRoomId == null ? null : findRoomOccupancies(meetingRoomId, companyName, policy, from, to);
+        Map<Long, SlotBitmap[]> occupancies = personalOccupancyService.getOccupancies(attendeeIds, policy, from, to);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MeetingTimeSuggestionResponse> candidates = new ArrayList<>();
+        for (int d = 0; d <= ChronoUnit.DAYS.between(from, to); d++) {
+            LocalDate day = from.plusDays(d);
+            for (int slot = 0; slot + slots <= policy.getSlotCount(); slot++) {
+                LocalDateTime start = policy.startOf(day, slot);
+                if (start.isBefore(now)) {
+                    continue;
+                }
+                LocalDateTime end = policy.endOf(day, slot + slots - 1);
+                long window = policy.mask(day, start, end);
+                if (room != null && room[d].intersects(window)) {
+                    continue;
+                }
+
+                List<Long> busy = new ArrayList<>();
+                for (Long userId : attendeeIds) {
+                    if (occupancies.get(userId)[d].intersects(window)) {
+                        busy.add(userId);
+                    }
+                }
+                candidates.add(new MeetingTimeSuggestionResponse(start, end, attendeeIds.size(),
+                        attendeeIds.size() - busy.size(), busy));
+            }
+        }
+
+        List<MeetingTimeSuggestionResponse> ranked = candidates.stream()
+                .sorted(Comparator.comparingInt((MeetingTimeSuggestionResponse x) -> x.getBusyUserList().size())
+                        .thenComparing(MeetingTimeSuggestionResponse::getStart))
+                .limit(Math.min(Math.max(size, 1), MAX_SIZE))
+                .toList();
+        return new MeetingTimeSuggestionListResponse(ranked);
+    }
+
+    private SlotBitmap[] findRoomOccupancies(Long meetingRoomId, String companyName, SlotPolicy policy,
+                                             LocalDate from, LocalDate to) {
+        Location location = locationRepository.findByIdAndCompanyName(meetingRoomId, companyName)
+                .orElseThrow(() -> new ReservationException(ReservationErrorCode.MEETING_ROOM_NOT_FOUND));
+        if (!location.isMr()) {
+            throw new ReservationException(ReservationErrorCode.LOCATION_NOT_MEETING_ROOM);
+        }
+        return SlotBitmap.ofRange(policy, from, to, reservationRepository.findAllByMeetingRoomIdAndStartTimeBetween(
+                meetingRoomId, from.atStartOfDay(), to.atTime(LocalTime.MAX)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.dto.ReservationUserWrapper;
+import com.example.chillisauce.reservations.entity.OutboxStatus;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationArchive;
+import com.example.chillisauce.reservations.repository.ReservationArchiveRepository;
+import com.example.chillisauce.reservations.repository.ReservationOutboxRepository;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.filtering;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 지난 예약을 보관 테이블로 옮기고, 처리가 끝난 outbox 이벤트를 지우는 단위 작업
+ * batch 하나가 트랜잭션 하나이므로 잠금은 batch 크기만큼만, 짧게 잡힌다
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationArchiveProcessor {
+    private final ReservationRepository reservationRepository;
+    private final ReservationUserRepository reservationUserRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final ReservationOutboxRepository reservationOutboxRepository;
+
+    /**
+     * 종료 시각이 before 이전인 예약을 최대 batchSize 건 옮기고, 옮긴 건수를 반환
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int archive(LocalDateTime before, int batchSize) {
+        List<Long> ids = reservationRepository.findArchivableIds(before, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<String>> attendees = reservationUserRepository.findReservationUserByReservationIdIn(ids)
+                .stream()
+                .collect(groupingBy(ReservationUserWrapper::getReservationId,
+                        mapping(ReservationUserWrapper::getUsername, filtering(Objects::nonNull, toList()))));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> reservations = reservationRepository.findAllWithUserAndMeetingRoomByIdIn(ids);
+        reservationArchiveRepository.saveAll(reservations.stream()
+                .map(x -> new ReservationArchive(x, attendees.getOrDefault(x.getId(), List.of()), now))
+                .toList());
+
+        // 자식 테이블부터 벌크 삭제
+        reservationUserRepository.deleteAllByReservationIdIn(ids);
+        reservationSlotRepository.deleteAllByReservationIdIn(ids);
+        reservationRepository.deleteAllByIdIn(ids);
+
+        return ids.size();
+    }
+
+    /**
+     * 처리 완료 후 before 이전에 끝난 outbox 이벤트를 최대 batchSize 건 삭제하고, 삭제한 건수를 반환
+     * 실패한 이벤트는 확인할 수 있도록 남긴다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int purgeOutbox(LocalDateTime before, int batchSize) {
+        List<Long> ids = reservationOutboxRepository.findPurgeableIds(OutboxStatus.DONE, before,
+                PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        reservationOutboxRepository.deleteAllByIdIn(ids);
+        return ids.size();
+    }
+}
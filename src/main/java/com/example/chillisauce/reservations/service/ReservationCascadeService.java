@@ -0,0 +1,179 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.repository.BulkCascadeRepository;
+import com.example.chillisauce.reservations.vo.CascadeResult;
+import com.example.chillisauce.reservations.vo.CascadeTarget;
+import com.example.chillisauce.reservations.vo.MeetingRoomDaysChangedEvent;
+import com.example.chillisauce.reservations.vo.ReservationChangedEvent;
+import com.example.chillisauce.spaces.service.SeatRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 유저, 회의실, 공간, 플로어 삭제 시 예약, 스케줄 연쇄 처리
+ * 엔티티를 읽지 않고 묶음 단위 UPDATE, DELETE 로 처리하고, 커밋 이후 예약 캐시와 타임테이블 구독자에 반영한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationCascadeService {
+    // 한 번의 IN 절에 담을 id 수
+    static final int CHUNK_SIZE = 500;
+
+    private final BulkCascadeRepository bulkCascadeRepository;
+    private final ReservationDayCache reservationDayCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatRegistry seatRegistry;
+
+    /**
+     * 회의실 삭제 전 예약에서 회의실 해제, 예약 이력은 남긴다
+     */
+    @Transactional
+    public CascadeResult detachMeetingRooms(List<Long> meetingRoomIds) {
+        if (meetingRoomIds.isEmpty()) {
+            return CascadeResult.EMPTY;
+        }
+
+        long detached = 0;
+        Map<Long, Set<LocalDate>> days = new HashMap<>();
+        Long lastId = 0L;
+        List<CascadeTarget> chunk;
+        do {
+            chunk = bulkCascadeRepository.findReservationsByMeetingRoomIds(meetingRoomIds, lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            detached += bulkCascadeRepository.detachMeetingRoom(ids(chunk));
+            collectReleased(chunk, days);
+            lastId = chunk.get(chunk.size() - 1).id();
+        } while (chunk.size() == CHUNK_SIZE);
+
+        // 삭제되는 회의실이므로 다시 적재하지 않고 제거
+        days.forEach(reservationDayCache::evictAfterCommit);
+        publishDays(days);
+
+        CascadeResult result = new CascadeResult(detached, 0, 0, 0, 0, 0);
+        log.info("회의실 해제 meetingRoomIds={}, {}", meetingRoomIds, result);
+        return result;
+    }
+
+    @Transactional
+    public CascadeResult detachSpace(Long spaceId) {
+        return detachMeetingRooms(bulkCascadeRepository.findMeetingRoomIdsBySpaceId(spaceId));
+    }
+
+    @Transactional
+    public CascadeResult detachFloor(Long floorId) {
+        return detachMeetingRooms(bulkCascadeRepository.findMeetingRoomIdsByFloorId(floorId));
+    }
+
+    /**
+     * 유저 삭제 전 유저의 예약(참석자, 슬롯, outbox 포함), 참석 기록, 스케줄, 좌석 배치 삭제
+     */
+    @Transactional
+    public CascadeResult deleteUser(Long userId) {
+        CascadeResult result = deleteReservationsOf(userId)
+                .plus(deleteAttendancesOf(userId))
+                .plus(deleteSchedulesOf(userId))
+                .plus(new CascadeResult(0, 0, 0, 0, 0, bulkCascadeRepository.deleteUserLocationsByUserId(userId)));
+        // 메모리 좌석 현황이 원본이므로 같이 비운다
+        seatRegistry.releaseAfterCommit(userId);
+        log.info("유저 연쇄 삭제 userId={}, {}", userId, result);
+        return result;
+    }
+
+    private CascadeResult deleteReservationsOf(Long userId) {
+        CascadeResult result = CascadeResult.EMPTY;
+        Map<Long, Set<LocalDate>> days = new HashMap<>();
+        Long lastId = 0L;
+        List<CascadeTarget> chunk;
+        do {
+            chunk = bulkCascadeRepository.findReservationsByUserId(userId, lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<Long> ids = ids(chunk);
+            long attendees = bulkCascadeRepository.deleteAttendeesByReservationIds(ids);
+            long slots = bulkCascadeRepository.deleteSlotsByReservationIds(ids);
+            long outbox = bulkCascadeRepository.deleteOutboxByReservationIds(ids);
+            long reservations = bulkCascadeRepository.deleteReservations(ids);
+            result = result.plus(new CascadeResult(reservations, attendees, slots, outbox, 0, 0));
+            collectReleased(chunk, days);
+            lastId = chunk.get(chunk.size() - 1).id();
+        } while (chunk.size() == CHUNK_SIZE);
+
+        // 회의실은 남아 있으므로 해당 날짜를 다시 적재
+        days.forEach(reservationDayCache::refreshAfterCommit);
+        publishDays(days);
+        return result;
+    }
+
+    private CascadeResult deleteAttendancesOf(Long userId) {
+        long attendees = 0;
+        Long lastId = 0L;
+        List<Long> chunk;
+        do {
+            chunk = bulkCascadeRepository.findAttendanceIdsByUserId(userId, lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            attendees += bulkCascadeRepository.deleteAttendees(chunk);
+            lastId = chunk.get(chunk.size() - 1);
+        } while (chunk.size() == CHUNK_SIZE);
+        return new CascadeResult(0, attendees, 0, 0, 0, 0);
+    }
+
+    private CascadeResult deleteSchedulesOf(Long userId) {
+        long schedules = 0;
+        Long lastId = 0L;
+        List<Long> chunk;
+        do {
+            chunk = bulkCascadeRepository.findScheduleIdsByUserId(userId, lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            schedules += bulkCascadeRepository.deleteSchedules(chunk);
+            lastId = chunk.get(chunk.size() - 1);
+        } while (chunk.size() == CHUNK_SIZE);
+        return new CascadeResult(0, 0, 0, 0, schedules, 0);
+    }
+
+    // 회의실별로 걸친 날짜를 모으고, 타임테이블 구독자에게 보낼 해제 알림을 남긴다
+    private void collectReleased(List<CascadeTarget> chunk, Map<Long, Set<LocalDate>> days) {
+        for (CascadeTarget target : chunk) {
+            if (target.meetingRoomId() == null) {
+                continue;
+            }
+            Set<LocalDate> roomDays = days.computeIfAbsent(target.meetingRoomId(), k -> new HashSet<>());
+            for (LocalDate day = target.startTime().toLocalDate(); !day.isAfter(target.endTime().toLocalDate());
+                 day = day.plusDays(1)) {
+                roomDays.add(day);
+            }
+            if (target.companyName() != null) {
+                eventPublisher.publishEvent(ReservationChangedEvent.cascaded(target.companyName(),
+                        target.meetingRoomId(), target.id(), target.startTime(), target.endTime()));
+            }
+        }
+    }
+
+    // 예약 수와 관계없이 회의실, 날짜별로 한 번만 이용률을 다시 계산하도록 모아서 알린다
+    private void publishDays(Map<Long, Set<LocalDate>> days) {
+        if (!days.isEmpty()) {
+            eventPublisher.publishEvent(new MeetingRoomDaysChangedEvent(days));
+        }
+    }
+
+    private static List<Long> ids(List<CascadeTarget> chunk) {
+        return chunk.stream().map(CascadeTarget::id).toList();
+    }
+}
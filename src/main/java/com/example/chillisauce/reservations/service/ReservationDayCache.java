@@ -0,0 +1,109 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TransactionCallbacks;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.vo.ReservationDayIntervals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회의실, 날짜별 예약 구간 캐시
+ * 예약 변경 커밋 이후 해당 날짜를 DB 기준으로 다시 적재하고, 캐시 장애 시에는 DB 조회로 대체한다
+ * 캐시는 사전 검사와 조회용이며, 동시 예약의 최종 판정은 슬롯 장부가 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationDayCache {
+    public static final String CACHE_NAME = "ReservationDayIntervals";
+
+    private final CacheManager cacheManager;
+    private final ReservationRepository reservationRepository;
+
+    public ReservationDayIntervals get(Long meetingRoomId, LocalDate day) {
+        String key = key(meetingRoomId, day);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            try {
+                ReservationDayIntervals cached = cache.get(key, ReservationDayIntervals.class);
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (RuntimeException e) {
+                log.warn("예약 캐시 조회 실패, DB 에서 조회 key={}", key, e);
+                return load(meetingRoomId, day);
+            }
+        }
+
+        ReservationDayIntervals loaded = load(meetingRoomId, day);
+        put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * start ~ end 에 걸친 날짜들의 캐시로 시간 중복 검사
+     *
+     * @param excludeId : 검사에서 제외할 예약 id (수정 대상), 없으면 null
+     */
+    public boolean overlaps(Long meetingRoomId, LocalDateTime start, LocalDateTime end, Long excludeId) {
+        for (LocalDate day = start.toLocalDate(); !day.isAfter(end.toLocalDate()); day = day.plusDays(1)) {
+            if (get(meetingRoomId, day).overlaps(day, start, end, excludeId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 커밋 이후 해당 날짜들을 DB 에서 다시 읽어 캐시에 기록
+    public void refreshAfterCommit(Long meetingRoomId, Collection<LocalDate> days) {
+        TransactionCallbacks.afterCommit(() ->
+                days.forEach(day -> put(key(meetingRoomId, day), load(meetingRoomId, day))));
+    }
+
+    // 회의실 삭제처럼 다시 적재할 필요가 없는 경우 커밋 이후 제거
+    public void evictAfterCommit(Long meetingRoomId, Collection<LocalDate> days) {
+        TransactionCallbacks.afterCommit(() -> days.forEach(day -> evict(key(meetingRoomId, day))));
+    }
+
+    private ReservationDayIntervals load(Long meetingRoomId, LocalDate day) {
+        return ReservationDayIntervals.of(day, reservationRepository
+                .findAllByMeetingRoomIdAndStartTimeBetween(meetingRoomId, day.atStartOfDay(), day.atTime(LocalTime.MAX)));
+    }
+
+    private void put(String key, ReservationDayIntervals value) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("예약 캐시 기록 실패 key={}", key, e);
+        }
+    }
+
+    private void evict(String key) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("예약 캐시 삭제 실패 key={}", key, e);
+        }
+    }
+
+    static String key(Long meetingRoomId, LocalDate day) {
+        return meetingRoomId + "_" + day;
+    }
+}
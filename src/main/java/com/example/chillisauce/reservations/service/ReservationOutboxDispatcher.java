@@ -0,0 +1,60 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.repository.ReservationOutboxRepository;
+import com.example.chillisauce.reservations.vo.ReservationOutboxCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참석자 일정 생성 이벤트 디스패처
+ * 예약 커밋 직후 outboxExecutor 에서 바로 처리하고, 놓치거나 실패한 이벤트는 주기적으로 다시 처리한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationOutboxDispatcher {
+    private static final int POLL_SIZE = 100;
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final ReservationOutboxProcessor reservationOutboxProcessor;
+
+    @Async("outboxExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCreated(ReservationOutboxCreatedEvent event) {
+        dispatch(event.getOutboxId());
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.outbox.poll-delay:5000}")
+    public void dispatchPending() {
+        LocalDateTime now = LocalDateTime.now();
+        reservationOutboxProcessor.failExhausted(now);
+        List<Long> ids = reservationOutboxRepository.findDispatchableIds(
+                ReservationOutboxProcessor.DISPATCHABLE, now, PageRequest.of(0, POLL_SIZE));
+        ids.forEach(this::dispatch);
+    }
+
+    /**
+     * 점유에 성공한 경우에만 처리, 실패하면 재시도 시각을 기록한다
+     */
+    public void dispatch(Long outboxId) {
+        if (!reservationOutboxProcessor.claim(outboxId, LocalDateTime.now())) {
+            return;
+        }
+
+        try {
+            reservationOutboxProcessor.process(outboxId);
+        } catch (RuntimeException e) {
+            log.warn("참석자 일정 생성 재시도 예정, outboxId={}", outboxId, e);
+            reservationOutboxProcessor.fail(outboxId, LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.entity.OutboxStatus;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationOutbox;
+import com.example.chillisauce.reservations.entity.ReservationUser;
+import com.example.chillisauce.reservations.repository.ReservationOutboxRepository;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.schedules.entity.Schedule;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 참석자 일정 생성 이벤트의 점유, 처리, 실패 기록
+ * 각 단계는 독립된 트랜잭션으로 실행된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationOutboxProcessor {
+    // 점유 후 이 시간 안에 끝나지 않으면 다른 디스패처가 다시 점유할 수 있다
+    static final Duration LEASE = Duration.ofMinutes(5);
+    static final List<OutboxStatus> DISPATCHABLE = List.of(OutboxStatus.PENDING, OutboxStatus.PROCESSING);
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationUserRepository reservationUserRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean claim(Long outboxId, LocalDateTime now) {
+        return reservationOutboxRepository.claim(outboxId, OutboxStatus.PROCESSING, DISPATCHABLE,
+                now, now.plus(LEASE), ReservationOutbox.MAX_ATTEMPTS) == 1;
+    }
+
+    /**
+     * 점유 기한이 지났는데 더 시도할 수 없는 이벤트를 실패 처리
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int failExhausted(LocalDateTime now) {
+        int failed = reservationOutboxRepository.failExhausted(OutboxStatus.FAILED, OutboxStatus.PROCESSING,
+                now, ReservationOutbox.MAX_ATTEMPTS);
+        if (failed > 0) {
+            log.error("참석자 일정 생성 실패, 점유 기한 만료 후 재시도 횟수 초과 {}건", failed);
+        }
+        return failed;
+    }
+
+    /**
+     * 아직 연결되지 않은 참석자만 ReservationUser, Schedule 생성
+     * 같은 이벤트를 여러 번 처리해도 결과는 한 번 처리한 것과 같다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void process(Long outboxId) {
+        ReservationOutbox outbox = reservationOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() == OutboxStatus.DONE) {
+            return;
+        }
+
+        // 처리 전에 예약이나 회의실이 삭제되었으면 생성할 일정이 없다
+        Reservation reservation = reservationRepository.findById(outbox.getReservationId()).orElse(null);
+        if (reservation == null || reservation.getMeetingRoom() == null) {
+            outbox.done(LocalDateTime.now());
+            return;
+        }
+
+        Set<Long> linked = new HashSet<>(reservationUserRepository.findAttendeeIdsByReservationId(reservation.getId()));
+        List<Long> missing = outbox.getAttendeeIdList().stream().filter(id -> !linked.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            List<User> attendees = userRepository.findAllById(missing);
+            reservationUserRepository.saveAll(attendees.stream().map(x -> new ReservationUser(x, reservation)).toList());
+            scheduleRepository.saveAll(attendees.stream().map(x -> new Schedule(reservation, x)).toList());
+        }
+        outbox.done(LocalDateTime.now());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(Long outboxId, LocalDateTime now) {
+        reservationOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+            outbox.fail(now);
+            if (outbox.getStatus() == OutboxStatus.FAILED) {
+                log.error("참석자 일정 생성 실패, outboxId={}, reservationId={}", outboxId, outbox.getReservationId());
+            }
+        });
+    }
+}
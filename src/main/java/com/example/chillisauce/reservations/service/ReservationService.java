@@ -5,26 +5,35 @@ import com.example.chillisauce.reservations.dto.request.ReservationRequest;
 import com.example.chillisauce.reservations.dto.request.ReservationTime;
 import com.example.chillisauce.reservations.dto.response.*;
 import com.example.chillisauce.reservations.entity.Reservation;
-import com.example.chillisauce.reservations.entity.ReservationUser;
+import com.example.chillisauce.reservations.entity.ReservationOutbox;
+import com.example.chillisauce.reservations.entity.ReservationSlot;
 import com.example.chillisauce.reservations.exception.ReservationErrorCode;
 import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.ReservationOutboxRepository;
 import com.example.chillisauce.reservations.repository.ReservationRepository;
-import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import com.example.chillisauce.reservations.vo.ReservationChangedEvent;
+import com.example.chillisauce.reservations.vo.ReservationChangedEvent.Type;
+import com.example.chillisauce.reservations.vo.ReservationCursor;
+import com.example.chillisauce.reservations.vo.ReservationOutboxCreatedEvent;
 import com.example.chillisauce.reservations.vo.ReservationTimetable;
-import com.example.chillisauce.reservations.vo.TimeUnit;
-import com.example.chillisauce.schedules.entity.Schedule;
-import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.reservations.vo.SlotRange;
+import com.example.chillisauce.reservations.vo.SlotTimeList;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.entity.Location;
 import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.spaces.repository.LocationRepository;
 import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.spaces.service.FloorMapVersion;
 import com.example.chillisauce.users.entity.User;
-import com.example.chillisauce.users.repository.CompanyRepository;
 import com.example.chillisauce.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,8 +44,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Slf4j
@@ -44,12 +56,18 @@ import java.util.Optional;
 public class ReservationService {
 
     private final ReservationRepository reservationRepository;
-    private final ReservationUserRepository reservationUserRepository;
-    private final ScheduleRepository scheduleRepository;
     private final MrRepository meetingRoomRepository;
-    private final CompanyRepository companyRepository;
+    private final SlotPolicyService slotPolicyService;
     private final UserRepository userRepository;
     private final LocationRepository locationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationDayCache reservationDayCache;
+    private final ReservationCascadeService reservationCascadeService;
+    private final FloorMapVersion floorMapVersion;
+
+    private static final SlotTimeList<ReservationTimeResponse> TIME_LIST = new SlotTimeList<>(ReservationTimeResponse::new);
 
     /**
      * 회사 전체 예약 조회
@@ -66,21 +84,51 @@ public class ReservationService {
 
         Page<Reservation> all = reservationRepository.findAllByCompanyName(companyName, pageable);
 
-        // 회의실이 null, 유저가 null : 삭제된 객체
-        List<ReservationDetailResponse> responseList =
-                all.stream().map(x -> {
-                    Mr meetingRoom = x.getMeetingRoom();
-                    Long mrId = meetingRoom == null ? 0 : meetingRoom.getId();
-                    String mrName = meetingRoom == null ? "삭제된 회의실" : meetingRoom.getLocationName();
-                    User user = x.getUser();
-                    String username = user == null ? "삭제된 유저" : user.getUsername();
-                    return new ReservationDetailResponse(x.getId(), mrId, mrName, username,
-                            x.getStartTime(), x.getEndTime());
-                }).toList();
+        List<ReservationDetailResponse> responseList = all.stream().map(this::toDetailResponse).toList();
 
         return new ReservationListResponse(responseList);
     }
 
+    /**
+     * 회사 전체 예약 커서 기반 조회
+     * 마지막으로 받은 예약 id 이후부터 seek 하므로 뒤 페이지로 갈수록 느려지지 않고 count 쿼리도 없다
+     *
+     * @param cursor : 이전 응답의 nextCursor, 비어있으면 첫 페이지
+     */
+    @Transactional(readOnly = true)
+    public ReservationCursorListResponse getAllReservationsByCursor(String companyName, String cursor,
+                                                                    UserDetailsImpl userDetails) {
+        if (!userDetails.getUser().getCompanies().getCompanyName()
+                .equals(companyName)) {
+            throw new ReservationException(ReservationErrorCode.INVALID_USER);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        int size = 20;
+        Long lastId = ReservationCursor.decode(cursor);
+        List<Reservation> all = reservationRepository
+                .findAllByCompanyNameAndIdGreaterThan(companyName, lastId, PageRequest.of(0, size + 1));
+
+        boolean hasNext = all.size() > size;
+        List<Reservation> page = hasNext ? all.subList(0, size) : all;
+        String nextCursor = hasNext ? ReservationCursor.encode(page.get(size - 1).getId()) : null;
+
+        List<ReservationDetailResponse> responseList = page.stream().map(this::toDetailResponse).toList();
+
+        return new ReservationCursorListResponse(responseList, nextCursor);
+    }
+
+    // 회의실이 null, 유저가 null : 삭제된 객체
+    private ReservationDetailResponse toDetailResponse(Reservation reservation) {
+        Mr meetingRoom = reservation.getMeetingRoom();
+        Long mrId = meetingRoom == null ? 0 : meetingRoom.getId();
+        String mrName = meetingRoom == null ? "삭제된 회의실" : meetingRoom.getLocationName();
+        User user = reservation.getUser();
+        String username = user == null ? "삭제된 유저" : user.getUsername();
+        return new ReservationDetailResponse(reservation.getId(), mrId, mrName, username,
+                reservation.getStartTime(), reservation.getEndTime());
+    }
+
     /**
      * 회의실의 예약 타임테이블 조회
      *
@@ -92,6 +140,62 @@ public class ReservationService {
     public ReservationTimetableResponse getReservationTimetable(LocalDate selDate,
                                                                 Long meetingRoomId,
                                                                 UserDetailsImpl userDetails) {
+        return getReservationTimetable(selDate, meetingRoomId, false, userDetails);
+    }
+
+    /**
+     * @param compact : true 이면 슬롯별 timeList 없이 점유 비트맵만 응답
+     */
+    @Transactional(readOnly = true)
+    public ReservationTimetableResponse getReservationTimetable(LocalDate selDate,
+                                                                Long meetingRoomId,
+                                                                boolean compact,
+                                                                UserDetailsImpl userDetails) {
+        String companyName = userDetails.getUser().getCompanies().getCompanyName();
+        Optional<Location> location = locationRepository.findByIdAndCompanyName(meetingRoomId, companyName);
+
+        if (location.isEmpty()) {
+            throw new ReservationException(ReservationErrorCode.MEETING_ROOM_NOT_FOUND);
+        }
+
+        if (!location.get().isMr()) {
+            throw new ReservationException(ReservationErrorCode.LOCATION_NOT_MEETING_ROOM);
+        }
+
+        Mr meetingRoom = (Mr) location.get();
+
+        SlotPolicy policy = slotPolicyService.findSlotPolicy(companyName);
+        SlotBitmap occupancy = getOccupancy(policy, selDate, meetingRoom.getId());
+        return new ReservationTimetableResponse(meetingRoom.getId(), meetingRoom.getLocationName(),
+                compact ? null : toTimeList(policy, occupancy),
+                policy.getSlotMinutes(), LocalTime.of(policy.getOpenHour(), 0), occupancy.toHex());
+    }
+
+    /**
+     * 회의실의 기간 예약 타임테이블 조회
+     * 기간 전체를 한 번의 범위 쿼리로 가져와 일자별 비트맵을 만든다
+     *
+     * @param from : 시작 날짜
+     * @param to   : 종료 날짜(포함)
+     */
+    @Transactional(readOnly = true)
+    public ReservationRangeTimetableResponse getReservationTimetables(LocalDate from,
+                                                                      LocalDate to,
+                                                                      Long meetingRoomId,
+                                                                      UserDetailsImpl userDetails) {
+        return getReservationTimetables(from, to, meetingRoomId, false, userDetails);
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationRangeTimetableResponse getReservationTimetables(LocalDate from,
+                                                                      LocalDate to,
+                                                                      Long meetingRoomId,
+                                                                      boolean compact,
+                                                                      UserDetailsImpl userDetails) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= ReservationTimetable.MAX_RANGE_DAYS) {
+            throw new ReservationException(ReservationErrorCode.INVALID_DATE_RANGE);
+        }
+
         String companyName = userDetails.getUser().getCompanies().getCompanyName();
         Optional<Location> location = locationRepository.findByIdAndCompanyName(meetingRoomId, companyName);
 
@@ -105,52 +209,78 @@ public class ReservationService {
 
         Mr meetingRoom = (Mr) location.get();
 
-        // 회의실의 해당 날짜에 해당하는 모든 예약 리스트
         List<Reservation> all = reservationRepository
                 .findAllByMeetingRoomIdAndStartTimeBetween(meetingRoom.getId(),
-                        selDate.atStartOfDay(), selDate.atTime(LocalTime.MAX));
+                        from.atStartOfDay(), to.atTime(LocalTime.MAX));
+        SlotPolicy policy = slotPolicyService.findSlotPolicy(companyName);
+        SlotBitmap[] occupancies = SlotBitmap.ofRange(policy, from, to, all);
+
+        // 오늘 이전 날짜는 항상 예약 불가
+        LocalDate today = LocalDate.now();
+        List<ReservationDayTimetableResponse> dayList = new ArrayList<>(occupancies.length);
+        for (int i = 0; i < occupancies.length; i++) {
+            LocalDate date = from.plusDays(i);
+            SlotBitmap occupancy = date.isBefore(today) ? SlotBitmap.full(policy) : occupancies[i];
+            dayList.add(new ReservationDayTimetableResponse(date,
+                    compact ? null : toTimeList(policy, occupancy), occupancy.toHex()));
+        }
 
-        // 당일 예약 수 x timeSet entry 만큼 loop
-        List<ReservationTimeResponse> timeList =
-                ReservationTimetable.TIME_SET.stream().map(x -> getTimeUnitInfo(selDate, x, all))
-                        // 07시부터 22시까지 정렬하기 위한 Comparator 구현
-                        .sorted(((o1, o2) -> o1.getStart().isAfter(o2.getStart()) ? 1 :
-                                o1.getStart().isBefore(o2.getStart()) ? -1 : 0))
-                        .toList();
+        return new ReservationRangeTimetableResponse(meetingRoom.getId(), meetingRoom.getLocationName(), dayList,
+                policy.getSlotMinutes(), LocalTime.of(policy.getOpenHour(), 0));
+    }
+
+    // 회의실의 해당 날짜 점유 비트맵, 오늘 이전 날짜는 항상 예약 불가
+    SlotBitmap getOccupancy(SlotPolicy policy, LocalDate selDate, Long meetingRoomId) {
+        if (selDate.isBefore(LocalDate.now())) {
+            return SlotBitmap.full(policy);
+        }
+
+        return reservationDayCache.get(meetingRoomId, selDate).toBitmap(policy, selDate);
+    }
 
-        return new ReservationTimetableResponse(meetingRoom.getId(), meetingRoom.getLocationName(), timeList);
+    List<ReservationTimeResponse> toTimeList(SlotPolicy policy, SlotBitmap occupancy) {
+        return TIME_LIST.toList(policy, occupancy);
     }
 
-    // TIME_SET 시간 단위의 예약 가능 정보, 시각을 얻는 메서드
-    ReservationTimeResponse getTimeUnitInfo(LocalDate selDate, TimeUnit timeUnit, List<Reservation> all) {
-        LocalTime startTime = LocalTime.of(timeUnit.getStart().getHour(), timeUnit.getStart().getMinute());
-        LocalTime endTime = LocalTime.of(timeUnit.getEnd().getHour(), timeUnit.getEnd().getMinute());
-        LocalDateTime startDateTime = LocalDateTime.of(selDate, startTime);
-        return new ReservationTimeResponse(isImpossible(startDateTime, all), startTime, endTime);
+    // 요청 시각을 회사 슬롯 정책 기준의 [시작, 종료] 구간으로 변환
+    private SlotRange toSlotRange(SlotPolicy policy, ReservationRequest request) {
+        List<LocalDateTime> startList = request.getStartList() == null ? null
+                : request.getStartList().stream().map(ReservationTime::getStart).toList();
+        return SlotRange.of(policy, request.getDate(), request.getSlotList(), startList,
+                () -> new ReservationException(ReservationErrorCode.NOT_PROPER_TIME));
     }
 
-    // 예약의 시작시간에 해당하는 타임은 true 반환
-    boolean isImpossible(LocalDateTime time, List<Reservation> all) {
-        // 오늘 이전 시각은 항상 예약 불가
-        if (time.toLocalDate().isBefore(LocalDate.now())) {
-            return true;
+    /**
+     * 선택 날짜, 시간대에 예약 가능한 회사 회의실 조회
+     *
+     * @param floorId : 층 id, null 이면 회사 전체 회의실
+     */
+    @Transactional(readOnly = true)
+    public AvailableMeetingRoomListResponse getAvailableMeetingRooms(String companyName,
+                                                                     LocalDate selDate,
+                                                                     LocalTime start,
+                                                                     LocalTime end,
+                                                                     Long floorId,
+                                                                     UserDetailsImpl userDetails) {
+        if (!userDetails.getUser().getCompanies().getCompanyName()
+                .equals(companyName)) {
+            throw new ReservationException(ReservationErrorCode.INVALID_USER);
         }
 
-        for (Reservation reservation : all) {
-            LocalDateTime start = reservation.getStartTime();
-            LocalDateTime end = reservation.getEndTime();
-            if (time.isEqual(start) || (time.isAfter(start) && time.isBefore(end))) {
-                return true;
-            }
+        if (!start.isBefore(end)) {
+            throw new ReservationException(ReservationErrorCode.NOT_PROPER_TIME);
         }
-        return false;
+
+        List<AvailableMeetingRoomResponse> mrList = reservationRepository
+                .findAvailableMeetingRooms(companyName, floorId, selDate.atTime(start), selDate.atTime(end));
+
+        return new AvailableMeetingRoomListResponse(mrList);
     }
 
     /**
      * 회의실 예약 등록
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public ReservationResponse addReservation(Long meetingRoomId,
                                               ReservationRequest request,
                                               UserDetailsImpl userDetails) {
@@ -168,18 +298,14 @@ public class ReservationService {
 
         Mr meetingRoom = (Mr) location.get();
 
-        List<LocalDateTime> list = request.getStartList().stream().map(ReservationTime::getStart)
-                .sorted().toList();
-        LocalDateTime start = list.get(0);
-        LocalDateTime end = list.get(list.size() - 1).plusMinutes(59);
+        SlotRange range = toSlotRange(slotPolicyService.findSlotPolicy(companyName), request);
+        LocalDateTime start = range.getStart();
+        LocalDateTime end = range.getEnd();
 
-        // 시간이 겹치는 예약은 할 수 없음
-        reservationRepository
-                .findFirstByMeetingRoomIdAndStartTimeLessThanAndEndTimeGreaterThan(
-                        meetingRoom.getId(), start, end)
-                .ifPresent(x -> {
-                    throw new ReservationException(ReservationErrorCode.DUPLICATED_TIME);
-                });
+        // 시간이 겹치는 예약은 할 수 없음, 캐시로 하는 락 없는 사전 검사이며 동시 요청은 슬롯 점유 단계에서 걸러진다
+        if (reservationDayCache.overlaps(meetingRoom.getId(), start, end, null)) {
+            throw new ReservationException(ReservationErrorCode.DUPLICATED_TIME);
+        }
 
         Reservation reservation = Reservation.builder()
                 .user(organizer)
@@ -189,6 +315,11 @@ public class ReservationService {
                 .build();
 
         reservationRepository.save(reservation);
+        claimSlots(reservation);
+        reservationDayCache.refreshAfterCommit(meetingRoom.getId(), List.of(start.toLocalDate()));
+        publishChanged(companyName, meetingRoom.getId(), reservation.getId(), Type.RESERVED, start, end);
+        // 배치도의 회의실 예약 목록이 바뀌므로 회사 배치도 버전을 올린다
+        floorMapVersion.increaseAfterCommit(companyName);
 
         // 회의 참석자 유저리스트가 비어있으면 리턴
         if (request.getUserList() == null) {
@@ -199,13 +330,13 @@ public class ReservationService {
         List<Long> ids = request.getUserList().stream().mapToLong(ReservationAttendee::getUserId).boxed().toList();
         List<User> attendee = userRepository.findAllByIdInAndCompanies_CompanyName(ids, organizer.getCompanies().getCompanyName());
 
-        // 참석자 리스트와 예약 정보를 ReservationUser 연결 테이블에 저장
-        List<ReservationUser> info = attendee.stream().map(x -> new ReservationUser(x, reservation)).toList();
-        reservationUserRepository.saveAll(info);
+        // 참석자 연결 정보와 스케줄은 커밋 이후 디스패처가 생성, 예약 트랜잭션에는 이벤트 한 건만 저장
+        if (!attendee.isEmpty()) {
+            ReservationOutbox outbox = reservationOutboxRepository.save(new ReservationOutbox(reservation.getId(),
+                    attendee.stream().map(User::getId).toList(), LocalDateTime.now()));
+            eventPublisher.publishEvent(new ReservationOutboxCreatedEvent(outbox.getId()));
+        }
 
-        // 모든 참석자의 스케줄에 회의 일정 추가
-        List<Schedule> schedules = info.stream().map(x -> new Schedule(x.getReservation(), x.getAttendee())).toList();
-        scheduleRepository.saveAll(schedules);
         return new ReservationResponse(reservation, attendee.stream()
                 .map(x -> new UsernameResponse(x.getUsername())).toList());
     }
@@ -225,29 +356,44 @@ public class ReservationService {
             throw new ReservationException(ReservationErrorCode.INVALID_USER_RESERVATION_UPDATE);
         }
 
-        List<LocalDateTime> list = request.getStartList().stream().map(ReservationTime::getStart)
-                .sorted().toList();
-        LocalDateTime start = list.get(0);
-        LocalDateTime end = list.get(list.size() - 1).plusMinutes(59);
+        SlotRange range = toSlotRange(slotPolicyService.findSlotPolicy(user.getCompanies().getCompanyName()), request);
+        LocalDateTime start = range.getStart();
+        LocalDateTime end = range.getEnd();
 
         // 수정요청에 해당하는 시각에 예약이 없는지 검증
         // 수정 대상 예약은 제외하고 검증해야함
-        List<Reservation> duplicatedReservations = reservationRepository
-                .findAllByMeetingRoomIdAndIdNotAndStartTimeLessThanAndEndTimeGreaterThan(
-                        reservation.getMeetingRoom().getId(),
-                        reservationId,
-                        start,
-                        end);
-
-        if (!duplicatedReservations.isEmpty()) {
+        Long meetingRoomId = reservation.getMeetingRoom().getId();
+        if (reservationDayCache.overlaps(meetingRoomId, start, end, reservationId)) {
             throw new ReservationException(ReservationErrorCode.DUPLICATED_TIME);
         }
 
+        LocalDateTime beforeStart = reservation.getStartTime();
+        LocalDateTime beforeEnd = reservation.getEndTime();
+        LocalDate before = beforeStart.toLocalDate();
         reservation.update(start, end);
 
+        // 기존 슬롯 점유를 즉시 해제한 뒤 변경된 시간으로 다시 점유
+        reservationSlotRepository.deleteAllByReservationId(reservation.getId());
+        claimSlots(reservation);
+        reservationDayCache.refreshAfterCommit(meetingRoomId, Set.copyOf(List.of(before, start.toLocalDate())));
+
+        String companyName = user.getCompanies().getCompanyName();
+        publishChanged(companyName, meetingRoomId, reservationId, Type.RELEASED, beforeStart, beforeEnd);
+        publishChanged(companyName, meetingRoomId, reservationId, Type.RESERVED, start, end);
+        floorMapVersion.increaseAfterCommit(companyName);
+
         return new ReservationResponse(reservation);
     }
 
+    // 슬롯 장부의 유니크 제약 위반(경합 중 데드락 포함)은 다른 예약이 먼저 점유한 것이므로 중복 예외로 변환
+    private void claimSlots(Reservation reservation) {
+        try {
+            reservationSlotRepository.saveAllAndFlush(ReservationSlot.of(reservation));
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            throw new ReservationException(ReservationErrorCode.DUPLICATED_TIME);
+        }
+    }
+
     /**
      * 예약 삭제
      */
@@ -262,17 +408,30 @@ public class ReservationService {
         }
 
         reservationRepository.deleteById(reservation.getId());
+        if (reservation.getMeetingRoom() != null) {
+            reservationDayCache.refreshAfterCommit(reservation.getMeetingRoom().getId(),
+                    List.of(reservation.getStartTime().toLocalDate()));
+            publishChanged(user.getCompanies().getCompanyName(), reservation.getMeetingRoom().getId(),
+                    reservation.getId(), Type.RELEASED, reservation.getStartTime(), reservation.getEndTime());
+            floorMapVersion.increaseAfterCommit(user.getCompanies().getCompanyName());
+        }
 
         return "success";
     }
 
+    /**
+     * 회의실 삭제 전 예약에서 회의실 해제, 캐시와 구독자 알림은 연쇄 처리에서 함께 반영한다
+     */
     @Transactional
     public String deleteMeetingRoomInReservations(Long meetingRoomId, UserDetailsImpl userDetails) {
-        List<Reservation> all = reservationRepository.findAllByMeetingRoomId(meetingRoomId);
-        for (Reservation reservation : all) {
-            reservation.update(null);
-        }
-
+        reservationCascadeService.detachMeetingRooms(List.of(meetingRoomId));
         return "success";
     }
+
+    // 타임테이블 구독자에게 보낼 변경 구간, 커밋 이후에 전송된다
+    private void publishChanged(String companyName, Long meetingRoomId, Long reservationId, Type type,
+                                LocalDateTime start, LocalDateTime end) {
+        eventPublisher.publishEvent(new ReservationChangedEvent(companyName, meetingRoomId, reservationId, type,
+                start, end));
+    }
 }
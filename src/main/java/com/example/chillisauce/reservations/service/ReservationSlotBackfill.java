@@ -0,0 +1,77 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 슬롯 장부 도입 전에 저장된, 아직 끝나지 않은 예약의 슬롯을 채운다
+ * 장부가 비어 있으면 기존 예약과 겹치는 새 예약이 유니크 제약에 걸리지 않으므로, 요청을 받기 전에 실행한다
+ * 슬롯이 있는 예약은 건너뛰므로 여러 번 실행해도 되고, 채울 예약이 없으면 조회 한 번으로 끝난다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 슬롯 id 시퀀스를 기존 id 뒤로 옮긴 다음에 저장한다
+@DependsOn("idSequenceInitializer")
+public class ReservationSlotBackfill {
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotBackfillProcessor reservationSlotBackfillProcessor;
+
+    @Value("${reservation.slot-backfill.batch-size:500}")
+    private int batchSize;
+
+    @PostConstruct
+    public void initialize() {
+        backfill();
+    }
+
+    /**
+     * 채운 예약 수를 반환
+     */
+    public int backfill() {
+        LocalDateTime now = LocalDateTime.now();
+        int filled = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> ids = reservationRepository.findIdsWithoutSlots(now, afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            filled += fill(ids);
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (filled > 0) {
+            log.info("예약 슬롯 채우기 완료, 예약 {}건", filled);
+        }
+        return filled;
+    }
+
+    private int fill(List<Long> ids) {
+        try {
+            reservationSlotBackfillProcessor.fill(ids);
+            return ids.size();
+        } catch (DataIntegrityViolationException e) {
+            // 장부 도입 전에 겹쳐 잡힌 예약이 섞인 batch, 한 건씩 다시 채우고 겹치는 예약은 남긴다
+            int filled = 0;
+            for (Long id : ids) {
+                try {
+                    reservationSlotBackfillProcessor.fill(List.of(id));
+                    filled++;
+                } catch (DataIntegrityViolationException overlap) {
+                    log.warn("다른 예약과 슬롯이 겹쳐 채우지 못함 reservationId={}", id);
+                }
+            }
+            return filled;
+        }
+    }
+}
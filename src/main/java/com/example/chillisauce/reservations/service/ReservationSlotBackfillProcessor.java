@@ -0,0 +1,34 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 슬롯 장부 도입 전 예약의 슬롯을 채우는 단위 작업
+ * batch 하나가 트랜잭션 하나이므로, 겹치는 기존 예약 때문에 실패해도 그 batch 만 되돌린다
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotBackfillProcessor {
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+
+    /**
+     * 예약마다 ReservationSlot.of 로 슬롯을 점유하고, 저장한 슬롯 수를 반환
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int fill(List<Long> reservationIds) {
+        List<ReservationSlot> slots = reservationRepository.findAllWithUserAndMeetingRoomByIdIn(reservationIds).stream()
+                .flatMap(x -> ReservationSlot.of(x).stream())
+                .toList();
+        reservationSlotRepository.saveAllAndFlush(slots);
+        return slots.size();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.RoomUtilizationRepository;
+import com.example.chillisauce.reservations.vo.MeetingRoomDaysChangedEvent;
+import com.example.chillisauce.reservations.vo.ReservationChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 회의실 이용률 집계
+ * 예약 등록, 수정, 삭제 커밋 이후 바뀐 회의실의 해당 날짜만 다시 계산하고, 연쇄 처리는 회의실, 날짜별로 한 번만 계산한다
+ * 놓친 이벤트, 버려진 재계산 작업, 엇갈린 재계산은 매일 전날부터 예약이나 집계가 있는 마지막 날까지 다시 계산해 바로잡는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomUtilizationAggregator {
+    private final RoomUtilizationProcessor roomUtilizationProcessor;
+    private final ReservationRepository reservationRepository;
+    private final RoomUtilizationRepository roomUtilizationRepository;
+
+    // 연쇄 처리의 예약별 알림은 비동기 작업으로 넘기기 전에 거르고 onCascaded 에서 한 번에 처리한다
+    @Async("utilizationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, condition = "!#event.cascaded")
+    public void onChanged(ReservationChangedEvent event) {
+        for (LocalDate day = event.getStart().toLocalDate(); !day.isAfter(event.getEnd().toLocalDate());
+             day = day.plusDays(1)) {
+            refresh(event.getMeetingRoomId(), day);
+        }
+    }
+
+    @Async("utilizationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCascaded(MeetingRoomDaysChangedEvent event) {
+        event.getDays().forEach((meetingRoomId, days) -> days.forEach(day -> refresh(meetingRoomId, day)));
+    }
+
+    @Scheduled(cron = "${utilization.cron:0 30 2 * * *}")
+    public void reconcileDaily() {
+        reconcileFrom(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * from 부터 예약이나 집계 행이 있는 마지막 날까지 하루씩 다시 계산, 다시 계산한 날 수를 돌려준다
+     * 예약은 먼 날짜에도 잡히므로 전날만 보면 앞으로의 날짜에 남은 틀린 집계를 고치지 못한다
+     */
+    public int reconcileFrom(LocalDate from) {
+        LocalDate last = lastDay();
+        if (last == null || last.isBefore(from)) {
+            return 0;
+        }
+        int days = 0;
+        for (LocalDate day = from; !day.isAfter(last); day = day.plusDays(1)) {
+            reconcile(day);
+            days++;
+        }
+        return days;
+    }
+
+    /**
+     * 해당 날짜에 예약이나 집계 행이 있는 회의실을 모두 다시 계산
+     */
+    public int reconcile(LocalDate day) {
+        Set<Long> meetingRoomIds = new HashSet<>(reservationRepository.findMeetingRoomIdsByStartTimeBetween(
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+        meetingRoomIds.addAll(roomUtilizationRepository.findMeetingRoomIdsByUseDate(day));
+
+        meetingRoomIds.forEach(meetingRoomId -> refresh(meetingRoomId, day));
+        log.info("회의실 이용률 재집계 day={}, 회의실 {}개", day, meetingRoomIds.size());
+        return meetingRoomIds.size();
+    }
+
+    // 예약이 모두 지워진 날의 집계 행도 지워야 하므로 집계 테이블의 마지막 날도 함께 본다
+    private LocalDate lastDay() {
+        LocalDateTime lastStart = reservationRepository.findLastStartTime();
+        LocalDate lastUse = roomUtilizationRepository.findLastUseDate();
+        if (lastStart == null) {
+            return lastUse;
+        }
+        if (lastUse == null || lastUse.isBefore(lastStart.toLocalDate())) {
+            return lastStart.toLocalDate();
+        }
+        return lastUse;
+    }
+
+    private void refresh(Long meetingRoomId, LocalDate day) {
+        try {
+            roomUtilizationProcessor.refresh(meetingRoomId, day);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 회의실, 날짜를 동시에 처음 집계한 경우, 먼저 저장된 행 기준으로 한 번 더 계산
+            log.info("회의실 이용률 동시 집계, 다시 계산 meetingRoomId={}, day={}", meetingRoomId, day);
+            roomUtilizationProcessor.refresh(meetingRoomId, day);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.entity.RoomUtilization;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.RoomUtilizationRepository;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회의실 하루치 이용률 재계산
+ * 해당 날짜의 예약만 읽어 시간대별 예약된 분을 구하고, 집계 행을 그 값으로 맞춘다
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomUtilizationProcessor {
+    static final int HOURS_PER_DAY = 24;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final ReservationRepository reservationRepository;
+    private final RoomUtilizationRepository roomUtilizationRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refresh(Long meetingRoomId, LocalDate day) {
+        int[] minutes = reservedMinutes(day, reservationRepository.findAllByMeetingRoomIdAndStartTimeBetween(
+                meetingRoomId, day.atStartOfDay(), day.atTime(LocalTime.MAX)));
+        Map<Integer, RoomUtilization> existing = roomUtilizationRepository
+                .findAllByMeetingRoomIdAndUseDate(meetingRoomId, day).stream()
+                .collect(Collectors.toMap(RoomUtilization::getHourOfDay, Function.identity()));
+
+        List<RoomUtilization> created = new ArrayList<>();
+        List<RoomUtilization> removed = new ArrayList<>();
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            RoomUtilization row = existing.get(hour);
+            if (minutes[hour] == 0) {
+                if (row != null) {
+                    removed.add(row);
+                }
+            } else if (row == null) {
+                created.add(new RoomUtilization(meetingRoomId, day, hour, minutes[hour]));
+            } else {
+                row.update(minutes[hour]);
+            }
+        }
+
+        roomUtilizationRepository.deleteAll(removed);
+        roomUtilizationRepository.saveAllAndFlush(created);
+    }
+
+    /**
+     * 시(0 ~ 23)별 예약된 분, 겹치는 구간은 한 번만 센다
+     * 예약 종료 시각은 마지막 분을 가리키므로 1분을 더해 계산한다
+     */
+    static int[] reservedMinutes(LocalDate day, Collection<? extends SlotBitmap.Interval> intervals) {
+        int minutesPerDay = HOURS_PER_DAY * MINUTES_PER_HOUR;
+        LocalDateTime base = day.atStartOfDay();
+        BitSet occupied = new BitSet(minutesPerDay);
+        for (SlotBitmap.Interval interval : intervals) {
+            long start = Math.max(0, ChronoUnit.MINUTES.between(base, interval.getStartTime()));
+            long end = Math.min(minutesPerDay, ChronoUnit.MINUTES.between(base, interval.getEndTime()) + 1);
+            if (start < end) {
+                occupied.set((int) start, (int) end);
+            }
+        }
+
+        int[] minutes = new int[HOURS_PER_DAY];
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            minutes[hour] = occupied.get(hour * MINUTES_PER_HOUR, (hour + 1) * MINUTES_PER_HOUR).cardinality();
+        }
+        return minutes;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TransactionCallbacks;
+import com.example.chillisauce.reservations.dto.request.SlotPolicyRequest;
+import com.example.chillisauce.reservations.dto.response.SlotPolicyResponse;
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotPolicyService {
+    public static final String CACHE_NAME = "SlotPolicy";
+
+    private final CompanyRepository companyRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * 예약, 스케줄 조회와 등록에서 쓰는 회사 슬롯 정책, 회사가 없으면 기본 정책
+     * 요청마다 읽으므로 캐시에서 읽고, 정책 변경 커밋 이후 지운다. 캐시 장애 시에는 DB 조회로 대체한다
+     */
+    public SlotPolicy findSlotPolicy(String companyName) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            try {
+                SlotPolicyResponse cached = cache.get(companyName, SlotPolicyResponse.class);
+                if (cached != null) {
+                    return SlotPolicy.of(cached.getSlotMinutes(), cached.getOpenHour(), cached.getCloseHour());
+                }
+            } catch (RuntimeException e) {
+                log.warn("슬롯 정책 캐시 조회 실패, DB 에서 조회 companyName={}", companyName, e);
+                return load(companyName);
+            }
+        }
+
+        SlotPolicy loaded = load(companyName);
+        put(cache, companyName, loaded);
+        return loaded;
+    }
+
+    /**
+     * 회사 슬롯 정책 조회
+     */
+    @Transactional(readOnly = true)
+    public SlotPolicyResponse getSlotPolicy(UserDetailsImpl userDetails) {
+        return new SlotPolicyResponse(findCompany(userDetails.getUser()).getSlotPolicy());
+    }
+
+    /**
+     * 회사 슬롯 정책 변경, 관리자만 가능
+     * 슬롯 장부는 15분 단위라 기존 예약은 그대로 두고 타임테이블 표시만 바뀐다
+     */
+    @Transactional
+    public SlotPolicyResponse updateSlotPolicy(SlotPolicyRequest request, UserDetailsImpl userDetails) {
+        User user = userDetails.getUser();
+        if (!user.getRole().equals(UserRoleEnum.ADMIN)) {
+            throw new ReservationException(ReservationErrorCode.NOT_HAVE_PERMISSION);
+        }
+
+        SlotPolicy policy = SlotPolicy.of(request.getSlotMinutes(), request.getOpenHour(), request.getCloseHour());
+        Companies company = findCompany(user);
+        company.updateSlotPolicy(policy);
+        evictAfterCommit(company.getCompanyName());
+
+        return new SlotPolicyResponse(policy);
+    }
+
+    private Companies findCompany(User user) {
+        return companyRepository.findByCompanyName(user.getCompanies().getCompanyName())
+                .orElseThrow(() -> new ReservationException(ReservationErrorCode.COMPANY_NOT_FOUND));
+    }
+
+    private SlotPolicy load(String companyName) {
+        return companyRepository.findByCompanyName(companyName)
+                .map(Companies::getSlotPolicy)
+                .orElse(SlotPolicy.DEFAULT);
+    }
+
+    private void put(Cache cache, String companyName, SlotPolicy policy) {
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.put(companyName, new SlotPolicyResponse(policy));
+        } catch (RuntimeException e) {
+            log.warn("슬롯 정책 캐시 기록 실패 companyName={}", companyName, e);
+        }
+    }
+
+    // 커밋 전에 지우면 다른 요청이 변경 전 정책을 다시 캐시할 수 있다
+    private void evictAfterCommit(String companyName) {
+        TransactionCallbacks.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache == null) {
+                return;
+            }
+            try {
+                cache.evict(companyName);
+            } catch (RuntimeException e) {
+                log.warn("슬롯 정책 캐시 삭제 실패 companyName={}", companyName, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.dto.response.TimetableChangeResponse;
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.vo.ReservationChangedEvent;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.repository.LocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 회의실, 회사 단위 타임테이블 변경 구독(SSE)
+ * 연결은 서블릿 비동기 요청으로 유지되어 구독자마다 스레드를 잡지 않고, 변경이 있을 때만 timetableEventExecutor 에서 전송한다
+ * 구독 직후의 타임테이블은 클라이언트가 compact 타임테이블 조회로 맞추고, 이후에는 변경 구간만 받는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimetableSubscriptionService {
+    static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    static final String EVENT_NAME = "timetable";
+
+    private final LocationRepository locationRepository;
+
+    private final Map<Long, Set<SseEmitter>> roomEmitters = new ConcurrentHashMap<>();
+    private final Map<String, Set<SseEmitter>> companyEmitters = new ConcurrentHashMap<>();
+
+    /**
+     * 회의실 타임테이블 변경 구독
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeMeetingRoom(Long meetingRoomId, UserDetailsImpl userDetails) {
+        String companyName = userDetails.getUser().getCompanies().getCompanyName();
+        Location location = locationRepository.findByIdAndCompanyName(meetingRoomId, companyName)
+                .orElseThrow(() -> new ReservationException(ReservationErrorCode.MEETING_ROOM_NOT_FOUND));
+
+        if (!location.isMr()) {
+            throw new ReservationException(ReservationErrorCode.LOCATION_NOT_MEETING_ROOM);
+        }
+
+        return register(roomEmitters, meetingRoomId);
+    }
+
+    /**
+     * 회사 전체 회의실 타임테이블 변경 구독
+     */
+    public SseEmitter subscribeCompany(UserDetailsImpl userDetails) {
+        return register(companyEmitters, userDetails.getUser().getCompanies().getCompanyName());
+    }
+
+    @Async("timetableEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChanged(ReservationChangedEvent event) {
+        TimetableChangeResponse data = new TimetableChangeResponse(event);
+        send(roomEmitters, event.getMeetingRoomId(), () -> SseEmitter.event().name(EVENT_NAME).data(data));
+        send(companyEmitters, event.getCompanyName(), () -> SseEmitter.event().name(EVENT_NAME).data(data));
+    }
+
+    /**
+     * 프록시, 로드밸런서의 유휴 연결 종료를 막고 끊어진 연결을 정리하기 위한 주기 전송
+     */
+    @Scheduled(fixedDelayString = "${reservation.sse.heartbeat-delay:30000}")
+    public void heartbeat() {
+        roomEmitters.keySet().forEach(key -> send(roomEmitters, key, () -> SseEmitter.event().comment("heartbeat")));
+        companyEmitters.keySet().forEach(key -> send(companyEmitters, key, () -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    int subscriberCount(Long meetingRoomId) {
+        return roomEmitters.getOrDefault(meetingRoomId, Set.of()).size();
+    }
+
+    int subscriberCount(String companyName) {
+        return companyEmitters.getOrDefault(companyName, Set.of()).size();
+    }
+
+    private <K> SseEmitter register(Map<K, Set<SseEmitter>> registry, K key) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        // 빈 Set 정리(remove)와 겹쳐도 등록이 유실되지 않도록 compute 안에서 추가
+        registry.compute(key, (k, emitters) -> {
+            Set<SseEmitter> result = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            result.add(emitter);
+            return result;
+        });
+
+        emitter.onCompletion(() -> remove(registry, key, emitter));
+        emitter.onTimeout(() -> remove(registry, key, emitter));
+        emitter.onError(e -> remove(registry, key, emitter));
+
+        // 첫 응답을 바로 내려보내 연결을 확정
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            remove(registry, key, emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    // 전송에 실패한 연결은 끊어진 것으로 보고 정리
+    private <K> void send(Map<K, Set<SseEmitter>> registry, K key, Supplier<SseEmitter.SseEventBuilder> event) {
+        Set<SseEmitter> emitters = registry.get(key);
+        if (emitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event.get());
+            } catch (IOException | IllegalStateException e) {
+                remove(registry, key, emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private <K> void remove(Map<K, Set<SseEmitter>> registry, K key, SseEmitter emitter) {
+        registry.computeIfPresent(key, (k, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -1,48 +1,121 @@
 package com.example.chillisauce.reservations.service;
 
 import com.example.chillisauce.reservations.dto.ReservationUserWrapper;
+import com.example.chillisauce.reservations.dto.UserReservationWrapper;
 import com.example.chillisauce.reservations.dto.response.UserReservationListResponse;
 import com.example.chillisauce.reservations.dto.response.UserReservationResponse;
 import com.example.chillisauce.reservations.dto.response.UsernameResponse;
-import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationArchive;
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.ReservationArchiveRepository;
 import com.example.chillisauce.reservations.repository.ReservationRepository;
 import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.reservations.vo.ReservationCursor;
 import com.example.chillisauce.security.UserDetailsImpl;
-import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.users.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserReservationService {
+    public static final int PAGE_SIZE = 20;
+    // 기간 미지정 시 조회 경계, DATETIME 컬럼 범위 안의 값
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
     private final ReservationRepository reservationRepository;
     private final ReservationUserRepository reservationUserRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
 
     /**
-     * 특정 유저의 예약 내역 조회
+     * 특정 유저의 예약 내역 전체 조회
      */
     @Transactional(readOnly = true)
     public UserReservationListResponse getUserReservations(UserDetailsImpl userDetails) {
+        return getUserReservations(null, null, null, userDetails);
+    }
+
+    /**
+     * 특정 유저의 예약 내역 조회
+     * from ~ to : 예약 시작일 기준 조회 기간, 생략 시 제한 없음
+     * cursor : 지정 시 PAGE_SIZE 만큼 조회하고 다음 커서 반환, 첫 페이지는 빈 문자열
+     * 기간이 지난 날짜를 포함하면 보관 테이블의 예약도 id 순으로 함께 조회
+     */
+    @Transactional(readOnly = true)
+    public UserReservationListResponse getUserReservations(LocalDate from, LocalDate to, String cursor,
+                                                           UserDetailsImpl userDetails) {
         User user = userDetails.getUser();
-        List<Reservation> reservations = reservationRepository.findAllByUserId(user.getId());
-        List<Long> ids = reservations.stream().mapToLong(Reservation::getId).boxed().toList();
-
-        List<ReservationUserWrapper> linkList = reservationUserRepository.findReservationUserByReservationIdIn(ids);
-
-        return new UserReservationListResponse(reservations.stream().map(x -> {
-            Mr m = x.getMeetingRoom();
-            User u = x.getUser();
-            Long mrId = m == null ? 0 : m.getId();
-            String username = u == null ? "탈퇴한 유저" : user.getUsername();
-            List<UsernameResponse> userList = linkList.stream().filter(y -> y.getReservationId().equals(x.getId()))
-                    .map(UsernameResponse::new).toList();
-            return new UserReservationResponse(x, mrId, username, userList);
-        }).toList());
+        LocalDateTime start = (from == null ? MIN_DATE : from).atStartOfDay();
+        LocalDateTime end = (to == null ? MAX_DATE : to.plusDays(1)).atStartOfDay();
+        if (!start.isBefore(end)) {
+            throw new ReservationException(ReservationErrorCode.INVALID_DATE_RANGE);
+        }
+
+        boolean paged = cursor != null;
+        Long lastId = ReservationCursor.decode(cursor);
+        Pageable pageable = paged ? PageRequest.of(0, PAGE_SIZE + 1) : Pageable.unpaged();
+
+        List<UserReservationWrapper> reservations =
+                reservationRepository.findUserReservations(user.getId(), start, end, lastId, pageable);
+        List<ReservationArchive> archived = start.isBefore(LocalDate.now().atStartOfDay())
+                ? reservationArchiveRepository.findUserReservations(user.getId(), start, end, lastId, pageable)
+                : List.of();
+
+        // 두 목록 모두 id 오름차순, 합친 목록의 PAGE_SIZE 번째 id 까지가 이번 페이지
+        boolean hasNext = paged && reservations.size() + archived.size() > PAGE_SIZE;
+        if (hasNext) {
+            long pageMaxId = Stream.concat(
+                            reservations.stream().map(UserReservationWrapper::getReservationId),
+                            archived.stream().map(ReservationArchive::getId))
+                    .sorted().skip(PAGE_SIZE - 1).findFirst().orElseThrow();
+            reservations = reservations.stream().filter(x -> x.getReservationId() <= pageMaxId).toList();
+            archived = archived.stream().filter(x -> x.getId() <= pageMaxId).toList();
+        }
+        if (reservations.isEmpty() && archived.isEmpty()) {
+            return new UserReservationListResponse(List.of());
+        }
+
+        List<UserReservationResponse> reservationList = new ArrayList<>(reservations.size() + archived.size());
+        if (!reservations.isEmpty()) {
+            // id 오름차순이므로 마지막 원소가 운영 테이블 예약의 최대 id
+            Long maxId = reservations.get(reservations.size() - 1).getReservationId();
+            Map<Long, List<UsernameResponse>> attendees = reservationUserRepository
+                    .findAttendeesByOrganizer(user.getId(), start, end, lastId, maxId).stream()
+                    .collect(groupingBy(ReservationUserWrapper::getReservationId,
+                            mapping(UsernameResponse::new, toList())));
+
+            for (UserReservationWrapper reservation : reservations) {
+                reservationList.add(new UserReservationResponse(reservation,
+                        attendees.getOrDefault(reservation.getReservationId(), List.of())));
+            }
+        }
+        for (ReservationArchive reservation : archived) {
+            reservationList.add(new UserReservationResponse(reservation));
+        }
+        if (!archived.isEmpty()) {
+            reservationList.sort(Comparator.comparing(UserReservationResponse::getReservationId));
+        }
+
+        Long nextCursor = reservationList.get(reservationList.size() - 1).getReservationId();
+        return new UserReservationListResponse(reservationList, hasNext ? ReservationCursor.encode(nextCursor) : null);
     }
 }
@@ -0,0 +1,122 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.dto.MeetingRoomFloorWrapper;
+import com.example.chillisauce.reservations.dto.UtilizationWrapper;
+import com.example.chillisauce.reservations.dto.response.FloorUtilizationResponse;
+import com.example.chillisauce.reservations.dto.response.HourUtilizationResponse;
+import com.example.chillisauce.reservations.dto.response.MeetingRoomUtilizationResponse;
+import com.example.chillisauce.reservations.dto.response.UtilizationResponse;
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.RoomUtilizationRepository;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 회의실 이용률 조회
+ * 예약 이력 대신 (회의실, 날짜, 시) 집계 행만 합산하므로 조회 비용이 예약 건수와 무관하다
+ */
+@Service
+@RequiredArgsConstructor
+public class UtilizationService {
+    // 한 번에 조회할 수 있는 최대 일수
+    static final int MAX_DAYS = 366;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final RoomUtilizationRepository roomUtilizationRepository;
+    private final SlotPolicyService slotPolicyService;
+
+    /**
+     * 기간 동안의 회의실, 플로어, 시간대별 이용률, 관리자와 매니저만 가능
+     * 이용률은 회사 슬롯 정책의 운영 시간 대비 예약된 시간의 비율
+     */
+    @Transactional(readOnly = true)
+    public UtilizationResponse getUtilization(LocalDate from, LocalDate to, UserDetailsImpl userDetails) {
+        User user = userDetails.getUser();
+        if (!user.getRole().equals(UserRoleEnum.ADMIN) && !user.getRole().equals(UserRoleEnum.MANAGER)) {
+            throw new ReservationException(ReservationErrorCode.NOT_HAVE_PERMISSION);
+        }
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new ReservationException(ReservationErrorCode.INVALID_DATE_RANGE);
+        }
+
+        String companyName = user.getCompanies().getCompanyName();
+        List<MeetingRoomFloorWrapper> rooms = roomUtilizationRepository.findMeetingRoomsByCompanyName(companyName);
+        if (rooms.isEmpty()) {
+            return new UtilizationResponse(from, to, List.of(), List.of(), List.of());
+        }
+
+        SlotPolicy policy = slotPolicyService.findSlotPolicy(companyName);
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        long openMinutes = days * (policy.getCloseHour() - policy.getOpenHour() + 1) * MINUTES_PER_HOUR;
+
+        List<Long> meetingRoomIds = rooms.stream().map(MeetingRoomFloorWrapper::getMeetingRoomId).toList();
+        Map<Long, Long> byRoom = toMap(roomUtilizationRepository.sumByMeetingRoom(meetingRoomIds, from, to));
+        Map<Long, Long> byHour = toMap(roomUtilizationRepository.sumByHourOfDay(meetingRoomIds, from, to));
+
+        List<MeetingRoomUtilizationResponse> mrList = new ArrayList<>();
+        Map<Long, FloorTotal> floors = new LinkedHashMap<>();
+        for (MeetingRoomFloorWrapper room : rooms) {
+            long minutes = byRoom.getOrDefault(room.getMeetingRoomId(), 0L);
+            mrList.add(new MeetingRoomUtilizationResponse(room.getMeetingRoomId(), room.getMeetingRoomName(),
+                    room.getFloorId(), minutes, rate(minutes, openMinutes)));
+            if (room.getFloorId() != null) {
+                floors.computeIfAbsent(room.getFloorId(), k -> new FloorTotal(room.getFloorName())).add(minutes);
+            }
+        }
+
+        List<FloorUtilizationResponse> floorList = floors.entrySet().stream()
+                .map(e -> new FloorUtilizationResponse(e.getKey(), e.getValue().floorName, e.getValue().mrCount,
+                        e.getValue().minutes, rate(e.getValue().minutes, openMinutes * e.getValue().mrCount)))
+                .toList();
+
+        long hourMinutes = days * rooms.size() * MINUTES_PER_HOUR;
+        List<HourUtilizationResponse> hourList = new ArrayList<>();
+        for (int hour = policy.getOpenHour(); hour <= policy.getCloseHour(); hour++) {
+            long minutes = byHour.getOrDefault((long) hour, 0L);
+            hourList.add(new HourUtilizationResponse(hour, minutes, rate(minutes, hourMinutes)));
+        }
+
+        return new UtilizationResponse(from, to, mrList, floorList, hourList);
+    }
+
+    // 소수점 넷째 자리까지, 운영 시간 밖 예약이 섞여도 1을 넘지 않는다
+    static double rate(long minutes, long available) {
+        if (available <= 0) {
+            return 0;
+        }
+        return Math.round(Math.min(1.0, (double) minutes / available) * 10000) / 10000.0;
+    }
+
+    private static Map<Long, Long> toMap(List<UtilizationWrapper> sums) {
+        return sums.stream().collect(Collectors.toMap(UtilizationWrapper::getGroupKey, UtilizationWrapper::getMinutes));
+    }
+
+    private static class FloorTotal {
+        private final String floorName;
+        private int mrCount;
+        private long minutes;
+
+        FloorTotal(String floorName) {
+            this.floorName = floorName;
+        }
+
+        void add(long minutes) {
+            this.mrCount++;
+            this.minutes += minutes;
+        }
+    }
+}
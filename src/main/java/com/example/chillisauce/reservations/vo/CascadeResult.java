@@ -0,0 +1,22 @@
+package com.example.chillisauce.reservations.vo;
+
+/**
+ * 연쇄 삭제, 회의실 해제로 영향받은 테이블별 행 수
+ *
+ * @param reservations : 삭제되거나 회의실이 해제된 예약
+ * @param attendees    : 삭제된 예약 참석자
+ * @param slots        : 삭제된 슬롯 장부
+ * @param outbox       : 삭제된 참석자 스케줄 생성 대기 행
+ * @param schedules    : 삭제된 스케줄
+ * @param userLocations: 삭제된 좌석 배치
+ */
+public record CascadeResult(long reservations, long attendees, long slots, long outbox, long schedules,
+                            long userLocations) {
+    public static final CascadeResult EMPTY = new CascadeResult(0, 0, 0, 0, 0, 0);
+
+    public CascadeResult plus(CascadeResult other) {
+        return new CascadeResult(reservations + other.reservations, attendees + other.attendees,
+                slots + other.slots, outbox + other.outbox, schedules + other.schedules,
+                userLocations + other.userLocations);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.chillisauce.reservations.vo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 연쇄 처리 대상 예약, 엔티티 대신 캐시 갱신과 변경 알림에 필요한 값만 조회한다
+ *
+ * @param meetingRoomId : 회의실이 이미 해제된 예약이면 null
+ * @param companyName   : 예약자의 회사, 예약자가 없으면 null
+ */
+public record CascadeTarget(Long id, Long meetingRoomId, LocalDateTime startTime, LocalDateTime endTime,
+                            String companyName) {
+}
@@ -0,0 +1,17 @@
+package com.example.chillisauce.reservations.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 예약 연쇄 처리로 예약이 바뀐 회의실별 날짜, 연쇄 처리 트랜잭션 커밋 이후 이용률 집계에 한 번에 전달된다
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingRoomDaysChangedEvent {
+    private final Map<Long, Set<LocalDate>> days;
+}
@@ -0,0 +1,40 @@
+package com.example.chillisauce.reservations.vo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회의실 타임테이블 변경 알림, 예약 트랜잭션 커밋 이후 구독자에게 전달된다
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReservationChangedEvent {
+    private final String companyName;
+    private final Long meetingRoomId;
+    private final Long reservationId;
+    private final Type type;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    // 연쇄 처리 중 발행, 이용률 집계는 MeetingRoomDaysChangedEvent 로 회의실, 날짜별 한 번만 받는다
+    private final boolean cascaded;
+
+    public ReservationChangedEvent(String companyName, Long meetingRoomId, Long reservationId, Type type,
+                                   LocalDateTime start, LocalDateTime end) {
+        this(companyName, meetingRoomId, reservationId, type, start, end, false);
+    }
+
+    public static ReservationChangedEvent cascaded(String companyName, Long meetingRoomId, Long reservationId,
+                                                   LocalDateTime start, LocalDateTime end) {
+        return new ReservationChangedEvent(companyName, meetingRoomId, reservationId, Type.RELEASED, start, end, true);
+    }
+
+    public enum Type {
+        // 구간 점유
+        RESERVED,
+        // 구간 점유 해제
+        RELEASED
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.chillisauce.reservations.vo;
+
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 예약 목록 커서 : 마지막으로 조회한 예약 id 를 감춘 문자열
+ */
+public class ReservationCursor {
+    private static final Long FIRST = 0L;
+
+    private ReservationCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 커서는 첫 페이지
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(decoded);
+        } catch (IllegalArgumentException e) {
+            throw new ReservationException(ReservationErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.chillisauce.reservations.vo;
+
+import com.example.chillisauce.reservations.entity.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 회의실의 하루 예약 구간 캐시 값
+ * i번째 예약의 id 와 시작, 종료 시각(해당 날짜 0시부터의 분)을 배열로 보관한다
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationDayIntervals {
+    private long[] ids;
+    private int[] starts;
+    private int[] ends;
+
+    public static ReservationDayIntervals of(LocalDate day, List<Reservation> reservations) {
+        LocalDateTime base = day.atStartOfDay();
+        int size = reservations.size();
+        long[] ids = new long[size];
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        for (int i = 0; i < size; i++) {
+            Reservation reservation = reservations.get(i);
+            ids[i] = reservation.getId();
+            starts[i] = (int) ChronoUnit.MINUTES.between(base, reservation.getStartTime());
+            ends[i] = (int) ChronoUnit.MINUTES.between(base, reservation.getEndTime());
+        }
+        return new ReservationDayIntervals(ids, starts, ends);
+    }
+
+    public SlotBitmap toBitmap(SlotPolicy policy, LocalDate day) {
+        LocalDateTime base = day.atStartOfDay();
+        long bits = 0L;
+        for (int i = 0; i < ids.length; i++) {
+            bits |= policy.mask(day, base.plusMinutes(starts[i]), base.plusMinutes(ends[i]));
+        }
+        return SlotBitmap.of(bits);
+    }
+
+    /**
+     * [start, end] 와 겹치는 예약이 있는지 확인, 기존 조회 조건(시작 < end, 종료 > start)과 같다
+     *
+     * @param excludeId : 검사에서 제외할 예약 id, 없으면 null
+     */
+    public boolean overlaps(LocalDate day, LocalDateTime start, LocalDateTime end, Long excludeId) {
+        LocalDateTime base = day.atStartOfDay();
+        long startMinute = ChronoUnit.MINUTES.between(base, start);
+        long endMinute = ChronoUnit.MINUTES.between(base, end);
+        for (int i = 0; i < ids.length; i++) {
+            if (excludeId != null && ids[i] == excludeId) {
+                continue;
+            }
+            if (starts[i] < endMinute && ends[i] > startMinute) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.chillisauce.reservations.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 참석자 일정 생성 이벤트 저장 알림, 예약 트랜잭션 커밋 이후 디스패처가 받는다
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationOutboxCreatedEvent {
+    private final Long outboxId;
+}
@@ -1,9 +1,9 @@
 package com.example.chillisauce.reservations.vo;
 
 import lombok.Getter;
-import org.springframework.stereotype.Component;
 
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -12,8 +12,15 @@ import java.util.stream.IntStream;
 public class ReservationTimetable {
     public static final Integer OPEN_HOUR = 7;
     public static final Integer CLOSE_HOUR = 22;
+    // 기간 타임테이블 최대 조회 일수
+    public static final Integer MAX_RANGE_DAYS = 31;
     public static final Set<TimeUnit> TIME_SET =
             IntStream.range(OPEN_HOUR, CLOSE_HOUR + 1)
                     .mapToObj(x->new TimeUnit(LocalTime.of(x, 0), LocalTime.of(x, 59)))
                     .collect(Collectors.toSet());
+    // OPEN_HOUR 부터 정렬된 시간 단위, index 는 SlotBitmap 의 슬롯 번호와 같다
+    public static final List<TimeUnit> TIME_LIST =
+            IntStream.range(OPEN_HOUR, CLOSE_HOUR + 1)
+                    .mapToObj(x->new TimeUnit(LocalTime.of(x, 0), LocalTime.of(x, 59)))
+                    .toList();
 }
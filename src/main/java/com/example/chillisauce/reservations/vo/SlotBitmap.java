@@ -0,0 +1,101 @@
+package com.example.chillisauce.reservations.vo;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+
+/**
+ * 하루 타임테이블의 점유 상태를 슬롯당 1비트로 표현하는 비트맵
+ * i번째 비트 : SlotPolicy 의 i번째 슬롯 점유 여부, 슬롯 길이와 관계없이 long 하나로 표현한다
+ */
+public final class SlotBitmap {
+    public static final int MAX_SLOTS = Long.SIZE;
+
+    public static final SlotBitmap EMPTY = new SlotBitmap(0L);
+
+    private final long bits;
+
+    private SlotBitmap(long bits) {
+        this.bits = bits;
+    }
+
+    public static SlotBitmap of(long bits) {
+        return new SlotBitmap(bits);
+    }
+
+    public static SlotBitmap full(SlotPolicy policy) {
+        return new SlotBitmap(policy.allBits());
+    }
+
+    /**
+     * 해당 날짜에 걸친 구간 목록으로 비트맵 생성
+     */
+    public static SlotBitmap of(SlotPolicy policy, LocalDate day, Collection<? extends Interval> intervals) {
+        long bits = 0L;
+        for (Interval interval : intervals) {
+            bits |= policy.mask(day, interval.getStartTime(), interval.getEndTime());
+        }
+        return new SlotBitmap(bits);
+    }
+
+    /**
+     * from ~ to 날짜별 비트맵을 구간 목록 한 번 순회로 생성
+     * 반환 배열의 index 는 from 으로부터의 일수
+     */
+    public static SlotBitmap[] ofRange(SlotPolicy policy, LocalDate from, LocalDate to,
+                                       Collection<? extends Interval> intervals) {
+        long[] bits = new long[(int) ChronoUnit.DAYS.between(from, to) + 1];
+        for (Interval interval : intervals) {
+            LocalDate first = interval.getStartTime().toLocalDate();
+            LocalDate last = interval.getEndTime().toLocalDate();
+            first = first.isBefore(from) ? from : first;
+            last = last.isAfter(to) ? to : last;
+            for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                bits[(int) ChronoUnit.DAYS.between(from, day)] |=
+                        policy.mask(day, interval.getStartTime(), interval.getEndTime());
+            }
+        }
+
+        SlotBitmap[] result = new SlotBitmap[bits.length];
+        for (int i = 0; i < bits.length; i++) {
+            result[i] = new SlotBitmap(bits[i]);
+        }
+        return result;
+    }
+
+    // 하위 n 비트가 1 인 값, n 이 64 이면 전체
+    static long lowBits(int n) {
+        return n >= MAX_SLOTS ? -1L : (1L << n) - 1;
+    }
+
+    public boolean isOccupied(int slot) {
+        return (bits & (1L << slot)) != 0;
+    }
+
+    public boolean intersects(long mask) {
+        return (bits & mask) != 0;
+    }
+
+    public SlotBitmap or(long mask) {
+        return new SlotBitmap(bits | mask);
+    }
+
+    public long toLong() {
+        return bits;
+    }
+
+    // 응답용 압축 표현, 64비트 값을 JS 에서도 잃지 않도록 16진수 문자열로 보낸다
+    public String toHex() {
+        return Long.toHexString(bits);
+    }
+
+    /**
+     * 시작, 종료 시각을 가진 점유 구간
+     */
+    public interface Interval {
+        LocalDateTime getStartTime();
+
+        LocalDateTime getEndTime();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.chillisauce.reservations.vo;
+
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 회사별 타임테이블 슬롯 정책 : 슬롯 길이(분), 운영 시작 시, 마지막 슬롯이 속한 시
+ * 슬롯은 OPEN_HOUR 부터의 정수 index 로 다루며, 하루 슬롯 수는 SlotBitmap 한 개(64비트)에 들어가야 한다
+ */
+@Getter
+@EqualsAndHashCode(of = {"slotMinutes", "openHour", "closeHour"})
+public final class SlotPolicy {
+    // 슬롯 장부의 기준 단위, 모든 슬롯 길이는 이 값의 배수
+    public static final int BASE_MINUTES = 15;
+    public static final List<Integer> SUPPORTED_MINUTES = List.of(15, 30, 60);
+    public static final SlotPolicy DEFAULT =
+            new SlotPolicy(60, ReservationTimetable.OPEN_HOUR, ReservationTimetable.CLOSE_HOUR);
+
+    private final int slotMinutes;
+    private final int openHour;
+    private final int closeHour;
+    private final int slotCount;
+    // index 순서의 슬롯 시작, 종료 시각
+    private final List<TimeUnit> timeList;
+
+    private SlotPolicy(int slotMinutes, int openHour, int closeHour) {
+        this.slotMinutes = slotMinutes;
+        this.openHour = openHour;
+        this.closeHour = closeHour;
+        this.slotCount = (closeHour - openHour + 1) * 60 / slotMinutes;
+        this.timeList = IntStream.range(0, slotCount)
+                .mapToObj(i -> new TimeUnit(startTime(i), startTime(i).plusMinutes(slotMinutes - 1)))
+                .toList();
+    }
+
+    /**
+     * 값이 없는 항목은 기본 정책 값 사용
+     */
+    public static SlotPolicy of(Integer slotMinutes, Integer openHour, Integer closeHour) {
+        int minutes = slotMinutes == null ? DEFAULT.slotMinutes : slotMinutes;
+        int open = openHour == null ? DEFAULT.openHour : openHour;
+        int close = closeHour == null ? DEFAULT.closeHour : closeHour;
+
+        if (!SUPPORTED_MINUTES.contains(minutes) || open < 0 || close > 23 || open > close
+                || (close - open + 1) * 60 / minutes > SlotBitmap.MAX_SLOTS) {
+            throw new ReservationException(ReservationErrorCode.INVALID_SLOT_POLICY);
+        }
+        if (DEFAULT.slotMinutes == minutes && DEFAULT.openHour == open && DEFAULT.closeHour == close) {
+            return DEFAULT;
+        }
+        return new SlotPolicy(minutes, open, close);
+    }
+
+    public boolean isValidIndex(int index) {
+        return index >= 0 && index < slotCount;
+    }
+
+    public LocalDateTime startOf(LocalDate day, int index) {
+        return day.atTime(startTime(index));
+    }
+
+    // 기존 1시간 슬롯의 59분 종료와 같이 슬롯 마지막 분을 종료 시각으로 쓴다
+    public LocalDateTime endOf(LocalDate day, int index) {
+        return startOf(day, index).plusMinutes(slotMinutes - 1);
+    }
+
+    public LocalDateTime endOfSlotStartingAt(LocalDateTime slotStart) {
+        return slotStart.plusMinutes(slotMinutes - 1);
+    }
+
+    /**
+     * [start, end) 구간에 시작 시각이 포함되는 슬롯의 비트 마스크
+     * 기존 타임테이블과 같이 start <= 슬롯 시작 < end 이면 점유로 본다
+     */
+    public long mask(LocalDate day, LocalDateTime start, LocalDateTime end) {
+        int openMinute = openHour * 60;
+        int startMinute = start.toLocalDate().isBefore(day) ? 0 : minuteOfDay(start);
+        int endMinute = end.toLocalDate().isAfter(day) ? 24 * 60 : minuteOfDay(end);
+
+        int first = Math.max(-Math.floorDiv(openMinute - startMinute, slotMinutes), 0);
+        int last = Math.min(-Math.floorDiv(openMinute - endMinute, slotMinutes) - 1, slotCount - 1);
+        if (first > last) {
+            return 0L;
+        }
+        return SlotBitmap.lowBits(last + 1) & ~SlotBitmap.lowBits(first);
+    }
+
+    public long allBits() {
+        return SlotBitmap.lowBits(slotCount);
+    }
+
+    private LocalTime startTime(int index) {
+        return LocalTime.of(openHour, 0).plusMinutes((long) index * slotMinutes);
+    }
+
+    private static int minuteOfDay(LocalDateTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
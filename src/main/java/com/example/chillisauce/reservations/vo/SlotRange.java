@@ -0,0 +1,70 @@
+package com.example.chillisauce.reservations.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 요청한 슬롯들의 [첫 슬롯 시작, 마지막 슬롯 종료] 구간
+ */
+@Getter
+@AllArgsConstructor
+public class SlotRange {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * 요청 시각을 슬롯 정책 기준의 구간으로 변환, 예약과 스케줄 요청이 같이 쓴다
+     * 날짜와 슬롯 index 목록이 있으면 그 값을, 없으면 슬롯 시작 시각 목록을 쓴다
+     *
+     * @param invalid : 잘못된 슬롯이거나 하루를 넘는 구간일 때 던질 도메인 예외
+     */
+    public static SlotRange of(SlotPolicy policy, LocalDate date, List<Integer> slotList,
+                               List<LocalDateTime> startList, Supplier<? extends RuntimeException> invalid) {
+        if (hasSlots(date, slotList)) {
+            if (!slotList.stream().allMatch(policy::isValidIndex)) {
+                throw invalid.get();
+            }
+            return ofSlots(policy, date, slotList);
+        }
+
+        if (startList == null || startList.isEmpty()) {
+            throw invalid.get();
+        }
+        SlotRange range = ofStarts(policy, startList);
+        if (!range.isWithinDay()) {
+            throw invalid.get();
+        }
+        return range;
+    }
+
+    /**
+     * 날짜의 슬롯 index 목록으로 구간 계산, index 는 호출 전에 SlotPolicy.isValidIndex 로 검증한다
+     */
+    public static SlotRange ofSlots(SlotPolicy policy, LocalDate date, List<Integer> slotList) {
+        IntSummaryStatistics stats = slotList.stream().mapToInt(Integer::intValue).summaryStatistics();
+        return new SlotRange(policy.startOf(date, stats.getMin()), policy.endOf(date, stats.getMax()));
+    }
+
+    /**
+     * 슬롯 시작 시각 목록으로 구간 계산
+     */
+    public static SlotRange ofStarts(SlotPolicy policy, List<LocalDateTime> startList) {
+        return new SlotRange(Collections.min(startList), policy.endOfSlotStartingAt(Collections.max(startList)));
+    }
+
+    // 예약, 스케줄은 하루 안에서 끝나야 날짜 기준 범위 조회와 인덱스 하한이 맞는다
+    public boolean isWithinDay() {
+        return start.toLocalDate().equals(end.toLocalDate());
+    }
+
+    public static boolean hasSlots(LocalDate date, List<Integer> slotList) {
+        return date != null && slotList != null && !slotList.isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.chillisauce.reservations.vo;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 점유 비트맵을 슬롯별 응답 목록으로 변환, 예약과 스케줄 타임테이블이 응답 타입만 바꿔 같이 쓴다
+ * 슬롯별 응답 객체는 불변이므로 슬롯 정책(종류는 몇 개 되지 않는다)마다 빈, 점유 객체를 한 번만 만들어
+ * 비트값에 따라 골라 쓴다
+ */
+public class SlotTimeList<T> {
+    private final ResponseFactory<T> factory;
+    private final Map<SlotPolicy, List<T>> free = new ConcurrentHashMap<>();
+    private final Map<SlotPolicy, List<T>> occupied = new ConcurrentHashMap<>();
+
+    public SlotTimeList(ResponseFactory<T> factory) {
+        this.factory = factory;
+    }
+
+    public List<T> toList(SlotPolicy policy, SlotBitmap occupancy) {
+        List<T> freeTimes = responses(policy, false);
+        List<T> occupiedTimes = responses(policy, true);
+        List<T> timeList = new ArrayList<>(policy.getSlotCount());
+        for (int slot = 0; slot < policy.getSlotCount(); slot++) {
+            timeList.add(occupancy.isOccupied(slot) ? occupiedTimes.get(slot) : freeTimes.get(slot));
+        }
+        return timeList;
+    }
+
+    private List<T> responses(SlotPolicy policy, boolean isCheckOut) {
+        return (isCheckOut ? occupied : free).computeIfAbsent(policy, p ->
+                p.getTimeList().stream()
+                        .map(x -> factory.create(isCheckOut, x.getStart(), x.getEnd()))
+                        .toList());
+    }
+
+    @FunctionalInterface
+    public interface ResponseFactory<T> {
+        T create(boolean isCheckOut, LocalTime start, LocalTime end);
+    }
+}
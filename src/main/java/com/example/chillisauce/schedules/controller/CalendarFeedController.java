@@ -0,0 +1,50 @@
+package com.example.chillisauce.schedules.controller;
+
+import com.example.chillisauce.message.ResponseMessage;
+import com.example.chillisauce.schedules.dto.CalendarFeedTokenResponseDto;
+import com.example.chillisauce.schedules.service.CalendarFeedService;
+import com.example.chillisauce.schedules.vo.CalendarFeed;
+import com.example.chillisauce.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+public class CalendarFeedController {
+
+    private final CalendarFeedService calendarFeedService;
+
+    /**
+     * 캘린더 구독 주소 발급
+     */
+    @PostMapping("/schedules/feed/token")
+    public ResponseEntity<ResponseMessage<CalendarFeedTokenResponseDto>> issueFeedToken(
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("캘린더 구독 주소 발급 성공", calendarFeedService.issueToken(userDetails));
+    }
+
+    /**
+     * 캘린더 구독 피드 (iCalendar)
+     * If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 로 응답한다
+     * 삭제나 기간 경과로 빠진 일정은 수정 시각을 바꾸지 않으므로 Last-Modified 로는 재검증하지 않는다
+     */
+    @GetMapping("/schedules/feed/{token}.ics")
+    public ResponseEntity<StreamingResponseBody> getFeed(@PathVariable String token, WebRequest webRequest) {
+        CalendarFeed feed = calendarFeedService.getFeed(token);
+        if (webRequest.checkNotModified(feed.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(CalendarFeedService.TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache())
+                .body(out -> calendarFeedService.writeFeed(feed, out));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.chillisauce.schedules.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
 import com.example.chillisauce.schedules.dto.ScheduleListResponseDto;
+import com.example.chillisauce.schedules.dto.ScheduleRangeTimetableResponseDto;
 import com.example.chillisauce.schedules.dto.ScheduleRequestDto;
 import com.example.chillisauce.schedules.dto.ScheduleResponseDto;
 import com.example.chillisauce.schedules.dto.ScheduleTimetableResponseDto;
@@ -36,6 +37,29 @@ public class ScheduleController {
         return ResponseMessage.responseSuccess("당일 스케줄 조회 성공", scheduleService.getDaySchedules(selDate, userDetails));
     }
 
+    /**
+     * 기간 스케줄 조회 (주간 뷰 등)
+     */
+    @GetMapping("/schedules/timetable")
+    public ResponseEntity<ResponseMessage<ScheduleRangeTimetableResponseDto>> getRangeSchedules(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("기간 스케줄 조회 성공", scheduleService.getRangeSchedules(from, to, userDetails));
+    }
+
+    /**
+     * 주간 스케줄 조회, 선택 날짜가 속한 주의 월요일 ~ 일요일
+     */
+    @GetMapping("/schedules/week")
+    public ResponseEntity<ResponseMessage<ScheduleRangeTimetableResponseDto>> getWeekSchedules(
+            @RequestParam(value = "selDate", required = false, defaultValue = "#{T(java.time.LocalDate).now()}")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate selDate,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseMessage.responseSuccess("주간 스케줄 조회 성공", scheduleService.getWeekSchedules(selDate, userDetails));
+    }
+
     /**
      * 개인 전체 스케줄 조회
      */
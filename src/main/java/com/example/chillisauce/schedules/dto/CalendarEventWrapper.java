@@ -0,0 +1,12 @@
+package com.example.chillisauce.schedules.dto;
+
+import java.time.LocalDateTime;
+
+public interface CalendarEventWrapper {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    LocalDateTime getStartTime();
+    LocalDateTime getEndTime();
+    LocalDateTime getModifiedAt();
+}
@@ -0,0 +1,19 @@
+package com.example.chillisauce.schedules.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalendarFeedTokenResponseDto {
+    String token;
+    // 캘린더 앱에 등록할 구독 주소의 경로
+    String feedPath;
+
+    public CalendarFeedTokenResponseDto(String token) {
+        this.token = token;
+        this.feedPath = "/schedules/feed/" + token + ".ics";
+    }
+}
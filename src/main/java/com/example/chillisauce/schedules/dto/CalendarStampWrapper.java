@@ -0,0 +1,8 @@
+package com.example.chillisauce.schedules.dto;
+
+import java.time.LocalDateTime;
+
+public interface CalendarStampWrapper {
+    Long getCount();
+    LocalDateTime getModifiedAt();
+}
@@ -0,0 +1,16 @@
+package com.example.chillisauce.schedules.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleRangeTimetableResponseDto {
+    @Schema(description = "일자별 타임테이블 리스트")
+    List<ScheduleDayTimetableResponseDto> dayList;
+}
@@ -1,12 +1,16 @@
 package com.example.chillisauce.schedules.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.AssertTrue;
 import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
 import java.util.List;
 
 @Getter
@@ -18,7 +22,26 @@ public class ScheduleRequestDto {
     String scTitle;
     @NotNull
     String scComment;
-    @NotEmpty
     List<ScheduleTime> startList;
-}
 
+    // startList 대신 날짜와 회사 슬롯 정책의 슬롯 index 목록으로 요청할 수 있다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    LocalDate date;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    List<Integer> slotList;
+
+    public ScheduleRequestDto(String scTitle, String scComment, List<ScheduleTime> startList) {
+        this.scTitle = scTitle;
+        this.scComment = scComment;
+        this.startList = startList;
+    }
+
+    @JsonIgnore
+    @AssertTrue
+    public boolean isValidTime() {
+        boolean hasStartList = startList != null && !startList.isEmpty();
+        boolean hasSlotList = date != null && slotList != null && !slotList.isEmpty();
+        return hasStartList || hasSlotList;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.chillisauce.schedules.entity;
 
+import com.example.chillisauce.config.JpaConfig;
 import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
 import com.example.chillisauce.schedules.dto.ScheduleRequestDto;
 import com.example.chillisauce.users.entity.User;
 import lombok.AllArgsConstructor;
@@ -12,13 +14,21 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 유저의 기간별 스케줄 조회용
+        @Index(name = "idx_schedule_user_start", columnList = "user_id, startTime"),
+        // 보관 대상 조회용
+        @Index(name = "idx_schedule_end_time", columnList = "endTime")
+})
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class Schedule {
+public class Schedule implements SlotBitmap.Interval {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq_generator")
+    @SequenceGenerator(name = "schedule_seq_generator", sequenceName = "schedule_seq",
+            allocationSize = JpaConfig.BATCH_SIZE)
     Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,6 +46,15 @@ public class Schedule {
     @Column(nullable = false)
     String comment;
 
+    // 캘린더 피드의 변경 여부(ETag, Last-Modified) 판단용
+    LocalDateTime modifiedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.modifiedAt = LocalDateTime.now();
+    }
+
     public void update(ScheduleRequestDto requestDto, LocalDateTime startTime, LocalDateTime endTime) {
         this.title= requestDto.getScTitle();
         this.comment= requestDto.getScComment();
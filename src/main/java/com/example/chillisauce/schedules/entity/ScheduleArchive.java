@@ -0,0 +1,64 @@
+package com.example.chillisauce.schedules.entity;
+
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 지난 스케줄 보관 테이블, 운영 테이블의 스케줄 id 를 그대로 사용한다
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_schedule_archive_user_start", columnList = "userId, startTime"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleArchive implements SlotBitmap.Interval, Persistable<Long> {
+    @Id
+    Long id;
+
+    Long userId;
+
+    @Column(nullable = false)
+    String title;
+
+    @Column(nullable = false)
+    LocalDateTime startTime;
+
+    @Column(nullable = false)
+    LocalDateTime endTime;
+
+    @Column(nullable = false)
+    String comment;
+
+    @Column(nullable = false)
+    LocalDateTime archivedAt;
+
+    // id 를 직접 지정하므로 save 시 merge(select) 대신 persist 하도록 새 엔티티 여부를 따로 관리
+    @Transient
+    boolean persisted;
+
+    public ScheduleArchive(Schedule schedule, LocalDateTime now) {
+        this.id = schedule.getId();
+        this.userId = schedule.getUser() == null ? null : schedule.getUser().getId();
+        this.title = schedule.getTitle();
+        this.startTime = schedule.getStartTime();
+        this.endTime = schedule.getEndTime();
+        this.comment = schedule.getComment();
+        this.archivedAt = now;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -16,8 +16,11 @@ public enum ScheduleErrorCode implements ErrorStatusMessage {
     DUPLICATED_TIME(BAD_REQUEST, "해당 시간대에 이미 등록된 스케줄이 있습니다."),
     INVALID_USER_SCHEDULE_UPDATE(BAD_REQUEST, "스케줄을 수정할 권한이 없는 유저입니다."),
     INVALID_USER_SCHEDULE_DELETE(BAD_REQUEST, "스케줄을 삭제할 권한이 없는 유저입니다."),
+    INVALID_DATE_RANGE(BAD_REQUEST, "조회 기간이 올바르지 않습니다."),
     /* 404 */
-    SCHEDULE_NOT_FOUND(NOT_FOUND, "스케줄을 찾을 수 없습니다.");
+    SCHEDULE_NOT_FOUND(NOT_FOUND, "스케줄을 찾을 수 없습니다."),
+    CALENDAR_FEED_NOT_FOUND(NOT_FOUND, "캘린더 구독 주소를 찾을 수 없습니다."),
+    USER_NOT_FOUND(NOT_FOUND, "등록된 사용자가 없습니다.");
 
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,26 @@
+package com.example.chillisauce.schedules.repository;
+
+import com.example.chillisauce.reservations.dto.UserIntervalWrapper;
+import com.example.chillisauce.schedules.entity.ScheduleArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduleArchiveRepository extends JpaRepository<ScheduleArchive, Long> {
+    @Query("select s from ScheduleArchive s " +
+            "where s.userId = :userId and s.startTime between :startTime and :endTime")
+    List<ScheduleArchive> findAllByUserIdAndStartTimeBetween(@Param("userId") Long userId,
+                                                             @Param("startTime") LocalDateTime startTime,
+                                                             @Param("endTime") LocalDateTime endTime);
+
+    @Query("select s.userId as userId, s.startTime as startTime, s.endTime as endTime " +
+            "from ScheduleArchive s " +
+            "where s.userId in :userIds and s.startTime between :startTime and :endTime")
+    List<UserIntervalWrapper> findIntervalsByUserIdIn(@Param("userIds") Collection<Long> userIds,
+                                                      @Param("startTime") LocalDateTime startTime,
+                                                      @Param("endTime") LocalDateTime endTime);
+}
@@ -1,18 +1,38 @@
 package com.example.chillisauce.schedules.repository;
 
+import com.example.chillisauce.config.JpaConfig;
+import com.example.chillisauce.reservations.dto.UserIntervalWrapper;
 import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.schedules.dto.CalendarEventWrapper;
+import com.example.chillisauce.schedules.dto.CalendarStampWrapper;
 import com.example.chillisauce.schedules.entity.Schedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+    // 보관 대상 : 종료 시각이 before 이전인 스케줄, 종료 시각 인덱스 순으로 batch 크기만큼
+    @Query("select s.id from Schedule s where s.endTime < :before order by s.endTime asc")
+    List<Long> findArchivableIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Schedule s where s.id in :ids")
+    void deleteAllByIdIn(@Param("ids") List<Long> ids);
+
     List<Schedule> findAllByUserId(Long userId);
 
     @Query("select s from Schedule s " +
@@ -21,6 +41,26 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
                                                @Param("startTime") LocalDateTime startTime,
                                                @Param("endTime") LocalDateTime endTime);
 
+    // 여러 유저의 스케줄 구간을 한 번에 조회
+    @Query("select s.user.id as userId, s.startTime as startTime, s.endTime as endTime from Schedule s " +
+            "where s.user.id in :userIds and s.startTime between :startTime and :endTime")
+    List<UserIntervalWrapper> findIntervalsByUserIdIn(@Param("userIds") Collection<Long> userIds,
+                                                      @Param("startTime") LocalDateTime startTime,
+                                                      @Param("endTime") LocalDateTime endTime);
+
+    // 캘린더 피드용 스케줄, 엔티티로 올리지 않고 커서에서 fetch size 만큼씩 읽는다
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + JpaConfig.BATCH_SIZE))
+    @Query("select s.id as id, s.title as title, s.comment as description, " +
+            "s.startTime as startTime, s.endTime as endTime, s.modifiedAt as modifiedAt " +
+            "from Schedule s where s.user.id = :userId and s.startTime >= :from")
+    Stream<CalendarEventWrapper> streamCalendarEvents(@Param("userId") Long userId,
+                                                      @Param("from") LocalDateTime from);
+
+    // 캘린더 피드의 변경 여부 판단용 건수, 마지막 수정 시각
+    @Query("select count(s) as count, max(s.modifiedAt) as modifiedAt " +
+            "from Schedule s where s.user.id = :userId and s.startTime >= :from")
+    CalendarStampWrapper findCalendarStamp(@Param("userId") Long userId, @Param("from") LocalDateTime from);
+
     @Query("select s from Schedule s " +
             "where s.user.id= :userId and s.startTime < :endTime and s.endTime > :startTime")
     List<Schedule> findFirstByUserIdAndStartTimeLessThanAndEndTimeGreaterThan(
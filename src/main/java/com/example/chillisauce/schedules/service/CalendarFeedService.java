@@ -0,0 +1,98 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.schedules.dto.CalendarEventWrapper;
+import com.example.chillisauce.schedules.dto.CalendarFeedTokenResponseDto;
+import com.example.chillisauce.schedules.exception.ScheduleErrorCode;
+import com.example.chillisauce.schedules.exception.ScheduleException;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.schedules.vo.CalendarFeed;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 개인 스케줄, 주최 예약을 iCalendar 구독 피드로 제공
+ * 캘린더 앱은 로그인 없이 주기적으로 폴링하므로 토큰 주소로 접근하고, 바뀐 것이 없으면 본문 없이 304 로 응답한다
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+    public static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+    // 피드에 넣는 지난 일정 기간
+    static final int PAST_DAYS = 30;
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * 구독 토큰 발급, 이미 있으면 새 토큰으로 바꿔 이전 구독 주소는 더 이상 쓸 수 없다
+     */
+    @Transactional
+    public CalendarFeedTokenResponseDto issueToken(UserDetailsImpl userDetails) {
+        User user = userRepository.findById(userDetails.getUser().getId())
+                .orElseThrow(() -> new ScheduleException(ScheduleErrorCode.USER_NOT_FOUND));
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        user.issueCalendarToken(token);
+        return new CalendarFeedTokenResponseDto(token);
+    }
+
+    /**
+     * 토큰의 피드 대상과 ETag, Last-Modified
+     * 일정 본문은 읽지 않고 건수, 마지막 수정 시각만 집계한다
+     */
+    @Transactional(readOnly = true)
+    public CalendarFeed getFeed(String token) {
+        User user = userRepository.findByCalendarToken(token)
+                .orElseThrow(() -> new ScheduleException(ScheduleErrorCode.CALENDAR_FEED_NOT_FOUND));
+        LocalDateTime from = LocalDate.now().minusDays(PAST_DAYS).atStartOfDay();
+        return CalendarFeed.of(user.getId(), from,
+                scheduleRepository.findCalendarStamp(user.getId(), from),
+                reservationRepository.findCalendarStamp(user.getId(), from));
+    }
+
+    /**
+     * 피드 본문을 DB 커서에서 읽는 대로 out 에 쓴다
+     * 응답 스트리밍 스레드에서 호출되며, 스트림을 다 읽을 때까지 이 트랜잭션이 커서를 연다
+     */
+    @Transactional(readOnly = true)
+    public void writeFeed(CalendarFeed feed, OutputStream out) throws IOException {
+        ICalendarWriter writer = new ICalendarWriter(out, LocalDateTime.now());
+        writer.begin("chillisauce");
+        try (Stream<CalendarEventWrapper> schedules =
+                     scheduleRepository.streamCalendarEvents(feed.getUserId(), feed.getFrom())) {
+            write(writer, "schedule-", schedules.iterator());
+        }
+        try (Stream<CalendarEventWrapper> reservations =
+                     reservationRepository.streamCalendarEvents(feed.getUserId(), feed.getFrom())) {
+            write(writer, "reservation-", reservations.iterator());
+        }
+        writer.end();
+    }
+
+    private void write(ICalendarWriter writer, String uidPrefix, Iterator<CalendarEventWrapper> events)
+            throws IOException {
+        while (events.hasNext()) {
+            writer.event(uidPrefix, events.next());
+        }
+    }
+}
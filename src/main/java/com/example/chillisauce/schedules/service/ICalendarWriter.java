@@ -0,0 +1,110 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.schedules.dto.CalendarEventWrapper;
+import com.example.chillisauce.schedules.vo.CalendarFeed;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * RFC 5545 iCalendar 문서 작성
+ * 이벤트를 받는 대로 버퍼 크기만큼씩 출력 스트림에 내보내므로 이벤트 수와 관계없이 메모리를 일정하게 쓴다
+ */
+class ICalendarWriter {
+    private static final DateTimeFormatter UTC_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    // 줄 바꿈을 제외한 한 줄 최대 길이, 넘으면 CRLF + 공백으로 접는다
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String CRLF = "\r\n";
+    private static final String UID_DOMAIN = "@chillisauce";
+
+    private final Writer writer;
+    private final String generatedAt;
+
+    ICalendarWriter(OutputStream out, LocalDateTime now) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.generatedAt = format(now);
+    }
+
+    void begin(String calendarName) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//chillisauce//schedule feed//KO");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + escape(calendarName));
+    }
+
+    /**
+     * @param uidPrefix : 일정 종류별 UID 접두어, 스케줄과 예약의 id 가 겹쳐도 UID 는 겹치지 않는다
+     */
+    void event(String uidPrefix, CalendarEventWrapper event) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uidPrefix + event.getId() + UID_DOMAIN);
+        line("DTSTAMP:" + (event.getModifiedAt() == null ? generatedAt : format(event.getModifiedAt())));
+        line("DTSTART:" + format(event.getStartTime()));
+        // 종료 시각은 마지막 분을 가리키고 DTEND 는 그 시각을 포함하지 않으므로 1분을 더한다
+        line("DTEND:" + format(event.getEndTime().plusMinutes(1)));
+        line("SUMMARY:" + escape(event.getTitle()));
+        if (event.getDescription() != null && !event.getDescription().isEmpty()) {
+            line("DESCRIPTION:" + escape(event.getDescription()));
+        }
+        line("END:VEVENT");
+    }
+
+    void end() throws IOException {
+        line("END:VCALENDAR");
+        writer.flush();
+    }
+
+    // 75 octet 단위로 접어서 쓴다, 접은 줄은 앞의 공백 1 octet 을 포함해 75 octet
+    private void line(String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = utf8Length(codePoint);
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write(CRLF);
+                writer.write(' ');
+                octets = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(CRLF);
+    }
+
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "");
+    }
+
+    private static String format(LocalDateTime time) {
+        return UTC_FORMAT.format(time.atZone(CalendarFeed.ZONE));
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.reservations.dto.UserIntervalWrapper;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.schedules.repository.ScheduleArchiveRepository;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 유저 개인의 일자별 점유 비트맵
+ * 개인 스케줄과 유저가 주최하거나 참석하는 회의실 예약을 하나의 비트맵으로 합친다
+ * 예약으로 만들어진 스케줄과 예약이 함께 잡혀도 같은 비트를 켜므로 중복 표시되지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+public class PersonalOccupancyService {
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleArchiveRepository scheduleArchiveRepository;
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * from ~ to 날짜별 점유 비트맵, 반환 배열의 index 는 from 으로부터의 일수
+     */
+    @Transactional(readOnly = true)
+    public SlotBitmap[] getOccupancies(Long userId, SlotPolicy policy, LocalDate from, LocalDate to) {
+        return getOccupancies(List.of(userId), policy, from, to).get(userId);
+    }
+
+    /**
+     * 여러 유저의 from ~ to 날짜별 점유 비트맵
+     * 유저 수와 관계없이 스케줄, 보관 스케줄, 주최 예약, 참석 예약을 한 번씩만 조회한다
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, SlotBitmap[]> getOccupancies(Collection<Long> userIds, SlotPolicy policy,
+                                                  LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atTime(LocalTime.MAX);
+
+        List<UserIntervalWrapper> all = new ArrayList<>(
+                scheduleRepository.findIntervalsByUserIdIn(userIds, start, end));
+        if (from.isBefore(LocalDate.now())) {
+            all.addAll(scheduleArchiveRepository.findIntervalsByUserIdIn(userIds, start, end));
+        }
+        all.addAll(reservationRepository.findIntervalsByOrganizerIdIn(userIds, start, end));
+        all.addAll(reservationRepository.findIntervalsByAttendeeIdIn(userIds, start, end));
+
+        Map<Long, List<UserIntervalWrapper>> byUser = all.stream()
+                .collect(Collectors.groupingBy(UserIntervalWrapper::getUserId));
+        Map<Long, SlotBitmap[]> result = new HashMap<>();
+        for (Long userId : userIds) {
+            result.put(userId, SlotBitmap.ofRange(policy, from, to, byUser.getOrDefault(userId, List.of())));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.schedules.entity.ScheduleArchive;
+import com.example.chillisauce.schedules.repository.ScheduleArchiveRepository;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지난 스케줄을 보관 테이블로 옮기는 단위 작업, batch 하나가 트랜잭션 하나
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleArchiveProcessor {
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleArchiveRepository scheduleArchiveRepository;
+
+    /**
+     * 종료 시각이 before 이전인 스케줄을 최대 batchSize 건 옮기고, 옮긴 건수를 반환
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int archive(LocalDateTime before, int batchSize) {
+        List<Long> ids = scheduleRepository.findArchivableIds(before, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        scheduleArchiveRepository.saveAll(scheduleRepository.findAllById(ids).stream()
+                .map(x -> new ScheduleArchive(x, now))
+                .toList());
+        scheduleRepository.deleteAllByIdIn(ids);
+
+        return ids.size();
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.chillisauce.schedules.service;
 
-import com.example.chillisauce.reservations.vo.TimeUnit;
+import com.example.chillisauce.reservations.service.SlotPolicyService;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.reservations.vo.SlotRange;
+import com.example.chillisauce.reservations.vo.SlotTimeList;
 import com.example.chillisauce.schedules.dto.*;
 import com.example.chillisauce.schedules.entity.Schedule;
 import com.example.chillisauce.schedules.exception.ScheduleErrorCode;
@@ -14,13 +18,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.annotation.PostConstruct;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -28,42 +31,72 @@ import java.util.stream.IntStream;
 public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
+    private final SlotPolicyService slotPolicyService;
+    private final PersonalOccupancyService personalOccupancyService;
 
+    private static final SlotTimeList<ScheduleTimeResponseDto> TIME_LIST = new SlotTimeList<>(ScheduleTimeResponseDto::new);
+
+    // 스케줄 타임테이블도 회사 예약 타임테이블과 같은 슬롯 정책을 따른다
+    SlotPolicy getSlotPolicy(User user) {
+        return user.getCompanies() == null ? SlotPolicy.DEFAULT
+                : slotPolicyService.findSlotPolicy(user.getCompanies().getCompanyName());
+    }
+
+    /**
+     * 당일 스케줄 타임테이블 조회
+     * 개인 스케줄과 주최, 참석하는 예약을 합친 점유 비트맵으로 만든다
+     */
     @Transactional(readOnly = true)
     public ScheduleTimetableResponseDto getDaySchedules(LocalDate selDate, UserDetailsImpl userDetails) {
         User user = userDetails.getUser();
+        SlotPolicy policy = getSlotPolicy(user);
+        SlotBitmap occupancy = personalOccupancyService.getOccupancies(user.getId(), policy, selDate, selDate)[0];
 
-        // 해당 날짜에 해당하는 모든 스케줄 리스트
-        List<Schedule> all = scheduleRepository
-                .findAllByUserIdAndStartTimeBetween(user.getId(), selDate.atStartOfDay(), selDate.atTime(LocalTime.MAX));
-
-        // 예약 수 x timeSet entry lop
-        List<ScheduleTimeResponseDto> timeList =
-                ScheduleTimeTable.TIME_SET.stream().map(
-                        x -> {
-                            LocalTime startTime = LocalTime.of(x.getStart().getHour(), x.getStart().getMinute());
-                            LocalTime endTime = LocalTime.of(x.getEnd().getHour(), x.getEnd().getMinute());
-                            LocalDateTime startDateTime = LocalDateTime.of(selDate, startTime);
-                            return new ScheduleTimeResponseDto(isOccupied(startDateTime, all), startTime, endTime);
-                        })
-                        // 07시부터 22시까지 정렬하기 위한 Comparator 구현
-                        .sorted(((o1, o2) -> o1.getStart().isAfter(o2.getStart()) ? 1 :
-                                o1.getStart().isBefore(o2.getStart()) ? -1 : 0))
-                        .toList();
-
-        return new ScheduleTimetableResponseDto(timeList);
+        return new ScheduleTimetableResponseDto(toTimeList(policy, occupancy));
     }
 
-    // 예약의 시작시간에 해당하는 타임은 true 반환
-    boolean isOccupied(LocalDateTime time, List<Schedule> all) {
-        for (Schedule schedule : all) {
-            LocalDateTime start = schedule.getStartTime();
-            LocalDateTime end = schedule.getEndTime();
-            if (time.isEqual(start) || (time.isAfter(start) && time.isBefore(end))) {
-                return true;
-            }
+    /**
+     * 기간 스케줄 타임테이블 조회
+     * 기간 전체를 범위 쿼리로 가져와 일자별 비트맵을 만든다
+     */
+    @Transactional(readOnly = true)
+    public ScheduleRangeTimetableResponseDto getRangeSchedules(LocalDate from, LocalDate to,
+                                                               UserDetailsImpl userDetails) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= ScheduleTimeTable.MAX_RANGE_DAYS) {
+            throw new ScheduleException(ScheduleErrorCode.INVALID_DATE_RANGE);
+        }
+
+        User user = userDetails.getUser();
+        SlotPolicy policy = getSlotPolicy(user);
+        SlotBitmap[] occupancies = personalOccupancyService.getOccupancies(user.getId(), policy, from, to);
+
+        List<ScheduleDayTimetableResponseDto> dayList = new ArrayList<>(occupancies.length);
+        for (int i = 0; i < occupancies.length; i++) {
+            dayList.add(new ScheduleDayTimetableResponseDto(from.plusDays(i), toTimeList(policy, occupancies[i])));
         }
-        return false;
+
+        return new ScheduleRangeTimetableResponseDto(dayList);
+    }
+
+    /**
+     * 주간 스케줄 타임테이블 조회, selDate 가 속한 주의 월요일 ~ 일요일
+     */
+    @Transactional(readOnly = true)
+    public ScheduleRangeTimetableResponseDto getWeekSchedules(LocalDate selDate, UserDetailsImpl userDetails) {
+        LocalDate monday = selDate.with(DayOfWeek.MONDAY);
+        return getRangeSchedules(monday, monday.plusDays(6), userDetails);
+    }
+
+    List<ScheduleTimeResponseDto> toTimeList(SlotPolicy policy, SlotBitmap occupancy) {
+        return TIME_LIST.toList(policy, occupancy);
+    }
+
+    // 요청 시각을 슬롯 정책 기준의 [시작, 종료] 구간으로 변환
+    private SlotRange toSlotRange(SlotPolicy policy, ScheduleRequestDto requestDto) {
+        List<LocalDateTime> startList = requestDto.getStartList() == null ? null
+                : requestDto.getStartList().stream().map(ScheduleTime::getStart).toList();
+        return SlotRange.of(policy, requestDto.getDate(), requestDto.getSlotList(), startList,
+                () -> new ScheduleException(ScheduleErrorCode.NOT_PROPER_TIME));
     }
 
     @Transactional(readOnly = true)
@@ -82,11 +115,9 @@ public class ScheduleService {
     public ScheduleResponseDto addSchedule(ScheduleRequestDto requestDto, UserDetailsImpl userDetails) {
         User user = userDetails.getUser();
 
-        // startList 정렬
-        List<LocalDateTime> list = requestDto.getStartList().stream().map(ScheduleTime::getStart)
-                .sorted().toList();
-        LocalDateTime start = list.get(0);
-        LocalDateTime end = list.get(list.size()-1).plusMinutes(59);
+        SlotRange range = toSlotRange(getSlotPolicy(user), requestDto);
+        LocalDateTime start = range.getStart();
+        LocalDateTime end = range.getEnd();
 
         Schedule schedules = Schedule.builder()
                 .user(user)
@@ -114,11 +145,9 @@ public class ScheduleService {
             throw new ScheduleException(ScheduleErrorCode.INVALID_USER_SCHEDULE_UPDATE);
         }
 
-        // startList 정렬
-        List<LocalDateTime> list = requestDto.getStartList().stream().map(ScheduleTime::getStart)
-                .sorted().toList();
-        LocalDateTime start = list.get(0);
-        LocalDateTime end = list.get(list.size()-1).plusMinutes(59);
+        SlotRange range = toSlotRange(getSlotPolicy(user), requestDto);
+        LocalDateTime start = range.getStart();
+        LocalDateTime end = range.getEnd();
 
         schedule.update(requestDto, start, end);
 
@@ -0,0 +1,45 @@
+package com.example.chillisauce.schedules.vo;
+
+import com.example.chillisauce.schedules.dto.CalendarStampWrapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 캘린더 피드 1건의 대상과 변경 여부 판단값
+ * 삭제는 마지막 수정 시각을 바꾸지 않으므로 건수를 ETag 에 넣어 ETag 로만 판단한다
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarFeed {
+    // 일정 시각은 모두 서울 기준으로 저장된다
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final Long userId;
+    // 이 시각 이후에 시작하는 일정만 피드에 넣는다
+    private final LocalDateTime from;
+    private final String etag;
+    // epoch millis, 일정이 없으면 -1. ETag 를 만들 때만 쓴다
+    private final long lastModified;
+
+    public static CalendarFeed of(Long userId, LocalDateTime from,
+                                  CalendarStampWrapper schedules, CalendarStampWrapper reservations) {
+        LocalDateTime modifiedAt = latest(schedules.getModifiedAt(), reservations.getModifiedAt());
+        long lastModified = modifiedAt == null ? -1 : modifiedAt.atZone(ZONE).toInstant().toEpochMilli();
+        String etag = "\"" + count(schedules) + "-" + count(reservations) + "-" + lastModified + "\"";
+        return new CalendarFeed(userId, from, etag, lastModified);
+    }
+
+    private static long count(CalendarStampWrapper stamp) {
+        return stamp.getCount() == null ? 0 : stamp.getCount();
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+}
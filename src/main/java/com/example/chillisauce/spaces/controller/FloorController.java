@@ -4,11 +4,13 @@ import com.example.chillisauce.message.ResponseMessage;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.FloorRequestDto;
 import com.example.chillisauce.spaces.dto.response.FloorResponseDto;
+import com.example.chillisauce.spaces.service.FloorMapVersion;
 import com.example.chillisauce.spaces.service.FloorService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,6 +19,7 @@ import java.util.List;
 public class FloorController {
 
     private final FloorService floorService;
+    private final FloorMapVersion floorMapVersion;
     //floor 생성
     @PostMapping("/floors/{companyName}")
     public ResponseEntity<ResponseMessage<String>> createFloor
@@ -25,11 +28,15 @@ public class FloorController {
         return ResponseMessage.responseSuccess("Floor 생성 성공","");
     }
 
-    //floor 전체 조회
+    //floor 전체 조회, 배치도 버전이 If-None-Match 와 같으면 304
     @GetMapping("/floors/{companyName}")
-    public ResponseEntity<ResponseMessage<List<FloorResponseDto>>> getFloor(@PathVariable("companyName") String companyName, @AuthenticationPrincipal UserDetailsImpl details){
-
-        return ResponseMessage.responseSuccess("Floor 조회 성공",floorService.getFloor(companyName,details));
+    public ResponseEntity<ResponseMessage<List<FloorResponseDto>>> getFloor(@PathVariable("companyName") String companyName, @AuthenticationPrincipal UserDetailsImpl details, WebRequest webRequest){
+        long version = floorMapVersion.current(companyName, details);
+        if (webRequest.checkNotModified(FloorMapVersion.etag(version))) {
+            return null;
+        }
+        return ResponseMessage.responseSuccess("Floor 조회 성공",floorService.getFloor(companyName,version,details),
+                FloorMapVersion.CACHE_CONTROL);
     }
     //floor 수정
     @PatchMapping("/floors/{companyName}/{floorId}")
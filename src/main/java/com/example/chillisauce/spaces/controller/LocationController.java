@@ -3,21 +3,33 @@ package com.example.chillisauce.spaces.controller;
 import com.example.chillisauce.message.ResponseMessage;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.service.LocationService;
+import com.example.chillisauce.spaces.service.OccupancySubscriptionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RestController
 public class LocationController {
     private final LocationService locationService;
+    private final OccupancySubscriptionService occupancySubscriptionService;
+
     @PatchMapping("/locations/{companyName}/{locationId}")
     public ResponseEntity<ResponseMessage<String>> moveBoxWithUser(@PathVariable String companyName, @PathVariable Long locationId, @AuthenticationPrincipal UserDetailsImpl details) {
         locationService.moveWithUser(companyName,locationId, details);
         return ResponseMessage.responseSuccess("사용자 등록 및 이동 완료", "");
 
     }
+
+    //좌석 점유 변경 구독, 이동한 유저만 occupancy 이벤트로 받는다
+    @GetMapping(value = "/locations/{companyName}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeOccupancy(@PathVariable String companyName, @AuthenticationPrincipal UserDetailsImpl details) {
+        return occupancySubscriptionService.subscribe(companyName, details);
+    }
 }
@@ -2,14 +2,23 @@ package com.example.chillisauce.spaces.controller;
 
 import com.example.chillisauce.message.ResponseMessage;
 import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.dto.request.SpaceLayoutRequestDto;
 import com.example.chillisauce.spaces.dto.request.SpaceRequestDto;
+import com.example.chillisauce.spaces.dto.response.SpaceLayoutResponseDto;
 import com.example.chillisauce.spaces.dto.response.SpaceListResponseDto;
 import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
+import com.example.chillisauce.spaces.service.FloorMapVersion;
+import com.example.chillisauce.spaces.service.SeatRegistry;
+import com.example.chillisauce.spaces.service.SpaceLayoutService;
 import com.example.chillisauce.spaces.service.SpaceService;
+import com.example.chillisauce.spaces.service.SpaceViewportIndex;
+import com.example.chillisauce.spaces.vo.OccupancySnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -19,6 +28,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SpaceController {
     private final SpaceService spaceService;
+    private final FloorMapVersion floorMapVersion;
+    private final SeatRegistry seatRegistry;
+    private final SpaceViewportIndex spaceViewportIndex;
+    private final SpaceLayoutService spaceLayoutService;
 
     //플로우 안에 공간 생성
     @PostMapping("/spaces/{companyName}/{floorId}")
@@ -35,20 +48,65 @@ public class SpaceController {
         return ResponseMessage.responseSuccess("공간 생성 성공","");
     }
 
-    //공간 전체조회
+    //공간 전체조회, 배치도 버전이 If-None-Match 와 같으면 304
     @GetMapping("/spaces/{companyName}")
     public ResponseEntity<ResponseMessage<List<SpaceListResponseDto>>> allSpacelist
-            (@PathVariable("companyName") String companyName,@AuthenticationPrincipal UserDetailsImpl details) {
-
-        return ResponseMessage.responseSuccess("공간 조회 성공",spaceService.allSpacelist(companyName, details));
+            (@PathVariable("companyName") String companyName,@AuthenticationPrincipal UserDetailsImpl details, WebRequest webRequest) {
+        long version = floorMapVersion.current(companyName, details);
+        if (webRequest.checkNotModified(FloorMapVersion.etag(version))) {
+            return null;
+        }
+        return ResponseMessage.responseSuccess("공간 조회 성공",spaceService.allSpacelist(companyName, version, details),
+                FloorMapVersion.CACHE_CONTROL);
     }
 
-    //공간 선택조회
+    //공간 선택조회, 캐시된 배치도에 좌석 점유 현황을 덧씌운다. 배치도 버전과 점유 revision 이 If-None-Match 와 같으면 304
     @GetMapping("/spaces/{companyName}/{spaceId}")
     public ResponseEntity<ResponseMessage<List<SpaceResponseDto>>> getSpacelist
-            (@PathVariable("companyName") String companyName, @PathVariable("spaceId") Long spaceId, @AuthenticationPrincipal UserDetailsImpl details) {
+            (@PathVariable("companyName") String companyName, @PathVariable("spaceId") Long spaceId, @AuthenticationPrincipal UserDetailsImpl details, WebRequest webRequest) {
+        long version = floorMapVersion.current(companyName, details);
+        OccupancySnapshot occupancy = seatRegistry.snapshot(companyName);
+        if (webRequest.checkNotModified(occupancy.etag(version))) {
+            return null;
+        }
+        return ResponseMessage.responseSuccess("공간 조회 성공",
+                occupancy.overlay(spaceService.getSpacelist(companyName, spaceId, version, details)),
+                FloorMapVersion.CACHE_CONTROL);
+    }
+
+    //공간 범위조회, 화면에 보이는 범위의 박스, 회의실, 멀티박스만 조회한다. ETag 는 공간 선택조회와 같다
+    @GetMapping("/spaces/{companyName}/{spaceId}/viewport")
+    public ResponseEntity<ResponseMessage<SpaceResponseDto>> getSpaceViewport
+            (@PathVariable("companyName") String companyName, @PathVariable("spaceId") Long spaceId,
+             @RequestParam("minX") double minX, @RequestParam("minY") double minY,
+             @RequestParam("maxX") double maxX, @RequestParam("maxY") double maxY,
+             @AuthenticationPrincipal UserDetailsImpl details, WebRequest webRequest) {
+        long version = floorMapVersion.current(companyName, details);
+        OccupancySnapshot occupancy = seatRegistry.snapshot(companyName);
+        if (webRequest.checkNotModified(occupancy.etag(version))) {
+            return null;
+        }
+        return ResponseMessage.responseSuccess("공간 범위 조회 성공",
+                occupancy.overlay(spaceViewportIndex.viewport(companyName, spaceId, version, minX, minY, maxX, maxY, details)),
+                FloorMapVersion.CACHE_CONTROL);
+    }
 
-        return ResponseMessage.responseSuccess("공간 조회 성공",spaceService.getSpacelist(companyName, spaceId, details));
+    //공간 배치도 일괄 가져오기(JSON), 박스, 회의실, 멀티박스를 한 번에 추가한다
+    @PostMapping(value = "/spaces/{companyName}/{spaceId}/layout", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseMessage<SpaceLayoutResponseDto>> importLayout
+            (@PathVariable("companyName") String companyName, @PathVariable("spaceId") Long spaceId,
+             @RequestBody SpaceLayoutRequestDto spaceLayoutRequestDto, @AuthenticationPrincipal UserDetailsImpl details) {
+        return ResponseMessage.responseSuccess("배치도 가져오기 성공",
+                spaceLayoutService.importLayout(companyName, spaceId, spaceLayoutRequestDto, details));
+    }
+
+    //공간 배치도 일괄 가져오기(CSV), 첫 줄은 type,name,x,y
+    @PostMapping(value = "/spaces/{companyName}/{spaceId}/layout", consumes = "text/csv")
+    public ResponseEntity<ResponseMessage<SpaceLayoutResponseDto>> importLayoutCsv
+            (@PathVariable("companyName") String companyName, @PathVariable("spaceId") Long spaceId,
+             @RequestBody String csv, @AuthenticationPrincipal UserDetailsImpl details) {
+        return ResponseMessage.responseSuccess("배치도 가져오기 성공",
+                spaceLayoutService.importCsv(companyName, spaceId, csv, details));
     }
     //공간 개별 수정
     @PatchMapping("/spaces/{companyName}/{spaceId}")
@@ -0,0 +1,10 @@
+package com.example.chillisauce.spaces.dto;
+
+/**
+ * 좌석(박스, 멀티박스)에 앉은 유저, 회사 단위 점유 현황을 한 번에 읽을 때 사용
+ */
+public interface SeatOccupancyWrapper {
+    Long getLocationId();
+    Long getUserId();
+    String getUsername();
+}
@@ -10,13 +10,13 @@ import lombok.NoArgsConstructor;
 public class BoxRequestDto {
 
     private String boxName;
-    private String x;
-    private String y;
+    private Double x;
+    private Double y;
 
 
 
 
-    public BoxRequestDto(String locationName, String x, String y) {
+    public BoxRequestDto(String locationName, Double x, Double y) {
         this.boxName = locationName;
         this.x = x;
         this.y = y;
@@ -8,11 +8,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class MrRequestDto {
     private String mrName;
-    private String x;
-    private String y;
+    private Double x;
+    private Double y;
 
 
-    public MrRequestDto(String locationName, String x, String y) {
+    public MrRequestDto(String locationName, Double x, Double y) {
         this.mrName = locationName;
         this.x = x;
         this.y = y;
@@ -11,13 +11,13 @@ public class MultiBoxRequestDto {
 
     private String multiBoxName;
 
-    private String x;
+    private Double x;
 
-    private String y;
+    private Double y;
 
 
 
-    public MultiBoxRequestDto(String locationName, String x, String y) {
+    public MultiBoxRequestDto(String locationName, Double x, Double y) {
         this.multiBoxName = locationName;
         this.x = x;
         this.y = y;
@@ -0,0 +1,17 @@
+package com.example.chillisauce.spaces.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceLayoutRequestDto {
+    private List<BoxRequestDto> boxList = new ArrayList<>();
+    private List<MrRequestDto> mrList = new ArrayList<>();
+    private List<MultiBoxRequestDto> multiBoxList = new ArrayList<>();
+}
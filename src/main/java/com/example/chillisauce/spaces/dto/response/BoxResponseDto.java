@@ -15,8 +15,8 @@ import lombok.NoArgsConstructor;
 public class BoxResponseDto {
     private Long boxId;
     private String boxName;
-    private String x;
-    private String y;
+    private Double x;
+    private Double y;
     private String username;
 
     public BoxResponseDto(Box box) {
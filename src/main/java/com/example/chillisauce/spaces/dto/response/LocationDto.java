@@ -11,15 +11,15 @@ import lombok.NoArgsConstructor;
 public class LocationDto {
     private Long locationId;
     private String locationName;
-    private String x;
-    private String y;
+    private Double x;
+    private Double y;
 
     private String username;
 
 
 
 
-    public LocationDto(long id, String locationName, String x, String y) {
+    public LocationDto(long id, String locationName, Double x, Double y) {
         this.locationId = id;
         this.locationName = locationName;
         this.x = x;
@@ -27,6 +27,12 @@ public class LocationDto {
     }
 
 
+    public LocationDto(long id, String locationName, Double x, Double y, String username) {
+        this(id, locationName, x, y);
+        this.username = username;
+    }
+
+
     public LocationDto(Location location, String username) {
         this.locationId = location.getId();
         this.locationName = location.getLocationName();
@@ -16,9 +16,9 @@ import java.util.stream.Collectors;
 public class MrResponseDto {
     private Long mrId;
     private String mrName;
-    private String x;
+    private Double x;
 
-    private String y;
+    private Double y;
 
     private List<ReservationResponse> reservationList;
 
@@ -30,7 +30,7 @@ public class MrResponseDto {
         this.reservationList =mr.getReservations().stream().map(ReservationResponse::new).collect(Collectors.toList());
     }
 
-    public MrResponseDto(Long id, String mrName, String x, String y) {
+    public MrResponseDto(Long id, String mrName, Double x, Double y) {
         this.mrId = id;
         this.mrName = mrName;
         this.x = x;
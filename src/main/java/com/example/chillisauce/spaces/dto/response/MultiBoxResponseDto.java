@@ -17,8 +17,8 @@ import java.util.stream.Collectors;
 public class MultiBoxResponseDto {
     private Long multiBoxId;
     private String multiBoxName;
-    private String x;
-    private String y;
+    private Double x;
+    private Double y;
     private List<UserLocationResponseDto> userlist;
     public MultiBoxResponseDto(MultiBox multiBox, List<UserLocation> userLocations) {
         this.multiBoxId = multiBox.getId();
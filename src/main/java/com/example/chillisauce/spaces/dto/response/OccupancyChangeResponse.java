@@ -0,0 +1,22 @@
+package com.example.chillisauce.spaces.dto.response;
+
+import com.example.chillisauce.spaces.vo.SeatMovedEvent;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class OccupancyChangeResponse {
+    // 점유 현황 버전, 공간 선택 조회 ETag 의 마지막 "epoch-revision" 과 같은 형식
+    private String revision;
+    private String username;
+    private Long fromLocationId;
+    private Long toLocationId;
+
+    public OccupancyChangeResponse(String revision, SeatMovedEvent event) {
+        this.revision = revision;
+        this.username = event.getUsername();
+        this.fromLocationId = event.getFromLocationId();
+        this.toLocationId = event.getToLocationId();
+    }
+}
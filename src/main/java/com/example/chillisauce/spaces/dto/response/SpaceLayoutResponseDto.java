@@ -0,0 +1,15 @@
+package com.example.chillisauce.spaces.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceLayoutResponseDto {
+    private Long spaceId;
+    private int boxCount;
+    private int mrCount;
+    private int multiBoxCount;
+}
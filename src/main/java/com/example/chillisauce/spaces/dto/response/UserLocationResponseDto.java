@@ -13,4 +13,8 @@ public class UserLocationResponseDto {
     public UserLocationResponseDto(UserLocation userLocation) {
         this.username = userLocation.getUsername();
     }
+
+    public UserLocationResponseDto(String username) {
+        this.username = username;
+    }
 }
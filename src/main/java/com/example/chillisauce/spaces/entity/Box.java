@@ -13,22 +13,22 @@ import javax.persistence.*;
 public class Box extends Location {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "location_seq_generator")
     private Long id;
 
     public Box(BoxRequestDto boxRequestDto, Space space) {
         super(boxRequestDto.getBoxName(), boxRequestDto.getX(), boxRequestDto.getY(), space);
     }
 
-    public Box(String locationName, String x, String y) {
+    public Box(String locationName, Double x, Double y) {
         super(locationName, x, y);
     }
     @Builder
-    public Box(Long id, String locationName, String x, String y) {
+    public Box(Long id, String locationName, Double x, Double y) {
         super(id,locationName, x, y);
     }
 
-    public Box(String boxName, String x, String y, Space space) {
+    public Box(String boxName, Double x, Double y, Space space) {
         this.setLocationName(boxName);
         this.setX(x);
         this.setY(y);
@@ -1,9 +1,11 @@
 package com.example.chillisauce.spaces.entity;
 
+import com.example.chillisauce.config.JpaConfig;
 import lombok.*;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,17 +18,20 @@ import java.util.List;
 @DiscriminatorColumn(name = "locationType")
 public abstract class Location {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 배치도 가져오기에서 INSERT 를 JDBC 배치로 묶을 수 있도록 IDENTITY 대신 시퀀스를 쓴다, 하위 엔티티도 같은 시퀀스를 쓴다
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "location_seq_generator")
+    @SequenceGenerator(name = "location_seq_generator", sequenceName = "location_seq",
+            allocationSize = JpaConfig.BATCH_SIZE)
     private Long id;
     @NotEmpty
     @Column(nullable = false)
     private String locationName;
-    @NotEmpty
+    @NotNull
     @Column(nullable = false)
-    private String x;
-    @NotEmpty
+    private Double x;
+    @NotNull
     @Column(nullable = false)
-    private String y;
+    private Double y;
 
     @OneToMany(mappedBy = "location", cascade = CascadeType.ALL)
     private List<UserLocation> userLocations = new ArrayList<>();
@@ -36,7 +41,7 @@ public abstract class Location {
     @JoinColumn(name = "space_id")
     private Space space;
 
-    public Location(Long id, String locationName, String x, String y, Space space) {
+    public Location(Long id, String locationName, Double x, Double y, Space space) {
         this.id = id;
         this.locationName = locationName;
         this.x = x;
@@ -48,20 +53,20 @@ public abstract class Location {
         this.space = space;
     }
 
-    public Location(String locationName, String x, String y) {
+    public Location(String locationName, Double x, Double y) {
         this.locationName = locationName;
         this.x = x;
         this.y = y;
     }
 
-    public Location(String locationName, String x, String y, Space space) {
+    public Location(String locationName, Double x, Double y, Space space) {
         this.locationName = locationName;
         this.x = x;
         this.y = y;
         this.space = space;
     }
 
-    public Location(Long id, String locationName, String x, String y) {
+    public Location(Long id, String locationName, Double x, Double y) {
         this.id = id;
         this.locationName = locationName;
         this.x = x;
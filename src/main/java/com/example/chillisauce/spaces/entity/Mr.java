@@ -15,7 +15,7 @@ import java.util.List;
 @AllArgsConstructor
 public class Mr extends Location{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "location_seq_generator")
     private Long id;
 
     @OneToMany(mappedBy = "meetingRoom")
@@ -28,13 +28,13 @@ public class Mr extends Location{
 
 
     @Builder
-    public Mr(Long id, String locationName, String x, String y, List<Reservation> reservation) {
+    public Mr(Long id, String locationName, Double x, Double y, List<Reservation> reservation) {
         super(locationName, x, y);
         this.id= id;
         this.reservations = reservation;
     }
 
-    public Mr(String mrName, String x, String y, Space space) {
+    public Mr(String mrName, Double x, Double y, Space space) {
         this.setLocationName(mrName);
         this.setX(x);
         this.setY(y);
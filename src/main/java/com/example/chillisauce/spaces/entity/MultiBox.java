@@ -11,7 +11,7 @@ import javax.persistence.*;
 public class MultiBox extends Location {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "location_seq_generator")
     private Long id;
 
 
@@ -20,16 +20,16 @@ public class MultiBox extends Location {
     }
 
 
-    public MultiBox(String locationName, String x, String y) {
+    public MultiBox(String locationName, Double x, Double y) {
         super(locationName, x, y);
     }
 
     @Builder
-    public MultiBox(Long id,String locationName, String x, String y) {
+    public MultiBox(Long id,String locationName, Double x, Double y) {
         super(id, locationName, x, y);
     }
 
-    public MultiBox(String multiBoxName, String x, String y, Space space) {
+    public MultiBox(String multiBoxName, Double x, Double y, Space space) {
         this.setLocationName(multiBoxName);
         this.setX(x);
         this.setY(y);
@@ -32,9 +32,14 @@ public class UserLocation {
 
     }
 
-    public UserLocation update(Location location, User user) {
-        this.userId = user.getId();
-        this.username = getUsername();
+    public UserLocation(Location location, Long userId, String username) {
+        this.location = location;
+        this.userId = userId;
+        this.username = username;
+    }
+
+    public UserLocation moveTo(Location location, String username) {
+        this.username = username;
         this.location = location;
         return this;
     }
@@ -17,6 +17,9 @@ public enum SpaceErrorCode implements ErrorStatusMessage {
     USER_ALREADY_AT_LOCATION(BAD_REQUEST, "이미 사용중인 자리입니다."),
     SPACE_DOES_NOT_BELONG_TO_COMPANY (BAD_REQUEST, "회사에 해당 공간이 존재하지 않습니다."),
     NOT_HAVE_PERMISSION_COMPANIES(BAD_REQUEST, "해당 회사에 대한 권한이 없습니다."),
+    INVALID_VIEWPORT(BAD_REQUEST, "조회 범위가 올바르지 않습니다."),
+    INVALID_LAYOUT(BAD_REQUEST, "배치도 가져오기 데이터가 올바르지 않습니다."),
+    LAYOUT_TOO_LARGE(BAD_REQUEST, "한 번에 가져올 수 있는 위치 수를 넘었습니다."),
 
     //    /* 404 NOT_FOUND : Resource 를 찾을 수 없음 */
 
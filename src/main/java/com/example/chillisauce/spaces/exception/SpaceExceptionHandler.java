@@ -18,4 +18,10 @@ public class SpaceExceptionHandler {
         log.error("handleCustomException throw CustomException : {}", e.getErrorCode());
         return ResponseMessage.responseError(e.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(value = { SpaceLayoutException.class })
+    protected ResponseEntity<ResponseMessage<Object>> handleLayoutException(SpaceLayoutException e) {
+        log.error("handleLayoutException throw SpaceLayoutException : {} rows", e.getErrors().size());
+        return ResponseMessage.responseError(e.getErrorCode(), e.getErrors());
+    }
+}
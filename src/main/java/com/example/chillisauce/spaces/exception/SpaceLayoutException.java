@@ -0,0 +1,18 @@
+package com.example.chillisauce.spaces.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 배치도 가져오기 검증 실패, 잘못된 행을 한 번에 모아서 알려준다
+ */
+@Getter
+public class SpaceLayoutException extends SpaceException {
+    private final List<String> errors;
+
+    public SpaceLayoutException(List<String> errors) {
+        super(SpaceErrorCode.INVALID_LAYOUT);
+        this.errors = errors;
+    }
+}
@@ -3,7 +3,6 @@ package com.example.chillisauce.spaces.repository;
 import com.example.chillisauce.spaces.dto.response.FloorResponseDto;
 import com.example.chillisauce.spaces.dto.response.SpaceListResponseDto;
 import com.example.chillisauce.spaces.entity.Floor;
-import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.users.entity.QCompanies;
 import com.example.chillisauce.users.entity.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -15,9 +14,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static com.example.chillisauce.reservations.entity.QReservation.reservation;
 import static com.example.chillisauce.spaces.entity.QFloor.floor;
-import static com.example.chillisauce.spaces.entity.QMr.mr;
 import static com.example.chillisauce.spaces.entity.QSpace.space;
 
 @Repository
@@ -31,21 +28,6 @@ public class FloorRepositoryImpl extends QuerydslRepositorySupport implements Fl
         this.queryFactory = new JPAQueryFactory(em);
     }
 
-    /**
-     * 해당하는 floor 전체 삭제 2차 개선
-     */
-    public void clearAllReservationsForFloor(Long floorId) {
-        List<Long> meetingRoomList = queryFactory
-                .select(mr.id)
-                .from(mr)
-                .where(mr.space.floor.id.eq(floorId))
-                .fetch();
-        queryFactory
-                .update(reservation)
-                .set(reservation.meetingRoom, (Mr) null)
-                .where(reservation.meetingRoom.id.in(meetingRoomList))
-                .execute();
-    }
     /**
      * 해당하는 floor 전체 조회 쿼리
      */
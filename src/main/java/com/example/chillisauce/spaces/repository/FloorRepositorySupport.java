@@ -7,6 +7,4 @@ import java.util.List;
 public interface FloorRepositorySupport {
 
     List<FloorResponseDto> getFloorAllList(String companyName);
-
-    void clearAllReservationsForFloor(Long floorId);
 }
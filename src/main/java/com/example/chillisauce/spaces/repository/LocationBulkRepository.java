@@ -0,0 +1,38 @@
+package com.example.chillisauce.spaces.repository;
+
+import com.example.chillisauce.spaces.entity.Location;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+/**
+ * 배치도 가져오기용 위치 일괄 저장
+ * 묶음마다 flush 후 영속성 컨텍스트를 비워, 위치가 수천 개여도 메모리와 dirty checking 비용이 늘지 않게 한다
+ * 위치 id 는 시퀀스로 미리 받아 두므로 INSERT 는 JpaConfig.BATCH_SIZE 씩 JDBC 배치로 나간다
+ */
+@Repository
+@RequiredArgsConstructor
+public class LocationBulkRepository {
+    public static final int FLUSH_SIZE = 500;
+
+    private final EntityManager em;
+
+    /**
+     * 호출한 트랜잭션 안에서 저장한다. 저장 이후 같은 트랜잭션에서 읽은 엔티티는 준영속 상태가 된다
+     */
+    public int persistAll(List<? extends Location> locations) {
+        int count = 0;
+        for (Location location : locations) {
+            em.persist(location);
+            if (++count % FLUSH_SIZE == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+        return count;
+    }
+}
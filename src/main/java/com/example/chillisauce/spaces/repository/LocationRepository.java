@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LocationRepository extends JpaRepository<Location, Long>{
@@ -18,5 +19,10 @@ public interface LocationRepository extends JpaRepository<Location, Long>{
     Optional<Location> findByIdAndCompanyName(@Param("locationId") Long locationId,
                                               @Param("companyName") String companyName);
 
-}
+    @Query("select l from Location l " +
+            "join l.space s " +
+            "join s.companies c " +
+            "where c.companyName = :companyName")
+    List<Location> findAllByCompanyName(@Param("companyName") String companyName);
 
+}
@@ -15,9 +15,7 @@ import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static com.example.chillisauce.reservations.entity.QReservation.reservation;
 import static com.example.chillisauce.spaces.entity.QFloor.floor;
-import static com.example.chillisauce.spaces.entity.QMr.mr;
 import static com.example.chillisauce.spaces.entity.QSpace.space;
 
 
@@ -72,23 +70,6 @@ public class SpaceRepositoryImpl extends QuerydslRepositorySupport implements Sp
                 .fetch();
     }
 
-    /**
-     * 해당하는 space 전체 삭제 2차 개선
-     */
-    public void clearAllReservationsForSpace(Long spaceId) {
-        List<Long> meetingRoomList = queryFactory
-                .select(mr.id)
-                .from(mr)
-                .where(mr.space.id.eq(spaceId))
-                .fetch();
-        queryFactory
-                .update(reservation)
-                .set(reservation.meetingRoom, (Mr) null)
-                .where(reservation.meetingRoom.id.in(meetingRoomList))
-                .execute();
-    }
-
-
     private BooleanExpression companyNameEquals(String companyName) {
         return space.companies.companyName.eq(companyName);
     }
@@ -9,7 +9,6 @@ import java.util.List;
 public interface SpaceRepositorySupport {
     List<SpaceResponseDto> getSpacesList(Long spaceId);
     List<SpaceListResponseDto> getSpaceAllList(String companyName);
-    void clearAllReservationsForSpace(Long spaceId);
 
 
 }
@@ -1,15 +1,29 @@
 package com.example.chillisauce.spaces.repository;
 
+import com.example.chillisauce.spaces.dto.SeatOccupancyWrapper;
 import com.example.chillisauce.spaces.entity.UserLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserLocationRepository extends JpaRepository<UserLocation, Long> {
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<UserLocation> findByUserId(Long id);
-    Optional<UserLocation> findByLocationId(Long locationId);
+
+    List<UserLocation> findAllByUserIdIn(Collection<Long> userIds);
+
+    /**
+     * 회사 전체 좌석 점유 현황
+     */
+    @Query("select l.id as locationId, ul.userId as userId, ul.username as username " +
+            "from UserLocation ul " +
+            "join ul.location l " +
+            "join l.space s " +
+            "join s.companies c " +
+            "where c.companyName = :companyName")
+    List<SeatOccupancyWrapper> findOccupancyByCompanyName(@Param("companyName") String companyName);
 
 }
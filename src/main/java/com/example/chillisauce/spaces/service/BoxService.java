@@ -13,7 +13,6 @@ import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,13 +24,13 @@ public class BoxService {
     private final BoxRepository boxRepository;
     private final CompanyRepository companyRepository;
     private final SpaceService spaceService;
+    private final FloorMapVersion floorMapVersion;
 
 
     /**
      * 박스 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public BoxResponseDto createBox(String companyName, Long spaceId, BoxRequestDto boxRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -41,6 +40,7 @@ public class BoxService {
 
         boxRepository.save(box);
 
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new BoxResponseDto(box);
     }
 
@@ -48,7 +48,6 @@ public class BoxService {
      * 박스 수정
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public BoxResponseDto updateBox(String companyName, Long boxId, BoxRequestDto boxRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -56,6 +55,7 @@ public class BoxService {
         Box box = findCompanyNameAndBoxId(companyName, boxId);
         box.updateBox(boxRequestDto);
         boxRepository.save(box);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new BoxResponseDto(box);
     }
 
@@ -63,13 +63,13 @@ public class BoxService {
      * 박스 개별 삭제
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public BoxResponseDto deleteBox(String companyName, Long boxId, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
         }
         Box box = findCompanyNameAndBoxId(companyName, boxId);
         boxRepository.deleteById(boxId);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new BoxResponseDto(box);
     }
 
@@ -0,0 +1,99 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.config.TransactionCallbacks;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.vo.LayoutChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회사별 플로어, 공간 배치도 버전
+ * 배치도 조회 캐시 키와 ETag 에 버전을 넣어, 변경 시 전체 캐시를 지우지 않고 해당 회사의 버전만 올린다
+ * 이전 버전의 캐시는 더 이상 조회되지 않고 TTL 로 만료된다
+ * 예약마다 올라가는 값이라 회사 row 가 아닌 Redis 카운터(INCR)에 둔다
+ */
+@Slf4j
+@Component
+public class FloorMapVersion {
+    // 응답을 저장하되 매번 ETag 로 재검증하도록 한다
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private static final String KEY_PREFIX = "floor-map-version:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FloorMapVersion(StringRedisTemplate redisTemplate, ApplicationEventPublisher eventPublisher) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 조회 권한 확인 후 회사의 현재 배치도 버전
+     * Redis 장애 시에는 조회마다 다른 버전을 주어 캐시, 304 응답을 쓰지 않게 한다
+     */
+    public long current(String companyName, UserDetailsImpl details) {
+        if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
+            throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
+        }
+        try {
+            String version = redisTemplate.opsForValue().get(KEY_PREFIX + companyName);
+            return version == null ? seed(KEY_PREFIX + companyName) : Long.parseLong(version);
+        } catch (RuntimeException e) {
+            log.warn("배치도 버전 조회 실패 companyName={}", companyName, e);
+            return System.nanoTime();
+        }
+    }
+
+    /**
+     * 커밋 이후 버전 증가, 예약처럼 캐시된 배치도 내용만 바뀌는 변경에 쓴다
+     * 커밋 전 데이터가 새 버전으로 캐시되지 않게 한다
+     */
+    public void increaseAfterCommit(String companyName) {
+        TransactionCallbacks.afterCommit(() -> increase(companyName));
+    }
+
+    /**
+     * 플로어, 공간, 좌석 구조 변경, 버전 증가 후 좌석 목록을 쓰는 곳에 LayoutChangedEvent 를 알린다
+     */
+    public void layoutChangedAfterCommit(String companyName) {
+        TransactionCallbacks.afterCommit(() -> {
+            increase(companyName);
+            eventPublisher.publishEvent(new LayoutChangedEvent(companyName));
+        });
+    }
+
+    public static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private void increase(String companyName) {
+        try {
+            seed(KEY_PREFIX + companyName);
+            redisTemplate.opsForValue().increment(KEY_PREFIX + companyName);
+        } catch (RuntimeException e) {
+            // 다음 변경에서 다시 올라가고, 그 전까지 이전 버전 캐시는 TTL 로 만료된다
+            log.warn("배치도 버전 증가 실패 companyName={}", companyName, e);
+        }
+    }
+
+    /**
+     * 키가 없으면 현재 시각(ms)으로 시작한다
+     * Redis 재시작 등으로 키를 잃어도, 클라이언트가 가진 이전 ETag 와 같은 버전으로 돌아가지 않게 한다
+     */
+    private long seed(String key) {
+        ValueOperations<String, String> operations = redisTemplate.opsForValue();
+        String seed = String.valueOf(System.currentTimeMillis());
+        if (Boolean.TRUE.equals(operations.setIfAbsent(key, seed))) {
+            return Long.parseLong(seed);
+        }
+        String version = operations.get(key);
+        return Long.parseLong(version == null ? seed : version);
+    }
+}
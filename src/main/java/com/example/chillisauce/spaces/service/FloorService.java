@@ -1,5 +1,6 @@
 package com.example.chillisauce.spaces.service;
 
+import com.example.chillisauce.reservations.service.ReservationCascadeService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.FloorRequestDto;
 import com.example.chillisauce.spaces.dto.response.FloorResponseDto;
@@ -12,7 +13,6 @@ import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,13 +27,14 @@ public class FloorService {
     private final CompanyRepository companyRepository;
     private final FloorRepository floorRepository;
     private final SpaceRepository spaceRepository;
+    private final ReservationCascadeService reservationCascadeService;
+    private final FloorMapVersion floorMapVersion;
 
 
     /**
      * 플로어 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public FloorResponseDto createFloor(String companyName, FloorRequestDto floorRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -42,6 +43,7 @@ public class FloorService {
                 () -> new SpaceException(SpaceErrorCode.COMPANIES_NOT_FOUND)
         );
         Floor floor = floorRepository.save(new Floor(floorRequestDto, companies));
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new FloorResponseDto(floor);
     }
 
@@ -50,8 +52,8 @@ public class FloorService {
      * 플로어 전체 조회
      */
     @Transactional
-    @Cacheable(cacheNames = "FloorResponseDtoList", key = "#companyName")
-    public List<FloorResponseDto> getFloor (String companyName, UserDetailsImpl details) {
+    @Cacheable(cacheNames = "FloorResponseDtoList", key = "#companyName + '_v' + #version")
+    public List<FloorResponseDto> getFloor (String companyName, long version, UserDetailsImpl details) {
         if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
         }
@@ -63,7 +65,6 @@ public class FloorService {
      * 플로어 개별 수정
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public FloorResponseDto updateFloor (String companyName, Long floorId, FloorRequestDto floorRequestDto, UserDetailsImpl details){
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -71,6 +72,7 @@ public class FloorService {
         Floor floor = findCompanyNameAndFloorId(companyName, floorId);
         floor.updateFloor(floorRequestDto);
         floorRepository.save(floor);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new FloorResponseDto(floor);
     }
 
@@ -78,15 +80,15 @@ public class FloorService {
      * 플로어 삭제
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public FloorResponseDto deleteFloor(String companyName, Long floorId, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
         }
         Floor floor = findCompanyNameAndFloorId(companyName, floorId);
 
-        floorRepository.clearAllReservationsForFloor(floorId);
+        reservationCascadeService.detachFloor(floorId);
         floorRepository.delete(floor);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new FloorResponseDto(floor);
     }
 
@@ -13,7 +13,6 @@ import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,12 +27,12 @@ public class MrService {
     private final SpaceService spaceService;
 
     private final ReservationService reservationService;
+    private final FloorMapVersion floorMapVersion;
 
     /**
      * 회의실 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public MrResponseDto createMr (String companyName, Long spaceId, MrRequestDto mrRequestDto, UserDetailsImpl details){
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -41,6 +40,7 @@ public class MrService {
         Space space = spaceService.findCompanyNameAndSpaceId(companyName,spaceId);
         Mr mr = new Mr(mrRequestDto, space);
         mrRepository.save(mr);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new MrResponseDto(mr);
     }
 
@@ -48,7 +48,6 @@ public class MrService {
      * 회의실 수정
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public MrResponseDto updateMr(String companyName, Long mrId, MrRequestDto mrRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -56,13 +55,13 @@ public class MrService {
         Mr mr = findCompanyNameAndMrId(companyName,mrId);
         mr.updateMr(mrRequestDto);
         mrRepository.save(mr);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new MrResponseDto(mr);
     }
     /**
      * 회의실 삭제
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public MrResponseDto deleteMr(String companyName, Long mrId, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -70,13 +69,13 @@ public class MrService {
         Mr mr = findCompanyNameAndMrId(companyName,mrId);
         reservationService.deleteMeetingRoomInReservations(mrId, null);
         mrRepository.deleteById(mrId);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new MrResponseDto(mr);
     }
     /**
      * 회의실 전체조회
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public List<MrResponseDto> mrlist(String companyName, UserDetailsImpl details) {
         if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
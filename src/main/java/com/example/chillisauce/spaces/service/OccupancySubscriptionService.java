@@ -0,0 +1,100 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.dto.response.OccupancyChangeResponse;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 회사 좌석 점유 변경 구독(SSE)
+ * 구독 직후의 점유 현황은 공간 선택 조회로 맞추고, 이후에는 이동한 유저만 받는다
+ * 이벤트 id 가 받은 revision 의 다음 값이 아니면 빠진 변경이 있으므로 다시 조회한다
+ */
+@Service
+public class OccupancySubscriptionService {
+    static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    static final String EVENT_NAME = "occupancy";
+
+    private final Map<String, Set<SseEmitter>> companyEmitters = new ConcurrentHashMap<>();
+
+    /**
+     * 회사 좌석 점유 변경 구독
+     */
+    public SseEmitter subscribe(String companyName, UserDetailsImpl details) {
+        if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
+            throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
+        }
+
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        // 빈 Set 정리(remove)와 겹쳐도 등록이 유실되지 않도록 compute 안에서 추가
+        companyEmitters.compute(companyName, (k, emitters) -> {
+            Set<SseEmitter> result = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            result.add(emitter);
+            return result;
+        });
+
+        emitter.onCompletion(() -> remove(companyName, emitter));
+        emitter.onTimeout(() -> remove(companyName, emitter));
+        emitter.onError(e -> remove(companyName, emitter));
+
+        // 첫 응답을 바로 내려보내 연결을 확정
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            remove(companyName, emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @Async("occupancyEventExecutor")
+    public void send(String companyName, OccupancyChangeResponse change) {
+        send(companyName, () -> SseEmitter.event().id(change.getRevision()).name(EVENT_NAME).data(change));
+    }
+
+    /**
+     * 프록시, 로드밸런서의 유휴 연결 종료를 막고 끊어진 연결을 정리하기 위한 주기 전송
+     */
+    @Scheduled(fixedDelayString = "${spaces.sse.heartbeat-delay:30000}")
+    public void heartbeat() {
+        companyEmitters.keySet().forEach(key -> send(key, () -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    int subscriberCount(String companyName) {
+        return companyEmitters.getOrDefault(companyName, Set.of()).size();
+    }
+
+    // 전송에 실패한 연결은 끊어진 것으로 보고 정리
+    private void send(String companyName, Supplier<SseEmitter.SseEventBuilder> event) {
+        Set<SseEmitter> emitters = companyEmitters.get(companyName);
+        if (emitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event.get());
+            } catch (IOException | IllegalStateException e) {
+                remove(companyName, emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void remove(String companyName, SseEmitter emitter) {
+        companyEmitters.computeIfPresent(companyName, (k, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.config.TransactionCallbacks;
+import com.example.chillisauce.spaces.dto.SeatOccupancyWrapper;
+import com.example.chillisauce.spaces.dto.response.OccupancyChangeResponse;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.repository.LocationRepository;
+import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import com.example.chillisauce.spaces.vo.LayoutChangedEvent;
+import com.example.chillisauce.spaces.vo.OccupancySnapshot;
+import com.example.chillisauce.spaces.vo.SeatMovedEvent;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 회사별 좌석(박스, 멀티박스) 점유 현황의 원본
+ * 좌석 이동은 DB 락 없이 메모리에서 원자적으로 처리하고, DB(user_location)에는 SeatWriteBehind 가 모아서 쓴다
+ * 같은 유저, 같은 좌석의 이동은 줄무늬 락으로 직렬화해 한 박스를 두 명이 동시에 잡지 못한다
+ * 기동 시 DB 에서 다시 만들고, 배치도가 바뀌면 좌석 목록만 다시 읽는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatRegistry {
+    // 락 줄무늬 수, 동시에 이동하는 유저 수보다 충분히 크게
+    static final int STRIPES = 64;
+
+    private final CompanyRepository companyRepository;
+    private final LocationRepository locationRepository;
+    private final UserLocationRepository userLocationRepository;
+    private final SeatWriteBehind seatWriteBehind;
+    private final OccupancySubscriptionService occupancySubscriptionService;
+
+    private final Map<String, CompanySeats> companies = new ConcurrentHashMap<>();
+    private final ReentrantLock[] userLocks = locks();
+    private final ReentrantLock[] seatLocks = locks();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<String> companyNames = companyRepository.findAllCompanyNames();
+        companyNames.forEach(companyName -> companies.put(companyName, load(companyName)));
+        log.info("좌석 점유 현황 적재 companies={}", companyNames.size());
+    }
+
+    /**
+     * 좌석 이동, 박스는 비어 있을 때만 잡을 수 있다
+     */
+    public Seat claim(String companyName, Long userId, String username, Long locationId) {
+        CompanySeats seats = seats(companyName);
+        Seat target = seats.getCatalog().get(locationId);
+        if (target == null) {
+            throw new SpaceException(SpaceErrorCode.BOX_NOT_FOUND);
+        }
+
+        // 유저 락 -> 좌석 락 순서로만 잡는다
+        ReentrantLock userLock = userLocks[stripe(userId)];
+        ReentrantLock seatLock = seatLocks[stripe(locationId)];
+        OccupancyChangeResponse change;
+        userLock.lock();
+        try {
+            seatLock.lock();
+            try {
+                // 락을 기다리는 동안 배치도에서 지워졌을 수 있다
+                if (!seats.getCatalog().containsKey(locationId)) {
+                    throw new SpaceException(SpaceErrorCode.BOX_NOT_FOUND);
+                }
+                Set<Long> occupants = seats.getOccupants().getOrDefault(locationId, Set.of());
+                if (target.isExclusive() && !occupants.isEmpty()) {
+                    throw new SpaceException(SpaceErrorCode.BOX_ALREADY_IN_USER);
+                }
+                seats.getOccupants().compute(locationId, (k, users) -> {
+                    Set<Long> result = users == null ? ConcurrentHashMap.newKeySet() : users;
+                    result.add(userId);
+                    return result;
+                });
+            } finally {
+                seatLock.unlock();
+            }
+
+            Long fromLocationId = seats.getSeatByUser().put(userId, locationId);
+            seats.getUsernames().put(userId, username);
+            if (fromLocationId != null && !fromLocationId.equals(locationId)) {
+                ReentrantLock fromLock = seatLocks[stripe(fromLocationId)];
+                fromLock.lock();
+                try {
+                    leave(seats, fromLocationId, userId);
+                } finally {
+                    fromLock.unlock();
+                }
+            }
+
+            SeatMovedEvent moved = new SeatMovedEvent(companyName, userId, username, fromLocationId, locationId);
+            seatWriteBehind.enqueue(moved);
+            change = new OccupancyChangeResponse(seats.nextRevision(), moved);
+        } finally {
+            userLock.unlock();
+        }
+        // 전송은 락 밖에서, 같은 줄무늬의 다른 유저가 기다리지 않게 한다
+        occupancySubscriptionService.send(companyName, change);
+        return target;
+    }
+
+    /**
+     * 현재 점유 현황
+     */
+    public OccupancySnapshot snapshot(String companyName) {
+        CompanySeats seats = seats(companyName);
+        // revision 을 먼저 읽어 현황이 revision 보다 앞설 수는 있어도 뒤처지지 않게 한다, 같은 이동을 다시 받아도 결과는 같다
+        String revision = seats.revision();
+        Map<Long, List<String>> usernames = new HashMap<>();
+        seats.getOccupants().forEach((locationId, users) -> users.forEach(userId ->
+                usernames.computeIfAbsent(locationId, k -> new ArrayList<>()).add(seats.getUsernames().get(userId))));
+        return new OccupancySnapshot(revision, usernames);
+    }
+
+    /**
+     * 좌석 목록을 다시 읽고 지워진 좌석의 점유를 정리한다
+     * 좌석 락, 유저 락을 차례로 잡아 겹친 claim 이 정리 이후에 점유를 되살리지 못하게 한다
+     */
+    @EventListener
+    public void onLayoutChanged(LayoutChangedEvent event) {
+        CompanySeats seats = companies.get(event.getCompanyName());
+        if (seats == null) {
+            return;
+        }
+        Map<Long, Seat> catalog = loadCatalog(event.getCompanyName());
+        // 목록을 먼저 바꿔, 좌석 락을 뒤에 잡는 claim 은 지워진 좌석을 보지 못한다
+        Map<Long, Seat> previous = seats.getCatalog();
+        seats.setCatalog(catalog);
+        // 좌석이 지워지면 DB 의 점유도 같이 지워진다
+        // 이전 목록의 좌석도 보아, 락을 먼저 잡고 아직 점유를 넣지 않은 claim 을 기다린다
+        Set<Long> removed = new HashSet<>(previous.keySet());
+        removed.addAll(seats.getOccupants().keySet());
+        removed.removeAll(catalog.keySet());
+        for (Long locationId : removed) {
+            Set<Long> users;
+            ReentrantLock seatLock = seatLocks[stripe(locationId)];
+            seatLock.lock();
+            try {
+                users = seats.getOccupants().remove(locationId);
+            } finally {
+                seatLock.unlock();
+            }
+            if (users == null) {
+                continue;
+            }
+            // 락을 겹쳐 잡지 않으므로 claim 의 유저 -> 좌석 순서와 교착되지 않는다
+            for (Long userId : users) {
+                ReentrantLock userLock = userLocks[stripe(userId)];
+                userLock.lock();
+                try {
+                    seats.getSeatByUser().remove(userId, locationId);
+                } finally {
+                    userLock.unlock();
+                }
+            }
+        }
+        seats.nextRevision();
+    }
+
+    /**
+     * 유저 삭제 커밋 이후 좌석 비우기
+     */
+    public void releaseAfterCommit(Long userId) {
+        TransactionCallbacks.afterCommit(() -> release(userId));
+    }
+
+    private void release(Long userId) {
+        ReentrantLock userLock = userLocks[stripe(userId)];
+        userLock.lock();
+        try {
+            // 유저 락 안에서 취소해 이후 claim 의 이동만 남지 않게 한다
+            seatWriteBehind.cancel(userId);
+            companies.values().forEach(seats -> {
+                Long locationId = seats.getSeatByUser().remove(userId);
+                seats.getUsernames().remove(userId);
+                if (locationId != null) {
+                    ReentrantLock seatLock = seatLocks[stripe(locationId)];
+                    seatLock.lock();
+                    try {
+                        leave(seats, locationId, userId);
+                    } finally {
+                        seatLock.unlock();
+                    }
+                    seats.nextRevision();
+                }
+            });
+        } finally {
+            userLock.unlock();
+        }
+    }
+
+    private void leave(CompanySeats seats, Long locationId, Long userId) {
+        seats.getOccupants().computeIfPresent(locationId, (k, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    // 기동 이후 생긴 회사는 처음 쓸 때 읽는다
+    private CompanySeats seats(String companyName) {
+        return companies.computeIfAbsent(companyName, this::load);
+    }
+
+    private CompanySeats load(String companyName) {
+        CompanySeats seats = new CompanySeats(loadCatalog(companyName));
+        for (SeatOccupancyWrapper row : userLocationRepository.findOccupancyByCompanyName(companyName)) {
+            seats.getSeatByUser().put(row.getUserId(), row.getLocationId());
+            seats.getUsernames().put(row.getUserId(), row.getUsername());
+            seats.getOccupants().computeIfAbsent(row.getLocationId(), k -> ConcurrentHashMap.newKeySet()).add(row.getUserId());
+        }
+        return seats;
+    }
+
+    private Map<Long, Seat> loadCatalog(String companyName) {
+        return locationRepository.findAllByCompanyName(companyName).stream()
+                .filter(location -> !location.isMr())
+                .collect(Collectors.toUnmodifiableMap(Location::getId, Seat::new, (a, b) -> a));
+    }
+
+    private static int stripe(Long id) {
+        return Math.floorMod(Long.hashCode(id), STRIPES);
+    }
+
+    private static ReentrantLock[] locks() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    /**
+     * 좌석 정보, 박스는 한 명만 앉을 수 있다
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Seat {
+        private final Long locationId;
+        private final String locationName;
+        private final Double x;
+        private final Double y;
+        private final boolean exclusive;
+
+        Seat(Location location) {
+            this(location.getId(), location.getLocationName(), location.getX(), location.getY(), location.isBox());
+        }
+    }
+
+    @Getter
+    private static class CompanySeats {
+        private volatile Map<Long, Seat> catalog;
+        // 유저 id - 좌석 id, 유저는 한 번에 한 좌석에만 있다
+        private final Map<Long, Long> seatByUser = new ConcurrentHashMap<>();
+        private final Map<Long, String> usernames = new ConcurrentHashMap<>();
+        // 좌석 id - 앉은 유저 id
+        private final Map<Long, Set<Long>> occupants = new ConcurrentHashMap<>();
+        // 적재 시각, 다시 만들어지면 이전 ETag 와 겹치지 않는다
+        private final long epoch = System.currentTimeMillis();
+        private final AtomicLong revision = new AtomicLong();
+
+        CompanySeats(Map<Long, Seat> catalog) {
+            this.catalog = catalog;
+        }
+
+        void setCatalog(Map<Long, Seat> catalog) {
+            this.catalog = catalog;
+        }
+
+        String nextRevision() {
+            return epoch + "-" + revision.incrementAndGet();
+        }
+
+        String revision() {
+            return epoch + "-" + revision.get();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.spaces.repository.LocationRepository;
+import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import com.example.chillisauce.spaces.vo.SeatMovedEvent;
+import com.example.chillisauce.users.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * SeatRegistry 의 좌석 이동을 user_location 에 모아서 쓴다
+ * 유저별 마지막 이동만 남기므로 출근 시간대에 여러 번 옮겨도 한 번만 쓰고, 주기마다 한 트랜잭션으로 처리한다
+ */
+@Slf4j
+@Component
+public class SeatWriteBehind {
+    private final UserLocationRepository userLocationRepository;
+    private final LocationRepository locationRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 유저 id - 아직 쓰지 않은 마지막 이동
+    private final Map<Long, SeatMovedEvent> pending = new ConcurrentHashMap<>();
+
+    public SeatWriteBehind(UserLocationRepository userLocationRepository, LocationRepository locationRepository,
+                           UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userLocationRepository = userLocationRepository;
+        this.locationRepository = locationRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void enqueue(SeatMovedEvent moved) {
+        pending.put(moved.getUserId(), moved);
+    }
+
+    public void cancel(Long userId) {
+        pending.remove(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${spaces.seat.flush-delay:500}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, SeatMovedEvent> batch = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            SeatMovedEvent moved = pending.remove(userId);
+            if (moved != null) {
+                batch.put(userId, moved);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch.values()));
+        } catch (RuntimeException e) {
+            // 그 사이 더 최근 이동이 들어온 유저는 두고 나머지는 다음 주기에 다시 쓴다
+            batch.forEach(pending::putIfAbsent);
+            log.warn("좌석 이동 저장 실패 size={}", batch.size(), e);
+        }
+    }
+
+    // 종료 전에 남은 이동을 쓴다
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void write(Collection<SeatMovedEvent> batch) {
+        List<Long> userIds = batch.stream().map(SeatMovedEvent::getUserId).collect(Collectors.toList());
+        List<Long> locationIds = batch.stream().map(SeatMovedEvent::getToLocationId).distinct().collect(Collectors.toList());
+
+        // 꺼낸 뒤에 삭제된 유저는 cancel 로 막을 수 없으므로 여기서 거른다
+        Set<Long> existingUserIds = Set.copyOf(userRepository.findExistingIds(userIds));
+        Map<Long, UserLocation> current = userLocationRepository.findAllByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserLocation::getUserId, Function.identity(), (a, b) -> a));
+        Map<Long, Location> locations = locationRepository.findAllById(locationIds).stream()
+                .collect(Collectors.toMap(Location::getId, Function.identity()));
+
+        for (SeatMovedEvent moved : batch) {
+            if (!existingUserIds.contains(moved.getUserId())) {
+                continue;
+            }
+            Location location = locations.get(moved.getToLocationId());
+            if (location == null) {
+                // 그 사이 배치도에서 지워진 좌석
+                continue;
+            }
+            UserLocation userLocation = current.get(moved.getUserId());
+            if (userLocation == null) {
+                userLocationRepository.save(new UserLocation(location, moved.getUserId(), moved.getUsername()));
+            } else {
+                userLocation.moveTo(location, moved.getUsername());
+            }
+        }
+    }
+}
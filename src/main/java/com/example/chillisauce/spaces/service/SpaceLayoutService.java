@@ -0,0 +1,235 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.dto.request.BoxRequestDto;
+import com.example.chillisauce.spaces.dto.request.MrRequestDto;
+import com.example.chillisauce.spaces.dto.request.MultiBoxRequestDto;
+import com.example.chillisauce.spaces.dto.request.SpaceLayoutRequestDto;
+import com.example.chillisauce.spaces.dto.response.SpaceLayoutResponseDto;
+import com.example.chillisauce.spaces.entity.Box;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.entity.MultiBox;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.exception.SpaceLayoutException;
+import com.example.chillisauce.spaces.repository.LocationBulkRepository;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 공간 배치도 일괄 가져오기
+ * 전체를 한 번에 검증한 뒤 한 트랜잭션으로 저장하고, 배치도 버전은 마지막에 한 번만 올린다
+ */
+@Service
+@RequiredArgsConstructor
+public class SpaceLayoutService {
+    public static final int MAX_LOCATIONS = 10000;
+    // 응답이 너무 커지지 않도록 잘못된 행은 앞에서부터 이만큼만 알려준다
+    static final int MAX_ERRORS = 100;
+    static final String CSV_HEADER = "type,name,x,y";
+
+    private final SpaceService spaceService;
+    private final LocationBulkRepository locationBulkRepository;
+    private final FloorMapVersion floorMapVersion;
+
+    /**
+     * JSON 배치도 가져오기
+     */
+    @Transactional
+    public SpaceLayoutResponseDto importLayout(String companyName, Long spaceId, SpaceLayoutRequestDto request, UserDetailsImpl details) {
+        checkPermission(details);
+        List<BoxRequestDto> boxList = orEmpty(request.getBoxList());
+        List<MrRequestDto> mrList = orEmpty(request.getMrList());
+        List<MultiBoxRequestDto> multiBoxList = orEmpty(request.getMultiBoxList());
+        checkSize(boxList.size() + mrList.size() + multiBoxList.size());
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < boxList.size(); i++) {
+            BoxRequestDto box = boxList.get(i);
+            validate("boxList[" + i + "]", box == null ? null : box.getBoxName(),
+                    box == null ? null : box.getX(), box == null ? null : box.getY(), errors);
+        }
+        for (int i = 0; i < mrList.size(); i++) {
+            MrRequestDto mr = mrList.get(i);
+            validate("mrList[" + i + "]", mr == null ? null : mr.getMrName(),
+                    mr == null ? null : mr.getX(), mr == null ? null : mr.getY(), errors);
+        }
+        for (int i = 0; i < multiBoxList.size(); i++) {
+            MultiBoxRequestDto multiBox = multiBoxList.get(i);
+            validate("multiBoxList[" + i + "]", multiBox == null ? null : multiBox.getMultiBoxName(),
+                    multiBox == null ? null : multiBox.getX(), multiBox == null ? null : multiBox.getY(), errors);
+        }
+        return save(companyName, spaceId, boxList, mrList, multiBoxList, errors);
+    }
+
+    /**
+     * CSV 배치도 가져오기, 첫 줄은 "type,name,x,y" 이고 type 은 box, mr, multibox 중 하나
+     */
+    @Transactional
+    public SpaceLayoutResponseDto importCsv(String companyName, Long spaceId, String csv, UserDetailsImpl details) {
+        checkPermission(details);
+        // 엑셀에서 저장한 CSV 는 BOM 으로 시작할 수 있다
+        String[] lines = csv.replace("\uFEFF", "").split("\\r?\\n");
+        if (lines.length == 0 || !lines[0].replace(" ", "").equalsIgnoreCase(CSV_HEADER)) {
+            throw new SpaceLayoutException(List.of("1행: 첫 줄은 " + CSV_HEADER + " 이어야 합니다."));
+        }
+        checkSize((int) Arrays.stream(lines).skip(1).filter(line -> !line.isBlank()).count());
+
+        List<BoxRequestDto> boxList = new ArrayList<>();
+        List<MrRequestDto> mrList = new ArrayList<>();
+        List<MultiBoxRequestDto> multiBoxList = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 1; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            String row = (i + 1) + "행";
+            List<String> columns = splitCsvLine(lines[i]);
+            if (columns == null) {
+                addError(errors, row + ": 따옴표가 올바르게 닫히지 않았습니다.");
+                continue;
+            }
+            if (columns.size() != 4) {
+                addError(errors, row + ": 열이 4개가 아닙니다.");
+                continue;
+            }
+            String name = columns.get(1).trim();
+            Double x = parseCoordinate(columns.get(2));
+            Double y = parseCoordinate(columns.get(3));
+            if (!validate(row, name, x, y, errors)) {
+                continue;
+            }
+            switch (columns.get(0).trim().toLowerCase(Locale.ROOT)) {
+                case "box" -> boxList.add(new BoxRequestDto(name, x, y));
+                case "mr" -> mrList.add(new MrRequestDto(name, x, y));
+                case "multibox" -> multiBoxList.add(new MultiBoxRequestDto(name, x, y));
+                default -> addError(errors, row + ": type 은 box, mr, multibox 중 하나여야 합니다.");
+            }
+        }
+        return save(companyName, spaceId, boxList, mrList, multiBoxList, errors);
+    }
+
+    private SpaceLayoutResponseDto save(String companyName, Long spaceId, List<BoxRequestDto> boxList, List<MrRequestDto> mrList,
+                                        List<MultiBoxRequestDto> multiBoxList, List<String> errors) {
+        if (!errors.isEmpty()) {
+            throw new SpaceLayoutException(errors);
+        }
+        Space space = spaceService.findCompanyNameAndSpaceId(companyName, spaceId);
+
+        List<Location> locations = new ArrayList<>(boxList.size() + mrList.size() + multiBoxList.size());
+        boxList.forEach(box -> locations.add(new Box(box, space)));
+        mrList.forEach(mr -> locations.add(new Mr(mr, space)));
+        multiBoxList.forEach(multiBox -> locations.add(new MultiBox(multiBox, space)));
+        locationBulkRepository.persistAll(locations);
+
+        if (!locations.isEmpty()) {
+            floorMapVersion.layoutChangedAfterCommit(companyName);
+        }
+        return new SpaceLayoutResponseDto(spaceId, boxList.size(), mrList.size(), multiBoxList.size());
+    }
+
+    private boolean validate(String row, String name, Double x, Double y, List<String> errors) {
+        boolean valid = true;
+        if (name == null || name.isBlank()) {
+            addError(errors, row + ": 이름이 비어 있습니다.");
+            valid = false;
+        }
+        if (x == null || y == null || !Double.isFinite(x) || !Double.isFinite(y)) {
+            addError(errors, row + ": 좌표가 숫자가 아닙니다.");
+            valid = false;
+        }
+        return valid;
+    }
+
+    /**
+     * CSV 한 줄을 열로 나눈다, "Desk, A" 처럼 따옴표로 감싼 열은 쉼표를 담을 수 있고 안의 따옴표는 "" 로 쓴다
+     * 따옴표가 한 줄 안에서 닫히지 않거나 닫는 따옴표 뒤에 다른 문자가 오면 null
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> columns = new ArrayList<>();
+        int length = line.length();
+        int i = 0;
+        while (true) {
+            int start = i;
+            while (i < length && line.charAt(i) == ' ') {
+                i++;
+            }
+            if (i < length && line.charAt(i) == '"') {
+                StringBuilder column = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        return null;
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        column.append(c);
+                    } else if (i < length && line.charAt(i) == '"') {
+                        column.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                while (i < length && line.charAt(i) == ' ') {
+                    i++;
+                }
+                if (i < length && line.charAt(i) != ',') {
+                    return null;
+                }
+                columns.add(column.toString());
+            } else {
+                int comma = line.indexOf(',', start);
+                i = comma < 0 ? length : comma;
+                String column = line.substring(start, i);
+                if (column.indexOf('"') >= 0) {
+                    return null;
+                }
+                columns.add(column);
+            }
+            if (i >= length) {
+                return columns;
+            }
+            i++;
+        }
+    }
+
+    private Double parseCoordinate(String value) {
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void addError(List<String> errors, String error) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    private void checkPermission(UserDetailsImpl details) {
+        if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
+            throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
+        }
+    }
+
+    private void checkSize(int size) {
+        if (size > MAX_LOCATIONS) {
+            throw new SpaceException(SpaceErrorCode.LAYOUT_TOO_LARGE);
+        }
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.chillisauce.spaces.service;
 
 
+import com.example.chillisauce.reservations.service.ReservationCascadeService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.SpaceRequestDto;
 import com.example.chillisauce.spaces.dto.response.SpaceListResponseDto;
@@ -16,7 +17,6 @@ import com.example.chillisauce.users.entity.UserRoleEnum;
 import com.example.chillisauce.users.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +33,8 @@ public class SpaceService {
     private final SpaceRepository spaceRepository;
     private final CompanyRepository companyRepository;
     private final FloorRepository floorRepository;
+    private final ReservationCascadeService reservationCascadeService;
+    private final FloorMapVersion floorMapVersion;
 
 
 
@@ -41,7 +43,6 @@ public class SpaceService {
      * 플로우 안에 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public SpaceResponseDto createSpaceInFloor(String companyName, SpaceRequestDto spaceRequestDto, UserDetailsImpl details, Long floorId) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -57,6 +58,7 @@ public class SpaceService {
         }
         Space space = spaceRepository.save(new Space(spaceRequestDto,floor,companies));
         floor.getSpaces().add(space);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new SpaceResponseDto(space);
     }
 
@@ -64,7 +66,6 @@ public class SpaceService {
      * 공간 생성
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public SpaceResponseDto createSpace(String companyName, SpaceRequestDto spaceRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -76,6 +77,7 @@ public class SpaceService {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
         }
         Space space = spaceRepository.save(new Space(spaceRequestDto, companies));
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new SpaceResponseDto(space);
     }
 
@@ -83,8 +85,8 @@ public class SpaceService {
      * 공간 전체 조회
      */
     @Transactional
-    @Cacheable(cacheNames = "SpaceResponseDtoList", key = "#companyName")
-    public List<SpaceListResponseDto> allSpacelist(String companyName, UserDetailsImpl details) {
+    @Cacheable(cacheNames = "SpaceResponseDtoList", key = "#companyName + '_v' + #version")
+    public List<SpaceListResponseDto> allSpacelist(String companyName, long version, UserDetailsImpl details) {
         if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
         }
@@ -97,8 +99,8 @@ public class SpaceService {
      * 공간 개별 조회
      */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "SpaceResponseDtoList", key = "#companyName + '_' + #spaceId")
-    public List<SpaceResponseDto> getSpacelist(String companyName, Long spaceId, UserDetailsImpl details) {
+    @Cacheable(cacheNames = "SpaceResponseDtoList", key = "#companyName + '_v' + #version + '_' + #spaceId")
+    public List<SpaceResponseDto> getSpacelist(String companyName, Long spaceId, long version, UserDetailsImpl details) {
         if (!details.getUser().getCompanies().getCompanyName().equals(companyName)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES);
         }
@@ -118,7 +120,6 @@ public class SpaceService {
      * 공간 수정
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public SpaceResponseDto updateSpace(String companyName, Long spaceId, SpaceRequestDto spaceRequestDto, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
@@ -134,6 +135,7 @@ public class SpaceService {
         }
         space.updateSpace(spaceRequestDto, floor);
         spaceRepository.save(space);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new SpaceResponseDto(space);
     }
 
@@ -141,15 +143,15 @@ public class SpaceService {
      * 공간 삭제
      */
     @Transactional
-    @CacheEvict(cacheNames = {"SpaceResponseDtoList", "FloorResponseDtoList"}, allEntries = true)
     public SpaceResponseDto deleteSpace(String companyName, Long spaceId, UserDetailsImpl details) {
         if (!details.getUser().getRole().equals(UserRoleEnum.ADMIN) && !details.getUser().getRole().equals(UserRoleEnum.MANAGER)) {
             throw new SpaceException(SpaceErrorCode.NOT_HAVE_PERMISSION);
         }
         Space space = findCompanyNameAndSpaceId(companyName, spaceId);
 
-        spaceRepository.clearAllReservationsForSpace(spaceId);
+        reservationCascadeService.detachSpace(spaceId);
         spaceRepository.deleteById(spaceId);
+        floorMapVersion.layoutChangedAfterCommit(companyName);
         return new SpaceResponseDto(space);
     }
 
@@ -0,0 +1,102 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.dto.response.BoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.MrResponseDto;
+import com.example.chillisauce.spaces.dto.response.MultiBoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.vo.LayoutChangedEvent;
+import com.example.chillisauce.spaces.vo.SpatialGrid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공간별 좌표 인덱스
+ * 캐시된 배치도로 공간마다 격자를 만들어 두고, 화면에 보이는 범위의 박스, 회의실, 멀티박스만 돌려준다
+ * 배치도 버전이 바뀌면 다시 만든다
+ */
+@Component
+@RequiredArgsConstructor
+public class SpaceViewportIndex {
+    private final SpaceService spaceService;
+
+    // 공간 id - 격자
+    private final Map<Long, SpaceGrid> grids = new ConcurrentHashMap<>();
+
+    /**
+     * 범위 안의 배치도, 좌석 점유 현황은 채우지 않는다
+     */
+    public SpaceResponseDto viewport(String companyName, Long spaceId, long version,
+                                     double minX, double minY, double maxX, double maxY, UserDetailsImpl details) {
+        if (minX > maxX || minY > maxY) {
+            throw new SpaceException(SpaceErrorCode.INVALID_VIEWPORT);
+        }
+        SpaceGrid grid = grids.get(spaceId);
+        if (grid == null || !grid.matches(companyName, version)) {
+            // 권한과 공간 소속은 배치도를 읽을 때 확인되고, 이후에는 회사 이름과 버전이 같아야만 격자를 쓴다
+            grid = build(companyName, spaceId, version, details);
+            // 늦게 끝난 이전 버전이 새 격자를 덮어쓰지 않게 한다
+            grid = grids.merge(spaceId, grid, (old, built) ->
+                    old.companyName.equals(built.companyName) && old.version > built.version ? old : built);
+        }
+        return grid.within(minX, minY, maxX, maxY);
+    }
+
+    @EventListener
+    public void onLayoutChanged(LayoutChangedEvent event) {
+        grids.values().removeIf(grid -> grid.companyName.equals(event.getCompanyName()));
+    }
+
+    int gridCount() {
+        return grids.size();
+    }
+
+    private SpaceGrid build(String companyName, Long spaceId, long version, UserDetailsImpl details) {
+        List<SpaceResponseDto> layouts = spaceService.getSpacelist(companyName, spaceId, version, details);
+        if (layouts.isEmpty()) {
+            throw new SpaceException(SpaceErrorCode.SPACE_NOT_FOUND);
+        }
+        return new SpaceGrid(companyName, version, layouts.get(0));
+    }
+
+    private static class SpaceGrid {
+        private final String companyName;
+        private final long version;
+        private final SpaceResponseDto layout;
+        private final SpatialGrid<BoxResponseDto> boxes;
+        private final SpatialGrid<MrResponseDto> mrs;
+        private final SpatialGrid<MultiBoxResponseDto> multiBoxes;
+
+        SpaceGrid(String companyName, long version, SpaceResponseDto layout) {
+            this.companyName = companyName;
+            this.version = version;
+            this.layout = layout;
+            this.boxes = new SpatialGrid<>(orEmpty(layout.getBoxList()), BoxResponseDto::getX, BoxResponseDto::getY);
+            this.mrs = new SpatialGrid<>(orEmpty(layout.getMrList()), MrResponseDto::getX, MrResponseDto::getY);
+            this.multiBoxes = new SpatialGrid<>(orEmpty(layout.getMultiBoxList()),
+                    MultiBoxResponseDto::getX, MultiBoxResponseDto::getY);
+        }
+
+        boolean matches(String companyName, long version) {
+            return this.companyName.equals(companyName) && this.version == version;
+        }
+
+        SpaceResponseDto within(double minX, double minY, double maxX, double maxY) {
+            return new SpaceResponseDto(layout.getSpaceId(), layout.getSpaceName(), layout.getFloorId(), layout.getFloorName(),
+                    boxes.within(minX, minY, maxX, maxY),
+                    mrs.within(minX, minY, maxX, maxY),
+                    multiBoxes.within(minX, minY, maxX, maxY));
+        }
+
+        private static <T> List<T> orEmpty(List<T> list) {
+            return list != null ? list : List.of();
+        }
+    }
+}
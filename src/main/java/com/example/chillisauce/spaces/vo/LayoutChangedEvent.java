@@ -0,0 +1,14 @@
+package com.example.chillisauce.spaces.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회사 배치도(플로어, 공간, 좌석) 구조 변경 알림, 변경 트랜잭션 커밋 이후 발행된다
+ * 예약 변경은 배치도 버전만 올리고 이 이벤트는 발행하지 않는다
+ */
+@Getter
+@AllArgsConstructor
+public class LayoutChangedEvent {
+    private final String companyName;
+}
@@ -0,0 +1,50 @@
+package com.example.chillisauce.spaces.vo;
+
+import com.example.chillisauce.spaces.dto.response.BoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.MultiBoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
+import com.example.chillisauce.spaces.dto.response.UserLocationResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 한 시점의 회사 좌석 점유 현황
+ * 캐시된 배치도는 그대로 두고, 응답할 때 박스와 멀티박스의 유저만 이 값으로 채운다
+ */
+@Getter
+@AllArgsConstructor
+public class OccupancySnapshot {
+    // "epoch-revision", epoch 는 DB 에서 읽어 들인 시각이고 revision 은 그 이후 바뀐 횟수
+    private final String revision;
+    private final Map<Long, List<String>> usernames;
+
+    public String etag(long layoutVersion) {
+        return "\"" + layoutVersion + "-" + revision + "\"";
+    }
+
+    public List<SpaceResponseDto> overlay(List<SpaceResponseDto> layouts) {
+        return layouts.stream().map(this::overlay).collect(Collectors.toList());
+    }
+
+    // 캐시 값을 바꾸지 않도록 새 DTO 로 만든다
+    public SpaceResponseDto overlay(SpaceResponseDto layout) {
+        List<BoxResponseDto> boxList = layout.getBoxList().stream()
+                .map(box -> new BoxResponseDto(box.getBoxId(), box.getBoxName(), box.getX(), box.getY(),
+                        usernames.getOrDefault(box.getBoxId(), List.of()).stream().findFirst().orElse(null)))
+                .collect(Collectors.toList());
+        List<MultiBoxResponseDto> multiBoxList = layout.getMultiBoxList().stream()
+                .map(multiBox -> new MultiBoxResponseDto(multiBox.getMultiBoxId(), multiBox.getMultiBoxName(),
+                        multiBox.getX(), multiBox.getY(),
+                        usernames.getOrDefault(multiBox.getMultiBoxId(), List.of()).stream()
+                                .map(UserLocationResponseDto::new)
+                                .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+
+        return new SpaceResponseDto(layout.getSpaceId(), layout.getSpaceName(), layout.getFloorId(), layout.getFloorName(),
+                boxList, layout.getMrList(), multiBoxList);
+    }
+}
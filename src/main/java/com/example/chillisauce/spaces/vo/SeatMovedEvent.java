@@ -0,0 +1,18 @@
+package com.example.chillisauce.spaces.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저 좌석 이동 알림, 이동 트랜잭션 커밋 이후 점유 현황에 반영된다
+ */
+@Getter
+@AllArgsConstructor
+public class SeatMovedEvent {
+    private final String companyName;
+    private final Long userId;
+    private final String username;
+    // 처음 자리를 잡는 경우 null
+    private final Long fromLocationId;
+    private final Long toLocationId;
+}
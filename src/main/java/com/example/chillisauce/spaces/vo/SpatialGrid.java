@@ -0,0 +1,110 @@
+package com.example.chillisauce.spaces.vo;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좌표로 찾는 균등 격자 인덱스
+ * 한 칸에 평균 한 개 정도 들어가도록 칸을 나누고, 범위 조회는 범위에 걸친 칸만 훑는다
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 같이 읽어도 된다
+ */
+public class SpatialGrid<T> {
+    private final List<T> items;
+    private final Function<T, Double> x;
+    private final Function<T, Double> y;
+    private final int side;
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+    private final double cellWidth;
+    private final double cellHeight;
+    // 칸 번호(row * side + column) 별 items 인덱스
+    private final int[][] cells;
+
+    public SpatialGrid(Collection<T> items, Function<T, Double> x, Function<T, Double> y) {
+        // 좌표가 없는 위치는 어느 범위에도 들지 않는다
+        this.items = items.stream()
+                .filter(item -> x.apply(item) != null && y.apply(item) != null)
+                .collect(Collectors.toList());
+        this.x = x;
+        this.y = y;
+        this.side = Math.max(1, (int) Math.ceil(Math.sqrt(this.items.size())));
+
+        double lowX = Double.POSITIVE_INFINITY, lowY = Double.POSITIVE_INFINITY;
+        double highX = Double.NEGATIVE_INFINITY, highY = Double.NEGATIVE_INFINITY;
+        for (T item : this.items) {
+            lowX = Math.min(lowX, x.apply(item));
+            lowY = Math.min(lowY, y.apply(item));
+            highX = Math.max(highX, x.apply(item));
+            highY = Math.max(highY, y.apply(item));
+        }
+        this.minX = lowX;
+        this.minY = lowY;
+        this.maxX = highX;
+        this.maxY = highY;
+        this.cellWidth = cellSize(lowX, highX);
+        this.cellHeight = cellSize(lowY, highY);
+
+        int[] counts = new int[side * side];
+        int[] cellOf = new int[this.items.size()];
+        for (int i = 0; i < this.items.size(); i++) {
+            cellOf[i] = row(y.apply(this.items.get(i))) * side + column(x.apply(this.items.get(i)));
+            counts[cellOf[i]]++;
+        }
+        this.cells = new int[side * side][];
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = new int[counts[cell]];
+            counts[cell] = 0;
+        }
+        for (int i = 0; i < cellOf.length; i++) {
+            cells[cellOf[i]][counts[cellOf[i]]++] = i;
+        }
+    }
+
+    /**
+     * 경계를 포함해 범위 안에 있는 항목, 처음 받은 순서를 유지한다
+     */
+    public List<T> within(double fromX, double fromY, double toX, double toY) {
+        if (items.isEmpty() || fromX > maxX || toX < minX || fromY > maxY || toY < minY) {
+            return List.of();
+        }
+        BitSet found = new BitSet(items.size());
+        for (int row = row(fromY); row <= row(toY); row++) {
+            for (int column = column(fromX); column <= column(toX); column++) {
+                for (int i : cells[row * side + column]) {
+                    double itemX = x.apply(items.get(i));
+                    double itemY = y.apply(items.get(i));
+                    if (itemX >= fromX && itemX <= toX && itemY >= fromY && itemY <= toY) {
+                        found.set(i);
+                    }
+                }
+            }
+        }
+        return found.stream().mapToObj(items::get).collect(Collectors.toList());
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    private double cellSize(double low, double high) {
+        // 모든 좌표가 한 줄에 있으면 칸 하나로 본다
+        return high > low ? (high - low) / side : 1;
+    }
+
+    private int column(double value) {
+        return clamp((int) Math.floor((value - minX) / cellWidth));
+    }
+
+    private int row(double value) {
+        return clamp((int) Math.floor((value - minY) / cellHeight));
+    }
+
+    private int clamp(int index) {
+        return Math.min(side - 1, Math.max(0, index));
+    }
+}
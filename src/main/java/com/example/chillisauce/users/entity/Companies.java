@@ -1,6 +1,8 @@
 package com.example.chillisauce.users.entity;
 
+import com.example.chillisauce.reservations.vo.SlotPolicy;
 import com.example.chillisauce.users.dto.request.CompanyRequestDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,8 +26,27 @@ public class Companies {
     @Column(unique = true, nullable = false)
     private String certification;
 
+    // 타임테이블 슬롯 정책, 값이 없으면 기본 정책(60분, 07 ~ 22시)
+    private Integer slotMinutes;
+
+    private Integer openHour;
+
+    private Integer closeHour;
+
     public Companies(CompanyRequestDto companyRequestDto) {
         this.companyName = companyRequestDto.getCompanyName();
         this.certification = companyRequestDto.getCertification();
     }
+
+    // 캐시된 UserDetails 직렬화 대상에서 제외
+    @JsonIgnore
+    public SlotPolicy getSlotPolicy() {
+        return SlotPolicy.of(slotMinutes, openHour, closeHour);
+    }
+
+    public void updateSlotPolicy(SlotPolicy slotPolicy) {
+        this.slotMinutes = slotPolicy.getSlotMinutes();
+        this.openHour = slotPolicy.getOpenHour();
+        this.closeHour = slotPolicy.getCloseHour();
+    }
 }
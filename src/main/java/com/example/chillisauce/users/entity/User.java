@@ -41,6 +41,10 @@ public class User {
     @JoinColumn(name = "companies_id")
     private Companies companies;
 
+    // 캘린더 구독 주소용 토큰, 로그인 없이 피드를 받으므로 추측할 수 없는 값으로 발급한다
+    @Column(unique = true)
+    private String calendarToken;
+
     //관리자 회원가입용 생성자
     public User(AdminSignupRequestDto adminSignupRequestDto, String password, UserRoleEnum role, Companies companies) {
         this.email = adminSignupRequestDto.getEmail();
@@ -64,4 +68,8 @@ public class User {
         this.role = requestDto.getRole();
     }
 
+    public void issueCalendarToken(String calendarToken) {
+        this.calendarToken = calendarToken;
+    }
+
 }
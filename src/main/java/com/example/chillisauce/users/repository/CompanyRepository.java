@@ -2,7 +2,9 @@ package com.example.chillisauce.users.repository;
 
 import com.example.chillisauce.users.entity.Companies;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CompanyRepository extends JpaRepository<Companies, Long> {
@@ -10,4 +12,6 @@ public interface CompanyRepository extends JpaRepository<Companies, Long> {
 
     Optional<Companies> findByCertification(String certification);
 
+    @Query("select c.companyName from Companies c")
+    List<String> findAllCompanyNames();
 }
@@ -2,7 +2,10 @@ package com.example.chillisauce.users.repository;
 
 import com.example.chillisauce.users.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +13,9 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
     Optional<User> findByEmail(String email);
 
     List<User> findAllByIdInAndCompanies_CompanyName(List<Long> userIds, String companyName);
+
+    Optional<User> findByCalendarToken(String calendarToken);
+
+    @Query("select u.id from User u where u.id in :userIds")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
 }
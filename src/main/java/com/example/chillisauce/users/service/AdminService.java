@@ -1,12 +1,7 @@
 package com.example.chillisauce.users.service;
 
-import com.example.chillisauce.reservations.entity.Reservation;
-import com.example.chillisauce.reservations.repository.ReservationRepository;
-import com.example.chillisauce.schedules.entity.Schedule;
-import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.reservations.service.ReservationCascadeService;
 import com.example.chillisauce.security.UserDetailsImpl;
-import com.example.chillisauce.spaces.entity.UserLocation;
-import com.example.chillisauce.spaces.repository.UserLocationRepository;
 import com.example.chillisauce.users.dto.request.RoleDeptUpdateRequestDto;
 import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.dto.response.UserListResponseDto;
@@ -25,7 +20,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -33,9 +27,7 @@ import java.util.Optional;
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final ScheduleRepository scheduleRepository;
-    private final ReservationRepository reservationRepository;
-    private final UserLocationRepository userLocationRepository;
+    private final ReservationCascadeService reservationCascadeService;
     private final CacheManager cacheManager;
 
     /* 사원 목록 전체 조회 */
@@ -108,17 +100,8 @@ public class AdminService {
         evictCacheByEmail(userEmail);   //Evicting user from cache
         evictCacheByCompanyName(userDetails);   //Evicting userList from cache
 
-        //사원의 스케줄 삭제
-        List<Schedule> schedules = scheduleRepository.findAllByUserId(userId);
-        scheduleRepository.deleteAll(schedules);
-
-        //사원의 예약 삭제
-        List<Reservation> reservations = reservationRepository.findAllByUserId(userId);
-        reservationRepository.deleteAll(reservations);
-
-        //사원의 로케이션 삭제
-        Optional<UserLocation> userLocation = userLocationRepository.findByUserId(userId);
-        userLocation.ifPresent(userLocationRepository::delete);
+        //사원의 예약, 참석 기록, 스케줄, 로케이션 일괄 삭제
+        reservationCascadeService.deleteUser(userId);
 
         //회원 삭제
         userRepository.delete(getUser);
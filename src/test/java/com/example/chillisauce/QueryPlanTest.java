@@ -0,0 +1,197 @@
+package com.example.chillisauce;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.RoomUtilizationRepository;
+import com.example.chillisauce.schedules.repository.ScheduleArchiveRepository;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 호출되는 기간 조회가 인덱스를 타는지 H2 실행 계획으로 확인
+ * repository 메서드를 실제로 호출해 Hibernate 가 만든 SQL 을 잡고, 그 SQL 을 그대로 EXPLAIN 한다
+ * 엔티티 인덱스나 repository 쿼리 조건을 바꿔 전체 스캔으로 떨어지면 실패한다
+ * 바인딩 파라미터(?)는 값 없이 EXPLAIN 해도 H2 가 계획을 세운다
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import({TestConfig.class, QueryPlanTest.SqlCaptureConfig.class})
+@DisplayName("조회 쿼리 실행 계획")
+class QueryPlanTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2023, 4, 5, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2023, 4, 5, 23, 59, 59);
+    private static final LocalDateTime START = LocalDateTime.of(2023, 4, 5, 10, 0);
+    private static final List<Long> USER_IDS = List.of(1L, 2L, 3L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ScheduleArchiveRepository scheduleArchiveRepository;
+
+    @Autowired
+    private RoomUtilizationRepository roomUtilizationRepository;
+
+    @Nested
+    @DisplayName("예약 조회는")
+    class ReservationQueryTestCase {
+        @Test
+        void 회의실_날짜별_예약은_회의실_시간_인덱스를_탄다() {
+            String plan = 실행_계획(() -> reservationRepository.findAllByMeetingRoomIdAndStartTimeBetween(1L, FROM, TO));
+
+            assertThat(plan).containsIgnoringCase("idx_reservation_mr_time")
+                    .doesNotContainIgnoringCase("reservation.tableScan");
+        }
+
+        @Test
+        void 예약_가능_회의실의_겹침_검사는_회의실_시간_인덱스를_탄다() {
+            String plan = 실행_계획(() -> reservationRepository.findAvailableMeetingRooms("company", null,
+                    START, START.plusHours(1)));
+
+            assertThat(plan).containsIgnoringCase("idx_reservation_mr_time")
+                    .doesNotContainIgnoringCase("reservation.tableScan");
+        }
+
+        @Test
+        void 주최자의_기간별_예약은_주최자_시간_인덱스를_탄다() {
+            String plan = 실행_계획(() -> reservationRepository.findIntervalsByOrganizerIdIn(USER_IDS, FROM, TO));
+
+            assertThat(plan).containsIgnoringCase("idx_reservation_user_start")
+                    .doesNotContainIgnoringCase("reservation.tableScan");
+        }
+
+        @Test
+        void 회원_예약_내역은_주최자_시간_인덱스를_탄다() {
+            String plan = 실행_계획(() -> reservationRepository.findUserReservations(1L, FROM, TO, 0L,
+                    PageRequest.of(0, 20)));
+
+            assertThat(plan).containsIgnoringCase("idx_reservation_user_start")
+                    .doesNotContainIgnoringCase("reservation.tableScan");
+        }
+
+        @Test
+        void 참석자의_기간별_예약은_전체_스캔하지_않는다() {
+            String plan = 실행_계획(() -> reservationRepository.findIntervalsByAttendeeIdIn(USER_IDS, FROM, TO));
+
+            assertThat(plan).containsIgnoringCase("idx_reservation_user_attendee")
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+
+        @Test
+        void 보관_대상_예약은_종료_시각_인덱스를_탄다() {
+            String plan = 실행_계획(() -> reservationRepository.findArchivableIds(FROM, PageRequest.of(0, 500)));
+
+            assertThat(plan).containsIgnoringCase("idx_reservation_end_time")
+                    .doesNotContainIgnoringCase("reservation.tableScan");
+        }
+    }
+
+    @Nested
+    @DisplayName("스케줄 조회는")
+    class ScheduleQueryTestCase {
+        @Test
+        void 유저의_기간별_스케줄은_유저_시간_인덱스를_탄다() {
+            String plan = 실행_계획(() -> scheduleRepository.findIntervalsByUserIdIn(USER_IDS, FROM, TO));
+
+            assertThat(plan).containsIgnoringCase("idx_schedule_user_start")
+                    .doesNotContainIgnoringCase("schedule.tableScan");
+        }
+
+        @Test
+        void 보관된_스케줄은_보관_테이블_유저_시간_인덱스를_탄다() {
+            String plan = 실행_계획(() -> scheduleArchiveRepository.findIntervalsByUserIdIn(USER_IDS, FROM, TO));
+
+            assertThat(plan).containsIgnoringCase("idx_schedule_archive_user_start")
+                    .doesNotContainIgnoringCase("schedule_archive.tableScan");
+        }
+
+        @Test
+        void 보관_대상_스케줄은_종료_시각_인덱스를_탄다() {
+            String plan = 실행_계획(() -> scheduleRepository.findArchivableIds(FROM, PageRequest.of(0, 500)));
+
+            assertThat(plan).containsIgnoringCase("idx_schedule_end_time")
+                    .doesNotContainIgnoringCase("schedule.tableScan");
+        }
+    }
+
+    @Nested
+    @DisplayName("이용률 조회는")
+    class UtilizationQueryTestCase {
+        @Test
+        void 회의실별_합계는_회의실_날짜_유니크_인덱스를_탄다() {
+            String plan = 실행_계획(() -> roomUtilizationRepository.sumByMeetingRoom(List.of(1L, 2L, 3L),
+                    LocalDate.of(2023, 4, 1), LocalDate.of(2023, 4, 30)));
+
+            assertThat(plan).containsIgnoringCase("uk_room_utilization_mr_date_hour")
+                    .doesNotContainIgnoringCase("room_utilization.tableScan");
+        }
+    }
+
+    // repository 호출 중 실행된 첫 SQL 의 실행 계획
+    private String 실행_계획(Runnable query) {
+        List<String> statements = SqlCapture.capture(query);
+        assertThat(statements).isNotEmpty();
+        return jdbcTemplate.queryForObject("explain " + statements.get(0), String.class);
+    }
+
+    /**
+     * Hibernate 가 JDBC 로 보내기 직전의 SQL 을 호출한 스레드에서만 모은다
+     */
+    static class SqlCapture implements StatementInspector {
+        private static final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+        static List<String> capture(Runnable query) {
+            statements.set(new ArrayList<>());
+            try {
+                query.run();
+                return statements.get();
+            } finally {
+                statements.remove();
+            }
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> captured = statements.get();
+            if (captured != null) {
+                captured.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCapture());
+        }
+    }
+}
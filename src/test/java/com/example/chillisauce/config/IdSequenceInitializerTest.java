@@ -0,0 +1,64 @@
+package com.example.chillisauce.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import(TestConfig.class)
+@DisplayName("IdSequenceInitializer 클래스")
+class IdSequenceInitializerTest {
+    private static final long LEGACY_ID = 1_000_000L;
+
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clear() {
+        jdbcTemplate.update("delete from reservation_outbox where id = ?", LEGACY_ID);
+    }
+
+    @Test
+    void 시퀀스를_기존_최대_id_뒤로_옮긴다() {
+        // given
+        // 시퀀스 도입 전에 IDENTITY 로 저장된 행
+        jdbcTemplate.update("insert into reservation_outbox " +
+                        "(id, reservation_id, attendee_ids, status, attempts, next_attempt_at, created_at) " +
+                        "values (?, 1, '2', 'DONE', 1, ?, ?)",
+                LEGACY_ID, LocalDateTime.now(), LocalDateTime.now());
+
+        // when
+        idSequenceInitializer.initialize();
+
+        // then
+        Long next = jdbcTemplate.queryForObject("select next value for reservation_outbox_seq", Long.class);
+        assertThat(next).isGreaterThan(LEGACY_ID + JpaConfig.BATCH_SIZE);
+    }
+
+    @Test
+    void 이미_앞서_있는_시퀀스는_되돌리지_않는다() {
+        // given
+        Long before = jdbcTemplate.queryForObject("select next value for reservation_outbox_seq", Long.class);
+
+        // when
+        idSequenceInitializer.initialize();
+
+        // then
+        Long after = jdbcTemplate.queryForObject("select next value for reservation_outbox_seq", Long.class);
+        assertThat(after).isGreaterThan(before);
+    }
+}
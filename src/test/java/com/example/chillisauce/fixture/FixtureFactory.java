@@ -1,5 +1,7 @@
 package com.example.chillisauce.fixture;
 
+import com.example.chillisauce.reservations.dto.ReservationUserWrapper;
+import com.example.chillisauce.reservations.dto.UserReservationWrapper;
 import com.example.chillisauce.reservations.entity.Reservation;
 import com.example.chillisauce.reservations.entity.ReservationUser;
 import com.example.chillisauce.security.UserDetailsImpl;
@@ -84,7 +86,7 @@ public class FixtureFactory {
     public static Mr MeetingRoom_생성() {
         return Mr.builder()
                 .locationName("testMeetingRoom")
-                .x("150").y("200")
+                .x(150.0).y(200.0)
                 .build();
     }
 
@@ -92,14 +94,14 @@ public class FixtureFactory {
         return Mr.builder()
                 .id(id)
                 .locationName("testMeetingRoom")
-                .x("150").y("200")
+                .x(150.0).y(200.0)
                 .build();
     }
 
     public static Mr MeetingRoom_생성_예약_내역(Reservation reservation) {
         return Mr.builder()
                 .locationName("testMeetingRoom")
-                .x("150").y("200")
+                .x(150.0).y(200.0)
                 .reservation(List.of(reservation))
                 .build();
     }
@@ -184,7 +186,7 @@ public class FixtureFactory {
     public static Box Box_생성() {
         return Box.builder()
                 .locationName("testBox")
-                .x("777").y("777")
+                .x(777.0).y(777.0)
                 .build();
     }
 
@@ -192,7 +194,7 @@ public class FixtureFactory {
         return Box.builder()
                 .id(boxId)
                 .locationName("testBox")
-                .x("777").y("777")
+                .x(777.0).y(777.0)
                 .build();
     }
 
@@ -201,14 +203,14 @@ public class FixtureFactory {
         reservations.add(reservation);
         return Mr.builder()
                 .locationName("testMr")
-                .x("111").y("222")
+                .x(111.0).y(222.0)
                 .reservation(reservations)
                 .build();
     }
     public static Mr Mr_생성() {
         return Mr.builder()
                 .locationName("testMr")
-                .x("111").y("222")
+                .x(111.0).y(222.0)
                 .build();
     }
 
@@ -216,7 +218,7 @@ public class FixtureFactory {
     public static MultiBox MultiBox_생성() {
         return MultiBox.builder()
                 .locationName("testMultiBox")
-                .x("222").y("200")
+                .x(222.0).y(200.0)
                 .build();
     }
 
@@ -224,7 +226,7 @@ public class FixtureFactory {
         return MultiBox.builder()
                 .id(multiBoxId)
                 .locationName("testMultiBox")
-                .x("222").y("200")
+                .x(222.0).y(200.0)
                 .build();
     }
 
@@ -269,4 +271,23 @@ public class FixtureFactory {
     public static Reservation Reservation_생성_빈값() {
         return Reservation.builder().build();
     }
+
+    public static UserReservationWrapper UserReservationWrapper_생성(Long reservationId, Mr mr, User user,
+                                                                  LocalDateTime start, LocalDateTime end) {
+        return new UserReservationWrapper() {
+            public Long getReservationId() { return reservationId; }
+            public Long getMrId() { return mr == null ? null : mr.getId(); }
+            public String getMrName() { return mr == null ? null : mr.getLocationName(); }
+            public String getUsername() { return user.getUsername(); }
+            public LocalDateTime getStartTime() { return start; }
+            public LocalDateTime getEndTime() { return end; }
+        };
+    }
+
+    public static ReservationUserWrapper ReservationUserWrapper_생성(Long reservationId, String username) {
+        return new ReservationUserWrapper() {
+            public String getUsername() { return username; }
+            public Long getReservationId() { return reservationId; }
+        };
+    }
 }
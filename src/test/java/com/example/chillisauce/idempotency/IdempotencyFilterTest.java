@@ -0,0 +1,195 @@
+package com.example.chillisauce.idempotency;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("IdempotencyFilter 클래스")
+class IdempotencyFilterTest {
+    private IdempotencyFilter idempotencyFilter;
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    // 컨트롤러 대신 본문을 그대로 돌려주고 호출 횟수를 센다
+    private final FilterChain chain = (request, response) -> {
+        handled.incrementAndGet();
+        String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"count\":" + handled.get() + ",\"body\":" + body + "}");
+    };
+
+    @BeforeEach
+    public void init() {
+        // Redis 연결 실패 시 메모리 저장소로 동작하는지 함께 확인한다
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        given(connectionFactory.getConnection()).willThrow(new RedisConnectionFailureException("down"));
+        ObjectMapper objectMapper = new ObjectMapper();
+        idempotencyFilter = new IdempotencyFilter(new IdempotencyStore(connectionFactory, objectMapper, 60, 30, 100),
+                objectMapper);
+
+        User user = User.builder().id(1L).email("test@test.com").username("tester").role(UserRoleEnum.USER).build();
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getUsername());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @AfterEach
+    public void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("Idempotency-Key 가 있는 예약 등록 요청이 들어올 때")
+    class IdempotentRequestTestCase {
+        @Test
+        public void 같은_키로_재시도하면_저장된_응답을_돌려준다() throws Exception {
+            // given
+            MockHttpServletResponse first = 요청("/reservations/1", "key-1", "{\"start\":\"10:00\"}");
+
+            // when
+            MockHttpServletResponse replay = 요청("/reservations/1", "key-1", "{\"start\":\"10:00\"}");
+
+            // then
+            assertThat(handled.get()).isEqualTo(1);
+            assertThat(replay.getStatus()).isEqualTo(200);
+            assertThat(replay.getContentAsString()).isEqualTo(first.getContentAsString());
+            assertThat(replay.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        }
+
+        @Test
+        public void 같은_키로_다른_요청을_보내면_422를_응답한다() throws Exception {
+            // given
+            요청("/reservations/1", "key-2", "{\"start\":\"10:00\"}");
+
+            // when
+            MockHttpServletResponse response = 요청("/reservations/1", "key-2", "{\"start\":\"11:00\"}");
+
+            // then
+            assertThat(handled.get()).isEqualTo(1);
+            assertThat(response.getStatus()).isEqualTo(422);
+        }
+
+        @Test
+        public void 다른_키로_요청하면_각각_처리한다() throws Exception {
+            // when
+            요청("/schedules", "key-3", "{}");
+            요청("/schedules", "key-4", "{}");
+
+            // then
+            assertThat(handled.get()).isEqualTo(2);
+        }
+
+        @Test
+        public void 처리에_실패한_요청은_같은_키로_다시_처리한다() throws Exception {
+            // given
+            FilterChain failing = (request, response) -> {
+                handled.incrementAndGet();
+                ((HttpServletResponse) response).setStatus(400);
+            };
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/schedules");
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-5");
+            request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+            idempotencyFilter.doFilter(request, new MockHttpServletResponse(), failing);
+
+            // when
+            MockHttpServletResponse response = 요청("/schedules", "key-5", "{}");
+
+            // then
+            assertThat(handled.get()).isEqualTo(2);
+            assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("컨트롤러가 본문을 비동기로 읽을 때")
+    class ReadListenerTestCase {
+        @Test
+        public void 미리_읽은_본문을_바로_읽고_완료를_알린다() throws Exception {
+            // given
+            StringBuilder read = new StringBuilder();
+            AtomicInteger allDataRead = new AtomicInteger();
+            FilterChain async = (request, response) -> {
+                ServletInputStream input = request.getInputStream();
+                input.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        while (input.isReady() && !input.isFinished()) {
+                            read.append((char) input.read());
+                        }
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        allDataRead.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        throw new IllegalStateException(t);
+                    }
+                });
+            };
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/schedules");
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-6");
+            request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+
+            // when
+            idempotencyFilter.doFilter(request, new MockHttpServletResponse(), async);
+
+            // then
+            assertThat(read.toString()).isEqualTo("{}");
+            assertThat(allDataRead.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Idempotency-Key 가 없는 요청이 들어올 때")
+    class NoKeyRequestTestCase {
+        @Test
+        public void 매번_처리한다() throws Exception {
+            // when
+            요청("/reservations/1", null, "{}");
+            요청("/reservations/1", null, "{}");
+
+            // then
+            assertThat(handled.get()).isEqualTo(2);
+        }
+    }
+
+    private MockHttpServletResponse 요청(String uri, String key, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.chillisauce.message;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -56,4 +57,18 @@ class ResponseMessageTest {
         assertThat(result.getBody()).isNotNull();
         assertThat(result.getBody().message()).isEqualTo("응답 성공");
     }
+
+    @Test
+    public void 성공응답테스트_캐시_제어_헤더() {
+        // given
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        // when
+        ResponseEntity<ResponseMessage<Object>> result = ResponseMessage.responseSuccess("응답 성공", new Object(), cacheControl);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().getCacheControl()).contains("no-cache").contains("private");
+        assertThat(result.getBody()).isNotNull();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.example.chillisauce.reservations.controller;
+
+import com.example.chillisauce.reservations.dto.response.MeetingTimeSuggestionListResponse;
+import com.example.chillisauce.reservations.dto.response.MeetingTimeSuggestionResponse;
+import com.example.chillisauce.reservations.exception.ReservationExceptionHandler;
+import com.example.chillisauce.reservations.service.MeetingTimeSuggestionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentRequest;
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
+@DisplayName("MeetingTimeSuggestionController 클래스")
+class MeetingTimeSuggestionControllerTest {
+
+    @InjectMocks
+    private MeetingTimeSuggestionController meetingTimeSuggestionController;
+
+    @Mock
+    private MeetingTimeSuggestionService meetingTimeSuggestionService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void init(RestDocumentationContextProvider restDocumentation) {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(meetingTimeSuggestionController)
+                .setControllerAdvice(new ReservationExceptionHandler())
+                .apply(documentationConfiguration(restDocumentation))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("회의 시간 추천 GET 요청 시")
+    class GetSuggestionsTestCase {
+        // given
+        String url = "/reservations/suggestions";
+
+        @Test
+        @WithMockUser
+        void 겹치는_인원이_적은_순으로_후보_시간을_반환한다() throws Exception {
+            // given
+            MeetingTimeSuggestionListResponse response = new MeetingTimeSuggestionListResponse(List.of(
+                    new MeetingTimeSuggestionResponse(LocalDateTime.of(2023, 4, 10, 9, 0),
+                            LocalDateTime.of(2023, 4, 10, 9, 59), 3, 3, List.of()),
+                    new MeetingTimeSuggestionResponse(LocalDateTime.of(2023, 4, 10, 8, 0),
+                            LocalDateTime.of(2023, 4, 10, 8, 59), 3, 2, List.of(2L))));
+            when(meetingTimeSuggestionService.getSuggestions(eq(List.of(2L, 3L)), eq(3L),
+                    eq(LocalDate.of(2023, 4, 10)), eq(LocalDate.of(2023, 4, 14)), anyInt(), anyInt(), any()))
+                    .thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .header("Authorization", "Bearer Token")
+                    .param("userList", "2,3")
+                    .param("mrId", "3")
+                    .param("from", "2023-04-10")
+                    .param("to", "2023-04-14")
+                    .param("slots", "1")
+                    .param("size", "2")
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-meeting-time-suggestions",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.suggestionList").type(JsonFieldType.ARRAY).description("추천 후보 리스트"),
+                                    fieldWithPath("data.suggestionList[].start").type(JsonFieldType.STRING).description("시작 시각"),
+                                    fieldWithPath("data.suggestionList[].end").type(JsonFieldType.STRING).description("종료 시각"),
+                                    fieldWithPath("data.suggestionList[].attendeeCount").type(JsonFieldType.NUMBER).description("주최자를 포함한 참석자 수"),
+                                    fieldWithPath("data.suggestionList[].availableCount").type(JsonFieldType.NUMBER).description("참석 가능한 인원 수"),
+                                    fieldWithPath("data.suggestionList[].busyUserList").type(JsonFieldType.ARRAY).description("일정이 겹치는 유저 id 리스트")
+                            )
+                    ));
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -143,6 +144,57 @@ class ReservationControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("회사 전체 회의실 예약 내역 커서 GET 요청 시")
+    class GetAllReservationByCursorTestCase {
+        // given
+        String companyName = "testCompany";
+        String url = "/reservations/" + companyName + "/all";
+
+        @Test
+        @WithMockUser
+        void 커서_이후의_예약내역과_다음_커서를_반환한다() throws Exception {
+            // given
+            ReservationDetailResponse reservation = ReservationDetailResponse.builder()
+                    .reservationId(21L)
+                    .username("강백호")
+                    .mrId(1L)
+                    .mrName("회의실1")
+                    .start(LocalDateTime.of(2023, 4, 11, 15, 0))
+                    .end(LocalDateTime.of(2023, 4, 11, 15, 59))
+                    .build();
+            ReservationCursorListResponse response = new ReservationCursorListResponse(List.of(reservation), "MjE");
+            when(reservationService.getAllReservationsByCursor(eq(companyName), eq("MjA"), any())).thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .header("Authorization", "Bearer Token")
+                    .param("cursor", "MjA")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-all-reservations-cursor",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.reservationList").type(JsonFieldType.ARRAY).description("예약리스트"),
+                                    fieldWithPath("data.reservationList[].reservationId").type(JsonFieldType.NUMBER).description("예약 id"),
+                                    fieldWithPath("data.reservationList[].mrId").type(JsonFieldType.NUMBER).description("회의실 id"),
+                                    fieldWithPath("data.reservationList[].mrName").type(JsonFieldType.STRING).description("회의실 이름"),
+                                    fieldWithPath("data.reservationList[].username").type(JsonFieldType.STRING).description("예약자 이름"),
+                                    fieldWithPath("data.reservationList[].start").type(JsonFieldType.STRING).description("예약 시작 시각"),
+                                    fieldWithPath("data.reservationList[].end").type(JsonFieldType.STRING).description("예약 종료 시각"),
+                                    fieldWithPath("data.nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서")
+                            )
+                    ));
+        }
+    }
+
     @Nested
     @DisplayName("예약 타임테이블 GET 요청 시")
     class GetReservationTimeTableTestCase {
@@ -154,7 +206,7 @@ class ReservationControllerTest {
         @WithMockUser
         void 특정날짜_특정회의실의_예약테이블을_반환한다() throws Exception {
             // given
-            when(reservationService.getReservationTimetable(any(), anyLong(), any())).thenReturn(timeTable);
+            when(reservationService.getReservationTimetable(any(), anyLong(), eq(false), any())).thenReturn(timeTable);
 
             // when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
@@ -182,6 +234,40 @@ class ReservationControllerTest {
                     ));
         }
 
+        @Test
+        @WithMockUser
+        void 압축_요청이면_점유_비트맵만_반환한다() throws Exception {
+            // given
+            ReservationTimetableResponse compact = new ReservationTimetableResponse(1L, "testMeetingRoom", null,
+                    30, LocalTime.of(7, 0), "c");
+            when(reservationService.getReservationTimetable(any(), anyLong(), eq(true), any())).thenReturn(compact);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("selDate", "2023-04-13")
+                    .param("compact", "true")
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-reservation-timetable-compact",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.mrId").type(JsonFieldType.NUMBER).description("회의실 id"),
+                                    fieldWithPath("data.mrName").type(JsonFieldType.STRING).description("회의실 이름"),
+                                    fieldWithPath("data.slotMinutes").type(JsonFieldType.NUMBER).description("슬롯 길이(분)"),
+                                    fieldWithPath("data.open").type(JsonFieldType.STRING).description("0번 슬롯 시작 시각"),
+                                    fieldWithPath("data.occupied").type(JsonFieldType.STRING).description("슬롯 점유 비트맵(16진수), i번째 비트가 i번째 슬롯")
+                            )
+                    ));
+        }
+
         private ReservationTimetableResponse getReservationTimetable() {
             Long mrId = 1L;
             String mrName = "testMeetingRoom";
@@ -205,6 +291,106 @@ class ReservationControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("기간 예약 타임테이블 GET 요청 시")
+    class GetReservationTimetablesTestCase {
+        // given
+        String url = "/reservations/1/timetable";
+
+        @Test
+        @WithMockUser
+        void 특정기간_특정회의실의_일자별_예약테이블을_반환한다() throws Exception {
+            // given
+            ReservationTimeResponse time = ReservationTimeResponse.builder().isCheckOut(true)
+                    .start(LocalTime.of(8, 0))
+                    .end(LocalTime.of(8, 59))
+                    .build();
+            ReservationDayTimetableResponse dayOne = new ReservationDayTimetableResponse(LocalDate.of(2023, 4, 10), List.of(time));
+            ReservationDayTimetableResponse dayTwo = new ReservationDayTimetableResponse(LocalDate.of(2023, 4, 11), List.of(time));
+            ReservationRangeTimetableResponse response =
+                    new ReservationRangeTimetableResponse(1L, "testMeetingRoom", List.of(dayOne, dayTwo));
+            when(reservationService.getReservationTimetables(any(), any(), eq(1L), eq(false), any())).thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("from", "2023-04-10")
+                    .param("to", "2023-04-11")
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-reservation-range-timetable",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.mrId").type(JsonFieldType.NUMBER).description("회의실 id"),
+                                    fieldWithPath("data.mrName").type(JsonFieldType.STRING).description("회의실 이름"),
+                                    fieldWithPath("data.dayList").type(JsonFieldType.ARRAY).description("일자별 타임테이블"),
+                                    fieldWithPath("data.dayList[].date").type(JsonFieldType.STRING).description("날짜"),
+                                    fieldWithPath("data.dayList[].timeList").type(JsonFieldType.ARRAY).description("타임테이블"),
+                                    fieldWithPath("data.dayList[].timeList[].isCheckOut").type(JsonFieldType.BOOLEAN).description("예약 여부"),
+                                    fieldWithPath("data.dayList[].timeList[].start").type(JsonFieldType.STRING).description("시작시각"),
+                                    fieldWithPath("data.dayList[].timeList[].end").type(JsonFieldType.STRING).description("종료시각")
+                            )
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 가능 회의실 GET 요청 시")
+    class GetAvailableMeetingRoomsTestCase {
+        // given
+        String companyName = "testCompany";
+        String url = "/reservations/" + companyName + "/available";
+
+        @Test
+        @WithMockUser
+        void 선택_시간대에_예약_가능한_회의실_목록을_반환한다() throws Exception {
+            // given
+            AvailableMeetingRoomResponse mrOne = new AvailableMeetingRoomResponse(1L, "testMeetingRoom1",
+                    1L, "testSpace", 1L, "testFloor");
+            AvailableMeetingRoomResponse mrTwo = new AvailableMeetingRoomResponse(2L, "testMeetingRoom2",
+                    2L, "testSpace2", 1L, "testFloor");
+            AvailableMeetingRoomListResponse response = new AvailableMeetingRoomListResponse(List.of(mrOne, mrTwo));
+            when(reservationService.getAvailableMeetingRooms(eq(companyName), any(), any(), any(), eq(1L), any()))
+                    .thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("selDate", "2023-04-13")
+                    .param("start", "14:00")
+                    .param("end", "16:00")
+                    .param("floorId", "1")
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-available-meeting-rooms",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.mrList").type(JsonFieldType.ARRAY).description("예약 가능 회의실 목록"),
+                                    fieldWithPath("data.mrList[].mrId").type(JsonFieldType.NUMBER).description("회의실 id"),
+                                    fieldWithPath("data.mrList[].mrName").type(JsonFieldType.STRING).description("회의실 이름"),
+                                    fieldWithPath("data.mrList[].spaceId").type(JsonFieldType.NUMBER).description("스페이스 id"),
+                                    fieldWithPath("data.mrList[].spaceName").type(JsonFieldType.STRING).description("스페이스 이름"),
+                                    fieldWithPath("data.mrList[].floorId").type(JsonFieldType.NUMBER).description("층 id"),
+                                    fieldWithPath("data.mrList[].floorName").type(JsonFieldType.STRING).description("층 이름")
+                            )
+                    ));
+        }
+    }
+
     @Nested
     @DisplayName("예약 POST 요청 시")
     class AddReservationTestCase {
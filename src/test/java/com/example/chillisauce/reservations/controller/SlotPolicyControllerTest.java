@@ -0,0 +1,136 @@
+package com.example.chillisauce.reservations.controller;
+
+import com.example.chillisauce.reservations.dto.request.SlotPolicyRequest;
+import com.example.chillisauce.reservations.dto.response.SlotPolicyResponse;
+import com.example.chillisauce.reservations.exception.ReservationExceptionHandler;
+import com.example.chillisauce.reservations.service.SlotPolicyService;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentRequest;
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
+@DisplayName("SlotPolicyController 클래스")
+class SlotPolicyControllerTest {
+
+    @InjectMocks
+    private SlotPolicyController slotPolicyController;
+
+    @Mock
+    private SlotPolicyService slotPolicyService;
+
+    private MockMvc mockMvc;
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    public void init(RestDocumentationContextProvider restDocumentation) {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(slotPolicyController)
+                .setControllerAdvice(new ReservationExceptionHandler())
+                .apply(documentationConfiguration(restDocumentation))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("슬롯 정책 GET 요청 시")
+    class GetSlotPolicyTestCase {
+        // given
+        String url = "/reservations/slot-policy";
+
+        @Test
+        @WithMockUser
+        void 회사_슬롯_정책을_반환한다() throws Exception {
+            // given
+            when(slotPolicyService.getSlotPolicy(any())).thenReturn(new SlotPolicyResponse(SlotPolicy.DEFAULT));
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .header("Authorization", "Bearer Token")
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-slot-policy",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.slotMinutes").type(JsonFieldType.NUMBER).description("슬롯 길이(분)"),
+                                    fieldWithPath("data.openHour").type(JsonFieldType.NUMBER).description("운영 시작 시"),
+                                    fieldWithPath("data.closeHour").type(JsonFieldType.NUMBER).description("마지막 슬롯이 속한 시"),
+                                    fieldWithPath("data.slotCount").type(JsonFieldType.NUMBER).description("하루 슬롯 수")
+                            )
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("슬롯 정책 PUT 요청 시")
+    class UpdateSlotPolicyTestCase {
+        // given
+        String url = "/reservations/slot-policy";
+        SlotPolicyRequest requestBody = new SlotPolicyRequest(30, 8, 20);
+
+        @Test
+        @WithMockUser
+        void 변경된_슬롯_정책을_반환한다() throws Exception {
+            // given
+            when(slotPolicyService.updateSlotPolicy(any(), any()))
+                    .thenReturn(new SlotPolicyResponse(SlotPolicy.of(30, 8, 20)));
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.put(url)
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestBody)));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("put-slot-policy",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            requestFields(
+                                    fieldWithPath("slotMinutes").type(JsonFieldType.NUMBER).description("슬롯 길이(15, 30, 60분)"),
+                                    fieldWithPath("openHour").type(JsonFieldType.NUMBER).description("운영 시작 시, 없으면 7"),
+                                    fieldWithPath("closeHour").type(JsonFieldType.NUMBER).description("마지막 슬롯이 속한 시, 없으면 22")
+                            ),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.slotMinutes").type(JsonFieldType.NUMBER).description("슬롯 길이(분)"),
+                                    fieldWithPath("data.openHour").type(JsonFieldType.NUMBER).description("운영 시작 시"),
+                                    fieldWithPath("data.closeHour").type(JsonFieldType.NUMBER).description("마지막 슬롯이 속한 시"),
+                                    fieldWithPath("data.slotCount").type(JsonFieldType.NUMBER).description("하루 슬롯 수")
+                            )
+                    ));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.chillisauce.reservations.controller;
+
+import com.example.chillisauce.reservations.exception.ReservationExceptionHandler;
+import com.example.chillisauce.reservations.service.TimetableSubscriptionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimetableSubscriptionController 클래스")
+class TimetableSubscriptionControllerTest {
+
+    @InjectMocks
+    private TimetableSubscriptionController timetableSubscriptionController;
+
+    @Mock
+    private TimetableSubscriptionService timetableSubscriptionService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void init() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(timetableSubscriptionController)
+                .setControllerAdvice(new ReservationExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("회의실 타임테이블 구독 GET 요청 시")
+    class SubscribeMeetingRoomTestCase {
+        // given
+        String url = "/reservations/1/subscribe";
+
+        @Test
+        @WithMockUser
+        void 이벤트_스트림을_연다() throws Exception {
+            // given
+            when(timetableSubscriptionService.subscribeMeetingRoom(eq(1L), any())).thenReturn(new SseEmitter());
+
+            // when, then
+            mockMvc.perform(MockMvcRequestBuilders.get(url)
+                            .header("Authorization", "Bearer Token")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+        }
+    }
+
+    @Nested
+    @DisplayName("회사 타임테이블 구독 GET 요청 시")
+    class SubscribeCompanyTestCase {
+        // given
+        String url = "/reservations/subscribe";
+
+        @Test
+        @WithMockUser
+        void 이벤트_스트림을_연다() throws Exception {
+            // given
+            when(timetableSubscriptionService.subscribeCompany(any())).thenReturn(new SseEmitter());
+
+            // when, then
+            mockMvc.perform(MockMvcRequestBuilders.get(url)
+                            .header("Authorization", "Bearer Token")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+        }
+    }
+}
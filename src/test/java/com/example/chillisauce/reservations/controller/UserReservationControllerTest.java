@@ -91,7 +91,7 @@ class UserReservationControllerTest {
         void 회원의_회의실_예약내역을_반환한다() throws Exception {
             // given
             UserReservationListResponse response = new UserReservationListResponse(List.of(reservationOne, reservationTwo));
-            when(userReservationService.getUserReservations(any())).thenReturn(response);
+            when(userReservationService.getUserReservations(any(), any(), any(), any())).thenReturn(response);
 
             // when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
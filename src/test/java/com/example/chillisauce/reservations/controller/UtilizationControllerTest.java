@@ -0,0 +1,116 @@
+package com.example.chillisauce.reservations.controller;
+
+import com.example.chillisauce.reservations.dto.response.FloorUtilizationResponse;
+import com.example.chillisauce.reservations.dto.response.HourUtilizationResponse;
+import com.example.chillisauce.reservations.dto.response.MeetingRoomUtilizationResponse;
+import com.example.chillisauce.reservations.dto.response.UtilizationResponse;
+import com.example.chillisauce.reservations.exception.ReservationExceptionHandler;
+import com.example.chillisauce.reservations.service.UtilizationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentRequest;
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
+@DisplayName("UtilizationController 클래스")
+class UtilizationControllerTest {
+
+    @InjectMocks
+    private UtilizationController utilizationController;
+
+    @Mock
+    private UtilizationService utilizationService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void init(RestDocumentationContextProvider restDocumentation) {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(utilizationController)
+                .setControllerAdvice(new ReservationExceptionHandler())
+                .apply(documentationConfiguration(restDocumentation))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("회의실 이용률 GET 요청 시")
+    class GetUtilizationTestCase {
+        // given
+        String url = "/reservations/utilization";
+
+        @Test
+        @WithMockUser
+        void 기간_동안의_이용률을_반환한다() throws Exception {
+            // given
+            UtilizationResponse response = new UtilizationResponse(
+                    LocalDate.of(2023, 4, 3), LocalDate.of(2023, 4, 4),
+                    List.of(new MeetingRoomUtilizationResponse(1L, "회의실1", 10L, 960L, 0.5)),
+                    List.of(new FloorUtilizationResponse(10L, "1층", 1, 960L, 0.5)),
+                    List.of(new HourUtilizationResponse(10, 120L, 1.0)));
+            when(utilizationService.getUtilization(any(), any(), any())).thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .header("Authorization", "Bearer Token")
+                    .param("from", "2023-04-03")
+                    .param("to", "2023-04-04")
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-reservation-utilization",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.from").type(JsonFieldType.STRING).description("조회 시작 날짜"),
+                                    fieldWithPath("data.to").type(JsonFieldType.STRING).description("조회 종료 날짜"),
+                                    fieldWithPath("data.mrList").type(JsonFieldType.ARRAY).description("회의실별 이용률"),
+                                    fieldWithPath("data.mrList[].mrId").type(JsonFieldType.NUMBER).description("회의실 id"),
+                                    fieldWithPath("data.mrList[].mrName").type(JsonFieldType.STRING).description("회의실 이름"),
+                                    fieldWithPath("data.mrList[].floorId").type(JsonFieldType.NUMBER).description("플로어 id").optional(),
+                                    fieldWithPath("data.mrList[].reservedMinutes").type(JsonFieldType.NUMBER).description("예약된 시간(분)"),
+                                    fieldWithPath("data.mrList[].rate").type(JsonFieldType.NUMBER).description("이용률"),
+                                    fieldWithPath("data.floorList").type(JsonFieldType.ARRAY).description("플로어별 이용률"),
+                                    fieldWithPath("data.floorList[].floorId").type(JsonFieldType.NUMBER).description("플로어 id"),
+                                    fieldWithPath("data.floorList[].floorName").type(JsonFieldType.STRING).description("플로어 이름"),
+                                    fieldWithPath("data.floorList[].mrCount").type(JsonFieldType.NUMBER).description("회의실 수"),
+                                    fieldWithPath("data.floorList[].reservedMinutes").type(JsonFieldType.NUMBER).description("예약된 시간(분)"),
+                                    fieldWithPath("data.floorList[].rate").type(JsonFieldType.NUMBER).description("이용률"),
+                                    fieldWithPath("data.hourList").type(JsonFieldType.ARRAY).description("시간대별 이용률"),
+                                    fieldWithPath("data.hourList[].hour").type(JsonFieldType.NUMBER).description("시"),
+                                    fieldWithPath("data.hourList[].reservedMinutes").type(JsonFieldType.NUMBER).description("예약된 시간(분)"),
+                                    fieldWithPath("data.hourList[].rate").type(JsonFieldType.NUMBER).description("이용률")
+                            )
+                    ));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.chillisauce.reservations.repository;
 
 import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.dto.UserIntervalWrapper;
 import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationUser;
 import com.example.chillisauce.spaces.repository.MrRepository;
 import com.example.chillisauce.spaces.repository.SpaceRepository;
 import com.example.chillisauce.spaces.entity.Mr;
@@ -23,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -30,6 +33,7 @@ import java.util.concurrent.Executors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -39,6 +43,9 @@ class ReservationRepositoryTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private ReservationUserRepository reservationUserRepository;
+
     @Autowired
     private CompanyRepository companyRepository;
 
@@ -79,8 +86,8 @@ class ReservationRepositoryTest {
             Mr meetingRoom = meetingRoomRepository.save(Mr.builder()
                     .reservation(new ArrayList<>())
                     .locationName("회의실 1")
-                    .x("100")
-                    .y("100")
+                    .x(100.0)
+                    .y(100.0)
                     .build());
 
             final LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
@@ -125,7 +132,7 @@ class ReservationRepositoryTest {
                     .build());
 
             Mr mr = meetingRoomRepository.save(Mr.builder()
-                    .x("100").y("150").locationName("testMeetingRoom")
+                    .x(100.0).y(150.0).locationName("testMeetingRoom")
                     .build());
 
             Reservation reservation = Reservation.builder()
@@ -159,4 +166,59 @@ class ReservationRepositoryTest {
             assertThat(reservationRepository.findAll().size()).isEqualTo(1);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("findIntervalsByOrganizerIdIn, findIntervalsByAttendeeIdIn 메서드는")
+    class FindIntervalsByUserIdInTestCase {
+        @Test
+        @Transactional
+        public void 주최하거나_참석하는_예약의_구간만_조회한다() {
+            // given
+            Companies company = companyRepository.save(Companies.builder()
+                    .companyName("participantCompany")
+                    .certification("cert")
+                    .build());
+            User organizer = 유저_저장(company, "organizer@test.com");
+            User attendee = 유저_저장(company, "attendee@test.com");
+            User other = 유저_저장(company, "other@test.com");
+            Mr mr = meetingRoomRepository.save(Mr.builder()
+                    .x(100.0).y(150.0).locationName("participantMeetingRoom")
+                    .build());
+
+            LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
+            Reservation attended = reservationRepository.save(Reservation.builder()
+                    .user(organizer).meetingRoom(mr)
+                    .startTime(start).endTime(start.plusMinutes(59))
+                    .build());
+            reservationUserRepository.save(new ReservationUser(attendee, attended));
+            reservationRepository.save(Reservation.builder()
+                    .user(other).meetingRoom(mr)
+                    .startTime(start.plusHours(2)).endTime(start.plusHours(2).plusMinutes(59))
+                    .build());
+
+            // when
+            LocalDateTime from = start.toLocalDate().atStartOfDay();
+            LocalDateTime to = start.toLocalDate().atTime(23, 59);
+            List<UserIntervalWrapper> organized = reservationRepository.findIntervalsByOrganizerIdIn(
+                    List.of(organizer.getId(), attendee.getId()), from, to);
+            List<UserIntervalWrapper> joined = reservationRepository.findIntervalsByAttendeeIdIn(
+                    List.of(organizer.getId(), attendee.getId()), from, to);
+
+            // then
+            assertThat(organized).extracting(UserIntervalWrapper::getUserId, UserIntervalWrapper::getStartTime)
+                    .containsExactly(tuple(organizer.getId(), start));
+            assertThat(joined).extracting(UserIntervalWrapper::getUserId, UserIntervalWrapper::getStartTime)
+                    .containsExactly(tuple(attendee.getId(), start));
+        }
+
+        private User 유저_저장(Companies company, String email) {
+            return userRepository.save(User.builder()
+                    .companies(company)
+                    .email(email)
+                    .username("tester")
+                    .password("12345678")
+                    .role(UserRoleEnum.USER)
+                    .build());
+        }
+    }
+}
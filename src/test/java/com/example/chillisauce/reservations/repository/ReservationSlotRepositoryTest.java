@@ -0,0 +1,189 @@
+package com.example.chillisauce.reservations.repository;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Import(TestConfig.class)
+@DisplayName("ReservationSlotRepository 클래스")
+class ReservationSlotRepositoryTest {
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Nested
+    @DisplayName("saveAllAndFlush 메서드는")
+    class SaveAllAndFlushTestCase {
+        @Test
+        public void 여러_스레드가_같은_슬롯을_동시에_점유하면_하나만_성공한다() throws InterruptedException {
+            // given
+            User user = 유저_저장("slotTestCompany1", "slot1@test.com");
+            Mr mr = 회의실_저장("slotTestMeetingRoom1");
+            LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
+
+            int threadCount = 32;
+            AtomicInteger success = new AtomicInteger();
+            AtomicInteger failure = new AtomicInteger();
+
+            // when
+            동시_실행(threadCount, i -> {
+                try {
+                    예약_점유(user, mr, start, start.plusMinutes(59));
+                    success.incrementAndGet();
+                } catch (DataAccessException e) {
+                    failure.incrementAndGet();
+                }
+            });
+
+            // then
+            assertThat(success.get()).isEqualTo(1);
+            assertThat(failure.get()).isEqualTo(threadCount - 1);
+            assertThat(reservationRepository.findAllByMeetingRoomId(mr.getId())).hasSize(1);
+        }
+
+        @Test
+        public void 서로_다른_회의실의_슬롯은_동시에_모두_점유된다() throws InterruptedException {
+            // given
+            User user = 유저_저장("slotTestCompany2", "slot2@test.com");
+            int threadCount = 16;
+            List<Mr> rooms = new ArrayList<>();
+            IntStream.range(0, threadCount).forEach(i -> rooms.add(회의실_저장("slotTestMeetingRoom2_" + i)));
+            LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
+            AtomicInteger success = new AtomicInteger();
+
+            // when
+            동시_실행(threadCount, i -> {
+                예약_점유(user, rooms.get(i), start, start.plusHours(2).plusMinutes(59));
+                success.incrementAndGet();
+            });
+
+            // then
+            assertThat(success.get()).isEqualTo(threadCount);
+            assertThat(rooms).allSatisfy(mr ->
+                    assertThat(reservationRepository.findAllByMeetingRoomId(mr.getId())).hasSize(1));
+        }
+
+        @Test
+        public void 걸치는_시간의_예약은_겹치는_슬롯에서_실패한다() {
+            // given
+            User user = 유저_저장("slotTestCompany3", "slot3@test.com");
+            Mr mr = 회의실_저장("slotTestMeetingRoom3");
+            예약_점유(user, mr, LocalDateTime.of(2023, 4, 5, 10, 0), LocalDateTime.of(2023, 4, 5, 11, 59));
+
+            // when
+            Throwable thrown = catchThrowable(() ->
+                    예약_점유(user, mr, LocalDateTime.of(2023, 4, 5, 11, 30), LocalDateTime.of(2023, 4, 5, 12, 29)));
+
+            // then
+            assertThat(thrown).isInstanceOf(DataIntegrityViolationException.class);
+            assertThat(reservationRepository.findAllByMeetingRoomId(mr.getId())).hasSize(1);
+        }
+    }
+
+    // 서비스의 예약 등록과 같이 예약 저장, 슬롯 점유를 한 트랜잭션에서 수행
+    private void 예약_점유(User user, Mr mr, LocalDateTime start, LocalDateTime end) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Reservation reservation = reservationRepository.save(Reservation.builder()
+                    .user(user)
+                    .meetingRoom(mr)
+                    .startTime(start)
+                    .endTime(end)
+                    .build());
+            reservationSlotRepository.saveAllAndFlush(ReservationSlot.of(reservation));
+        });
+    }
+
+    private void 동시_실행(int threadCount, IntConsumer task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        IntStream.range(0, threadCount).forEach(i ->
+                executorService.submit(() -> {
+                    try {
+                        ready.countDown();
+                        start.await();
+                        task.accept(i);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }));
+
+        ready.await();
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+    }
+
+    private User 유저_저장(String companyName, String email) {
+        Companies company = companyRepository.save(Companies.builder()
+                .companyName(companyName)
+                .certification(companyName + "Cert")
+                .build());
+
+        return userRepository.save(User.builder()
+                .companies(company)
+                .email(email)
+                .username("tester")
+                .password("12345678")
+                .role(UserRoleEnum.USER)
+                .build());
+    }
+
+    private Mr 회의실_저장(String name) {
+        return meetingRoomRepository.save(Mr.builder()
+                .x(100.0).y(150.0).locationName(name)
+                .build());
+    }
+}
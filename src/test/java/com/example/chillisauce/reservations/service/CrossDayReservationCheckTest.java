@@ -0,0 +1,67 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import(TestConfig.class)
+@DisplayName("CrossDayReservationCheck 클래스")
+class CrossDayReservationCheckTest {
+    @Autowired
+    private CrossDayReservationCheck crossDayReservationCheck;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Nested
+    @DisplayName("check 메서드는")
+    class CheckTestCase {
+        @Test
+        void 끝나지_않은_날짜를_넘는_예약만_찾는다() {
+            // given
+            Mr mr = meetingRoomRepository.save(Mr.builder()
+                    .x(100.0).y(150.0).locationName("crossDayMeetingRoom")
+                    .build());
+            LocalDate day = LocalDate.now().plusDays(7);
+            Reservation crossDay = 예약_저장(mr, day, 23, day.plusDays(1), 0);
+            Reservation withinDay = 예약_저장(mr, day, 10, day, 10);
+            Reservation ended = 예약_저장(mr, day.minusDays(30), 23, day.minusDays(29), 0);
+
+            // when
+            List<Long> result = crossDayReservationCheck.check();
+
+            // then
+            assertThat(result).contains(crossDay.getId())
+                    .doesNotContain(withinDay.getId(), ended.getId());
+        }
+    }
+
+    // startHour 시부터 endHour 시 59분까지
+    private Reservation 예약_저장(Mr mr, LocalDate startDay, int startHour, LocalDate endDay, int endHour) {
+        return reservationRepository.save(Reservation.builder()
+                .meetingRoom(mr)
+                .startTime(startDay.atTime(startHour, 0))
+                .endTime(endDay.atTime(endHour, 59))
+                .build());
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.dto.response.MeetingTimeSuggestionListResponse;
+import com.example.chillisauce.reservations.dto.response.MeetingTimeSuggestionResponse;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.schedules.service.PersonalOccupancyService;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.LocationRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeetingTimeSuggestionService 클래스")
+class MeetingTimeSuggestionServiceTest {
+    @InjectMocks
+    MeetingTimeSuggestionService meetingTimeSuggestionService;
+
+    @Mock
+    PersonalOccupancyService personalOccupancyService;
+
+    @Mock
+    ReservationRepository reservationRepository;
+
+    @Mock
+    LocationRepository locationRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    SlotPolicyService slotPolicyService;
+
+    @Nested
+    @DisplayName("getSuggestions 메서드는")
+    class GetSuggestionsTestCase {
+        // given
+        // 기본 정책은 7시부터 1시간 슬롯, H 시 슬롯 번호는 H - 7
+        Companies company = Company_생성();
+        User organizer = User_USER권한_생성_아이디지정(1L, company);
+        User attendeeOne = User_USER권한_생성_아이디지정(2L, company);
+        User attendeeTwo = User_USER권한_생성_아이디지정(3L, company);
+        UserDetailsImpl userDetails = new UserDetailsImpl(organizer, organizer.getEmail());
+        LocalDate day = LocalDate.now().plusDays(1);
+        List<Long> userList = List.of(2L, 3L);
+
+        @Test
+        void 모두가_비어있는_시간을_이른_순으로_추천한다() {
+            // given
+            참석자_조회_설정(Map.of(
+                    1L, new SlotBitmap[]{SlotBitmap.of(0b1L)},
+                    2L, new SlotBitmap[]{SlotBitmap.of(0b11L)},
+                    3L, new SlotBitmap[]{SlotBitmap.EMPTY}));
+
+            // when
+            MeetingTimeSuggestionListResponse result = meetingTimeSuggestionService
+                    .getSuggestions(userList, null, day, day, 1, 3, userDetails);
+
+            // then
+            assertThat(result.getSuggestionList()).hasSize(3)
+                    .allMatch(x -> x.getAvailableCount() == 3 && x.getBusyUserList().isEmpty())
+                    .extracting(MeetingTimeSuggestionResponse::getStart)
+                    .containsExactly(day.atTime(9, 0), day.atTime(10, 0), day.atTime(11, 0));
+        }
+
+        @Test
+        void 모두가_비어있는_시간이_없으면_겹치는_인원이_적은_순으로_추천한다() {
+            // given
+            참석자_조회_설정(Map.of(
+                    1L, new SlotBitmap[]{SlotBitmap.full(SlotPolicy.DEFAULT)},
+                    2L, new SlotBitmap[]{SlotBitmap.of(0b1L)},
+                    3L, new SlotBitmap[]{SlotBitmap.EMPTY}));
+
+            // when
+            MeetingTimeSuggestionListResponse result = meetingTimeSuggestionService
+                    .getSuggestions(userList, null, day, day, 2, 1, userDetails);
+
+            // then
+            MeetingTimeSuggestionResponse first = result.getSuggestionList().get(0);
+            assertThat(first.getStart()).isEqualTo(day.atTime(8, 0));
+            assertThat(first.getEnd()).isEqualTo(day.atTime(9, 59));
+            assertThat(first.getBusyUserList()).containsExactly(1L);
+            assertThat(first.getAvailableCount()).isEqualTo(2);
+        }
+
+        @Test
+        void 회의실을_지정하면_회의실이_예약된_시간은_제외한다() {
+            // given
+            Mr mr = MeetingRoom_생성_아이디_지정(10L);
+            참석자_조회_설정(Map.of(
+                    1L, new SlotBitmap[]{SlotBitmap.EMPTY},
+                    2L, new SlotBitmap[]{SlotBitmap.EMPTY},
+                    3L, new SlotBitmap[]{SlotBitmap.EMPTY}));
+            when(locationRepository.findByIdAndCompanyName(10L, company.getCompanyName())).thenReturn(Optional.of(mr));
+            when(reservationRepository.findAllByMeetingRoomIdAndStartTimeBetween(eq(10L), any(), any()))
+                    .thenReturn(List.of(Reservation_생성(organizer, mr, day.atTime(7, 0), day.atTime(8, 59))));
+
+            // when
+            MeetingTimeSuggestionListResponse result = meetingTimeSuggestionService
+                    .getSuggestions(userList, 10L, day, day, 1, 1, userDetails);
+
+            // then
+            assertThat(result.getSuggestionList()).extracting(MeetingTimeSuggestionResponse::getStart)
+                    .containsExactly(day.atTime(9, 0));
+        }
+
+        @Test
+        void 조회_기간이_잘못되면_예외가_발생한다() {
+            // when, then
+            assertThatThrownBy(() -> meetingTimeSuggestionService
+                    .getSuggestions(userList, null, day, day.minusDays(1), 1, 10, userDetails))
+                    .isInstanceOf(ReservationException.class);
+        }
+
+        @Test
+        void 회의_길이가_운영_시간보다_길면_예외가_발생한다() {
+            // given
+            when(slotPolicyService.findSlotPolicy(company.getCompanyName())).thenReturn(company.getSlotPolicy());
+
+            // when, then
+            assertThatThrownBy(() -> meetingTimeSuggestionService
+                    .getSuggestions(userList, null, day, day, SlotPolicy.DEFAULT.getSlotCount() + 1, 10, userDetails))
+                    .isInstanceOf(ReservationException.class);
+        }
+
+        private void 참석자_조회_설정(Map<Long, SlotBitmap[]> occupancies) {
+            when(slotPolicyService.findSlotPolicy(company.getCompanyName())).thenReturn(company.getSlotPolicy());
+            when(userRepository.findAllByIdInAndCompanies_CompanyName(anyList(), eq(company.getCompanyName())))
+                    .thenReturn(List.of(attendeeOne, attendeeTwo));
+            when(personalOccupancyService.getOccupancies(anyCollection(), eq(SlotPolicy.DEFAULT), eq(day), eq(day)))
+                    .thenReturn(occupancies);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.OutboxStatus;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationArchive;
+import com.example.chillisauce.reservations.entity.ReservationOutbox;
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import com.example.chillisauce.reservations.entity.ReservationUser;
+import com.example.chillisauce.reservations.repository.ReservationArchiveRepository;
+import com.example.chillisauce.reservations.repository.ReservationOutboxRepository;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.schedules.entity.Schedule;
+import com.example.chillisauce.schedules.repository.ScheduleArchiveRepository;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.schedules.service.ScheduleArchiveProcessor;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import(TestConfig.class)
+@DisplayName("ReservationArchiveProcessor 클래스")
+class ReservationArchiveProcessorTest {
+    // 다른 테스트 데이터와 겹치지 않는 오래된 날짜만 보관 대상으로 삼는다
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private ReservationArchiveProcessor reservationArchiveProcessor;
+
+    @Autowired
+    private ScheduleArchiveProcessor scheduleArchiveProcessor;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationUserRepository reservationUserRepository;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Autowired
+    private ReservationArchiveRepository reservationArchiveRepository;
+
+    @Autowired
+    private ReservationOutboxRepository reservationOutboxRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ScheduleArchiveRepository scheduleArchiveRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Nested
+    @DisplayName("archive 메서드는")
+    class ArchiveTestCase {
+        @Test
+        void 지난_예약과_참석자_슬롯을_보관_테이블로_옮긴다() {
+            // given
+            Companies company = 회사_저장("archiveTestCompany1");
+            User organizer = 유저_저장(company, "archive1-0@test.com", "organizer");
+            User attendee = 유저_저장(company, "archive1-1@test.com", "attendee");
+            Reservation old = 예약_저장(organizer, "archiveTestMeetingRoom1", LocalDateTime.of(1999, 4, 5, 10, 0));
+            Reservation recent = 예약_저장(organizer, "archiveTestMeetingRoom2", LocalDateTime.of(2023, 4, 5, 10, 0));
+            reservationUserRepository.save(new ReservationUser(attendee, old));
+
+            // when
+            int archived = 전체_보관(1);
+
+            // then
+            assertThat(archived).isGreaterThanOrEqualTo(1);
+            assertThat(reservationRepository.findById(old.getId())).isEmpty();
+            assertThat(reservationRepository.findById(recent.getId())).isPresent();
+            assertThat(reservationUserRepository.findAttendeeIdsByReservationId(old.getId())).isEmpty();
+
+            ReservationArchive archive = reservationArchiveRepository.findById(old.getId()).orElseThrow();
+            assertThat(archive.getUsername()).isEqualTo("organizer");
+            assertThat(archive.getMeetingRoomName()).isEqualTo("archiveTestMeetingRoom1");
+            assertThat(archive.getAttendeeNameList()).containsExactly("attendee");
+        }
+
+        @Test
+        void 지난_스케줄을_보관_테이블로_옮긴다() {
+            // given
+            Companies company = 회사_저장("archiveTestCompany2");
+            User user = 유저_저장(company, "archive2-0@test.com", "tester");
+            Schedule old = scheduleRepository.save(Schedule.builder()
+                    .user(user)
+                    .title("old")
+                    .comment("comment")
+                    .startTime(LocalDateTime.of(1999, 4, 5, 10, 0))
+                    .endTime(LocalDateTime.of(1999, 4, 5, 10, 59))
+                    .build());
+
+            // when
+            int archived = scheduleArchiveProcessor.archive(BEFORE, 100);
+
+            // then
+            assertThat(archived).isGreaterThanOrEqualTo(1);
+            assertThat(scheduleRepository.findById(old.getId())).isEmpty();
+            assertThat(scheduleArchiveRepository.findById(old.getId()))
+                    .hasValueSatisfying(x -> assertThat(x.getUserId()).isEqualTo(user.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("purgeOutbox 메서드는")
+    class PurgeOutboxTestCase {
+        @Test
+        void 오래전에_처리가_끝난_이벤트만_삭제한다() {
+            // given
+            LocalDateTime old = LocalDateTime.of(1999, 4, 5, 10, 0);
+            ReservationOutbox done = new ReservationOutbox(1L, List.of(2L), old);
+            done.done(old);
+            // 오래전에 만들어졌어도 최근에 처리가 끝났으면 남긴다
+            ReservationOutbox recentDone = new ReservationOutbox(1L, List.of(2L), old);
+            recentDone.done(LocalDateTime.now());
+            List<ReservationOutbox> saved = reservationOutboxRepository.saveAll(List.of(done, recentDone));
+
+            // when
+            int total = 0;
+            int purged;
+            do {
+                purged = reservationArchiveProcessor.purgeOutbox(BEFORE, 1);
+                total += purged;
+            } while (purged == 1);
+
+            // then
+            assertThat(total).isGreaterThanOrEqualTo(1);
+            assertThat(reservationOutboxRepository.findById(saved.get(0).getId())).isEmpty();
+            assertThat(reservationOutboxRepository.findById(saved.get(1).getId()))
+                    .hasValueSatisfying(x -> assertThat(x.getStatus()).isEqualTo(OutboxStatus.DONE));
+        }
+    }
+
+    // 작은 batch 로 나눠도 대상이 모두 옮겨지는지 확인하기 위해 batch 가 빌 때까지 반복
+    private int 전체_보관(int batchSize) {
+        int total = 0;
+        int moved;
+        do {
+            moved = reservationArchiveProcessor.archive(BEFORE, batchSize);
+            total += moved;
+        } while (moved == batchSize);
+        return total;
+    }
+
+    private Reservation 예약_저장(User organizer, String meetingRoomName, LocalDateTime start) {
+        Mr mr = meetingRoomRepository.save(Mr.builder()
+                .x(100.0).y(150.0).locationName(meetingRoomName)
+                .build());
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .user(organizer)
+                .meetingRoom(mr)
+                .startTime(start)
+                .endTime(start.plusMinutes(59))
+                .build());
+        reservationSlotRepository.saveAll(ReservationSlot.of(reservation));
+        return reservation;
+    }
+
+    private Companies 회사_저장(String companyName) {
+        return companyRepository.save(Companies.builder()
+                .companyName(companyName)
+                .certification(companyName + "Cert")
+                .build());
+    }
+
+    private User 유저_저장(Companies company, String email, String username) {
+        return userRepository.save(User.builder()
+                .companies(company)
+                .email(email)
+                .username(username)
+                .password("12345678")
+                .role(UserRoleEnum.USER)
+                .build());
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import com.example.chillisauce.reservations.entity.ReservationUser;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.reservations.vo.CascadeResult;
+import com.example.chillisauce.reservations.vo.MeetingRoomDaysChangedEvent;
+import com.example.chillisauce.reservations.vo.ReservationChangedEvent;
+import com.example.chillisauce.schedules.entity.Schedule;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.spaces.repository.SpaceRepository;
+import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import(TestConfig.class)
+@RecordApplicationEvents
+@DisplayName("ReservationCascadeService 클래스")
+class ReservationCascadeServiceTest {
+    private static final LocalDateTime START = LocalDateTime.of(2023, 4, 5, 10, 0);
+
+    @Autowired
+    private ReservationCascadeService reservationCascadeService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationUserRepository reservationUserRepository;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserLocationRepository userLocationRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Nested
+    @DisplayName("deleteUser 메서드는")
+    class DeleteUserTestCase {
+        @Test
+        void 유저의_예약_참석기록_스케줄_로케이션을_삭제하고_행_수를_돌려준다() {
+            // given
+            Companies company = 회사_저장("cascadeTestCompany1");
+            User leaving = 유저_저장(company, "cascade1-0@test.com");
+            User other = 유저_저장(company, "cascade1-1@test.com");
+            Mr mr = 회의실_저장(company, "cascadeTestMeetingRoom1");
+
+            Reservation own = 예약_저장(leaving, mr, START);
+            reservationUserRepository.save(new ReservationUser(other, own));
+            Reservation others = 예약_저장(other, mr, START.plusHours(2));
+            reservationUserRepository.save(new ReservationUser(leaving, others));
+            scheduleRepository.save(Schedule.builder()
+                    .user(leaving).title("title").comment("comment")
+                    .startTime(START).endTime(START.plusMinutes(59))
+                    .build());
+            userLocationRepository.save(UserLocation.builder().userId(leaving.getId()).username("tester").build());
+
+            // when
+            CascadeResult result = reservationCascadeService.deleteUser(leaving.getId());
+            userRepository.deleteById(leaving.getId());
+
+            // then
+            assertThat(result).isEqualTo(new CascadeResult(1, 2, 4, 0, 1, 1));
+            assertThat(reservationRepository.findById(own.getId())).isEmpty();
+            assertThat(reservationRepository.findById(others.getId())).isPresent();
+            assertThat(reservationUserRepository.findAttendeeIdsByReservationId(others.getId())).isEmpty();
+            assertThat(userLocationRepository.findByUserId(leaving.getId())).isEmpty();
+            assertThat(userRepository.findById(leaving.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("detachSpace 메서드는")
+    class DetachSpaceTestCase {
+        @Test
+        void 공간에_속한_회의실의_예약에서_회의실을_해제한다() {
+            // given
+            Companies company = 회사_저장("cascadeTestCompany2");
+            User user = 유저_저장(company, "cascade2-0@test.com");
+            Mr mr = 회의실_저장(company, "cascadeTestMeetingRoom2");
+            Mr otherMr = 회의실_저장(company, "cascadeTestMeetingRoom3");
+            Reservation first = 예약_저장(user, mr, START);
+            Reservation second = 예약_저장(user, mr, START.plusDays(1));
+            Reservation untouched = 예약_저장(user, otherMr, START);
+
+            // when
+            CascadeResult result = reservationCascadeService.detachSpace(mr.getSpace().getId());
+
+            // then
+            assertThat(result.reservations()).isEqualTo(2);
+            assertThat(reservationRepository.findAllByMeetingRoomId(mr.getId())).isEmpty();
+            assertThat(reservationRepository.findById(first.getId())).isPresent();
+            assertThat(reservationRepository.findById(second.getId())).isPresent();
+            assertThat(reservationRepository.findAllByMeetingRoomId(otherMr.getId()))
+                    .extracting(Reservation::getId).containsExactly(untouched.getId());
+        }
+
+        @Test
+        void 이용률_재계산은_회의실_날짜별로_한_번만_알린다() {
+            // given
+            Companies company = 회사_저장("cascadeTestCompany3");
+            User user = 유저_저장(company, "cascade3-0@test.com");
+            Mr mr = 회의실_저장(company, "cascadeTestMeetingRoom4");
+            예약_저장(user, mr, START);
+            예약_저장(user, mr, START.plusHours(2));
+            예약_저장(user, mr, START.plusDays(1));
+
+            // when
+            reservationCascadeService.detachSpace(mr.getSpace().getId());
+
+            // then
+            List<MeetingRoomDaysChangedEvent> daysEvents =
+                    applicationEvents.stream(MeetingRoomDaysChangedEvent.class).toList();
+            assertThat(daysEvents).hasSize(1);
+            assertThat(daysEvents.get(0).getDays())
+                    .isEqualTo(Map.of(mr.getId(), Set.of(START.toLocalDate(), START.toLocalDate().plusDays(1))));
+            assertThat(applicationEvents.stream(ReservationChangedEvent.class))
+                    .hasSize(3)
+                    .allMatch(ReservationChangedEvent::isCascaded);
+        }
+    }
+
+    private Reservation 예약_저장(User organizer, Mr mr, LocalDateTime start) {
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .user(organizer)
+                .meetingRoom(mr)
+                .startTime(start)
+                .endTime(start.plusMinutes(59))
+                .build());
+        reservationSlotRepository.saveAll(ReservationSlot.of(reservation));
+        return reservation;
+    }
+
+    // 회의실마다 공간을 따로 두어 공간 단위 해제가 다른 회의실에 닿지 않는지 확인한다
+    private Mr 회의실_저장(Companies company, String name) {
+        Space space = spaceRepository.save(Space.builder()
+                .spaceName(name + "Space")
+                .companies(company)
+                .build());
+        return meetingRoomRepository.save(new Mr(name, 100.0, 150.0, space));
+    }
+
+    private Companies 회사_저장(String companyName) {
+        return companyRepository.save(Companies.builder()
+                .companyName(companyName)
+                .certification(companyName + "Cert")
+                .build());
+    }
+
+    private User 유저_저장(Companies company, String email) {
+        return userRepository.save(User.builder()
+                .companies(company)
+                .email(email)
+                .username("tester")
+                .password("12345678")
+                .role(UserRoleEnum.USER)
+                .build());
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.dto.request.ReservationRequest;
+import com.example.chillisauce.reservations.dto.request.ReservationTime;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.spaces.repository.SpaceRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 등록 경합 측정
+ * 여러 회의실에 겹치는 시간대, 겹치지 않는 시간대 예약을 동시에 보내 처리량, 지연, 슬롯 점유 대기, 중복 예약을 출력한다
+ * 락 전략을 바꿀 때 같은 조건으로 다시 돌려 이전 결과와 비교한다
+ * ./gradlew benchmark -Dcontention.threads=32 -Dcontention.rooms=4 -Dcontention.requests=400 로 실행
+ */
+@Tag("benchmark")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import({TestConfig.class, ReservationContentionBenchmarkTest.SlotClaimTimerConfig.class})
+@DisplayName("ReservationService 예약 경합 측정")
+class ReservationContentionBenchmarkTest {
+    private static final int THREADS = Integer.getInteger("contention.threads", 32);
+    private static final int ROOMS = Integer.getInteger("contention.rooms", 4);
+    private static final int REQUESTS = Integer.getInteger("contention.requests", 400);
+    // 겹치는 시나리오에서 회의실마다 경합시킬 시작 시각 수
+    private static final int HOURS = 4;
+    private static final int FIRST_HOUR = 9;
+    private static final LocalDate BASE_DATE = LocalDate.of(2030, 1, 1);
+
+    // 슬롯 장부 flush 에 걸린 시간, 같은 슬롯을 점유하려는 트랜잭션은 여기서 유니크 인덱스 락을 기다린다
+    private static final ConcurrentLinkedQueue<Long> slotClaimNanos = new ConcurrentLinkedQueue<>();
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Test
+    void 겹치는_시간대에_동시_예약해도_중복_예약은_없다() throws InterruptedException {
+        // given
+        Fixture fixture = 준비("contentionOverlap");
+
+        // when
+        // i 번째 요청 : i % ROOMS 회의실, 1 ~ 2시간 길이로 HOURS 개 시작 시각 중 하나, 시작 시각이 다른 요청끼리도 일부 겹친다
+        Result result = 동시_실행("overlap", fixture, i -> {
+            LocalDateTime start = BASE_DATE.atTime(FIRST_HOUR + (i / ROOMS) % HOURS, 0);
+            return i % 2 == 0 ? List.of(start) : List.of(start, start.plusHours(1));
+        });
+
+        // then
+        assertThat(result.errors).isZero();
+        assertThat(result.success).isPositive().isLessThanOrEqualTo(ROOMS * (HOURS + 1));
+        assertThat(중복_예약_수(fixture.rooms)).isZero();
+    }
+
+    @Test
+    void 겹치지_않는_시간대의_동시_예약은_모두_성공한다() throws InterruptedException {
+        // given
+        Fixture fixture = 준비("contentionDisjoint");
+
+        // when
+        // i 번째 요청 : i % ROOMS 회의실, 요청마다 다른 날짜, 시각
+        Result result = 동시_실행("disjoint", fixture, i -> {
+            int n = i / ROOMS;
+            return List.of(BASE_DATE.plusDays(n / HOURS).atTime(FIRST_HOUR + n % HOURS, 0));
+        });
+
+        // then
+        assertThat(result.errors).isZero();
+        assertThat(result.success).isEqualTo(REQUESTS);
+        assertThat(중복_예약_수(fixture.rooms)).isZero();
+    }
+
+    private Result 동시_실행(String scenario, Fixture fixture, IntFunction<List<LocalDateTime>> starts)
+            throws InterruptedException {
+        slotClaimNanos.clear();
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger conflict = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+
+        IntStream.range(0, THREADS).forEach(t ->
+                executorService.submit(() -> {
+                    try {
+                        ready.countDown();
+                        start.await();
+                        for (int i = next.getAndIncrement(); i < REQUESTS; i = next.getAndIncrement()) {
+                            Mr mr = fixture.rooms.get(i % ROOMS);
+                            ReservationRequest request = new ReservationRequest(
+                                    starts.apply(i).stream().map(ReservationTime::new).toList(), null);
+                            long begin = System.nanoTime();
+                            try {
+                                reservationService.addReservation(mr.getId(), request, fixture.userDetails);
+                                success.incrementAndGet();
+                            } catch (ReservationException e) {
+                                conflict.incrementAndGet();
+                            } catch (RuntimeException e) {
+                                errors.incrementAndGet();
+                            } finally {
+                                latencies[i] = System.nanoTime() - begin;
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }));
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        executorService.shutdown();
+
+        long[] claims = slotClaimNanos.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(latencies);
+        Arrays.sort(claims);
+        System.out.printf("[%s] threads=%d rooms=%d requests=%d%n", scenario, THREADS, ROOMS, REQUESTS);
+        System.out.printf("  throughput %,.1f req/s, success %d, conflict %d, error %d%n",
+                REQUESTS / (elapsed / 1e9), success.get(), conflict.get(), errors.get());
+        System.out.printf("  latency p50 %.2f ms, p99 %.2f ms%n", ms(percentile(latencies, 50)), ms(percentile(latencies, 99)));
+        System.out.printf("  slot claim wait total %.2f ms, p50 %.2f ms, p99 %.2f ms%n",
+                ms(Arrays.stream(claims).sum()), ms(percentile(claims, 50)), ms(percentile(claims, 99)));
+        System.out.printf("  double bookings %d%n", 중복_예약_수(fixture.rooms));
+
+        return new Result(success.get(), errors.get());
+    }
+
+    // 회의실마다 시작 시각 순으로 정렬해 앞 예약의 종료 시각이 다음 예약의 시작 시각 이후인 쌍을 센다
+    private long 중복_예약_수(List<Mr> rooms) {
+        long count = 0;
+        for (Mr mr : rooms) {
+            List<Reservation> reservations = new ArrayList<>(reservationRepository.findAllByMeetingRoomId(mr.getId()));
+            reservations.sort(Comparator.comparing(Reservation::getStartTime));
+            for (int i = 1; i < reservations.size(); i++) {
+                if (!reservations.get(i - 1).getEndTime().isBefore(reservations.get(i).getStartTime())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private Fixture 준비(String companyName) {
+        Companies company = companyRepository.save(Companies.builder()
+                .companyName(companyName)
+                .certification(companyName + "Cert")
+                .build());
+        User user = userRepository.save(User.builder()
+                .companies(company)
+                .email(companyName + "@test.com")
+                .username("tester")
+                .password("12345678")
+                .role(UserRoleEnum.USER)
+                .build());
+        Space space = spaceRepository.save(Space.builder()
+                .spaceName(companyName + "Space")
+                .companies(company)
+                .build());
+        List<Mr> rooms = IntStream.range(0, ROOMS)
+                .mapToObj(i -> meetingRoomRepository.save(new Mr(companyName + "Mr" + i, 100.0, 150.0, space)))
+                .toList();
+        return new Fixture(new UserDetailsImpl(user, user.getEmail()), rooms);
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p / 100.0) - 1)];
+    }
+
+    private static double ms(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private record Fixture(UserDetailsImpl userDetails, List<Mr> rooms) {
+    }
+
+    private record Result(int success, int errors) {
+    }
+
+    /**
+     * 슬롯 장부 repository 를 감싸 saveAllAndFlush 시간을 기록
+     */
+    @TestConfiguration
+    static class SlotClaimTimerConfig {
+        @Bean
+        static BeanPostProcessor slotClaimTimer() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof ReservationSlotRepository)) {
+                        return bean;
+                    }
+                    ProxyFactory proxyFactory = new ProxyFactory();
+                    proxyFactory.setTarget(bean);
+                    proxyFactory.addInterface(ReservationSlotRepository.class);
+                    proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                        if (!invocation.getMethod().getName().equals("saveAllAndFlush")) {
+                            return invocation.proceed();
+                        }
+                        long begin = System.nanoTime();
+                        try {
+                            return invocation.proceed();
+                        } finally {
+                            slotClaimNanos.add(System.nanoTime() - begin);
+                        }
+                    });
+                    return proxyFactory.getProxy();
+                }
+            };
+        }
+    }
+}
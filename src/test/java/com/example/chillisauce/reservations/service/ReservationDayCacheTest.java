@@ -0,0 +1,179 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.vo.ReservationDayIntervals;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationDayCache 클래스")
+class ReservationDayCacheTest {
+    @Mock
+    ReservationRepository reservationRepository;
+
+    CacheManager cacheManager;
+    ReservationDayCache reservationDayCache;
+
+    Companies company = Company_생성();
+    User user = User_USER권한_생성_아이디지정(1L, company);
+    Mr meetingRoom = MeetingRoom_생성_아이디_지정(1L);
+    LocalDate selDate = LocalDate.of(2023, 5, 3);
+    Reservation reservation = Reservation_생성_아이디_지정(1L, user, meetingRoom,
+            LocalDateTime.of(selDate, LocalTime.of(10, 0)),
+            LocalDateTime.of(selDate, LocalTime.of(11, 59)));
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(ReservationDayCache.CACHE_NAME);
+        reservationDayCache = new ReservationDayCache(cacheManager, reservationRepository);
+    }
+
+    private void DB_예약_조회_설정(List<Reservation> reservations) {
+        when(reservationRepository.findAllByMeetingRoomIdAndStartTimeBetween(meetingRoom.getId(),
+                selDate.atStartOfDay(), selDate.atTime(LocalTime.MAX)))
+                .thenReturn(reservations);
+    }
+
+    @Nested
+    @DisplayName("get 메서드는")
+    class GetTestCase {
+        @Test
+        void 캐시에_없으면_DB에서_읽어_캐시에_기록한다() {
+            // given
+            DB_예약_조회_설정(List.of(reservation));
+
+            // when
+            ReservationDayIntervals result = reservationDayCache.get(meetingRoom.getId(), selDate);
+
+            // then
+            assertThat(result.getStarts()).containsExactly(10 * 60);
+            assertThat(cacheManager.getCache(ReservationDayCache.CACHE_NAME)
+                    .get(ReservationDayCache.key(meetingRoom.getId(), selDate))).isNotNull();
+        }
+
+        @Test
+        void 캐시에_있으면_DB를_조회하지_않는다() {
+            // given
+            DB_예약_조회_설정(List.of(reservation));
+            reservationDayCache.get(meetingRoom.getId(), selDate);
+
+            // when
+            reservationDayCache.get(meetingRoom.getId(), selDate);
+
+            // then
+            verify(reservationRepository, times(1))
+                    .findAllByMeetingRoomIdAndStartTimeBetween(any(), any(), any());
+        }
+
+        @Test
+        void 캐시_조회에_실패하면_DB에서_읽는다() {
+            // given
+            Cache brokenCache = mock(Cache.class);
+            CacheManager brokenCacheManager = mock(CacheManager.class);
+            when(brokenCacheManager.getCache(ReservationDayCache.CACHE_NAME)).thenReturn(brokenCache);
+            when(brokenCache.get(anyString(), eq(ReservationDayIntervals.class)))
+                    .thenThrow(new RedisConnectionFailureException("connection refused"));
+            DB_예약_조회_설정(List.of(reservation));
+            ReservationDayCache cache = new ReservationDayCache(brokenCacheManager, reservationRepository);
+
+            // when
+            ReservationDayIntervals result = cache.get(meetingRoom.getId(), selDate);
+
+            // then
+            assertThat(result.toBitmap(SlotPolicy.DEFAULT, selDate).isOccupied(10 - 7)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("overlaps 메서드는")
+    class OverlapsTestCase {
+        @Test
+        void 겹치는_예약이_있으면_true를_반환한다() {
+            // given
+            DB_예약_조회_설정(List.of(reservation));
+
+            // when
+            boolean result = reservationDayCache.overlaps(meetingRoom.getId(),
+                    LocalDateTime.of(selDate, LocalTime.of(11, 0)),
+                    LocalDateTime.of(selDate, LocalTime.of(11, 59)), null);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        void 이어지는_시간의_예약은_겹치지_않는다() {
+            // given
+            DB_예약_조회_설정(List.of(reservation));
+
+            // when
+            boolean result = reservationDayCache.overlaps(meetingRoom.getId(),
+                    LocalDateTime.of(selDate, LocalTime.of(12, 0)),
+                    LocalDateTime.of(selDate, LocalTime.of(12, 59)), null);
+
+            // then
+            assertThat(result).isFalse();
+        }
+
+        @Test
+        void 제외할_예약은_검사하지_않는다() {
+            // given
+            DB_예약_조회_설정(List.of(reservation));
+
+            // when
+            boolean result = reservationDayCache.overlaps(meetingRoom.getId(),
+                    LocalDateTime.of(selDate, LocalTime.of(11, 0)),
+                    LocalDateTime.of(selDate, LocalTime.of(11, 59)), reservation.getId());
+
+            // then
+            assertThat(result).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshAfterCommit 메서드는")
+    class RefreshAfterCommitTestCase {
+        @Test
+        void 트랜잭션이_없으면_즉시_DB_기준으로_다시_기록한다() {
+            // given
+            DB_예약_조회_설정(List.of());
+            reservationDayCache.get(meetingRoom.getId(), selDate);
+            DB_예약_조회_설정(List.of(reservation));
+
+            // when
+            reservationDayCache.refreshAfterCommit(meetingRoom.getId(), List.of(selDate));
+
+            // then
+            assertThat(reservationDayCache.get(meetingRoom.getId(), selDate).getIds()).containsExactly(1L);
+        }
+    }
+}
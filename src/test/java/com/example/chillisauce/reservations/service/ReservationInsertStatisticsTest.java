@@ -0,0 +1,141 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.dto.request.ReservationAttendee;
+import com.example.chillisauce.reservations.dto.request.ReservationRequest;
+import com.example.chillisauce.reservations.dto.request.ReservationTime;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationOutbox;
+import com.example.chillisauce.reservations.repository.ReservationOutboxRepository;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.spaces.repository.SpaceRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참석자가 많은 예약도 INSERT 가 JDBC 배치로 묶여 몇 번의 왕복으로 끝나는지 Hibernate 통계로 확인
+ * 배치로 묶이면 같은 INSERT 는 PreparedStatement 하나로 보내므로, 시퀀스 대신 IDENTITY 로 돌아가거나
+ * 배치 설정이 빠지면 PreparedStatement 수가 참석자 수만큼 늘어 실패한다
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+        "reservation.outbox.poll-delay=600000",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(TestConfig.class)
+@DisplayName("예약 등록 INSERT 배치")
+class ReservationInsertStatisticsTest {
+    private static final int ATTENDEES = 30;
+    // 조회, 시퀀스 호출, 테이블별 INSERT 배치를 합친 상한, 참석자 수와 관계없어야 한다
+    private static final int MAX_STATEMENTS = 20;
+
+    // 커밋 이후 다른 스레드에서 도는 작업이 통계에 섞이지 않도록 막는다
+    @MockBean
+    private ReservationOutboxDispatcher reservationOutboxDispatcher;
+    @MockBean
+    private RoomUtilizationAggregator roomUtilizationAggregator;
+    @MockBean
+    private TimetableSubscriptionService timetableSubscriptionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationOutboxProcessor reservationOutboxProcessor;
+
+    @Autowired
+    private ReservationOutboxRepository reservationOutboxRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Test
+    void 참석자_30명_예약도_몇_번의_왕복으로_저장한다() {
+        // given
+        Companies company = companyRepository.save(Companies.builder()
+                .companyName("insertStatistics")
+                .certification("insertStatisticsCert")
+                .build());
+        User organizer = 유저_저장(company, "insertStatistics@test.com");
+        List<ReservationAttendee> attendees = IntStream.range(0, ATTENDEES)
+                .mapToObj(i -> new ReservationAttendee(유저_저장(company, "insertStatistics" + i + "@test.com").getId()))
+                .toList();
+        Space space = spaceRepository.save(Space.builder()
+                .spaceName("insertStatisticsSpace")
+                .companies(company)
+                .build());
+        Mr mr = meetingRoomRepository.save(new Mr("insertStatisticsMr", 100.0, 150.0, space));
+        ReservationRequest request = new ReservationRequest(
+                List.of(new ReservationTime(LocalDateTime.of(2030, 2, 1, 10, 0))), attendees);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        statistics.clear();
+        reservationService.addReservation(mr.getId(), request, new UserDetailsImpl(organizer, organizer.getEmail()));
+        long reservationStatements = statistics.getPrepareStatementCount();
+
+        Reservation reservation = reservationRepository.findAllByMeetingRoomId(mr.getId()).get(0);
+        ReservationOutbox outbox = reservationOutboxRepository.findAll().stream()
+                .filter(x -> x.getReservationId().equals(reservation.getId()))
+                .findFirst().orElseThrow();
+        statistics.clear();
+        reservationOutboxProcessor.process(outbox.getId());
+        long attendeeStatements = statistics.getPrepareStatementCount();
+        long attendeeInserts = statistics.getEntityInsertCount();
+
+        // then
+        assertThat(reservationStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+        // 참석자 연결 정보와 스케줄 각 30건
+        assertThat(attendeeInserts).isEqualTo(ATTENDEES * 2L);
+        assertThat(attendeeStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private User 유저_저장(Companies company, String email) {
+        return userRepository.save(User.builder()
+                .companies(company)
+                .email(email)
+                .username("tester")
+                .password("12345678")
+                .role(UserRoleEnum.USER)
+                .build());
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.OutboxStatus;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationOutbox;
+import com.example.chillisauce.reservations.repository.ReservationOutboxRepository;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import(TestConfig.class)
+@DisplayName("ReservationOutboxDispatcher 클래스")
+class ReservationOutboxDispatcherTest {
+    @Autowired
+    private ReservationOutboxDispatcher reservationOutboxDispatcher;
+
+    @Autowired
+    private ReservationOutboxProcessor reservationOutboxProcessor;
+
+    @Autowired
+    private ReservationOutboxRepository reservationOutboxRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationUserRepository reservationUserRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Nested
+    @DisplayName("dispatch 메서드는")
+    class DispatchTestCase {
+        @Test
+        void 참석자_연결정보와_스케줄을_생성하고_완료_처리한다() {
+            // given
+            Companies company = 회사_저장("outboxTestCompany1");
+            User organizer = 유저_저장(company, "outbox1-0@test.com");
+            User attendee = 유저_저장(company, "outbox1-1@test.com");
+            Reservation reservation = 예약_저장(organizer, "outboxTestMeetingRoom1");
+            ReservationOutbox outbox = 이벤트_저장(reservation.getId(), List.of(organizer.getId(), attendee.getId()));
+
+            // when
+            reservationOutboxDispatcher.dispatch(outbox.getId());
+
+            // then
+            assertThat(reservationUserRepository.findAttendeeIdsByReservationId(reservation.getId()))
+                    .containsExactlyInAnyOrder(organizer.getId(), attendee.getId());
+            assertThat(scheduleRepository.findAllByUserId(attendee.getId())).hasSize(1);
+            assertThat(reservationOutboxRepository.findById(outbox.getId()).get())
+                    .satisfies(x -> assertThat(x.getStatus()).isEqualTo(OutboxStatus.DONE))
+                    .satisfies(x -> assertThat(x.getCompletedAt()).isNotNull());
+        }
+
+        @Test
+        void 같은_이벤트를_여러_스레드가_동시에_처리해도_한_번만_생성한다() throws InterruptedException {
+            // given
+            Companies company = 회사_저장("outboxTestCompany2");
+            User organizer = 유저_저장(company, "outbox2-0@test.com");
+            User attendee = 유저_저장(company, "outbox2-1@test.com");
+            Reservation reservation = 예약_저장(organizer, "outboxTestMeetingRoom2");
+            ReservationOutbox outbox = 이벤트_저장(reservation.getId(), List.of(organizer.getId(), attendee.getId()));
+
+            int threadCount = 8;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threadCount);
+
+            // when
+            IntStream.range(0, threadCount).forEach(i -> executorService.submit(() -> {
+                try {
+                    start.await();
+                    reservationOutboxDispatcher.dispatch(outbox.getId());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }));
+            start.countDown();
+            done.await();
+            executorService.shutdown();
+
+            // then
+            assertThat(reservationUserRepository.findAttendeeIdsByReservationId(reservation.getId())).hasSize(2);
+            assertThat(scheduleRepository.findAllByUserId(attendee.getId())).hasSize(1);
+            assertThat(reservationOutboxRepository.findById(outbox.getId()).get().getAttempts()).isEqualTo(1);
+        }
+
+        @Test
+        void 예약이_삭제되었으면_생성_없이_완료_처리한다() {
+            // given
+            Companies company = 회사_저장("outboxTestCompany3");
+            User organizer = 유저_저장(company, "outbox3-0@test.com");
+            Reservation reservation = 예약_저장(organizer, "outboxTestMeetingRoom3");
+            ReservationOutbox outbox = 이벤트_저장(reservation.getId(), List.of(organizer.getId()));
+            reservationRepository.deleteById(reservation.getId());
+
+            // when
+            reservationOutboxDispatcher.dispatch(outbox.getId());
+
+            // then
+            assertThat(scheduleRepository.findAllByUserId(organizer.getId())).isEmpty();
+            assertThat(상태(outbox)).isEqualTo(OutboxStatus.DONE);
+        }
+    }
+
+    @Nested
+    @DisplayName("dispatchPending 메서드는")
+    class DispatchPendingTestCase {
+        @Test
+        void 점유_기한이_지났고_시도_횟수를_다_쓴_이벤트는_실패_처리한다() {
+            // given
+            Companies company = 회사_저장("outboxTestCompany5");
+            User organizer = 유저_저장(company, "outbox5-0@test.com");
+            Reservation reservation = 예약_저장(organizer, "outboxTestMeetingRoom5");
+            LocalDateTime base = LocalDateTime.now().minusHours(2);
+            ReservationOutbox outbox = reservationOutboxRepository.save(
+                    new ReservationOutbox(reservation.getId(), List.of(organizer.getId()), base));
+            // 점유 후 디스패처가 죽어 fail 이 기록되지 않은 상황을 점유 기한마다 반복
+            for (int i = 0; i < ReservationOutbox.MAX_ATTEMPTS; i++) {
+                assertThat(reservationOutboxProcessor.claim(outbox.getId(),
+                        base.plus(ReservationOutboxProcessor.LEASE.multipliedBy(i)))).isTrue();
+            }
+
+            // when
+            boolean claimed = reservationOutboxProcessor.claim(outbox.getId(),
+                    base.plus(ReservationOutboxProcessor.LEASE.multipliedBy(ReservationOutbox.MAX_ATTEMPTS)));
+            reservationOutboxDispatcher.dispatchPending();
+
+            // then
+            assertThat(claimed).isFalse();
+            ReservationOutbox result = reservationOutboxRepository.findById(outbox.getId()).get();
+            assertThat(result.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            assertThat(result.getAttempts()).isEqualTo(ReservationOutbox.MAX_ATTEMPTS);
+            assertThat(scheduleRepository.findAllByUserId(organizer.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("process 메서드는")
+    class ProcessTestCase {
+        @Test
+        void 이미_연결된_참석자는_다시_생성하지_않는다() {
+            // given
+            Companies company = 회사_저장("outboxTestCompany4");
+            User organizer = 유저_저장(company, "outbox4-0@test.com");
+            User attendee = 유저_저장(company, "outbox4-1@test.com");
+            Reservation reservation = 예약_저장(organizer, "outboxTestMeetingRoom4");
+            ReservationOutbox outbox = 이벤트_저장(reservation.getId(), List.of(organizer.getId(), attendee.getId()));
+
+            // when
+            reservationOutboxProcessor.process(outbox.getId());
+            reservationOutboxProcessor.process(outbox.getId());
+
+            // then
+            assertThat(reservationUserRepository.findAttendeeIdsByReservationId(reservation.getId())).hasSize(2);
+            assertThat(scheduleRepository.findAllByUserId(organizer.getId())).hasSize(1);
+        }
+    }
+
+    private OutboxStatus 상태(ReservationOutbox outbox) {
+        return reservationOutboxRepository.findById(outbox.getId()).get().getStatus();
+    }
+
+    private ReservationOutbox 이벤트_저장(Long reservationId, List<Long> attendeeIds) {
+        return reservationOutboxRepository.save(new ReservationOutbox(reservationId, attendeeIds, LocalDateTime.now()));
+    }
+
+    private Reservation 예약_저장(User organizer, String meetingRoomName) {
+        Mr mr = meetingRoomRepository.save(Mr.builder()
+                .x(100.0).y(150.0).locationName(meetingRoomName)
+                .build());
+        LocalDateTime start = LocalDateTime.of(2023, 4, 5, 10, 0);
+        return reservationRepository.save(Reservation.builder()
+                .user(organizer)
+                .meetingRoom(mr)
+                .startTime(start)
+                .endTime(start.plusMinutes(59))
+                .build());
+    }
+
+    private Companies 회사_저장(String companyName) {
+        return companyRepository.save(Companies.builder()
+                .companyName(companyName)
+                .certification(companyName + "Cert")
+                .build());
+    }
+
+    private User 유저_저장(Companies company, String email) {
+        return userRepository.save(User.builder()
+                .companies(company)
+                .email(email)
+                .username("tester")
+                .password("12345678")
+                .role(UserRoleEnum.USER)
+                .build());
+    }
+}
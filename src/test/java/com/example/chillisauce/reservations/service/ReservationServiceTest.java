@@ -4,31 +4,45 @@ import com.example.chillisauce.fixture.FixtureFactory;
 import com.example.chillisauce.reservations.dto.request.ReservationAttendee;
 import com.example.chillisauce.reservations.dto.request.ReservationRequest;
 import com.example.chillisauce.reservations.dto.request.ReservationTime;
+import com.example.chillisauce.reservations.dto.response.AvailableMeetingRoomListResponse;
+import com.example.chillisauce.reservations.dto.response.AvailableMeetingRoomResponse;
+import com.example.chillisauce.reservations.dto.response.ReservationCursorListResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationListResponse;
+import com.example.chillisauce.reservations.dto.response.ReservationRangeTimetableResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationResponse;
 import com.example.chillisauce.reservations.dto.response.ReservationTimetableResponse;
 import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationOutbox;
 import com.example.chillisauce.reservations.exception.ReservationException;
 import com.example.chillisauce.reservations.repository.ReservationRepository;
-import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import com.example.chillisauce.reservations.repository.ReservationOutboxRepository;
+import com.example.chillisauce.reservations.vo.ReservationChangedEvent;
+import com.example.chillisauce.reservations.vo.ReservationCursor;
+import com.example.chillisauce.reservations.vo.ReservationDayIntervals;
+import com.example.chillisauce.reservations.vo.ReservationOutboxCreatedEvent;
 import com.example.chillisauce.reservations.vo.ReservationTimetable;
-import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.entity.Box;
 import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.spaces.repository.LocationRepository;
 import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.spaces.service.FloorMapVersion;
 import com.example.chillisauce.users.entity.Companies;
 import com.example.chillisauce.users.entity.User;
-import com.example.chillisauce.users.repository.CompanyRepository;
 import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -40,13 +54,17 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static com.example.chillisauce.fixture.FixtureFactory.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,14 +78,29 @@ class ReservationServiceTest {
     UserRepository userRepository;
     @Mock
     LocationRepository locationRepository;
+    @Mock
+    private FloorMapVersion floorMapVersion;
+
     @InjectMocks
     ReservationService reservationService;
     @Mock
-    ScheduleRepository scheduleRepository;
+    private SlotPolicyService slotPolicyService;
+    @Mock
+    private ReservationCascadeService reservationCascadeService;
     @Mock
-    ReservationUserRepository reservationUserRepository;
+    ReservationSlotRepository reservationSlotRepository;
     @Mock
-    private CompanyRepository companyRepository;
+    ReservationOutboxRepository reservationOutboxRepository;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    ReservationDayCache reservationDayCache;
+
+    @BeforeEach
+    void init() {
+        // 회사 슬롯 정책을 따로 설정하지 않은 테스트는 기본 정책
+        lenient().when(slotPolicyService.findSlotPolicy(any())).thenReturn(SlotPolicy.DEFAULT);
+    }
 
     @Nested
     @DisplayName("getAllReservations 메서드는")
@@ -123,6 +156,63 @@ class ReservationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getAllReservationsByCursor 메서드는")
+    class GetAllReservationsByCursorTestCase {
+        // given
+        Companies company = Company_생성();
+        Mr meetingRoom = MeetingRoom_생성_아이디_지정(1L);
+        User user = User_USER권한_생성(company);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getEmail());
+
+        List<Reservation> reservations(long fromId, int count) {
+            return LongStream.range(fromId, fromId + count)
+                    .mapToObj(id -> Reservation_생성_아이디_지정(id, user, meetingRoom,
+                            LocalDateTime.of(2023, 4, 11, 15, 0),
+                            LocalDateTime.of(2023, 4, 11, 15, 59)))
+                    .toList();
+        }
+
+        @Test
+        void 다음_페이지가_있으면_마지막_예약의_커서를_반환한다() {
+            // given
+            when(reservationRepository.findAllByCompanyNameAndIdGreaterThan(eq(company.getCompanyName()), eq(0L), any()))
+                    .thenReturn(reservations(1L, 21));
+
+            // when
+            ReservationCursorListResponse result = reservationService
+                    .getAllReservationsByCursor(company.getCompanyName(), "", userDetails);
+
+            // then
+            assertThat(result.getReservationList()).hasSize(20);
+            assertThat(result.getNextCursor()).isEqualTo(ReservationCursor.encode(20L));
+        }
+
+        @Test
+        void 커서_이후부터_조회하고_마지막_페이지면_커서가_없다() {
+            // given
+            when(reservationRepository.findAllByCompanyNameAndIdGreaterThan(eq(company.getCompanyName()), eq(20L), any()))
+                    .thenReturn(reservations(21L, 5));
+
+            // when
+            ReservationCursorListResponse result = reservationService
+                    .getAllReservationsByCursor(company.getCompanyName(), ReservationCursor.encode(20L), userDetails);
+
+            // then
+            assertThat(result.getReservationList()).hasSize(5)
+                    .extracting("reservationId", Long.class).startsWith(21L);
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        void 유효하지_않은_커서면_예외를_반환한다() {
+            // when, then
+            assertThatThrownBy(() -> reservationService
+                    .getAllReservationsByCursor(company.getCompanyName(), "not-a-cursor", userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("유효하지 않은 커서입니다.");
+        }
+    }
+
     @Nested
     @DisplayName("getReservationTimetable 메서드는")
     class GetReservationTimetableTestCase {
@@ -146,10 +236,8 @@ class ReservationServiceTest {
 
             when(locationRepository.findByIdAndCompanyName(meetingRoom.getId(), company.getCompanyName()))
                     .thenReturn(Optional.of(meetingRoom));
-            when(reservationRepository
-                    .findAllByMeetingRoomIdAndStartTimeBetween(meetingRoom.getId(),
-                            selDate.atStartOfDay(), selDate.atTime(LocalTime.MAX)))
-                    .thenReturn(List.of(reservationOne, reservationTwo));
+            when(reservationDayCache.get(meetingRoom.getId(), selDate))
+                    .thenReturn(ReservationDayIntervals.of(selDate, List.of(reservationOne, reservationTwo)));
 
             // when
             ReservationTimetableResponse result =
@@ -162,6 +250,31 @@ class ReservationServiceTest {
                     .hasSize(2);
         }
 
+        @Test
+        void 여러_시간에_걸친_예약은_해당하는_모든_시간을_예약_불가로_반환한다() {
+            // given
+            LocalDate selDate = LocalDateTime.now().toLocalDate().plusDays(1L);
+            Reservation reservation = Reservation_생성_아이디_지정(1L, user, meetingRoom,
+                    LocalDateTime.of(selDate, LocalTime.of(9, 0, 0)),
+                    LocalDateTime.of(selDate, LocalTime.of(11, 59, 0)));
+
+            when(locationRepository.findByIdAndCompanyName(meetingRoom.getId(), company.getCompanyName()))
+                    .thenReturn(Optional.of(meetingRoom));
+            when(reservationDayCache.get(meetingRoom.getId(), selDate))
+                    .thenReturn(ReservationDayIntervals.of(selDate, List.of(reservation)));
+
+            // when
+            ReservationTimetableResponse result =
+                    reservationService.getReservationTimetable(selDate, meetingRoom.getId(), userDetails);
+
+            // then
+            assertThat(result.getTimeList())
+                    .filteredOn(x -> x.getIsCheckOut().equals(true))
+                    .extracting("start", LocalTime.class)
+                    .containsExactly(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+            assertThat(result.getTimeList().get(0).getStart()).isEqualTo(LocalTime.of(ReservationTimetable.OPEN_HOUR, 0));
+        }
+
         @Test
         void 오늘_이전의_날짜를_고르면_예약_불가를_반환한다() {
             // given
@@ -180,6 +293,33 @@ class ReservationServiceTest {
                     .hasSize(ReservationTimetable.CLOSE_HOUR - ReservationTimetable.OPEN_HOUR + 1);
         }
 
+        @Test
+        void 압축_조회시_회사_슬롯_정책의_점유_비트맵만_반환한다() {
+            // given
+            company.updateSlotPolicy(SlotPolicy.of(30, null, null));
+            LocalDate selDate = LocalDateTime.now().toLocalDate().plusDays(1L);
+            Reservation reservation = Reservation_생성_아이디_지정(1L, user, meetingRoom,
+                    LocalDateTime.of(selDate, LocalTime.of(8, 0, 0)),
+                    LocalDateTime.of(selDate, LocalTime.of(8, 59, 0)));
+
+            when(locationRepository.findByIdAndCompanyName(meetingRoom.getId(), company.getCompanyName()))
+                    .thenReturn(Optional.of(meetingRoom));
+            when(slotPolicyService.findSlotPolicy(company.getCompanyName())).thenReturn(company.getSlotPolicy());
+            when(reservationDayCache.get(meetingRoom.getId(), selDate))
+                    .thenReturn(ReservationDayIntervals.of(selDate, List.of(reservation)));
+
+            // when
+            ReservationTimetableResponse result =
+                    reservationService.getReservationTimetable(selDate, meetingRoom.getId(), true, userDetails);
+
+            // then
+            assertThat(result.getTimeList()).isNull();
+            assertThat(result.getSlotMinutes()).isEqualTo(30);
+            assertThat(result.getOpen()).isEqualTo(LocalTime.of(ReservationTimetable.OPEN_HOUR, 0));
+            // 07:00 부터 30분 슬롯이므로 08:00, 08:30 슬롯은 2, 3번 비트
+            assertThat(result.getOccupied()).isEqualTo(Long.toHexString(0b1100L));
+        }
+
         @Nested
         @DisplayName("해당하는 회의실이 없으면")
         class NotFoundCase{
@@ -218,6 +358,106 @@ class ReservationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getReservationTimetables 메서드는")
+    class GetReservationTimetablesTestCase {
+        // given
+        Companies company = Company_생성();
+        Mr meetingRoom = MeetingRoom_생성_아이디_지정(1L);
+        User user = User_USER권한_생성(company);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getEmail());
+        LocalDate from = LocalDate.now().plusDays(1L);
+        LocalDate to = from.plusDays(6L);
+
+        @Test
+        void 기간의_일자별_예약타임테이블을_한번에_조회한다() {
+            // given
+            Reservation first = Reservation_생성_아이디_지정(1L, user, meetingRoom,
+                    LocalDateTime.of(from, LocalTime.of(9, 0)),
+                    LocalDateTime.of(from, LocalTime.of(10, 59)));
+            Reservation last = Reservation_생성_아이디_지정(2L, user, meetingRoom,
+                    LocalDateTime.of(to, LocalTime.of(15, 0)),
+                    LocalDateTime.of(to, LocalTime.of(15, 59)));
+
+            when(locationRepository.findByIdAndCompanyName(meetingRoom.getId(), company.getCompanyName()))
+                    .thenReturn(Optional.of(meetingRoom));
+            when(reservationRepository.findAllByMeetingRoomIdAndStartTimeBetween(meetingRoom.getId(),
+                    from.atStartOfDay(), to.atTime(LocalTime.MAX)))
+                    .thenReturn(List.of(first, last));
+
+            // when
+            ReservationRangeTimetableResponse result =
+                    reservationService.getReservationTimetables(from, to, meetingRoom.getId(), userDetails);
+
+            // then
+            assertThat(result.getDayList()).hasSize(7)
+                    .extracting("date", LocalDate.class).startsWith(from).endsWith(to);
+            assertThat(result.getDayList().get(0).getTimeList())
+                    .hasSize(ReservationTimetable.CLOSE_HOUR - ReservationTimetable.OPEN_HOUR + 1)
+                    .filteredOn(x -> x.getIsCheckOut().equals(true))
+                    .hasSize(2);
+            assertThat(result.getDayList().get(3).getTimeList())
+                    .noneMatch(x -> x.getIsCheckOut().equals(true));
+            assertThat(result.getDayList().get(6).getTimeList())
+                    .filteredOn(x -> x.getIsCheckOut().equals(true))
+                    .hasSize(1);
+        }
+
+        @Test
+        void 최대_조회_기간을_넘으면_예외를_반환한다() {
+            // when, then
+            assertThatThrownBy(() -> reservationService.getReservationTimetables(from,
+                    from.plusDays(ReservationTimetable.MAX_RANGE_DAYS), meetingRoom.getId(), userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("조회 기간이 올바르지 않습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("getAvailableMeetingRooms 메서드는")
+    class GetAvailableMeetingRoomsTestCase {
+        // given
+        Companies company = Company_생성();
+        User user = User_USER권한_생성(company);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getEmail());
+        LocalDate selDate = LocalDate.of(2023, 4, 13);
+        LocalTime start = LocalTime.of(14, 0);
+        LocalTime end = LocalTime.of(16, 0);
+
+        @Test
+        void 선택_시간대에_예약이_없는_회의실을_조회한다() {
+            // given
+            AvailableMeetingRoomResponse available = new AvailableMeetingRoomResponse(1L, "testMeetingRoom",
+                    1L, "testSpace", null, null);
+            when(reservationRepository.findAvailableMeetingRooms(company.getCompanyName(), null,
+                    selDate.atTime(start), selDate.atTime(end)))
+                    .thenReturn(List.of(available));
+
+            // when
+            AvailableMeetingRoomListResponse result = reservationService
+                    .getAvailableMeetingRooms(company.getCompanyName(), selDate, start, end, null, userDetails);
+
+            // then
+            assertThat(result.getMrList()).hasSize(1)
+                    .extracting("mrId", Long.class).containsExactly(1L);
+        }
+
+        @Test
+        void 종료_시각이_시작_시각보다_빠르면_예외를_반환한다() {
+            // when, then
+            assertThatThrownBy(() -> reservationService
+                    .getAvailableMeetingRooms(company.getCompanyName(), selDate, end, start, null, userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("유효한 시간 범위가 아닙니다.");
+        }
+
+        @Test
+        void 다른_회사_유저가_접근하면_예외를_반환한다() {
+            // when, then
+            assertThatThrownBy(() -> reservationService
+                    .getAvailableMeetingRooms("anotherCompany", selDate, start, end, null, userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("예약에 접근할 수 없는 유저입니다.");
+        }
+    }
+
     @Nested
     @DisplayName("addReservation 메서드는")
     class AddReservationTestCase {
@@ -247,23 +487,56 @@ class ReservationServiceTest {
             assertThat(result.getEnd()).isEqualTo(selectTime.getStart().plusMinutes(59));
         }
 
+        @Test
+        void 참석자가_있으면_일정_생성_이벤트만_저장한다() {
+            // given
+            when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
+                    .thenReturn(Optional.of(meetingRoom));
+            when(userRepository.findAllByIdInAndCompanies_CompanyName(anyList(), eq(company.getCompanyName())))
+                    .thenReturn(List.of(organizer, attendee));
+            when(reservationOutboxRepository.save(any(ReservationOutbox.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            ReservationResponse result = reservationService.addReservation(meetingRoom.getId(), requestDto, userDetails);
+
+            // then
+            assertThat(result.getUserList()).hasSize(2);
+            ArgumentCaptor<ReservationOutbox> captor = ArgumentCaptor.forClass(ReservationOutbox.class);
+            verify(reservationOutboxRepository).save(captor.capture());
+            assertThat(captor.getValue().getAttendeeIdList()).containsExactly(organizer.getId(), attendee.getId());
+            verify(eventPublisher).publishEvent(any(ReservationOutboxCreatedEvent.class));
+        }
+
+        @Test
+        void 참석자가_없으면_일정_생성_이벤트를_저장하지_않는다() {
+            // given
+            when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
+                    .thenReturn(Optional.of(meetingRoom));
+
+            // when
+            reservationService.addReservation(meetingRoom.getId(), requestDto, userDetails);
+
+            // then
+            verify(reservationOutboxRepository, never()).save(any());
+            verify(eventPublisher, never()).publishEvent(any(ReservationOutboxCreatedEvent.class));
+        }
+
 
         @Test
         void 중복되는_시간이_있으면_예외가_발생한다() {
             // given
             ReservationTime secondSelectTime = new ReservationTime(LocalDateTime.of(2023, 4, 8, 12, 0));
             List<ReservationTime> list = List.of(secondSelectTime);
-            Reservation firstReservation = Reservation_생성(organizer, meetingRoom,
-                    secondSelectTime.getStart(), secondSelectTime.getStart().plusMinutes(59));
 
             ReservationRequest secondReservationDto = new ReservationRequest(list, userList);
 
             when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
                     .thenReturn(Optional.of(meetingRoom));
 
-            doReturn(Optional.of(firstReservation)).when(reservationRepository)
-                    .findFirstByMeetingRoomIdAndStartTimeLessThanAndEndTimeGreaterThan(meetingRoom.getId(),
-                            selectTime.getStart(), selectTime.getStart().plusMinutes(59));
+            when(reservationDayCache.overlaps(meetingRoom.getId(),
+                    selectTime.getStart(), selectTime.getStart().plusMinutes(59), null))
+                    .thenReturn(true);
 
             // when
             final ReservationException exception = assertThrows(ReservationException.class,
@@ -274,6 +547,52 @@ class ReservationServiceTest {
             assertThat(exception.getMessage()).isEqualTo("해당 시간대에 이미 등록된 예약이 있습니다.");
         }
 
+        @Test
+        void 회사_슬롯_정책의_슬롯_번호로_예약을_등록한다() {
+            // given
+            company.updateSlotPolicy(SlotPolicy.of(15, null, null));
+            LocalDate date = LocalDate.of(2023, 4, 8);
+            ReservationRequest slotRequest = new ReservationRequest(null, userList, date, List.of(5, 4, 6));
+
+            when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
+                    .thenReturn(Optional.of(meetingRoom));
+            when(slotPolicyService.findSlotPolicy(company.getCompanyName())).thenReturn(company.getSlotPolicy());
+
+            // when
+            ReservationResponse result = reservationService.addReservation(meetingRoom.getId(), slotRequest, userDetails);
+
+            // then
+            assertThat(result.getStart()).isEqualTo(date.atTime(8, 0));
+            assertThat(result.getEnd()).isEqualTo(date.atTime(8, 44));
+        }
+
+        @Test
+        void 슬롯_번호가_정책_범위를_벗어나면_예외가_발생한다() {
+            // given
+            ReservationRequest slotRequest = new ReservationRequest(null, userList,
+                    LocalDate.of(2023, 4, 8), List.of(SlotPolicy.DEFAULT.getSlotCount()));
+
+            when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
+                    .thenReturn(Optional.of(meetingRoom));
+
+            // when, then
+            assertThatThrownBy(() -> reservationService.addReservation(meetingRoom.getId(), slotRequest, userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("유효한 시간 범위가 아닙니다.");
+        }
+
+        @Test
+        void 다른_요청이_슬롯을_먼저_점유하면_예외가_발생한다() {
+            // given
+            when(locationRepository.findByIdAndCompanyName(eq(meetingRoom.getId()), eq(company.getCompanyName())))
+                    .thenReturn(Optional.of(meetingRoom));
+            when(reservationSlotRepository.saveAllAndFlush(anyList()))
+                    .thenThrow(new DataIntegrityViolationException("uk_reservation_slot_mr_start"));
+
+            // when, then
+            assertThatThrownBy(() -> reservationService.addReservation(meetingRoom.getId(), requestDto, userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("해당 시간대에 이미 등록된 예약이 있습니다.");
+        }
+
         @Nested
         @DisplayName("해당하는 회의실이 없으면")
         class NotFoundCase{
@@ -341,6 +660,24 @@ class ReservationServiceTest {
             assertThat(result.getEnd()).isEqualTo(selectTime.getStart().plusMinutes(59));
         }
 
+        @Test
+        void 수정하면_기존_구간_해제와_새_구간_점유를_알린다() {
+            // given
+            when(reservationRepository.findById(eq(target.getId()))).thenReturn(Optional.of(target));
+
+            // when
+            reservationService.editReservation(target.getId(), request, userDetails);
+
+            // then
+            ArgumentCaptor<ReservationChangedEvent> captor = ArgumentCaptor.forClass(ReservationChangedEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(captor.capture());
+            assertThat(captor.getAllValues()).extracting("type")
+                    .containsExactly(ReservationChangedEvent.Type.RELEASED, ReservationChangedEvent.Type.RESERVED);
+            assertThat(captor.getAllValues().get(0).getStart()).isEqualTo(LocalDateTime.of(2023, 4, 8, 11, 0));
+            assertThat(captor.getAllValues().get(1).getStart()).isEqualTo(selectTime.getStart());
+            assertThat(captor.getAllValues()).extracting("companyName").containsOnly(company.getCompanyName());
+        }
+
         @Test
         void 예약이_없으면_예외를_반환한다(){
             // given
@@ -418,23 +755,15 @@ class ReservationServiceTest {
         User user = User_USER권한_생성_아이디지정(1L, company);
         UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getEmail());
         Mr meetingRoom = MeetingRoom_생성_아이디_지정(1L);
-        Reservation reservationOne = Reservation_생성_아이디_지정(1L, user, meetingRoom,
-                LocalDateTime.of(2023, 5, 3, 17, 0),
-                LocalDateTime.of(2023,5,3,17,59));
 
-        Reservation reservationTwo = Reservation_생성_아이디_지정(2L, user, meetingRoom,
-                LocalDateTime.of(2023, 5, 3, 19, 0),
-                LocalDateTime.of(2023,5,3,19,59));
         @Test
         void 예약에서_회의실_정보를_null로_업데이트_한다() {
             // when
-            when(reservationRepository.findAllByMeetingRoomId(eq(meetingRoom.getId())))
-                    .thenReturn(List.of(reservationOne, reservationTwo));
-
             String result = reservationService.deleteMeetingRoomInReservations(meetingRoom.getId(), userDetails);
 
             // then
             assertThat(result).isEqualTo("success");
+            verify(reservationCascadeService).detachMeetingRooms(List.of(meetingRoom.getId()));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationSlot;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationSlotRepository;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import(TestConfig.class)
+@DisplayName("ReservationSlotBackfill 클래스")
+class ReservationSlotBackfillTest {
+    @Autowired
+    private ReservationSlotBackfill reservationSlotBackfill;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Nested
+    @DisplayName("backfill 메서드는")
+    class BackfillTestCase {
+        @Test
+        void 슬롯이_없는_앞으로의_예약만_슬롯을_채운다() {
+            // given
+            User user = 유저_저장("backfillCompany1", "backfill1@test.com");
+            Mr mr = 회의실_저장("backfillMeetingRoom1");
+            LocalDateTime start = LocalDateTime.now().plusDays(3).withHour(10).withMinute(0).withSecond(0).withNano(0);
+            Reservation future = 예약_저장(user, mr, start, start.plusMinutes(59));
+            Reservation past = 예약_저장(user, mr, start.minusDays(10), start.minusDays(10).plusMinutes(59));
+
+            // when
+            reservationSlotBackfill.backfill();
+            reservationSlotBackfill.backfill();
+
+            // then
+            assertThat(슬롯_수(future)).isEqualTo(ReservationSlot.of(future).size());
+            assertThat(슬롯_수(past)).isZero();
+        }
+
+        @Test
+        void 겹치는_기존_예약은_하나만_채우고_나머지는_남긴다() {
+            // given
+            User user = 유저_저장("backfillCompany2", "backfill2@test.com");
+            Mr mr = 회의실_저장("backfillMeetingRoom2");
+            LocalDateTime start = LocalDateTime.now().plusDays(5).withHour(14).withMinute(0).withSecond(0).withNano(0);
+            Reservation first = 예약_저장(user, mr, start, start.plusMinutes(59));
+            Reservation overlapped = 예약_저장(user, mr, start.plusMinutes(30), start.plusMinutes(89));
+            Reservation other = 예약_저장(user, mr, start.plusHours(3), start.plusHours(3).plusMinutes(59));
+
+            // when
+            reservationSlotBackfill.backfill();
+
+            // then
+            assertThat(슬롯_수(first)).isEqualTo(ReservationSlot.of(first).size());
+            assertThat(슬롯_수(overlapped)).isZero();
+            assertThat(슬롯_수(other)).isEqualTo(ReservationSlot.of(other).size());
+        }
+    }
+
+    // 장부 도입 전처럼 슬롯 없이 예약만 저장
+    private Reservation 예약_저장(User user, Mr mr, LocalDateTime start, LocalDateTime end) {
+        return reservationRepository.save(Reservation.builder()
+                .user(user)
+                .meetingRoom(mr)
+                .startTime(start)
+                .endTime(end)
+                .build());
+    }
+
+    private long 슬롯_수(Reservation reservation) {
+        return reservationSlotRepository.findAll().stream()
+                .filter(x -> x.getReservation().getId().equals(reservation.getId()))
+                .count();
+    }
+
+    private User 유저_저장(String companyName, String email) {
+        Companies company = companyRepository.save(Companies.builder()
+                .companyName(companyName)
+                .certification(companyName + "Cert")
+                .build());
+
+        return userRepository.save(User.builder()
+                .companies(company)
+                .email(email)
+                .username("tester")
+                .password("12345678")
+                .role(UserRoleEnum.USER)
+                .build());
+    }
+
+    private Mr 회의실_저장(String name) {
+        return meetingRoomRepository.save(Mr.builder()
+                .x(100.0).y(150.0).locationName(name)
+                .build());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.RoomUtilization;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.RoomUtilizationRepository;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import(TestConfig.class)
+@DisplayName("RoomUtilizationAggregator 클래스")
+class RoomUtilizationAggregatorTest {
+    @Autowired
+    private RoomUtilizationAggregator roomUtilizationAggregator;
+
+    @Autowired
+    private RoomUtilizationRepository roomUtilizationRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Nested
+    @DisplayName("reconcileFrom 메서드는")
+    class ReconcileFromTestCase {
+        @Test
+        void 앞으로의_날짜에_빠진_집계를_채운다() {
+            // given
+            User user = 유저_저장("utilizationCompany1", "utilization1@test.com");
+            Mr mr = 회의실_저장("utilizationMeetingRoom1");
+            LocalDate today = LocalDate.now();
+            LocalDate booked = today.plusDays(10);
+            // 이벤트 없이 저장해 재계산 작업이 버려진 경우와 같게 만든다
+            reservationRepository.save(Reservation.builder()
+                    .user(user)
+                    .meetingRoom(mr)
+                    .startTime(booked.atTime(10, 0))
+                    .endTime(booked.atTime(10, 59))
+                    .build());
+
+            // when
+            int days = roomUtilizationAggregator.reconcileFrom(today.minusDays(1));
+
+            // then
+            assertThat(days).isGreaterThanOrEqualTo(12);
+            assertThat(roomUtilizationRepository.findAllByMeetingRoomIdAndUseDate(mr.getId(), booked))
+                    .extracting(RoomUtilization::getHourOfDay, RoomUtilization::getReservedMinutes)
+                    .containsExactly(tuple(10, 60));
+        }
+
+        @Test
+        void 예약이_없는_앞으로의_집계는_지운다() {
+            // given
+            Mr mr = 회의실_저장("utilizationMeetingRoom2");
+            LocalDate today = LocalDate.now();
+            LocalDate stale = today.plusDays(20);
+            roomUtilizationRepository.save(new RoomUtilization(mr.getId(), stale, 9, 30));
+
+            // when
+            roomUtilizationAggregator.reconcileFrom(today.minusDays(1));
+
+            // then
+            assertThat(roomUtilizationRepository.findAllByMeetingRoomIdAndUseDate(mr.getId(), stale)).isEmpty();
+        }
+    }
+
+    private User 유저_저장(String companyName, String email) {
+        Companies company = companyRepository.save(Companies.builder()
+                .companyName(companyName)
+                .certification(companyName + "Cert")
+                .build());
+
+        return userRepository.save(User.builder()
+                .companies(company)
+                .email(email)
+                .username("tester")
+                .password("12345678")
+                .role(UserRoleEnum.USER)
+                .build());
+    }
+
+    private Mr 회의실_저장(String name) {
+        return meetingRoomRepository.save(Mr.builder()
+                .x(100.0).y(150.0).locationName(name)
+                .build());
+    }
+}
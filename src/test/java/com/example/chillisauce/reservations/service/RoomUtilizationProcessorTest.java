@@ -0,0 +1,104 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.RoomUtilization;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.RoomUtilizationRepository;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.users.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomUtilizationProcessor 클래스")
+class RoomUtilizationProcessorTest {
+    @InjectMocks
+    RoomUtilizationProcessor roomUtilizationProcessor;
+
+    @Mock
+    ReservationRepository reservationRepository;
+
+    @Mock
+    RoomUtilizationRepository roomUtilizationRepository;
+
+    LocalDate day = LocalDate.of(2023, 4, 5);
+    User user = User_USER권한_생성(Company_생성());
+    Mr mr = MeetingRoom_생성_아이디_지정(1L);
+
+    @Nested
+    @DisplayName("reservedMinutes 메서드는")
+    class ReservedMinutesTestCase {
+        @Test
+        void 시간대별로_예약된_분을_겹침_없이_센다() {
+            // given
+            List<Reservation> reservations = List.of(
+                    Reservation_생성(user, mr, day.atTime(10, 0), day.atTime(10, 59)),
+                    Reservation_생성(user, mr, day.atTime(10, 30), day.atTime(11, 29)));
+
+            // when
+            int[] result = RoomUtilizationProcessor.reservedMinutes(day, reservations);
+
+            // then
+            assertThat(result[10]).isEqualTo(60);
+            assertThat(result[11]).isEqualTo(30);
+            assertThat(result[9]).isZero();
+        }
+
+        @Test
+        void 다른_날짜로_넘어가는_부분은_잘라낸다() {
+            // given
+            List<Reservation> reservations = List.of(
+                    Reservation_생성(user, mr, day.atTime(23, 30), day.plusDays(1).atTime(0, 59)));
+
+            // when
+            int[] result = RoomUtilizationProcessor.reservedMinutes(day, reservations);
+
+            // then
+            assertThat(result[23]).isEqualTo(30);
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh 메서드는")
+    class RefreshTestCase {
+        @Test
+        @SuppressWarnings("unchecked")
+        void 예약이_없어진_시간대의_집계는_삭제하고_새_시간대는_추가한다() {
+            // given
+            RoomUtilization stale = new RoomUtilization(1L, day, 9, 60);
+            RoomUtilization kept = new RoomUtilization(1L, day, 10, 30);
+            when(reservationRepository.findAllByMeetingRoomIdAndStartTimeBetween(eq(1L), any(), any()))
+                    .thenReturn(List.of(Reservation_생성(user, mr, day.atTime(10, 0), day.atTime(11, 59))));
+            when(roomUtilizationRepository.findAllByMeetingRoomIdAndUseDate(1L, day))
+                    .thenReturn(List.of(stale, kept));
+
+            // when
+            roomUtilizationProcessor.refresh(1L, day);
+
+            // then
+            ArgumentCaptor<List<RoomUtilization>> removed = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<List<RoomUtilization>> created = ArgumentCaptor.forClass(List.class);
+            verify(roomUtilizationRepository).deleteAll(removed.capture());
+            verify(roomUtilizationRepository).saveAllAndFlush(created.capture());
+            assertThat(removed.getValue()).containsExactly(stale);
+            assertThat(created.getValue()).extracting(RoomUtilization::getHourOfDay).containsExactly(11);
+            assertThat(kept.getReservedMinutes()).isEqualTo(60);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.dto.request.SlotPolicyRequest;
+import com.example.chillisauce.reservations.dto.response.SlotPolicyResponse;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Optional;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlotPolicyService 클래스")
+class SlotPolicyServiceTest {
+    @InjectMocks
+    SlotPolicyService slotPolicyService;
+
+    @Mock
+    CompanyRepository companyRepository;
+
+    @Mock
+    CacheManager cacheManager;
+
+    @Mock
+    Cache cache;
+
+    @Nested
+    @DisplayName("findSlotPolicy 메서드는")
+    class FindSlotPolicyTestCase {
+        // given
+        Companies company = Company_생성();
+
+        @Test
+        void 캐시에_있으면_DB_를_조회하지_않는다() {
+            // given
+            when(cacheManager.getCache(SlotPolicyService.CACHE_NAME)).thenReturn(cache);
+            when(cache.get(company.getCompanyName(), SlotPolicyResponse.class))
+                    .thenReturn(new SlotPolicyResponse(SlotPolicy.of(30, 9, 18)));
+
+            // when
+            SlotPolicy result = slotPolicyService.findSlotPolicy(company.getCompanyName());
+
+            // then
+            assertThat(result).isEqualTo(SlotPolicy.of(30, 9, 18));
+            verify(companyRepository, never()).findByCompanyName(any());
+        }
+
+        @Test
+        void 캐시에_없으면_DB_에서_읽어_캐시에_기록한다() {
+            // given
+            company.updateSlotPolicy(SlotPolicy.of(15, null, null));
+            when(cacheManager.getCache(SlotPolicyService.CACHE_NAME)).thenReturn(cache);
+            when(companyRepository.findByCompanyName(company.getCompanyName())).thenReturn(Optional.of(company));
+
+            // when
+            SlotPolicy result = slotPolicyService.findSlotPolicy(company.getCompanyName());
+
+            // then
+            assertThat(result.getSlotMinutes()).isEqualTo(15);
+            ArgumentCaptor<SlotPolicyResponse> captor = ArgumentCaptor.forClass(SlotPolicyResponse.class);
+            verify(cache).put(eq(company.getCompanyName()), captor.capture());
+            assertThat(captor.getValue().getSlotMinutes()).isEqualTo(15);
+        }
+
+        @Test
+        void 캐시_장애면_DB_에서_읽는다() {
+            // given
+            when(cacheManager.getCache(SlotPolicyService.CACHE_NAME)).thenReturn(cache);
+            when(cache.get(company.getCompanyName(), SlotPolicyResponse.class))
+                    .thenThrow(new IllegalStateException("connection refused"));
+            when(companyRepository.findByCompanyName(company.getCompanyName())).thenReturn(Optional.empty());
+
+            // when
+            SlotPolicy result = slotPolicyService.findSlotPolicy(company.getCompanyName());
+
+            // then
+            assertThat(result).isEqualTo(SlotPolicy.DEFAULT);
+        }
+    }
+
+    @Nested
+    @DisplayName("getSlotPolicy 메서드는")
+    class GetSlotPolicyTestCase {
+        // given
+        Companies company = Company_생성();
+        User user = User_USER권한_생성(company);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getEmail());
+
+        @Test
+        void 설정하지_않은_회사는_기본_정책을_반환한다() {
+            // given
+            when(companyRepository.findByCompanyName(company.getCompanyName())).thenReturn(Optional.of(company));
+
+            // when
+            SlotPolicyResponse result = slotPolicyService.getSlotPolicy(userDetails);
+
+            // then
+            assertThat(result.getSlotMinutes()).isEqualTo(60);
+            assertThat(result.getSlotCount()).isEqualTo(16);
+        }
+    }
+
+    @Nested
+    @DisplayName("updateSlotPolicy 메서드는")
+    class UpdateSlotPolicyTestCase {
+        // given
+        Companies company = Company_생성();
+
+        @Test
+        void 관리자가_요청하면_회사_슬롯_정책을_변경한다() {
+            // given
+            User admin = User_ADMIN권한_생성(company, "admin@test.com");
+            UserDetailsImpl userDetails = new UserDetailsImpl(admin, admin.getEmail());
+            when(companyRepository.findByCompanyName(company.getCompanyName())).thenReturn(Optional.of(company));
+
+            // when
+            SlotPolicyResponse result = slotPolicyService
+                    .updateSlotPolicy(new SlotPolicyRequest(15, 9, 18), userDetails);
+
+            // then
+            assertThat(result.getSlotCount()).isEqualTo(40);
+            assertThat(company.getSlotMinutes()).isEqualTo(15);
+            assertThat(company.getOpenHour()).isEqualTo(9);
+        }
+
+        @Test
+        void 정책을_변경하면_캐시를_지운다() {
+            // given
+            User admin = User_ADMIN권한_생성(company, "admin@test.com");
+            UserDetailsImpl userDetails = new UserDetailsImpl(admin, admin.getEmail());
+            when(companyRepository.findByCompanyName(company.getCompanyName())).thenReturn(Optional.of(company));
+            when(cacheManager.getCache(SlotPolicyService.CACHE_NAME)).thenReturn(cache);
+
+            // when
+            slotPolicyService.updateSlotPolicy(new SlotPolicyRequest(30, null, null), userDetails);
+
+            // then
+            verify(cache).evict(company.getCompanyName());
+        }
+
+        @Test
+        void 관리자가_아니면_예외를_반환한다() {
+            // given
+            User user = User_USER권한_생성(company);
+            UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getEmail());
+
+            // when, then
+            assertThatThrownBy(() -> slotPolicyService.updateSlotPolicy(new SlotPolicyRequest(30, null, null), userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("권한이 없습니다.");
+        }
+
+        @Test
+        void 지원하지_않는_슬롯_길이면_예외를_반환한다() {
+            // given
+            User admin = User_ADMIN권한_생성(company, "admin@test.com");
+            UserDetailsImpl userDetails = new UserDetailsImpl(admin, admin.getEmail());
+
+            // when, then
+            assertThatThrownBy(() -> slotPolicyService.updateSlotPolicy(new SlotPolicyRequest(20, null, null), userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("지원하지 않는 슬롯 설정입니다.");
+        }
+
+        @Test
+        void 하루_슬롯_수가_비트맵_크기를_넘으면_예외를_반환한다() {
+            // given
+            User admin = User_ADMIN권한_생성(company, "admin@test.com");
+            UserDetailsImpl userDetails = new UserDetailsImpl(admin, admin.getEmail());
+
+            // when, then
+            assertThatThrownBy(() -> slotPolicyService.updateSlotPolicy(new SlotPolicyRequest(15, 0, 23), userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("지원하지 않는 슬롯 설정입니다.");
+        }
+    }
+}
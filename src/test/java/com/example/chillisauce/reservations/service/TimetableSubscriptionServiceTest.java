@@ -0,0 +1,103 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.vo.ReservationChangedEvent;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.repository.LocationRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimetableSubscriptionService 클래스")
+class TimetableSubscriptionServiceTest {
+    @InjectMocks
+    TimetableSubscriptionService timetableSubscriptionService;
+
+    @Mock
+    LocationRepository locationRepository;
+
+    Companies company = Company_생성();
+    User user = User_USER권한_생성(company);
+    UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getEmail());
+    Mr meetingRoom = MeetingRoom_생성_아이디_지정(1L);
+
+    @Nested
+    @DisplayName("subscribeMeetingRoom 메서드는")
+    class SubscribeMeetingRoomTestCase {
+        @Test
+        void 회사의_회의실이면_구독을_등록한다() {
+            // given
+            when(locationRepository.findByIdAndCompanyName(meetingRoom.getId(), company.getCompanyName()))
+                    .thenReturn(Optional.of(meetingRoom));
+
+            // when
+            SseEmitter result = timetableSubscriptionService.subscribeMeetingRoom(meetingRoom.getId(), userDetails);
+
+            // then
+            assertThat(result.getTimeout()).isEqualTo(TimetableSubscriptionService.TIMEOUT_MILLIS);
+            assertThat(timetableSubscriptionService.subscriberCount(meetingRoom.getId())).isEqualTo(1);
+        }
+
+        @Test
+        void 회의실이_아니면_예외를_반환한다() {
+            // given
+            when(locationRepository.findByIdAndCompanyName(meetingRoom.getId(), company.getCompanyName()))
+                    .thenReturn(Optional.of(Box_생성()));
+
+            // when, then
+            assertThatThrownBy(() -> timetableSubscriptionService.subscribeMeetingRoom(meetingRoom.getId(), userDetails))
+                    .isInstanceOf(ReservationException.class).hasMessage("해당 장소는 회의실이 아닙니다.");
+            assertThat(timetableSubscriptionService.subscriberCount(meetingRoom.getId())).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("onChanged 메서드는")
+    class OnChangedTestCase {
+        ReservationChangedEvent event = new ReservationChangedEvent(company.getCompanyName(), meetingRoom.getId(), 1L,
+                ReservationChangedEvent.Type.RESERVED,
+                LocalDateTime.of(2023, 4, 10, 9, 0), LocalDateTime.of(2023, 4, 10, 9, 59));
+
+        @Test
+        void 회사_구독자에게_전송한다() {
+            // given
+            timetableSubscriptionService.subscribeCompany(userDetails);
+
+            // when
+            timetableSubscriptionService.onChanged(event);
+
+            // then
+            assertThat(timetableSubscriptionService.subscriberCount(company.getCompanyName())).isEqualTo(1);
+        }
+
+        @Test
+        void 끊어진_연결은_전송_중에_정리한다() {
+            // given
+            SseEmitter emitter = timetableSubscriptionService.subscribeCompany(userDetails);
+            emitter.complete();
+
+            // when
+            timetableSubscriptionService.onChanged(event);
+
+            // then
+            assertThat(timetableSubscriptionService.subscriberCount(company.getCompanyName())).isZero();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.reservations.dto.response.UserReservationListResponse;
+import com.example.chillisauce.reservations.entity.Reservation;
+import com.example.chillisauce.reservations.entity.ReservationUser;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.repository.MrRepository;
+import com.example.chillisauce.spaces.repository.SpaceRepository;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 내역 조회 측정
+ * H2 에 예약 1천 건, 1만 건을 가진 주최자를 만들고 getUserReservations 전체 조회 시간을 출력한다
+ * 조회 쿼리나 참석자 매핑을 바꿀 때 같은 조건으로 다시 돌려 이전 결과와 비교한다
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "reservation.outbox.poll-delay=600000")
+@Import(TestConfig.class)
+@DisplayName("UserReservationService 예약 내역 조회 측정")
+class UserReservationServiceBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(UserReservationServiceBenchmarkTest.class);
+
+    private static final int ATTENDEES_PER_RESERVATION = 5;
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 11;
+    // 한 트랜잭션에서 저장할 예약 수
+    private static final int SEED_CHUNK = 1_000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private UserReservationService userReservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationUserRepository reservationUserRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private MrRepository meetingRoomRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 예약_1천_건과_1만_건의_조회_시간을_출력한다() {
+        // given
+        UserDetailsImpl small = 준비("userReservationBenchmark1k", 1_000);
+        UserDetailsImpl large = 준비("userReservationBenchmark10k", 10_000);
+
+        // when
+        long[] smallElapsed = 측정(small, 1_000);
+        long[] largeElapsed = 측정(large, 10_000);
+
+        // then
+        보고("1k", 1_000, smallElapsed);
+        보고("10k", 10_000, largeElapsed);
+        log.info("[getUserReservations] 10k/1k p50 x{}",
+                String.format("%.1f", (double) percentile(largeElapsed, 50) / percentile(smallElapsed, 50)));
+    }
+
+    // 예약 n 건을 가진 주최자의 전체 조회를 WARMUP 번 돌린 뒤 ROUNDS 번 잰 시간, 오름차순
+    private long[] 측정(UserDetailsImpl userDetails, int n) {
+        for (int i = 0; i < WARMUP; i++) {
+            userReservationService.getUserReservations(userDetails);
+        }
+
+        long[] elapsed = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long begin = System.nanoTime();
+            UserReservationListResponse result = userReservationService.getUserReservations(userDetails);
+            elapsed[i] = System.nanoTime() - begin;
+            assertThat(result.getReservationList()).hasSize(n);
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private void 보고(String scenario, int n, long[] sorted) {
+        log.info("[getUserReservations {}] reservations={} attendees={} rounds={}",
+                scenario, n, n * ATTENDEES_PER_RESERVATION, ROUNDS);
+        log.info("  latency p50 {} ms, p90 {} ms, max {} ms, {} us/reservation",
+                String.format("%.2f", ms(percentile(sorted, 50))), String.format("%.2f", ms(percentile(sorted, 90))),
+                String.format("%.2f", ms(sorted[sorted.length - 1])),
+                String.format("%.2f", percentile(sorted, 50) / 1_000.0 / n));
+    }
+
+    // 주최자 한 명, 참석자 ATTENDEES_PER_RESERVATION 명, 회의실 하나에 한 시간씩 겹치지 않는 예약 n 건
+    private UserDetailsImpl 준비(String companyName, int n) {
+        Companies company = companyRepository.save(Companies.builder()
+                .companyName(companyName)
+                .certification(companyName + "Cert")
+                .build());
+        User organizer = 유저_저장(company, companyName + "@test.com");
+        List<User> attendees = IntStream.range(0, ATTENDEES_PER_RESERVATION)
+                .mapToObj(i -> 유저_저장(company, companyName + i + "@test.com"))
+                .toList();
+        Space space = spaceRepository.save(Space.builder()
+                .spaceName(companyName + "Space")
+                .companies(company)
+                .build());
+        Mr mr = meetingRoomRepository.save(new Mr(companyName + "Mr", 100.0, 150.0, space));
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int chunk = 0; chunk < n; chunk += SEED_CHUNK) {
+            int from = chunk;
+            int to = Math.min(n, chunk + SEED_CHUNK);
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Reservation> reservations = reservationRepository.saveAll(IntStream.range(from, to)
+                        .mapToObj(i -> Reservation.builder()
+                                .user(organizer)
+                                .meetingRoom(mr)
+                                .startTime(BASE_TIME.plusHours(i))
+                                .endTime(BASE_TIME.plusHours(i).plusMinutes(59))
+                                .build())
+                        .toList());
+                List<ReservationUser> reservationUsers = new ArrayList<>(reservations.size() * ATTENDEES_PER_RESERVATION);
+                for (Reservation reservation : reservations) {
+                    attendees.forEach(attendee -> reservationUsers.add(new ReservationUser(attendee, reservation)));
+                }
+                reservationUserRepository.saveAll(reservationUsers);
+            });
+        }
+        return new UserDetailsImpl(organizer, organizer.getEmail());
+    }
+
+    private User 유저_저장(Companies company, String email) {
+        return userRepository.save(User.builder()
+                .companies(company)
+                .email(email)
+                .username("tester")
+                .password("12345678")
+                .role(UserRoleEnum.USER)
+                .build());
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p / 100.0) - 1)];
+    }
+
+    private static double ms(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
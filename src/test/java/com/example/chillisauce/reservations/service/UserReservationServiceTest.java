@@ -1,10 +1,15 @@
 package com.example.chillisauce.reservations.service;
 
+import com.example.chillisauce.reservations.dto.UserReservationWrapper;
 import com.example.chillisauce.reservations.dto.response.UserReservationListResponse;
 import com.example.chillisauce.reservations.entity.Reservation;
-import com.example.chillisauce.reservations.entity.ReservationUser;
+import com.example.chillisauce.reservations.entity.ReservationArchive;
+import com.example.chillisauce.reservations.exception.ReservationErrorCode;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.ReservationArchiveRepository;
 import com.example.chillisauce.reservations.repository.ReservationRepository;
 import com.example.chillisauce.reservations.repository.ReservationUserRepository;
+import com.example.chillisauce.reservations.vo.ReservationCursor;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.entity.Mr;
 import com.example.chillisauce.users.entity.Companies;
@@ -16,13 +21,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static com.example.chillisauce.reservations.service.UserReservationService.PAGE_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +52,9 @@ class UserReservationServiceTest {
     @Mock
     ReservationUserRepository reservationUserRepository;
 
+    @Mock
+    ReservationArchiveRepository reservationArchiveRepository;
+
     @Nested
     @DisplayName("getUserReservations 메서드는")
     class GetUserReservationsTestCase {
@@ -57,22 +74,132 @@ class UserReservationServiceTest {
 
         User attendeeOne = User_USER권한_생성_아이디지정(2L, company);
         User attendeeTwo = User_USER권한_생성_아이디지정(3L, company);
-        ReservationUser reservationUserOne = ReservationUser_생성_아이디_지정(reservationOne, organizer, 1L);
-        ReservationUser reservationUserTwo = ReservationUser_생성_아이디_지정(reservationOne, attendeeOne, 2L);
-        ReservationUser reservationUserThree = ReservationUser_생성_아이디_지정(reservationOne, organizer, 3L);
-        ReservationUser reservationUserFour = ReservationUser_생성_아이디_지정(reservationOne, attendeeTwo, 4L);
+
         @Test
         void 유저의_예약내역을_반환한다() {
             // given
-            when(reservationRepository.findAllByUserId(eq(organizer.getId())))
-                    .thenReturn(List.of(reservationOne, reservationTwo));
+            when(reservationRepository.findUserReservations(eq(organizer.getId()), any(), any(), eq(0L), eq(Pageable.unpaged())))
+                    .thenReturn(List.of(예약_조회결과(reservationOne), 예약_조회결과(reservationTwo)));
+            when(reservationUserRepository.findAttendeesByOrganizer(eq(organizer.getId()), any(), any(), eq(0L), eq(2L)))
+                    .thenReturn(List.of(
+                            ReservationUserWrapper_생성(1L, attendeeOne.getUsername()),
+                            ReservationUserWrapper_생성(1L, attendeeTwo.getUsername()),
+                            ReservationUserWrapper_생성(2L, attendeeOne.getUsername())));
 
             // when
             UserReservationListResponse result = userReservationService.getUserReservations(userDetails);
 
             // then
             assertThat(result.getReservationList().size()).isEqualTo(2);
+            assertThat(result.getReservationList().get(0).getUserList()).hasSize(2);
+            assertThat(result.getReservationList().get(1).getUserList()).hasSize(1);
+            assertThat(result.getNextCursor()).isNull();
         }
-    }
 
-}
\ No newline at end of file
+        @Test
+        void 참석자가_없는_예약은_빈_참석자_목록을_반환한다() {
+            // given
+            when(reservationRepository.findUserReservations(eq(organizer.getId()), any(), any(), eq(0L), any()))
+                    .thenReturn(List.of(예약_조회결과(reservationOne)));
+            when(reservationUserRepository.findAttendeesByOrganizer(eq(organizer.getId()), any(), any(), eq(0L), eq(1L)))
+                    .thenReturn(List.of());
+
+            // when
+            UserReservationListResponse result = userReservationService.getUserReservations(userDetails);
+
+            // then
+            assertThat(result.getReservationList().get(0).getUserList()).isEmpty();
+        }
+
+        @Test
+        void 기간을_지정하면_해당_기간의_시작_끝으로_조회한다() {
+            // given
+            LocalDate from = LocalDate.of(2023, 5, 1);
+            LocalDate to = LocalDate.of(2023, 5, 31);
+            when(reservationRepository.findUserReservations(eq(organizer.getId()),
+                    eq(from.atStartOfDay()), eq(to.plusDays(1).atStartOfDay()), eq(0L), eq(Pageable.unpaged())))
+                    .thenReturn(List.of());
+
+            // when
+            UserReservationListResponse result = userReservationService.getUserReservations(from, to, null, userDetails);
+
+            // then
+            assertThat(result.getReservationList()).isEmpty();
+        }
+
+        @Test
+        void 커서를_지정하면_한_페이지만_반환하고_다음_커서를_반환한다() {
+            // given
+            List<UserReservationWrapper> rows = LongStream.rangeClosed(1, PAGE_SIZE + 1)
+                    .mapToObj(id -> UserReservationWrapper_생성(id, meetingRoomOne, organizer,
+                            LocalDateTime.of(2023, 5, 3, 11, 0), LocalDateTime.of(2023, 5, 3, 11, 59)))
+                    .toList();
+            when(reservationRepository.findUserReservations(eq(organizer.getId()), any(), any(), eq(0L),
+                    eq(PageRequest.of(0, PAGE_SIZE + 1))))
+                    .thenReturn(rows);
+            when(reservationUserRepository.findAttendeesByOrganizer(eq(organizer.getId()), any(), any(), eq(0L),
+                    eq((long) PAGE_SIZE)))
+                    .thenReturn(List.of());
+
+            // when
+            UserReservationListResponse result = userReservationService.getUserReservations(null, null, "", userDetails);
+
+            // then
+            assertThat(result.getReservationList()).hasSize(PAGE_SIZE);
+            assertThat(result.getNextCursor()).isEqualTo(ReservationCursor.encode((long) PAGE_SIZE));
+        }
+
+        @Test
+        void 지난_기간이면_보관된_예약을_id_순으로_함께_반환한다() {
+            // given
+            ReservationArchive archived = new ReservationArchive(reservationOne,
+                    List.of(attendeeOne.getUsername()), LocalDateTime.now());
+            when(reservationRepository.findUserReservations(eq(organizer.getId()), any(), any(), eq(0L), any()))
+                    .thenReturn(List.of(예약_조회결과(reservationTwo)));
+            when(reservationArchiveRepository.findUserReservations(eq(organizer.getId()), any(), any(), eq(0L), any()))
+                    .thenReturn(List.of(archived));
+            when(reservationUserRepository.findAttendeesByOrganizer(eq(organizer.getId()), any(), any(), eq(0L), eq(2L)))
+                    .thenReturn(List.of());
+
+            // when
+            UserReservationListResponse result = userReservationService.getUserReservations(
+                    LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 31), "", userDetails);
+
+            // then
+            assertThat(result.getReservationList()).extracting("reservationId").containsExactly(1L, 2L);
+            assertThat(result.getReservationList().get(0).getUserList()).extracting("username")
+                    .containsExactly(attendeeOne.getUsername());
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        void 오늘_이후_기간이면_보관_테이블을_조회하지_않는다() {
+            // given
+            LocalDate from = LocalDate.now();
+            when(reservationRepository.findUserReservations(eq(organizer.getId()), any(), any(), eq(0L), any()))
+                    .thenReturn(List.of());
+
+            // when
+            userReservationService.getUserReservations(from, from.plusDays(7), null, userDetails);
+
+            // then
+            verify(reservationArchiveRepository, never()).findUserReservations(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        void 시작일이_종료일보다_늦으면_예외를_던진다() {
+            // when
+            ReservationException exception = assertThrows(ReservationException.class, () ->
+                    userReservationService.getUserReservations(
+                            LocalDate.of(2023, 5, 31), LocalDate.of(2023, 5, 1), null, userDetails));
+
+            // then
+            assertThat(exception.getMessage()).isEqualTo(ReservationErrorCode.INVALID_DATE_RANGE.getMessage());
+        }
+
+        private UserReservationWrapper 예약_조회결과(Reservation reservation) {
+            return UserReservationWrapper_생성(reservation.getId(), reservation.getMeetingRoom(), reservation.getUser(),
+                    reservation.getStartTime(), reservation.getEndTime());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.chillisauce.reservations.service;
+
+import com.example.chillisauce.reservations.dto.MeetingRoomFloorWrapper;
+import com.example.chillisauce.reservations.dto.UtilizationWrapper;
+import com.example.chillisauce.reservations.dto.response.UtilizationResponse;
+import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.repository.RoomUtilizationRepository;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UtilizationService 클래스")
+class UtilizationServiceTest {
+    @InjectMocks
+    UtilizationService utilizationService;
+
+    @Mock
+    RoomUtilizationRepository roomUtilizationRepository;
+
+    @Mock
+    SlotPolicyService slotPolicyService;
+
+    @Nested
+    @DisplayName("getUtilization 메서드는")
+    class GetUtilizationTestCase {
+        // given
+        Companies company = Company_생성();
+        User admin = User_ADMIN권한_생성(company, "admin@test.com");
+        UserDetailsImpl adminDetails = new UserDetailsImpl(admin, admin.getEmail());
+        LocalDate from = LocalDate.of(2023, 4, 3);
+        LocalDate to = LocalDate.of(2023, 4, 4);
+
+        @Test
+        void 운영_시간_대비_예약_비율을_회의실_플로어_시간대별로_반환한다() {
+            // given
+            when(roomUtilizationRepository.findMeetingRoomsByCompanyName(company.getCompanyName()))
+                    .thenReturn(List.of(room(1L, "회의실1", 10L, "1층"), room(2L, "회의실2", 10L, "1층")));
+            when(slotPolicyService.findSlotPolicy(company.getCompanyName())).thenReturn(company.getSlotPolicy());
+            when(roomUtilizationRepository.sumByMeetingRoom(anyList(), any(), any()))
+                    .thenReturn(List.of(sum(1L, 960L)));
+            when(roomUtilizationRepository.sumByHourOfDay(anyList(), any(), any()))
+                    .thenReturn(List.of(sum(10L, 120L)));
+
+            // when
+            UtilizationResponse result = utilizationService.getUtilization(from, to, adminDetails);
+
+            // then
+            // 기본 정책 7 ~ 22시, 하루 16시간 * 2일 = 1920분
+            assertThat(result.getMrList()).hasSize(2);
+            assertThat(result.getMrList().get(0).getRate()).isEqualTo(0.5);
+            assertThat(result.getMrList().get(1).getReservedMinutes()).isZero();
+            assertThat(result.getFloorList()).hasSize(1);
+            assertThat(result.getFloorList().get(0).getMrCount()).isEqualTo(2);
+            assertThat(result.getFloorList().get(0).getRate()).isEqualTo(0.25);
+            assertThat(result.getHourList()).hasSize(16);
+            assertThat(result.getHourList().get(3).getHour()).isEqualTo(10);
+            assertThat(result.getHourList().get(3).getRate()).isEqualTo(0.5);
+        }
+
+        @Test
+        void 회의실이_없으면_빈_목록을_반환한다() {
+            // given
+            when(roomUtilizationRepository.findMeetingRoomsByCompanyName(company.getCompanyName()))
+                    .thenReturn(List.of());
+
+            // when
+            UtilizationResponse result = utilizationService.getUtilization(from, to, adminDetails);
+
+            // then
+            assertThat(result.getMrList()).isEmpty();
+            assertThat(result.getHourList()).isEmpty();
+        }
+
+        @Test
+        void 일반_유저는_조회할_수_없다() {
+            // given
+            UserDetailsImpl userDetails = details_권한_USER(company);
+
+            // when, then
+            assertThatThrownBy(() -> utilizationService.getUtilization(from, to, userDetails))
+                    .isInstanceOf(ReservationException.class);
+        }
+
+        @Test
+        void 종료_날짜가_시작_날짜보다_앞서면_예외가_발생한다() {
+            // when, then
+            assertThatThrownBy(() -> utilizationService.getUtilization(to, from, adminDetails))
+                    .isInstanceOf(ReservationException.class);
+        }
+
+        @Test
+        void 최대_조회_기간을_넘으면_예외가_발생한다() {
+            // when, then
+            assertThatThrownBy(() -> utilizationService.getUtilization(
+                    from, from.plusDays(UtilizationService.MAX_DAYS), adminDetails))
+                    .isInstanceOf(ReservationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("rate 메서드는")
+    class RateTestCase {
+        @Test
+        void 비율은_1을_넘지_않고_소수점_넷째_자리까지_반올림한다() {
+            assertThat(UtilizationService.rate(1, 3)).isEqualTo(0.3333);
+            assertThat(UtilizationService.rate(100, 60)).isEqualTo(1.0);
+            assertThat(UtilizationService.rate(10, 0)).isZero();
+        }
+    }
+
+    private static MeetingRoomFloorWrapper room(Long mrId, String mrName, Long floorId, String floorName) {
+        return new MeetingRoomFloorWrapper() {
+            @Override
+            public Long getMeetingRoomId() {
+                return mrId;
+            }
+
+            @Override
+            public String getMeetingRoomName() {
+                return mrName;
+            }
+
+            @Override
+            public Long getFloorId() {
+                return floorId;
+            }
+
+            @Override
+            public String getFloorName() {
+                return floorName;
+            }
+        };
+    }
+
+    private static UtilizationWrapper sum(Long key, Long minutes) {
+        return new UtilizationWrapper() {
+            @Override
+            public Long getGroupKey() {
+                return key;
+            }
+
+            @Override
+            public Long getMinutes() {
+                return minutes;
+            }
+        };
+    }
+}
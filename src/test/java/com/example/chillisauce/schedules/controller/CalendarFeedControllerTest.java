@@ -0,0 +1,190 @@
+package com.example.chillisauce.schedules.controller;
+
+import com.example.chillisauce.schedules.dto.CalendarFeedTokenResponseDto;
+import com.example.chillisauce.schedules.exception.ScheduleErrorCode;
+import com.example.chillisauce.schedules.exception.ScheduleException;
+import com.example.chillisauce.schedules.exception.ScheduleExceptionHandler;
+import com.example.chillisauce.schedules.service.CalendarFeedService;
+import com.example.chillisauce.schedules.vo.CalendarFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentRequest;
+import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
+@DisplayName("CalendarFeedController 클래스")
+class CalendarFeedControllerTest {
+    @InjectMocks
+    private CalendarFeedController calendarFeedController;
+
+    @Mock
+    private CalendarFeedService calendarFeedService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void init(RestDocumentationContextProvider restDocumentation) {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(calendarFeedController)
+                .setControllerAdvice(new ScheduleExceptionHandler())
+                .apply(documentationConfiguration(restDocumentation))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("캘린더 구독 주소 발급 POST 요청이 들어올 때")
+    class IssueFeedTokenTestCase {
+        // given
+        String url = "/schedules/feed/token";
+
+        @Test
+        @WithMockUser
+        void 구독_토큰과_주소를_응답한다() throws Exception {
+            // given
+            when(calendarFeedService.issueToken(any())).thenReturn(new CalendarFeedTokenResponseDto("feedToken"));
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.post(url)
+                    .header("Authorization", "Bearer Token")
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("post-schedule-feed-token",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.token").type(JsonFieldType.STRING).description("구독 토큰"),
+                                    fieldWithPath("data.feedPath").type(JsonFieldType.STRING).description("구독 주소 경로")
+                            )
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("캘린더 구독 피드 GET 요청이 들어올 때")
+    class GetFeedTestCase {
+        // given
+        String url = "/schedules/feed/feedToken.ics";
+        long lastModified = 1681776000000L;
+        CalendarFeed feed = new CalendarFeed(1L, LocalDateTime.of(2023, 3, 19, 0, 0), "\"3-1-1681776000000\"", lastModified);
+        String body = "BEGIN:VCALENDAR\r\nVERSION:2.0\r\nEND:VCALENDAR\r\n";
+
+        @Test
+        void iCalendar_본문을_스트리밍한다() throws Exception {
+            // given
+            when(calendarFeedService.getFeed("feedToken")).thenReturn(feed);
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(1);
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(calendarFeedService).writeFeed(eq(feed), any());
+
+            // when
+            MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(url))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, feed.getEtag()))
+                    .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                    .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                    .andExpect(content().string(body))
+                    .andDo(document("get-schedule-feed",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseHeaders(
+                                    headerWithName(HttpHeaders.ETAG).description("피드 버전, 다음 요청의 If-None-Match 로 보낸다"),
+                                    headerWithName(HttpHeaders.CACHE_CONTROL).description("no-cache, 매 요청 재검증"),
+                                    headerWithName(HttpHeaders.CONTENT_TYPE).description("text/calendar")
+                            )
+                    ));
+        }
+
+        @Test
+        void ETag_가_같으면_본문_없이_304_를_응답한다() throws Exception {
+            // given
+            when(calendarFeedService.getFeed("feedToken")).thenReturn(feed);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .header(HttpHeaders.IF_NONE_MATCH, feed.getEtag()));
+
+            // then
+            result.andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+            verify(calendarFeedService, never()).writeFeed(any(), any());
+        }
+
+        @Test
+        void If_Modified_Since_만으로는_304_를_응답하지_않는다() throws Exception {
+            // given
+            when(calendarFeedService.getFeed("feedToken")).thenReturn(feed);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified));
+
+            // then
+            // 삭제된 일정은 수정 시각을 바꾸지 않으므로 본문을 다시 보낸다
+            result.andExpect(request().asyncStarted());
+        }
+
+        @Test
+        void 없는_토큰이면_404_를_응답한다() throws Exception {
+            // given
+            when(calendarFeedService.getFeed("feedToken"))
+                    .thenThrow(new ScheduleException(ScheduleErrorCode.CALENDAR_FEED_NOT_FOUND));
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url));
+
+            // then
+            result.andExpect(status().isNotFound());
+        }
+    }
+}
@@ -183,6 +183,100 @@ class ScheduleControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("기간 스케줄 GET 요청이 들어올 때")
+    class GetRangeSchedulesTestCase {
+        // given
+        String url = "/schedules/timetable";
+
+        @Test
+        @WithMockUser
+        void 일자별_스케줄_타임테이블을_응답한다() throws Exception {
+            // given
+            ScheduleTimeResponseDto time = ScheduleTimeResponseDto.builder().isCheckOut(true)
+                    .start(LocalTime.of(8, 0))
+                    .end(LocalTime.of(8, 59))
+                    .build();
+            ScheduleRangeTimetableResponseDto response = new ScheduleRangeTimetableResponseDto(List.of(
+                    new ScheduleDayTimetableResponseDto(LocalDate.of(2023, 4, 10), List.of(time)),
+                    new ScheduleDayTimetableResponseDto(LocalDate.of(2023, 4, 11), List.of(time))));
+            when(scheduleService.getRangeSchedules(eq(LocalDate.of(2023, 4, 10)), eq(LocalDate.of(2023, 4, 11)), any()))
+                    .thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("from", "2023-04-10")
+                    .param("to", "2023-04-11")
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-schedule-range-timetable",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.dayList").type(JsonFieldType.ARRAY).description("일자별 타임테이블"),
+                                    fieldWithPath("data.dayList[].date").type(JsonFieldType.STRING).description("날짜"),
+                                    fieldWithPath("data.dayList[].timeList").type(JsonFieldType.ARRAY).description("타임테이블"),
+                                    fieldWithPath("data.dayList[].timeList[].isCheckOut").type(JsonFieldType.BOOLEAN).description("일정 등록 여부"),
+                                    fieldWithPath("data.dayList[].timeList[].start").type(JsonFieldType.STRING).description("시작시각"),
+                                    fieldWithPath("data.dayList[].timeList[].end").type(JsonFieldType.STRING).description("종료시각")
+                            )
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("주간 스케줄 GET 요청이 들어올 때")
+    class GetWeekSchedulesTestCase {
+        // given
+        String url = "/schedules/week";
+
+        @Test
+        @WithMockUser
+        void 선택_날짜가_속한_주의_타임테이블을_응답한다() throws Exception {
+            // given
+            ScheduleTimeResponseDto time = ScheduleTimeResponseDto.builder().isCheckOut(true)
+                    .start(LocalTime.of(8, 0))
+                    .end(LocalTime.of(8, 59))
+                    .build();
+            ScheduleRangeTimetableResponseDto response = new ScheduleRangeTimetableResponseDto(List.of(
+                    new ScheduleDayTimetableResponseDto(LocalDate.of(2023, 4, 10), List.of(time)),
+                    new ScheduleDayTimetableResponseDto(LocalDate.of(2023, 4, 11), List.of(time))));
+            when(scheduleService.getWeekSchedules(eq(LocalDate.of(2023, 4, 12)), any())).thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("selDate", "2023-04-12")
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andDo(document("get-schedule-week-timetable",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과값"),
+                                    fieldWithPath("data.dayList").type(JsonFieldType.ARRAY).description("월요일부터 일자별 타임테이블"),
+                                    fieldWithPath("data.dayList[].date").type(JsonFieldType.STRING).description("날짜"),
+                                    fieldWithPath("data.dayList[].timeList").type(JsonFieldType.ARRAY).description("타임테이블"),
+                                    fieldWithPath("data.dayList[].timeList[].isCheckOut").type(JsonFieldType.BOOLEAN).description("일정 또는 예약 여부"),
+                                    fieldWithPath("data.dayList[].timeList[].start").type(JsonFieldType.STRING).description("시작시각"),
+                                    fieldWithPath("data.dayList[].timeList[].end").type(JsonFieldType.STRING).description("종료시각")
+                            )
+                    ));
+        }
+    }
+
     @Nested
     @DisplayName("스케줄 POST 요청이 들어올 때")
     class AddSchedulesTestCase {
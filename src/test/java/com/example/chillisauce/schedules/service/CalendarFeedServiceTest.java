@@ -0,0 +1,225 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.schedules.dto.CalendarEventWrapper;
+import com.example.chillisauce.schedules.dto.CalendarFeedTokenResponseDto;
+import com.example.chillisauce.schedules.dto.CalendarStampWrapper;
+import com.example.chillisauce.schedules.exception.ScheduleException;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.schedules.vo.CalendarFeed;
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.users.entity.User;
+import com.example.chillisauce.users.entity.UserRoleEnum;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CalendarFeedService 클래스")
+class CalendarFeedServiceTest {
+
+    @InjectMocks
+    CalendarFeedService calendarFeedService;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    ScheduleRepository scheduleRepository;
+
+    @Mock
+    ReservationRepository reservationRepository;
+
+    User user = User.builder()
+            .id(1L)
+            .email("test@test.com")
+            .username("testUser")
+            .role(UserRoleEnum.USER)
+            .build();
+
+    @Nested
+    @DisplayName("issueToken 메서드는")
+    class IssueTokenTestCase {
+        @Test
+        void 추측할_수_없는_토큰을_발급해_유저에_저장한다() {
+            // given
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+            // when
+            CalendarFeedTokenResponseDto first = calendarFeedService.issueToken(new UserDetailsImpl(user, user.getEmail()));
+            CalendarFeedTokenResponseDto second = calendarFeedService.issueToken(new UserDetailsImpl(user, user.getEmail()));
+
+            // then
+            assertThat(first.getToken()).hasSize(43).isNotEqualTo(second.getToken());
+            assertThat(second.getFeedPath()).isEqualTo("/schedules/feed/" + second.getToken() + ".ics");
+            assertThat(user.getCalendarToken()).isEqualTo(second.getToken());
+        }
+    }
+
+    @Nested
+    @DisplayName("getFeed 메서드는")
+    class GetFeedTestCase {
+        @Test
+        void 건수와_마지막_수정_시각으로_ETag_와_Last_Modified_를_만든다() {
+            // given
+            LocalDateTime modifiedAt = LocalDateTime.of(2023, 4, 18, 9, 0);
+            when(userRepository.findByCalendarToken("token")).thenReturn(Optional.of(user));
+            when(scheduleRepository.findCalendarStamp(eq(1L), any())).thenReturn(stamp(3L, modifiedAt));
+            when(reservationRepository.findCalendarStamp(eq(1L), any())).thenReturn(stamp(1L, modifiedAt.minusDays(1)));
+
+            // when
+            CalendarFeed feed = calendarFeedService.getFeed("token");
+
+            // then
+            long lastModified = modifiedAt.atZone(CalendarFeed.ZONE).toInstant().toEpochMilli();
+            assertThat(feed.getUserId()).isEqualTo(1L);
+            assertThat(feed.getFrom()).isEqualTo(LocalDate.now().minusDays(CalendarFeedService.PAST_DAYS).atStartOfDay());
+            assertThat(feed.getLastModified()).isEqualTo(lastModified);
+            assertThat(feed.getEtag()).isEqualTo("\"3-1-" + lastModified + "\"");
+        }
+
+        @Test
+        void 일정이_없으면_Last_Modified_를_보내지_않는다() {
+            // given
+            when(userRepository.findByCalendarToken("token")).thenReturn(Optional.of(user));
+            when(scheduleRepository.findCalendarStamp(eq(1L), any())).thenReturn(stamp(0L, null));
+            when(reservationRepository.findCalendarStamp(eq(1L), any())).thenReturn(stamp(0L, null));
+
+            // when
+            CalendarFeed feed = calendarFeedService.getFeed("token");
+
+            // then
+            assertThat(feed.getLastModified()).isEqualTo(-1);
+            assertThat(feed.getEtag()).isEqualTo("\"0-0--1\"");
+        }
+
+        @Test
+        void 없는_토큰이면_예외가_발생한다() {
+            // given
+            when(userRepository.findByCalendarToken("unknown")).thenReturn(Optional.empty());
+
+            // when, then
+            assertThatThrownBy(() -> calendarFeedService.getFeed("unknown"))
+                    .isInstanceOf(ScheduleException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("writeFeed 메서드는")
+    class WriteFeedTestCase {
+        LocalDateTime from = LocalDate.of(2023, 3, 19).atStartOfDay();
+        CalendarFeed feed = new CalendarFeed(1L, from, "\"1-1-0\"", 0);
+
+        @Test
+        void 스케줄과_주최_예약을_iCalendar_이벤트로_쓴다() throws IOException {
+            // given
+            when(scheduleRepository.streamCalendarEvents(1L, from)).thenReturn(Stream.of(
+                    event(1L, "문서 정리, 보고", "1층; 회의실\n준비", LocalDateTime.of(2023, 4, 18, 13, 0))));
+            when(reservationRepository.streamCalendarEvents(1L, from)).thenReturn(Stream.of(
+                    event(1L, "회의", "회의실1", LocalDateTime.of(2023, 4, 18, 15, 0))));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            calendarFeedService.writeFeed(feed, out);
+
+            // then
+            String body = out.toString(StandardCharsets.UTF_8);
+            assertThat(body).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n").endsWith("END:VCALENDAR\r\n");
+            assertThat(body).contains(
+                    "UID:schedule-1@chillisauce\r\n",
+                    "DTSTART:20230418T040000Z\r\n",
+                    "DTEND:20230418T050000Z\r\n",
+                    "SUMMARY:문서 정리\\, 보고\r\n",
+                    "DESCRIPTION:1층\\; 회의실\\n준비\r\n",
+                    "UID:reservation-1@chillisauce\r\n",
+                    "DTSTART:20230418T060000Z\r\n");
+        }
+
+        @Test
+        void 긴_줄은_75_octet_단위로_접는다() throws IOException {
+            // given
+            String title = "가".repeat(40);
+            when(scheduleRepository.streamCalendarEvents(1L, from)).thenReturn(Stream.of(
+                    event(1L, title, "", LocalDateTime.of(2023, 4, 18, 13, 0))));
+            when(reservationRepository.streamCalendarEvents(1L, from)).thenReturn(Stream.empty());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            calendarFeedService.writeFeed(feed, out);
+
+            // then
+            String body = out.toString(StandardCharsets.UTF_8);
+            assertThat(body).doesNotContain("DESCRIPTION:");
+            assertThat(body.split("\r\n"))
+                    .allSatisfy(line -> assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75));
+            assertThat(body.replace("\r\n ", "")).contains("SUMMARY:" + title + "\r\n");
+        }
+    }
+
+    private static CalendarStampWrapper stamp(Long count, LocalDateTime modifiedAt) {
+        return new CalendarStampWrapper() {
+            @Override
+            public Long getCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getModifiedAt() {
+                return modifiedAt;
+            }
+        };
+    }
+
+    private static CalendarEventWrapper event(Long id, String title, String description, LocalDateTime start) {
+        return new CalendarEventWrapper() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEndTime() {
+                return start.plusMinutes(59);
+            }
+
+            @Override
+            public LocalDateTime getModifiedAt() {
+                return null;
+            }
+        };
+    }
+}
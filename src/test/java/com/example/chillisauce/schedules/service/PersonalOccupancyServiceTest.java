@@ -0,0 +1,141 @@
+package com.example.chillisauce.schedules.service;
+
+import com.example.chillisauce.reservations.dto.UserIntervalWrapper;
+import com.example.chillisauce.reservations.repository.ReservationRepository;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
+import com.example.chillisauce.schedules.repository.ScheduleArchiveRepository;
+import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PersonalOccupancyService 클래스")
+class PersonalOccupancyServiceTest {
+    @InjectMocks
+    PersonalOccupancyService personalOccupancyService;
+
+    @Mock
+    ScheduleRepository scheduleRepository;
+
+    @Mock
+    ScheduleArchiveRepository scheduleArchiveRepository;
+
+    @Mock
+    ReservationRepository reservationRepository;
+
+    @Nested
+    @DisplayName("getOccupancies 메서드는")
+    class GetOccupanciesTestCase {
+        // given
+        // 기본 정책은 7시부터 1시간 슬롯, H 시 슬롯 번호는 H - 7
+        SlotPolicy policy = SlotPolicy.DEFAULT;
+
+        @Test
+        void 개인_스케줄과_주최_참석하는_예약을_하나의_비트맵으로_합친다() {
+            // given
+            LocalDate day = LocalDate.now().plusDays(1);
+            when(scheduleRepository.findIntervalsByUserIdIn(eq(List.of(1L)), any(), any()))
+                    .thenReturn(List.of(userInterval(1L, day.atTime(9, 0), day.atTime(9, 59))));
+            when(reservationRepository.findIntervalsByOrganizerIdIn(eq(List.of(1L)), any(), any()))
+                    .thenReturn(List.of(userInterval(1L, day.atTime(9, 0), day.atTime(9, 59))));
+            when(reservationRepository.findIntervalsByAttendeeIdIn(eq(List.of(1L)), any(), any()))
+                    .thenReturn(List.of(userInterval(1L, day.atTime(14, 0), day.atTime(15, 59))));
+
+            // when
+            SlotBitmap[] result = personalOccupancyService.getOccupancies(1L, policy, day, day);
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result[0].isOccupied(2)).isTrue();
+            assertThat(result[0].isOccupied(7)).isTrue();
+            assertThat(result[0].isOccupied(8)).isTrue();
+            assertThat(result[0].isOccupied(3)).isFalse();
+            verify(scheduleArchiveRepository, never()).findIntervalsByUserIdIn(any(), any(), any());
+        }
+
+        @Test
+        void 지난_날짜면_보관된_스케줄도_함께_표시한다() {
+            // given
+            LocalDate day = LocalDate.of(2023, 4, 26);
+            when(scheduleRepository.findIntervalsByUserIdIn(eq(List.of(1L)), any(), any())).thenReturn(List.of());
+            when(scheduleArchiveRepository.findIntervalsByUserIdIn(eq(List.of(1L)), any(), any()))
+                    .thenReturn(List.of(userInterval(1L, day.atTime(19, 0), day.atTime(19, 59))));
+            when(reservationRepository.findIntervalsByOrganizerIdIn(eq(List.of(1L)), any(), any())).thenReturn(List.of());
+            when(reservationRepository.findIntervalsByAttendeeIdIn(eq(List.of(1L)), any(), any())).thenReturn(List.of());
+
+            // when
+            SlotBitmap[] result = personalOccupancyService.getOccupancies(1L, policy, day, day);
+
+            // then
+            assertThat(result[0].isOccupied(12)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 유저의 getOccupancies 메서드는")
+    class GetBulkOccupanciesTestCase {
+        // given
+        // 기본 정책은 7시부터 1시간 슬롯, H 시 슬롯 번호는 H - 7
+        SlotPolicy policy = SlotPolicy.DEFAULT;
+
+        @Test
+        void 유저_수와_관계없이_한_번씩_조회해_유저별_비트맵을_만든다() {
+            // given
+            LocalDate day = LocalDate.now().plusDays(1);
+            List<Long> userIds = List.of(1L, 2L, 3L);
+            when(scheduleRepository.findIntervalsByUserIdIn(eq(userIds), any(), any()))
+                    .thenReturn(List.of(userInterval(1L, day.atTime(9, 0), day.atTime(9, 59))));
+            when(reservationRepository.findIntervalsByOrganizerIdIn(eq(userIds), any(), any()))
+                    .thenReturn(List.of(userInterval(2L, day.atTime(14, 0), day.atTime(14, 59))));
+            when(reservationRepository.findIntervalsByAttendeeIdIn(eq(userIds), any(), any()))
+                    .thenReturn(List.of(userInterval(1L, day.atTime(14, 0), day.atTime(14, 59))));
+
+            // when
+            Map<Long, SlotBitmap[]> result = personalOccupancyService.getOccupancies(userIds, policy, day, day);
+
+            // then
+            assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+            assertThat(result.get(1L)[0].toLong()).isEqualTo((1L << 2) | (1L << 7));
+            assertThat(result.get(2L)[0].toLong()).isEqualTo(1L << 7);
+            assertThat(result.get(3L)[0].toLong()).isZero();
+            verify(scheduleArchiveRepository, never()).findIntervalsByUserIdIn(any(), any(), any());
+        }
+    }
+
+    private static UserIntervalWrapper userInterval(Long userId, LocalDateTime start, LocalDateTime end) {
+        return new UserIntervalWrapper() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEndTime() {
+                return end;
+            }
+        };
+    }
+}
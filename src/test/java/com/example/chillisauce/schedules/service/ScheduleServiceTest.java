@@ -2,7 +2,10 @@ package com.example.chillisauce.schedules.service;
 
 import com.example.chillisauce.fixture.FixtureFactory;
 import com.example.chillisauce.reservations.exception.ReservationException;
+import com.example.chillisauce.reservations.service.SlotPolicyService;
 import com.example.chillisauce.reservations.vo.ReservationTimetable;
+import com.example.chillisauce.reservations.vo.SlotBitmap;
+import com.example.chillisauce.reservations.vo.SlotPolicy;
 import com.example.chillisauce.schedules.dto.*;
 import com.example.chillisauce.schedules.entity.Schedule;
 import com.example.chillisauce.schedules.exception.ScheduleException;
@@ -22,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +45,12 @@ class ScheduleServiceTest {
     @Mock
     ScheduleRepository scheduleRepository;
 
+    @Mock
+    SlotPolicyService slotPolicyService;
+
+    @Mock
+    PersonalOccupancyService personalOccupancyService;
+
     @Nested
     @DisplayName("getAllSchedules 메서드는")
     class GetAllSchedulesTestCase {
@@ -111,12 +121,13 @@ class ScheduleServiceTest {
                 .user(user)
                 .title("testScheduleTwo")
                 .build();
-        List<Schedule> schedules = List.of(scheduleOne, scheduleTwo);
 
         @Test
         void 당일_스케줄을_조회한다() {
             // given
-            when(scheduleRepository.findAllByUserIdAndStartTimeBetween(eq(1L), any(), any())).thenReturn(schedules);
+            SlotBitmap occupancy = SlotBitmap.of(SlotPolicy.DEFAULT, selDate, List.of(scheduleOne, scheduleTwo));
+            when(personalOccupancyService.getOccupancies(1L, SlotPolicy.DEFAULT, selDate, selDate))
+                    .thenReturn(new SlotBitmap[]{occupancy});
 
             // when
             ScheduleTimetableResponseDto result = scheduleService.getDaySchedules(selDate, userDetails);
@@ -124,9 +135,100 @@ class ScheduleServiceTest {
             // then
             assertThat(result.getTimeList())
                     .isNotEmpty()
+                    .hasSize(ReservationTimetable.CLOSE_HOUR - ReservationTimetable.OPEN_HOUR + 1)
+                    .filteredOn(x -> x.getIsCheckOut().equals(true))
+                    .extracting("start")
+                    .containsExactly(LocalTime.of(15, 0), LocalTime.of(19, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("getRangeSchedules 메서드는")
+    class GetRangeSchedulesTestCase {
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email("test@test.com")
+                .username("testUser")
+                .role(UserRoleEnum.USER)
+                .build();
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getUsername());
+        LocalDate from = LocalDate.of(2023, 4, 24);
+        LocalDate to = LocalDate.of(2023, 4, 30);
+
+        @Test
+        void 기간의_일자별_스케줄_타임테이블을_조회한다() {
+            // given
+            Schedule monday = Schedule.builder()
+                    .id(1L)
+                    .startTime(LocalDateTime.of(2023, 4, 24, 9, 0))
+                    .endTime(LocalDateTime.of(2023, 4, 24, 10, 59))
+                    .user(user)
+                    .title("monday")
+                    .build();
+            Schedule friday = Schedule.builder()
+                    .id(2L)
+                    .startTime(LocalDateTime.of(2023, 4, 28, 15, 0))
+                    .endTime(LocalDateTime.of(2023, 4, 28, 15, 59))
+                    .user(user)
+                    .title("friday")
+                    .build();
+            when(personalOccupancyService.getOccupancies(1L, SlotPolicy.DEFAULT, from, to))
+                    .thenReturn(SlotBitmap.ofRange(SlotPolicy.DEFAULT, from, to, List.of(monday, friday)));
+
+            // when
+            ScheduleRangeTimetableResponseDto result = scheduleService.getRangeSchedules(from, to, userDetails);
+
+            // then
+            assertThat(result.getDayList()).hasSize(7);
+            assertThat(result.getDayList().get(0).getTimeList())
                     .hasSize(ReservationTimetable.CLOSE_HOUR - ReservationTimetable.OPEN_HOUR + 1)
                     .filteredOn(x -> x.getIsCheckOut().equals(true))
                     .hasSize(2);
+            assertThat(result.getDayList().get(4).getTimeList())
+                    .filteredOn(x -> x.getIsCheckOut().equals(true))
+                    .hasSize(1);
+            assertThat(result.getDayList().get(1).getTimeList())
+                    .noneMatch(x -> x.getIsCheckOut().equals(true));
+        }
+
+        @Test
+        void 종료_날짜가_시작_날짜보다_빠르면_예외를_반환한다() {
+            // when, then
+            assertThatThrownBy(() -> scheduleService.getRangeSchedules(to, from, userDetails))
+                    .isInstanceOf(ScheduleException.class).hasMessage("조회 기간이 올바르지 않습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("getWeekSchedules 메서드는")
+    class GetWeekSchedulesTestCase {
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email("test@test.com")
+                .username("testUser")
+                .role(UserRoleEnum.USER)
+                .build();
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, user.getUsername());
+
+        @Test
+        void 선택_날짜가_속한_주의_월요일부터_일요일까지_조회한다() {
+            // given
+            LocalDate monday = LocalDate.of(2023, 4, 24);
+            LocalDate sunday = LocalDate.of(2023, 4, 30);
+            when(personalOccupancyService.getOccupancies(1L, SlotPolicy.DEFAULT, monday, sunday))
+                    .thenReturn(SlotBitmap.ofRange(SlotPolicy.DEFAULT, monday, sunday, List.of()));
+
+            // when
+            ScheduleRangeTimetableResponseDto result =
+                    scheduleService.getWeekSchedules(LocalDate.of(2023, 4, 27), userDetails);
+
+            // then
+            assertThat(result.getDayList()).hasSize(7)
+                    .extracting("date")
+                    .startsWith(monday)
+                    .endsWith(sunday);
         }
     }
 
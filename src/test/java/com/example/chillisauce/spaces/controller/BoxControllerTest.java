@@ -66,8 +66,8 @@ public class BoxControllerTest {
             Long spaceId = 1L;
             String url = "/boxes/" + companyName + "/" + spaceId;
 
-            BoxRequestDto boxRequestDto = new BoxRequestDto("Box 생성 테스트", "200", "300");
-            BoxResponseDto boxResponseDto = new BoxResponseDto(1L, "Box 생성 테스트", "200", "300", null);
+            BoxRequestDto boxRequestDto = new BoxRequestDto("Box 생성 테스트", 200.0, 300.0);
+            BoxResponseDto boxResponseDto = new BoxResponseDto(1L, "Box 생성 테스트", 200.0, 300.0, null);
             when(boxService.createBox(eq(companyName), eq(spaceId), any(), any())).thenReturn(boxResponseDto);
 
 
@@ -86,8 +86,8 @@ public class BoxControllerTest {
                             getDocumentResponse(),
                             requestFields(
                                     fieldWithPath("boxName").type(JsonFieldType.STRING).description("박스 이름"),
-                                    fieldWithPath("x").type(JsonFieldType.STRING).description("박스 X 좌표"),
-                                    fieldWithPath("y").type(JsonFieldType.STRING).description("박스 Y 좌표")
+                                    fieldWithPath("x").type(JsonFieldType.NUMBER).description("박스 X 좌표"),
+                                    fieldWithPath("y").type(JsonFieldType.NUMBER).description("박스 Y 좌표")
 
                             ),
 
@@ -107,8 +107,8 @@ public class BoxControllerTest {
             String companyName = "testCompany";
             Long boxId = 1L;
             String url = "/boxes/" + companyName + "/" + boxId;
-            BoxRequestDto boxRequestDto = new BoxRequestDto("Box 수정 테스트", "200", "300");
-            BoxResponseDto boxResponseDto = new BoxResponseDto(1L, "Box 수정 테스트", "200", "300", null);
+            BoxRequestDto boxRequestDto = new BoxRequestDto("Box 수정 테스트", 200.0, 300.0);
+            BoxResponseDto boxResponseDto = new BoxResponseDto(1L, "Box 수정 테스트", 200.0, 300.0, null);
             when(boxService.updateBox(eq(companyName), eq(boxId), any(), any())).thenReturn(boxResponseDto);
 
             //when
@@ -125,8 +125,8 @@ public class BoxControllerTest {
                             getDocumentResponse(),
                             requestFields(
                                     fieldWithPath("boxName").type(JsonFieldType.STRING).description("박스 이름"),
-                                    fieldWithPath("x").type(JsonFieldType.STRING).description("박스 X 좌표"),
-                                    fieldWithPath("y").type(JsonFieldType.STRING).description("박스 Y 좌표")
+                                    fieldWithPath("x").type(JsonFieldType.NUMBER).description("박스 X 좌표"),
+                                    fieldWithPath("y").type(JsonFieldType.NUMBER).description("박스 Y 좌표")
 
                             ),
 
@@ -146,7 +146,7 @@ public class BoxControllerTest {
             String companyName = "testCompany";
             Long boxId = 1L;
             String url = "/boxes/" + companyName + "/" + boxId;
-            BoxResponseDto boxResponseDto = new BoxResponseDto(1L, "Box 삭제 테스트", "200", "300", null);
+            BoxResponseDto boxResponseDto = new BoxResponseDto(1L, "Box 삭제 테스트", 200.0, 300.0, null);
             when(boxService.deleteBox(eq(companyName), eq(boxId), any())).thenReturn(boxResponseDto);
 
             //when
@@ -2,6 +2,7 @@ package com.example.chillisauce.spaces.controller;
 
 import com.example.chillisauce.spaces.dto.request.FloorRequestDto;
 import com.example.chillisauce.spaces.dto.response.FloorResponseDto;
+import com.example.chillisauce.spaces.service.FloorMapVersion;
 import com.example.chillisauce.spaces.service.FloorService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
@@ -29,11 +31,14 @@ import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentRequest;
 import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentResponse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
@@ -43,6 +48,8 @@ public class FloorControllerTest {
     private FloorController floorController;
     @Mock
     private FloorService floorService;
+    @Mock
+    private FloorMapVersion floorMapVersion;
 
     private MockMvc mockMvc;
 
@@ -109,7 +116,8 @@ public class FloorControllerTest {
             responseDtoList.add(new FloorResponseDto(1L, "Floor 수정 테스트",new ArrayList<>()));
 
             FloorRequestDto floorRequestDto = new FloorRequestDto("Floor 수정 테스트");
-            when(floorService.getFloor(eq(companyName), any())).thenReturn(responseDtoList);
+            when(floorMapVersion.current(eq(companyName), any())).thenReturn(3L);
+            when(floorService.getFloor(eq(companyName), eq(3L), any())).thenReturn(responseDtoList);
 
             //when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
@@ -119,6 +127,7 @@ public class FloorControllerTest {
                     .content(objectMapper.writeValueAsString(floorRequestDto)));
             //then
             result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
                     .andDo(document("get-getFloor",
                             getDocumentRequest(),
                             getDocumentResponse(),
@@ -136,6 +145,26 @@ public class FloorControllerTest {
                             )
                     ));
         }
+
+        @Test
+        @WithMockUser
+        void Floor_조회_배치도_버전이_같으면_304() throws Exception {
+            //given
+            String companyName = "testCompany";
+            String url = "/floors/" + companyName;
+            when(floorMapVersion.current(eq(companyName), any())).thenReturn(3L);
+
+            //when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .header("Authorization", "Bearer Token")
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                    .accept(MediaType.APPLICATION_JSON));
+
+            //then
+            result.andExpect(status().isNotModified());
+            verify(floorService, never()).getFloor(any(), eq(3L), any());
+        }
+
         @Test
         @WithMockUser
         void Floor_수정_성공() throws Exception {
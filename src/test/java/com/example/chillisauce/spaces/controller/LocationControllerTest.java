@@ -3,6 +3,7 @@ package com.example.chillisauce.spaces.controller;
 import com.example.chillisauce.spaces.dto.request.BoxRequestDto;
 import com.example.chillisauce.spaces.dto.response.LocationDto;
 import com.example.chillisauce.spaces.service.LocationService;
+import com.example.chillisauce.spaces.service.OccupancySubscriptionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentRequest;
 import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentResponse;
@@ -29,6 +31,7 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 @ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
 public class LocationControllerTest {
@@ -36,6 +39,8 @@ public class LocationControllerTest {
     private LocationController locationController;
     @Mock
     private LocationService locationService;
+    @Mock
+    private OccupancySubscriptionService occupancySubscriptionService;
 
     private MockMvc mockMvc;
 
@@ -58,8 +63,8 @@ public class LocationControllerTest {
         String companyName = "test";
         Long locationId = 1L;
         String url = "/locations/" + companyName +"/" + locationId;
-        BoxRequestDto boxRequestDto = new BoxRequestDto("테스트", "200", "300");
-        LocationDto locationDto = new LocationDto(1L, "테스트",  "200", "300");
+        BoxRequestDto boxRequestDto = new BoxRequestDto("테스트", 200.0, 300.0);
+        LocationDto locationDto = new LocationDto(1L, "테스트",  200.0, 300.0);
         when(locationService.moveWithUser(eq(companyName),eq(locationId), any())).thenReturn(locationDto);
 
         //when
@@ -76,8 +81,8 @@ public class LocationControllerTest {
                         getDocumentResponse(),
                         requestFields(
                                 fieldWithPath("boxName").type(JsonFieldType.STRING).description("박스 이름"),
-                                fieldWithPath("x").type(JsonFieldType.STRING).description("박스 X 좌표"),
-                                fieldWithPath("y").type(JsonFieldType.STRING).description("박스 Y 좌표")
+                                fieldWithPath("x").type(JsonFieldType.NUMBER).description("박스 X 좌표"),
+                                fieldWithPath("y").type(JsonFieldType.NUMBER).description("박스 Y 좌표")
 
                         ),
 
@@ -89,6 +94,19 @@ public class LocationControllerTest {
                         )
                 ));
     }
-}
 
+    @Test
+    @WithMockUser
+    void 좌석_점유_변경_구독_이벤트_스트림을_연다() throws Exception {
+        //given
+        String companyName = "test";
+        String url = "/locations/" + companyName + "/subscribe";
+        when(occupancySubscriptionService.subscribe(eq(companyName), any())).thenReturn(new SseEmitter());
 
+        //when, then
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header("Authorization", "Bearer Token")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+}
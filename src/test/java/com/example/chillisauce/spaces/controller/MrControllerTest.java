@@ -69,8 +69,8 @@ public class MrControllerTest {
             Long spaceId = 1L;
             String url = "/mr/" + companyName + "/" + spaceId;
 
-            MrRequestDto mrRequestDto = new MrRequestDto("Mr 테스트 생성", "777", "888");
-            MrResponseDto mrResponseDto = new MrResponseDto(1L, "Mr 테스트 생성", "777", "888");
+            MrRequestDto mrRequestDto = new MrRequestDto("Mr 테스트 생성", 777.0, 888.0);
+            MrResponseDto mrResponseDto = new MrResponseDto(1L, "Mr 테스트 생성", 777.0, 888.0);
             when(mrService.createMr(eq(companyName), eq(spaceId), any(), any())).thenReturn(mrResponseDto);
 
             //when
@@ -87,8 +87,8 @@ public class MrControllerTest {
                             getDocumentResponse(),
                             requestFields(
                                     fieldWithPath("mrName").type(JsonFieldType.STRING).description("Mr 이름"),
-                                    fieldWithPath("x").type(JsonFieldType.STRING).description("Mr X 좌표"),
-                                    fieldWithPath("y").type(JsonFieldType.STRING).description("Mr Y 좌표")
+                                    fieldWithPath("x").type(JsonFieldType.NUMBER).description("Mr X 좌표"),
+                                    fieldWithPath("y").type(JsonFieldType.NUMBER).description("Mr Y 좌표")
 
                             ),
 
@@ -107,8 +107,8 @@ public class MrControllerTest {
             String companyName = "testCompany";
             Long mrId = 1L;
             String url = "/mr/" + companyName + "/" + mrId;
-            MrRequestDto mrRequestDto = new MrRequestDto("Mr 수정 OK?", "777", "888");
-            MrResponseDto mrResponseDto = new MrResponseDto(1L, "Mr 수정 OK?", "777", "888");
+            MrRequestDto mrRequestDto = new MrRequestDto("Mr 수정 OK?", 777.0, 888.0);
+            MrResponseDto mrResponseDto = new MrResponseDto(1L, "Mr 수정 OK?", 777.0, 888.0);
             when(mrService.updateMr(eq(companyName), eq(mrId), any(), any())).thenReturn(mrResponseDto);
 
             //when
@@ -125,8 +125,8 @@ public class MrControllerTest {
                             getDocumentResponse(),
                             requestFields(
                                     fieldWithPath("mrName").type(JsonFieldType.STRING).description("Mr 이름"),
-                                    fieldWithPath("x").type(JsonFieldType.STRING).description("Mr X 좌표"),
-                                    fieldWithPath("y").type(JsonFieldType.STRING).description("Mr Y 좌표")
+                                    fieldWithPath("x").type(JsonFieldType.NUMBER).description("Mr X 좌표"),
+                                    fieldWithPath("y").type(JsonFieldType.NUMBER).description("Mr Y 좌표")
 
                             ),
 
@@ -146,7 +146,7 @@ public class MrControllerTest {
             String companyName = "testCompany";
             Long mrId = 1L;
             String url = "/mr/" + companyName + "/" + mrId;
-            MrResponseDto mrResponseDto = new MrResponseDto(1L, "Mr 테스트 생성", "777", "888");
+            MrResponseDto mrResponseDto = new MrResponseDto(1L, "Mr 테스트 생성", 777.0, 888.0);
             when(mrService.deleteMr(eq(companyName), eq(mrId), any())).thenReturn(mrResponseDto);
 
             //when
@@ -177,7 +177,7 @@ public class MrControllerTest {
             String url = "/mr/" + companyName;
             List<MrResponseDto> mrResponseDtoList = new ArrayList<>();
             List<ReservationResponse> reservationList = new ArrayList<>();
-            mrResponseDtoList.add(new MrResponseDto(1L,"Mr 테스트 생성", "777" , "888", reservationList));
+            mrResponseDtoList.add(new MrResponseDto(1L,"Mr 테스트 생성", 777.0 , 888.0, reservationList));
 
             when(mrService.mrlist(eq(companyName), any())).thenReturn(mrResponseDtoList);
 
@@ -198,8 +198,8 @@ public class MrControllerTest {
                                     fieldWithPath("data[]").type(JsonFieldType.ARRAY).description("결과값"),
                                     fieldWithPath("data[].mrId").type(JsonFieldType.NUMBER).description("mr id"),
                                     fieldWithPath("data[].mrName").type(JsonFieldType.STRING).description("mr 이름"),
-                                    fieldWithPath("data[].x").type(JsonFieldType.STRING).description("Mr X값 좌표"),
-                                    fieldWithPath("data[].y").type(JsonFieldType.STRING).description("Mr Y값 좌표"),
+                                    fieldWithPath("data[].x").type(JsonFieldType.NUMBER).description("Mr X값 좌표"),
+                                    fieldWithPath("data[].y").type(JsonFieldType.NUMBER).description("Mr Y값 좌표"),
                                     fieldWithPath("data[].reservationList[]").type(JsonFieldType.ARRAY).description("예약 리스트")
                             )
                     ));
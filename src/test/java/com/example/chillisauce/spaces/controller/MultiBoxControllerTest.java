@@ -65,8 +65,8 @@ public class MultiBoxControllerTest {
             Long spaceId = 1L;
             String url = "/multiBox/" + companyName + "/" + spaceId;
 
-            MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("MultiBox 생성 테스트", "555", "444");
-            MultiBoxResponseDto multiBoxResponseDto = new MultiBoxResponseDto(1L, "MultiBox 생성 테스트", "200", "300", null);
+            MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("MultiBox 생성 테스트", 555.0, 444.0);
+            MultiBoxResponseDto multiBoxResponseDto = new MultiBoxResponseDto(1L, "MultiBox 생성 테스트", 200.0, 300.0, null);
             when(multiBoxService.createMultiBox(eq(companyName), eq(spaceId), any(), any())).thenReturn(multiBoxResponseDto);
 
 
@@ -85,8 +85,8 @@ public class MultiBoxControllerTest {
                             getDocumentResponse(),
                             requestFields(
                                     fieldWithPath("multiBoxName").type(JsonFieldType.STRING).description("MultiBox 이름"),
-                                    fieldWithPath("x").type(JsonFieldType.STRING).description("MultiBox X 좌표"),
-                                    fieldWithPath("y").type(JsonFieldType.STRING).description("MultiBox Y 좌표")
+                                    fieldWithPath("x").type(JsonFieldType.NUMBER).description("MultiBox X 좌표"),
+                                    fieldWithPath("y").type(JsonFieldType.NUMBER).description("MultiBox Y 좌표")
 
                             ),
 
@@ -106,8 +106,8 @@ public class MultiBoxControllerTest {
             String companyName = "testCompany";
             Long multiboxId = 1L;
             String url = "/multiBox/" + companyName + "/" + multiboxId;
-            MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("MultiBox 수정 OK???", "555", "444");
-            MultiBoxResponseDto multiBoxResponseDto = new MultiBoxResponseDto(1L, "MultiBox 수정 OK???", "200", "300", null);
+            MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("MultiBox 수정 OK???", 555.0, 444.0);
+            MultiBoxResponseDto multiBoxResponseDto = new MultiBoxResponseDto(1L, "MultiBox 수정 OK???", 200.0, 300.0, null);
             when(multiBoxService.updateMultiBox(eq(companyName), eq(multiboxId), any(), any())).thenReturn(multiBoxResponseDto);
 
             //when
@@ -124,8 +124,8 @@ public class MultiBoxControllerTest {
                             getDocumentResponse(),
                             requestFields(
                                     fieldWithPath("multiBoxName").type(JsonFieldType.STRING).description("MultiBox 이름"),
-                                    fieldWithPath("x").type(JsonFieldType.STRING).description("MultiBox X 좌표"),
-                                    fieldWithPath("y").type(JsonFieldType.STRING).description("MultiBox Y 좌표")
+                                    fieldWithPath("x").type(JsonFieldType.NUMBER).description("MultiBox X 좌표"),
+                                    fieldWithPath("y").type(JsonFieldType.NUMBER).description("MultiBox Y 좌표")
 
                             ),
 
@@ -145,7 +145,7 @@ public class MultiBoxControllerTest {
             String companyName = "testCompany";
             Long multiboxId = 1L;
             String url = "/multiBox/" + companyName + "/" + multiboxId;
-            MultiBoxResponseDto multiBoxResponseDto = new MultiBoxResponseDto(1L, "MultiBox 생성 테스트", "200", "300", null);
+            MultiBoxResponseDto multiBoxResponseDto = new MultiBoxResponseDto(1L, "MultiBox 생성 테스트", 200.0, 300.0, null);
             when(multiBoxService.deleteMultiBox(eq(companyName), eq(multiboxId), any())).thenReturn(multiBoxResponseDto);
 
             //when
@@ -1,9 +1,20 @@
 package com.example.chillisauce.spaces.controller;
 
+import com.example.chillisauce.spaces.dto.request.BoxRequestDto;
+import com.example.chillisauce.spaces.dto.request.MrRequestDto;
+import com.example.chillisauce.spaces.dto.request.MultiBoxRequestDto;
+import com.example.chillisauce.spaces.dto.request.SpaceLayoutRequestDto;
 import com.example.chillisauce.spaces.dto.request.SpaceRequestDto;
+import com.example.chillisauce.spaces.dto.response.BoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.SpaceLayoutResponseDto;
 import com.example.chillisauce.spaces.dto.response.SpaceListResponseDto;
 import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
+import com.example.chillisauce.spaces.service.FloorMapVersion;
+import com.example.chillisauce.spaces.service.SeatRegistry;
+import com.example.chillisauce.spaces.service.SpaceLayoutService;
 import com.example.chillisauce.spaces.service.SpaceService;
+import com.example.chillisauce.spaces.service.SpaceViewportIndex;
+import com.example.chillisauce.spaces.vo.OccupancySnapshot;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -16,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
@@ -28,16 +40,22 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentRequest;
 import static com.example.chillisauce.docs.ApiDocumentUtil.getDocumentResponse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
@@ -47,6 +65,14 @@ public class SpaceControllerTest {
     private SpaceController spaceController;
     @Mock
     private SpaceService spaceService;
+    @Mock
+    private FloorMapVersion floorMapVersion;
+    @Mock
+    private SeatRegistry seatRegistry;
+    @Mock
+    private SpaceViewportIndex spaceViewportIndex;
+    @Mock
+    private SpaceLayoutService spaceLayoutService;
 
     private MockMvc mockMvc;
 
@@ -152,7 +178,8 @@ public class SpaceControllerTest {
 
             List<SpaceListResponseDto> responseDtoList = new ArrayList<>();
             responseDtoList.add(new SpaceListResponseDto(1L, "Test 공간", null, null));
-            when(spaceService.allSpacelist(eq(companyName), any())).thenReturn(responseDtoList);
+            when(floorMapVersion.current(eq(companyName), any())).thenReturn(3L);
+            when(spaceService.allSpacelist(eq(companyName), eq(3L), any())).thenReturn(responseDtoList);
 
             //when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
@@ -161,6 +188,7 @@ public class SpaceControllerTest {
                     .accept(MediaType.APPLICATION_JSON));
             //then
             result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
                     .andDo(document("get-allSpacelist",
                             getDocumentRequest(),
                             getDocumentResponse(),
@@ -187,7 +215,9 @@ public class SpaceControllerTest {
 
             List<SpaceResponseDto> responseDtoList = new ArrayList<>();
             responseDtoList.add(new SpaceResponseDto(1L, "Test 공간"));
-            when(spaceService.getSpacelist(eq(companyName), eq(spaceId), any())).thenReturn(responseDtoList);
+            when(floorMapVersion.current(eq(companyName), any())).thenReturn(3L);
+            when(seatRegistry.snapshot(companyName)).thenReturn(new OccupancySnapshot("100-2", Map.of()));
+            when(spaceService.getSpacelist(eq(companyName), eq(spaceId), eq(3L), any())).thenReturn(responseDtoList);
 
             //when
             ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
@@ -196,6 +226,7 @@ public class SpaceControllerTest {
                     .accept(MediaType.APPLICATION_JSON));
             //then
             result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3-100-2\""))
                     .andDo(document("get-getSpacelist",
                             getDocumentRequest(),
                             getDocumentResponse(),
@@ -214,6 +245,161 @@ public class SpaceControllerTest {
                     ));
         }
 
+        @Test
+        @WithMockUser
+        void Space_범위_조회() throws Exception {
+            //given
+            String companyName = "testCompany";
+            Long spaceId = 1L;
+            String url = "/spaces/" + companyName + "/" + spaceId + "/viewport";
+
+            List<BoxResponseDto> boxList = List.of(new BoxResponseDto(1L, "Test 박스", 200.0, 300.0, null));
+            SpaceResponseDto responseDto = new SpaceResponseDto(1L, "Test 공간", null, null,
+                    boxList, new ArrayList<>(), new ArrayList<>());
+            when(floorMapVersion.current(eq(companyName), any())).thenReturn(3L);
+            when(seatRegistry.snapshot(companyName)).thenReturn(new OccupancySnapshot("100-2", Map.of(1L, List.of("user1"))));
+            when(spaceViewportIndex.viewport(eq(companyName), eq(spaceId), eq(3L),
+                    eq(0.0), eq(0.0), eq(500.0), eq(400.0), any())).thenReturn(responseDto);
+
+            //when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .param("minX", "0").param("minY", "0")
+                    .param("maxX", "500").param("maxY", "400")
+                    .header("Authorization", "Bearer Token")
+                    .accept(MediaType.APPLICATION_JSON));
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3-100-2\""))
+                    .andDo(document("get-getSpaceViewport",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            requestParameters(
+                                    parameterWithName("minX").description("범위 최소 X 좌표"),
+                                    parameterWithName("minY").description("범위 최소 Y 좌표"),
+                                    parameterWithName("maxX").description("범위 최대 X 좌표"),
+                                    parameterWithName("maxY").description("범위 최대 Y 좌표")
+                            ),
+                            responseFields(
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("data.spaceId").type(JsonFieldType.NUMBER).description("Space id"),
+                                    fieldWithPath("data.spaceName").type(JsonFieldType.STRING).description("Space 이름"),
+                                    fieldWithPath("data.floorId").type(JsonFieldType.NULL).description("Floor id"),
+                                    fieldWithPath("data.floorName").type(JsonFieldType.NULL).description("Floor name"),
+                                    fieldWithPath("data.boxList[]").type(JsonFieldType.ARRAY).description("범위 안의 Box 리스트"),
+                                    fieldWithPath("data.boxList[].boxId").type(JsonFieldType.NUMBER).description("Box id"),
+                                    fieldWithPath("data.boxList[].boxName").type(JsonFieldType.STRING).description("Box 이름"),
+                                    fieldWithPath("data.boxList[].x").type(JsonFieldType.NUMBER).description("Box X 좌표"),
+                                    fieldWithPath("data.boxList[].y").type(JsonFieldType.NUMBER).description("Box Y 좌표"),
+                                    fieldWithPath("data.boxList[].username").type(JsonFieldType.STRING).description("Box 사용자"),
+                                    fieldWithPath("data.mrList[]").type(JsonFieldType.ARRAY).description("범위 안의 Mr 리스트"),
+                                    fieldWithPath("data.multiBoxList[]").type(JsonFieldType.ARRAY).description("범위 안의 MultiBox 리스트")
+                            )
+                    ));
+        }
+
+        @Test
+        @WithMockUser
+        void Space_배치도_가져오기() throws Exception {
+            //given
+            String companyName = "testCompany";
+            Long spaceId = 1L;
+            String url = "/spaces/" + companyName + "/" + spaceId + "/layout";
+
+            SpaceLayoutRequestDto requestDto = new SpaceLayoutRequestDto(
+                    List.of(new BoxRequestDto("A-01", 100.0, 100.0)),
+                    List.of(new MrRequestDto("회의실1", 300.0, 100.0)),
+                    List.of(new MultiBoxRequestDto("라운지", 500.0, 100.0)));
+            when(spaceLayoutService.importLayout(eq(companyName), eq(spaceId), any(), any()))
+                    .thenReturn(new SpaceLayoutResponseDto(spaceId, 1, 1, 1));
+
+            //when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.post(url)
+                    .header("Authorization", "Bearer Token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto)));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andDo(document("post-importLayout",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            requestFields(
+                                    fieldWithPath("boxList[].boxName").type(JsonFieldType.STRING).description("Box 이름"),
+                                    fieldWithPath("boxList[].x").type(JsonFieldType.NUMBER).description("Box X 좌표"),
+                                    fieldWithPath("boxList[].y").type(JsonFieldType.NUMBER).description("Box Y 좌표"),
+                                    fieldWithPath("mrList[].mrName").type(JsonFieldType.STRING).description("Mr 이름"),
+                                    fieldWithPath("mrList[].x").type(JsonFieldType.NUMBER).description("Mr X 좌표"),
+                                    fieldWithPath("mrList[].y").type(JsonFieldType.NUMBER).description("Mr Y 좌표"),
+                                    fieldWithPath("multiBoxList[].multiBoxName").type(JsonFieldType.STRING).description("MultiBox 이름"),
+                                    fieldWithPath("multiBoxList[].x").type(JsonFieldType.NUMBER).description("MultiBox X 좌표"),
+                                    fieldWithPath("multiBoxList[].y").type(JsonFieldType.NUMBER).description("MultiBox Y 좌표")
+                            ),
+                            responseFields(
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("data.spaceId").type(JsonFieldType.NUMBER).description("Space id"),
+                                    fieldWithPath("data.boxCount").type(JsonFieldType.NUMBER).description("추가된 Box 수"),
+                                    fieldWithPath("data.mrCount").type(JsonFieldType.NUMBER).description("추가된 Mr 수"),
+                                    fieldWithPath("data.multiBoxCount").type(JsonFieldType.NUMBER).description("추가된 MultiBox 수")
+                            )
+                    ));
+        }
+
+        @Test
+        @WithMockUser
+        void Space_배치도_CSV_가져오기() throws Exception {
+            //given
+            String companyName = "testCompany";
+            Long spaceId = 1L;
+            String url = "/spaces/" + companyName + "/" + spaceId + "/layout";
+            String csv = "type,name,x,y\nbox,A-01,100,100\nmr,회의실1,300,100\nmultibox,라운지,500,100\n";
+            when(spaceLayoutService.importCsv(eq(companyName), eq(spaceId), eq(csv), any()))
+                    .thenReturn(new SpaceLayoutResponseDto(spaceId, 1, 1, 1));
+
+            //when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.post(url)
+                    .header("Authorization", "Bearer Token")
+                    .contentType("text/csv;charset=UTF-8")
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(csv));
+
+            //then
+            result.andExpect(status().isOk())
+                    .andDo(document("post-importLayoutCsv",
+                            getDocumentRequest(),
+                            getDocumentResponse(),
+                            responseFields(
+                                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과메시지"),
+                                    fieldWithPath("statusCode").type(JsonFieldType.NUMBER).description("상태코드"),
+                                    fieldWithPath("data.spaceId").type(JsonFieldType.NUMBER).description("Space id"),
+                                    fieldWithPath("data.boxCount").type(JsonFieldType.NUMBER).description("추가된 Box 수"),
+                                    fieldWithPath("data.mrCount").type(JsonFieldType.NUMBER).description("추가된 Mr 수"),
+                                    fieldWithPath("data.multiBoxCount").type(JsonFieldType.NUMBER).description("추가된 MultiBox 수")
+                            )
+                    ));
+        }
+
+        @Test
+        @WithMockUser
+        void Space_전체_조회_배치도_버전이_같으면_304() throws Exception {
+            //given
+            String companyName = "testCompany";
+            String url = "/spaces/" + companyName;
+            when(floorMapVersion.current(eq(companyName), any())).thenReturn(3L);
+
+            //when
+            ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                    .header("Authorization", "Bearer Token")
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                    .accept(MediaType.APPLICATION_JSON));
+
+            //then
+            result.andExpect(status().isNotModified());
+            verify(spaceService, never()).allSpacelist(any(), eq(3L), any());
+        }
+
         @Test
         @WithMockUser
         void Space_수정_성공() throws Exception {
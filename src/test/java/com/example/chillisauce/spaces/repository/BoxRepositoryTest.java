@@ -35,8 +35,8 @@ class BoxRepositoryTest {
             //given
             Box box = (Box) Box.builder()
                     .locationName("테스트")
-                    .x("900")
-                    .y("800").build();
+                    .x(900.0)
+                    .y(800.0).build();
 
             //when
             Box saveBox = boxRepository.save(box);
@@ -75,8 +75,8 @@ class BoxRepositoryTest {
                 // given
                 final Box box = Box.builder()
                         .locationName("")
-                        .x("")
-                        .y("")
+                        .x(100.0)
+                        .y(100.0)
                         .build();
                 //when
                 assertThrows(ConstraintViolationException.class,
@@ -91,21 +91,6 @@ public class FloorRepositoryImplTest {
             assertThat(result.get(0).getSpaceList().get(1).getFloorName()).isEqualTo(floor.getFloorName());
         }
     }
-        @DisplayName("clearAllReservationsForFloor")
-        @Test
-        void floor에_속한_모든_예약_삭제() {
-            // given
-            Floor floor = Floor_생성_아이디_지정(1L);
-
-            // when
-            floorRepositoryImpl.clearAllReservationsForFloor(floor.getId());
-
-            // then
-            List<Reservation> reservations = reservationRepository.findAll();
-            for (Reservation res : reservations) {
-                assertNull(res.getMeetingRoom());
-            }
-        }
     }
 
 
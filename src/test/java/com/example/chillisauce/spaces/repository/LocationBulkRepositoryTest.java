@@ -0,0 +1,94 @@
+package com.example.chillisauce.spaces.repository;
+
+import com.example.chillisauce.config.JpaConfig;
+import com.example.chillisauce.config.TestConfig;
+import com.example.chillisauce.spaces.entity.Box;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.entity.MultiBox;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.users.entity.Companies;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TestConfig.class, JpaConfig.class, LocationBulkRepository.class})
+@DisplayName("LocationBulkRepository 클래스")
+class LocationBulkRepositoryTest {
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    LocationBulkRepository locationBulkRepository;
+    @Autowired
+    CompanyRepository companyRepository;
+    @Autowired
+    SpaceRepository spaceRepository;
+    @Autowired
+    BoxRepository boxRepository;
+    @Autowired
+    MrRepository mrRepository;
+    @Autowired
+    MultiBoxRepository multiBoxRepository;
+
+    @Test
+    void 묶음_크기를_넘는_위치도_모두_저장한다() {
+        // given
+        Companies companies = companyRepository.save(Company_생성_이름_지정("bulkCompany"));
+        Space space = spaceRepository.save(Space_생성_아이디_지정_회사_지정(null, companies));
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < LocationBulkRepository.FLUSH_SIZE + 10; i++) {
+            locations.add(new Box("box" + i, i * 10.0, 100.0, space));
+        }
+        locations.add(new Mr("mr", 50.0, 50.0, space));
+        locations.add(new MultiBox("multiBox", 70.0, 70.0, space));
+
+        // when
+        int result = locationBulkRepository.persistAll(locations);
+
+        // then
+        assertThat(result).isEqualTo(LocationBulkRepository.FLUSH_SIZE + 12);
+        assertThat(boxRepository.count()).isEqualTo(LocationBulkRepository.FLUSH_SIZE + 10);
+        assertThat(mrRepository.count()).isEqualTo(1);
+        assertThat(multiBoxRepository.count()).isEqualTo(1);
+        assertThat(boxRepository.findAll()).allSatisfy(box -> assertThat(box.getSpace().getId()).isEqualTo(space.getId()));
+    }
+
+    @Test
+    void 위치_INSERT_를_JDBC_배치로_묶어_보낸다() {
+        // given
+        Companies companies = companyRepository.save(Company_생성_이름_지정("batchCompany"));
+        Space space = spaceRepository.save(Space_생성_아이디_지정_회사_지정(null, companies));
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            locations.add(new Box("box" + i, i * 10.0, 100.0, space));
+        }
+        locations.add(new Mr("mr", 50.0, 50.0, space));
+        locations.add(new MultiBox("multiBox", 70.0, 70.0, space));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        statistics.clear();
+        locationBulkRepository.persistAll(locations);
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(122);
+        // 시퀀스 호출과 테이블별 INSERT 배치만 남는다, 한 건씩 보내면 위치와 하위 테이블에 244번 INSERT 한다
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(30);
+    }
+}
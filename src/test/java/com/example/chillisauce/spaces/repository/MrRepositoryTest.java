@@ -34,8 +34,8 @@ class MrRepositoryTest {
             //given
             Mr mr = (Mr) Mr.builder()
                     .locationName("테스트")
-                    .x("900")
-                    .y("800").build();
+                    .x(900.0)
+                    .y(800.0).build();
 
             //when
             Mr saveMr = mrRepository.save(mr);
@@ -74,8 +74,8 @@ class MrRepositoryTest {
                 // given
                 final Mr mr = (Mr) Mr.builder()
                         .locationName("")
-                        .x("")
-                        .y("")
+                        .x(100.0)
+                        .y(100.0)
                         .build();
                 //when
                 assertThrows(ConstraintViolationException.class,
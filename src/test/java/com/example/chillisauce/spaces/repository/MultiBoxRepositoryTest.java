@@ -33,8 +33,8 @@ public class MultiBoxRepositoryTest {
             //given
             MultiBox multiBox = (MultiBox) MultiBox.builder()
                     .locationName("테스트")
-                    .x("900")
-                    .y("800").build();
+                    .x(900.0)
+                    .y(800.0).build();
 
             //when
             MultiBox saveBox = multiBoxRepository.save(multiBox);
@@ -73,8 +73,8 @@ public class MultiBoxRepositoryTest {
                 // given
                 final MultiBox multiBox = (MultiBox) MultiBox.builder()
                         .locationName("")
-                        .x("")
-                        .y("")
+                        .x(100.0)
+                        .y(100.0)
                         .build();
                 //when
                 assertThrows(ConstraintViolationException.class,
@@ -81,7 +81,7 @@ public class SpaceRepositoryImplTest {
             userRepository.save(user);
             spaceRepository.save(space);
 
-            Location location = new Mr("testlocation", "150", "200", space);
+            Location location = new Mr("testlocation", 150.0, 200.0, space);
             location.setSpace(space);
             locationRepository.save(location);
 
@@ -136,22 +136,6 @@ public class SpaceRepositoryImplTest {
         }
 
 
-        @DisplayName("clearAllReservationsForSpace")
-        @Test
-        void 공간에_속한_회의실_NULL() {
-            // given
-            Long givenSpaceId = space.getId();
-            // when
-            spaceRepositoryImpl.clearAllReservationsForSpace(givenSpaceId);
-            // then
-            List<Reservation> reservations = reservationRepository.findAllByMeetingRoomId(mr.getId());
-            for (Reservation res : reservations) {
-                if (res.getMeetingRoom().getSpace().getId().equals(givenSpaceId)) {
-                    assertNull(res.getMeetingRoom());
-                }
-
-            }
-        }
     }
 
     @Nested
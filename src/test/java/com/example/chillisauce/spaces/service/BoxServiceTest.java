@@ -37,6 +37,9 @@ class BoxServiceTest {
     private BoxRepository boxRepository;
     @Mock
     private SpaceService spaceService;
+    @Mock
+    private FloorMapVersion floorMapVersion;
+
     @InjectMocks
     private BoxService boxService;
 
@@ -50,7 +53,7 @@ class BoxServiceTest {
         @Test
         void 박스_생성() {
             //given
-            BoxRequestDto boxRequestDto = new BoxRequestDto("이민재자리", "777", "777");
+            BoxRequestDto boxRequestDto = new BoxRequestDto("이민재자리", 777.0, 777.0);
             when(spaceService.findCompanyNameAndSpaceId(companies.getCompanyName(), space.getId())).thenReturn(space);
             when(boxRepository.save(any(Box.class))).thenReturn(box);
 
@@ -60,8 +63,8 @@ class BoxServiceTest {
             //then
             assertNotNull(boxResponseDto);
             assertEquals("이민재자리", boxResponseDto.getBoxName());
-            assertEquals("777", boxResponseDto.getX());
-            assertEquals("777", boxResponseDto.getY());
+            assertEquals(777.0, boxResponseDto.getX()));
+            assertEquals(777.0, boxResponseDto.getY()));
         }
 
         @Test
@@ -69,7 +72,7 @@ class BoxServiceTest {
             //given
             when(companyRepository.findByCompanyName(companies.getCompanyName())).thenReturn(Optional.of(companies));
             when(boxRepository.findByIdAndSpaceCompanies(box.getId(), companies)).thenReturn(Optional.of(box));
-            BoxRequestDto boxRequestDto = new BoxRequestDto("testBox", "500", "999");
+            BoxRequestDto boxRequestDto = new BoxRequestDto("testBox", 500.0, 999.0);
 
             //when
             BoxResponseDto boxResponseDto = boxService.updateBox(companies.getCompanyName(), box.getId(), boxRequestDto, details);
@@ -77,8 +80,8 @@ class BoxServiceTest {
             //then
             assertNotNull(boxResponseDto);
             assertEquals("testBox", boxResponseDto.getBoxName());
-            assertEquals("500", boxResponseDto.getX());
-            assertEquals("999", boxResponseDto.getY());
+            assertEquals(500.0, boxResponseDto.getX()));
+            assertEquals(999.0, boxResponseDto.getY()));
         }
 
         @Test
@@ -94,8 +97,8 @@ class BoxServiceTest {
             //then
             assertNotNull(boxResponseDto);
             assertEquals("testBox", boxResponseDto.getBoxName());
-            assertEquals("777", boxResponseDto.getX());
-            assertEquals("777", boxResponseDto.getY());
+            assertEquals(777.0, boxResponseDto.getX()));
+            assertEquals(777.0, boxResponseDto.getY()));
         }
 
 
@@ -105,7 +108,7 @@ class BoxServiceTest {
     class NotPermissionExceptionCase {
         // given
         UserDetailsImpl details = details_권한_USER(companies);
-        BoxRequestDto requestDto = new BoxRequestDto("BoxTest", "200", "300");
+        BoxRequestDto requestDto = new BoxRequestDto("BoxTest", 200.0, 300.0);
         public static void NOT_HAVE_PERMISSION_EXCEPTION(SpaceErrorCode expectedErrorCode, Executable executable) {
             SpaceException exception = assertThrows(SpaceException.class, executable);
             assertEquals(expectedErrorCode, exception.getErrorCode());
@@ -0,0 +1,198 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.vo.LayoutChangedEvent;
+import com.example.chillisauce.users.entity.Companies;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FloorMapVersion 클래스")
+class FloorMapVersionTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private FloorMapVersion floorMapVersion;
+
+    @BeforeEach
+    void init() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        floorMapVersion = new FloorMapVersion(redisTemplate, eventPublisher);
+    }
+
+    @Nested
+    @DisplayName("current 메서드는")
+    class CurrentTestCase {
+        // given
+        Companies companies = Company_생성();
+        UserDetailsImpl details = details_권한_ADMIN_유저_네임_NULL(companies);
+
+        @Test
+        void 회사의_배치도_버전을_반환한다() {
+            // given
+            when(valueOperations.get("floor-map-version:" + companies.getCompanyName())).thenReturn("7");
+
+            // when
+            long result = floorMapVersion.current(companies.getCompanyName(), details);
+
+            // then
+            assertThat(result).isEqualTo(7L);
+        }
+
+        @Test
+        void 다른_회사면_예외가_발생한다() {
+            // given
+            Companies different = Different_Company_생성();
+
+            // when, then
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> floorMapVersion.current(different.getCompanyName(), details));
+            assertEquals(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES, exception.getErrorCode());
+        }
+
+        @Test
+        void 버전이_없으면_현재_시각으로_시작한다() {
+            // given
+            String key = "floor-map-version:" + companies.getCompanyName();
+            when(valueOperations.setIfAbsent(eq(key), anyString())).thenReturn(true);
+            long before = System.currentTimeMillis();
+
+            // when
+            long result = floorMapVersion.current(companies.getCompanyName(), details);
+
+            // then
+            assertThat(result).isBetween(before, System.currentTimeMillis());
+        }
+
+        @Test
+        void Redis_장애면_조회마다_다른_버전을_반환한다() {
+            // given
+            when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("connection refused"));
+
+            // when
+            long first = floorMapVersion.current(companies.getCompanyName(), details);
+            long second = floorMapVersion.current(companies.getCompanyName(), details);
+
+            // then
+            assertThat(first).isNotEqualTo(second);
+        }
+    }
+
+    @Nested
+    @DisplayName("increaseAfterCommit 메서드는")
+    class IncreaseAfterCommitTestCase {
+        // given
+        String companyName = "testCompany";
+        String key = "floor-map-version:testCompany";
+
+        @AfterEach
+        void clear() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        void 트랜잭션_밖이면_바로_버전만_올린다() {
+            // when
+            floorMapVersion.increaseAfterCommit(companyName);
+
+            // then
+            verify(valueOperations).increment(key);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        void 트랜잭션_안이면_커밋_이후에_버전을_올린다() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            floorMapVersion.increaseAfterCommit(companyName);
+
+            // then
+            verify(valueOperations, never()).increment(key);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(valueOperations).increment(key);
+        }
+
+        @Test
+        void 버전_증가에_실패해도_예외를_던지지_않는다() {
+            // given
+            when(valueOperations.increment(key)).thenThrow(new IllegalStateException("connection refused"));
+
+            // when
+            floorMapVersion.increaseAfterCommit(companyName);
+
+            // then
+            verify(valueOperations).increment(key);
+        }
+    }
+
+    @Nested
+    @DisplayName("layoutChangedAfterCommit 메서드는")
+    class LayoutChangedAfterCommitTestCase {
+        // given
+        String companyName = "testCompany";
+        String key = "floor-map-version:testCompany";
+
+        @AfterEach
+        void clear() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        void 커밋_이후에_버전을_올리고_배치도_변경을_알린다() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            floorMapVersion.layoutChangedAfterCommit(companyName);
+
+            // then
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(valueOperations).increment(key);
+            ArgumentCaptor<LayoutChangedEvent> captor = ArgumentCaptor.forClass(LayoutChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getCompanyName()).isEqualTo(companyName);
+        }
+    }
+
+    @Test
+    void ETag_는_버전을_따옴표로_감싼다() {
+        assertThat(FloorMapVersion.etag(3L)).isEqualTo("\"3\"");
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.chillisauce.spaces.service;
 
+import com.example.chillisauce.reservations.service.ReservationCascadeService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.FloorRequestDto;
 import com.example.chillisauce.spaces.dto.response.FloorResponseDto;
@@ -37,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class FloorServiceTest {
@@ -45,10 +47,15 @@ public class FloorServiceTest {
     private CompanyRepository companyRepository;
     @Mock
     private FloorRepository floorRepository;
+    @Mock
+    private FloorMapVersion floorMapVersion;
+
     @InjectMocks
     private FloorService floorService;
     @Mock
     private SpaceRepository spaceRepository;
+    @Mock
+    private ReservationCascadeService reservationCascadeService;
 
     @Nested
     @DisplayName("성공케이스")
@@ -83,7 +90,7 @@ public class FloorServiceTest {
             when(floorRepository.getFloorAllList(companies.getCompanyName())).thenReturn(floorList.stream().map(FloorResponseDto::new).collect(Collectors.toList()));
 
             //when
-            List<FloorResponseDto> result = floorService.getFloor(companies.getCompanyName(), details);
+            List<FloorResponseDto> result = floorService.getFloor(companies.getCompanyName(), 1L, details);
 
             //Then
             assertNotNull(result);
@@ -111,7 +118,6 @@ public class FloorServiceTest {
         void Floor_삭제() {
             when(companyRepository.findByCompanyName(companies.getCompanyName())).thenReturn(Optional.of(Companies.builder().build()));
             when(floorRepository.findByIdAndCompanies(anyLong(), any(Companies.class))).thenReturn(Optional.of(floor));
-            doNothing().when(floorRepository).clearAllReservationsForFloor(floor.getId());
             doNothing().when(floorRepository).delete(floor);
             //when
             FloorResponseDto floorResponseDto = floorService.deleteFloor(companies.getCompanyName(), floor.getId(), details);
@@ -119,6 +125,7 @@ public class FloorServiceTest {
             //then
             assertNotNull(floorResponseDto);
             assertEquals("testFloor", floorResponseDto.getFloorName());
+            verify(reservationCascadeService).detachFloor(floor.getId());
         }
     }
 
@@ -180,7 +187,7 @@ public class FloorServiceTest {
         void Floor_전체_조회_해당_회사_권한_없음() {
             // when & then
             CompanyNotPermissionExceptionCase.COMPANIES_NOT_PERMISSION_EXCEPTION(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES, () -> {
-                floorService.getFloor(different.getCompanyName(), details);
+                floorService.getFloor(different.getCompanyName(), 1L, details);
             });
         }
     }
@@ -2,18 +2,10 @@ package com.example.chillisauce.spaces.service;
 
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.response.LocationDto;
-import com.example.chillisauce.spaces.entity.Box;
-import com.example.chillisauce.spaces.entity.Location;
-import com.example.chillisauce.spaces.entity.MultiBox;
-import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
 import com.example.chillisauce.spaces.repository.LocationRepository;
-import com.example.chillisauce.spaces.repository.UserLocationRepository;
 import com.example.chillisauce.users.entity.Companies;
-import com.example.chillisauce.users.entity.User;
-import com.example.chillisauce.users.entity.UserRoleEnum;
-import com.example.chillisauce.users.repository.CompanyRepository;
-import com.example.chillisauce.users.repository.UserRepository;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,57 +13,67 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import static com.example.chillisauce.fixture.FixtureFactory.*;
-import java.util.Optional;
 
-import static com.example.chillisauce.spaces.entity.QBox.box;
+import static com.example.chillisauce.fixture.FixtureFactory.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
 @ExtendWith(MockitoExtension.class)
 public class LocationServiceTest {
+    @Mock
+    private SeatRegistry seatRegistry;
+
     @InjectMocks
     private LocationService locationService;
 
     @Mock
     private LocationRepository locationRepository;
-    @Mock
-    private UserRepository userRepository;
-
-    @Mock
-    private UserLocationRepository userLocationRepository;
-    @Mock
-    private CompanyRepository companyRepository;
 
 
     @Nested
     @DisplayName("성공케이스")
     class SuccessCase {
-        Location next = Box_생성_아이디_지정(2L);
-        Location prev = MultiBox_생성_아이디_지정(1L);
         @Test
-        void UserLocation_isPresent_true_유저_멀티박스_박스_이동() {
+        void 좌석_레지스트리에서_자리를_잡고_좌석_정보를_돌려준다() {
             // given
             Long locationId = 2L;
             Companies company = Company_생성();
             UserDetailsImpl details = details_권한_USER(company);
-            Location differentLocation = Box_생성_아이디_지정(1L);
-            UserLocation userLocation = UserLocation_생성_Location(prev, details.getUser());
+            SeatRegistry.Seat seat = new SeatRegistry.Seat(locationId, "testBox", 777.0, 777.0, true);
 
-
-            when(locationRepository.findByIdAndCompanyName(eq(locationId), any())).thenReturn(Optional.of(next));
-            when(userLocationRepository.findByUserId(details.getUser().getId())).thenReturn(Optional.of(userLocation));
+            when(seatRegistry.claim(eq(company.getCompanyName()), any(), any(), eq(locationId))).thenReturn(seat);
 
             // when
-            LocationDto locationDto = locationService.moveWithUser(company.getCompanyName(),locationId,details);
+            LocationDto locationDto = locationService.moveWithUser(company.getCompanyName(), locationId, details);
 
             // then
-            assertEquals(locationDto.getLocationName(), differentLocation.getLocationName());
-            assertEquals(locationDto.getX(), differentLocation.getX());
-            assertEquals(locationDto.getY(), differentLocation.getY());
+            assertEquals(locationId, locationDto.getLocationId());
+            assertEquals("testBox", locationDto.getLocationName());
+            assertEquals(777.0, locationDto.getX()));
+            assertEquals(777.0, locationDto.getY()));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패케이스")
+    class FailCase {
+        @Test
+        void 다른_회사면_자리를_잡지_않는다() {
+            // given
+            UserDetailsImpl details = details_권한_USER(Company_생성());
+
+            // when, then
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> locationService.moveWithUser("differentCompany", 2L, details));
+            assertEquals(SpaceErrorCode.COMPANIES_NOT_FOUND, exception.getErrorCode());
+            verify(seatRegistry, never()).claim(any(), any(), any(), anyLong());
         }
     }
 }
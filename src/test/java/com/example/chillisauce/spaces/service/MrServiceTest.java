@@ -45,6 +45,9 @@ public class MrServiceTest {
     private CompanyRepository companyRepository;
     @Mock
     private MrRepository mrRepository;
+    @Mock
+    private FloorMapVersion floorMapVersion;
+
     @InjectMocks
     private MrService mrService;
     @Mock
@@ -65,7 +68,7 @@ public class MrServiceTest {
         @Test
         void 미팅룸_생성() {
             //given
-            MrRequestDto requestDto = new MrRequestDto("MrTest", "200", "300");
+            MrRequestDto requestDto = new MrRequestDto("MrTest", 200.0, 300.0);
             when(spaceService.findCompanyNameAndSpaceId(companies.getCompanyName(), space.getId())).thenReturn(space);
             when(mrRepository.save(any(Mr.class))).thenReturn(mr);
 
@@ -75,8 +78,8 @@ public class MrServiceTest {
             //then
             assertNotNull(mrResponseDto);
             assertEquals("MrTest", mrResponseDto.getMrName());
-            assertEquals("200", mrResponseDto.getX());
-            assertEquals("300", mrResponseDto.getY());
+            assertEquals(200.0, mrResponseDto.getX()));
+            assertEquals(300.0, mrResponseDto.getY()));
 
         }
 
@@ -104,7 +107,7 @@ public class MrServiceTest {
             Mr mr = Mr_생성_예약_추가(reservation);
             when(companyRepository.findByCompanyName(companies.getCompanyName())).thenReturn(Optional.of(companies));
             when(mrRepository.findByIdAndSpaceCompanies(mr.getId(), companies)).thenReturn(Optional.of(mr));
-            MrRequestDto requestDto = new MrRequestDto("MrTest", "200", "300");
+            MrRequestDto requestDto = new MrRequestDto("MrTest", 200.0, 300.0);
 
             //when
             MrResponseDto mrResponseDto = mrService.updateMr(companies.getCompanyName(), mr.getId(), requestDto, details);
@@ -112,8 +115,8 @@ public class MrServiceTest {
             //Then
             assertNotNull(mrResponseDto);
             assertEquals("MrTest", mrResponseDto.getMrName());
-            assertEquals("200", mrResponseDto.getX());
-            assertEquals("300", mrResponseDto.getY());
+            assertEquals(200.0, mrResponseDto.getX()));
+            assertEquals(300.0, mrResponseDto.getY()));
         }
 
         @Test
@@ -130,8 +133,8 @@ public class MrServiceTest {
             //Then
             assertNotNull(mrResponseDto);
             assertEquals("testMr", mrResponseDto.getMrName());
-            assertEquals("111", mrResponseDto.getX());
-            assertEquals("222", mrResponseDto.getY());
+            assertEquals(111.0, mrResponseDto.getX()));
+            assertEquals(222.0, mrResponseDto.getY()));
         }
     }
 
@@ -141,7 +144,7 @@ public class MrServiceTest {
         // given
         Companies companies = Company_생성();
         UserDetailsImpl details = details_권한_USER_유저_네임_NULL(companies);
-        MrRequestDto requestDto = new MrRequestDto("MrTest", "200", "300");
+        MrRequestDto requestDto = new MrRequestDto("MrTest", 200.0, 300.0);
         Space space = Space_생성_아이디_지정(1L);
 
         public static void NOT_HAVE_PERMISSION_EXCEPTION(SpaceErrorCode expectedErrorCode, Executable executable) {
@@ -34,6 +34,9 @@ public class MultiBoxServiceTest {
     private CompanyRepository companyRepository;
     @Mock
     private MultiBoxRepository multiBoxRepository;
+    @Mock
+    private FloorMapVersion floorMapVersion;
+
     @InjectMocks
     private MultiBoxService multiBoxService;
     @Mock
@@ -50,7 +53,7 @@ public class MultiBoxServiceTest {
         @Test
         void 멀티박스_생성() {
             //given
-            MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("testMultiBox", "222" , "200");
+            MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("testMultiBox", 222.0 , 200.0);
             when(spaceService.findCompanyNameAndSpaceId(companies.getCompanyName(), space.getId())).thenReturn(space);
             when(multiBoxRepository.save(any(MultiBox.class))).thenReturn(multiBox);
 
@@ -60,8 +63,8 @@ public class MultiBoxServiceTest {
             //then
             assertNotNull(multiBoxResponseDto);
             assertEquals("testMultiBox", multiBoxResponseDto.getMultiBoxName());
-            assertEquals("222", multiBoxResponseDto.getX());
-            assertEquals("200", multiBoxResponseDto.getY());
+            assertEquals(222.0, multiBoxResponseDto.getX()));
+            assertEquals(200.0, multiBoxResponseDto.getY()));
 
         }
         @Test
@@ -70,15 +73,15 @@ public class MultiBoxServiceTest {
 
             when(companyRepository.findByCompanyName(companies.getCompanyName())).thenReturn(Optional.of(companies));
             when(multiBoxRepository.findByIdAndSpaceCompanies(multiBox.getId(), companies)).thenReturn(Optional.of(multiBox));
-            MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("MultiBoxTest", "777", "888");
+            MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("MultiBoxTest", 777.0, 888.0);
             //when
             MultiBoxResponseDto multiBoxResponseDto = multiBoxService.updateMultiBox(companies.getCompanyName(),multiBox.getId(),multiBoxRequestDto,details);
 
             //Then
             assertNotNull(multiBoxResponseDto);
             assertEquals("MultiBoxTest",multiBoxResponseDto.getMultiBoxName());
-            assertEquals("777",multiBoxResponseDto.getX());
-            assertEquals("888",multiBoxResponseDto.getY());
+            assertEquals(777.0, multiBoxResponseDto.getX()));
+            assertEquals(888.0, multiBoxResponseDto.getY()));
         }
 
         @Test
@@ -95,8 +98,8 @@ public class MultiBoxServiceTest {
             //Then
             assertNotNull(multiBoxResponseDto);
             assertEquals("testMultiBox",multiBoxResponseDto.getMultiBoxName());
-            assertEquals("222",multiBoxResponseDto.getX());
-            assertEquals("200",multiBoxResponseDto.getY());
+            assertEquals(222.0, multiBoxResponseDto.getX()));
+            assertEquals(200.0, multiBoxResponseDto.getY()));
         }
     }
     @Nested
@@ -107,7 +110,7 @@ public class MultiBoxServiceTest {
         Space space = Space_생성_아이디_지정(1L);
         MultiBox multiBox = MultiBox_생성();
         UserDetailsImpl details = details_권한_USER(companies);
-        MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("MultiBoxTest", "777", "888");
+        MultiBoxRequestDto multiBoxRequestDto = new MultiBoxRequestDto("MultiBoxTest", 777.0, 888.0);
 
         public static void NOT_HAVE_PERMISSION_EXCEPTION(SpaceErrorCode expectedErrorCode, Executable executable) {
             SpaceException exception = assertThrows(SpaceException.class, executable);
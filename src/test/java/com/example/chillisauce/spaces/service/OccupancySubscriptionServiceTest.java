@@ -0,0 +1,77 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.dto.response.OccupancyChangeResponse;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.vo.SeatMovedEvent;
+import com.example.chillisauce.users.entity.Companies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OccupancySubscriptionService 클래스")
+class OccupancySubscriptionServiceTest {
+    OccupancySubscriptionService occupancySubscriptionService = new OccupancySubscriptionService();
+
+    Companies company = Company_생성();
+    UserDetailsImpl details = details_권한_USER(company);
+
+    @Nested
+    @DisplayName("subscribe 메서드는")
+    class SubscribeTestCase {
+        @Test
+        void 같은_회사면_구독을_등록한다() {
+            // when
+            SseEmitter result = occupancySubscriptionService.subscribe(company.getCompanyName(), details);
+
+            // then
+            assertThat(result.getTimeout()).isEqualTo(OccupancySubscriptionService.TIMEOUT_MILLIS);
+            assertThat(occupancySubscriptionService.subscriberCount(company.getCompanyName())).isEqualTo(1);
+        }
+
+        @Test
+        void 다른_회사면_예외를_반환한다() {
+            // when, then
+            assertThatThrownBy(() -> occupancySubscriptionService.subscribe("differentCompany", details))
+                    .isInstanceOf(SpaceException.class);
+            assertThat(occupancySubscriptionService.subscriberCount("differentCompany")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("send 메서드는")
+    class SendTestCase {
+        OccupancyChangeResponse change = new OccupancyChangeResponse("100-1",
+                new SeatMovedEvent(company.getCompanyName(), 1L, "testUser", 1L, 2L));
+
+        @Test
+        void 회사_구독자에게_전송한다() {
+            // given
+            occupancySubscriptionService.subscribe(company.getCompanyName(), details);
+
+            // when
+            occupancySubscriptionService.send(company.getCompanyName(), change);
+
+            // then
+            assertThat(occupancySubscriptionService.subscriberCount(company.getCompanyName())).isEqualTo(1);
+        }
+
+        @Test
+        void 끊어진_연결은_전송_중에_정리한다() {
+            // given
+            SseEmitter emitter = occupancySubscriptionService.subscribe(company.getCompanyName(), details);
+            emitter.complete();
+
+            // when
+            occupancySubscriptionService.send(company.getCompanyName(), change);
+
+            // then
+            assertThat(occupancySubscriptionService.subscriberCount(company.getCompanyName())).isZero();
+        }
+    }
+}
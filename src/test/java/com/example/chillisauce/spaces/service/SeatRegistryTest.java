@@ -0,0 +1,379 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.spaces.dto.SeatOccupancyWrapper;
+import com.example.chillisauce.spaces.dto.response.BoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.MultiBoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.OccupancyChangeResponse;
+import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
+import com.example.chillisauce.spaces.dto.response.UserLocationResponseDto;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.repository.LocationRepository;
+import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import com.example.chillisauce.spaces.vo.LayoutChangedEvent;
+import com.example.chillisauce.spaces.vo.OccupancySnapshot;
+import com.example.chillisauce.spaces.vo.SeatMovedEvent;
+import com.example.chillisauce.users.repository.CompanyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatRegistry 클래스")
+class SeatRegistryTest {
+    @Mock
+    private CompanyRepository companyRepository;
+    @Mock
+    private LocationRepository locationRepository;
+    @Mock
+    private UserLocationRepository userLocationRepository;
+    @Mock
+    private SeatWriteBehind seatWriteBehind;
+    @Mock
+    private OccupancySubscriptionService occupancySubscriptionService;
+
+    @InjectMocks
+    private SeatRegistry seatRegistry;
+
+    String companyName = "testCompany";
+
+    private SeatOccupancyWrapper occupancy(Long locationId, Long userId, String username) {
+        return new SeatOccupancyWrapper() {
+            @Override
+            public Long getLocationId() {
+                return locationId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+        };
+    }
+
+    // 박스 1, 멀티박스 2, 회의실 3
+    private void 좌석_배치(SeatOccupancyWrapper... occupancies) {
+        when(locationRepository.findAllByCompanyName(companyName)).thenReturn(List.of(
+                Box_생성_아이디_지정(1L), MultiBox_생성_아이디_지정(2L), MeetingRoom_생성_아이디_지정(3L)));
+        when(userLocationRepository.findOccupancyByCompanyName(companyName)).thenReturn(List.of(occupancies));
+    }
+
+    private static void SEAT_EXCEPTION(SpaceErrorCode expectedErrorCode, Executable executable) {
+        SpaceException exception = assertThrows(SpaceException.class, executable);
+        assertEquals(expectedErrorCode, exception.getErrorCode());
+    }
+
+    @Nested
+    @DisplayName("claim 메서드는")
+    class ClaimTestCase {
+        @Test
+        void 빈_박스를_잡고_DB_쓰기와_변경분_전송을_맡긴다() {
+            // given
+            좌석_배치();
+
+            // when
+            SeatRegistry.Seat result = seatRegistry.claim(companyName, 10L, "user1", 1L);
+
+            // then
+            assertThat(result.isExclusive()).isTrue();
+            assertThat(result.getLocationName()).isEqualTo("testBox");
+            assertThat(seatRegistry.snapshot(companyName).getUsernames().get(1L)).containsExactly("user1");
+
+            ArgumentCaptor<SeatMovedEvent> moved = ArgumentCaptor.forClass(SeatMovedEvent.class);
+            verify(seatWriteBehind).enqueue(moved.capture());
+            assertThat(moved.getValue().getFromLocationId()).isNull();
+            assertThat(moved.getValue().getToLocationId()).isEqualTo(1L);
+
+            ArgumentCaptor<OccupancyChangeResponse> change = ArgumentCaptor.forClass(OccupancyChangeResponse.class);
+            verify(occupancySubscriptionService).send(eq(companyName), change.capture());
+            assertThat(change.getValue().getRevision()).isEqualTo(seatRegistry.snapshot(companyName).getRevision());
+        }
+
+        @Test
+        void 다른_유저가_있는_박스면_예외가_발생한다() {
+            // given
+            좌석_배치(occupancy(1L, 20L, "user2"));
+
+            // when, then
+            SEAT_EXCEPTION(SpaceErrorCode.BOX_ALREADY_IN_USER, () -> seatRegistry.claim(companyName, 10L, "user1", 1L));
+            verify(seatWriteBehind, never()).enqueue(any());
+        }
+
+        @Test
+        void 회사_좌석이_아니면_예외가_발생한다() {
+            // given
+            좌석_배치();
+
+            // when, then
+            SEAT_EXCEPTION(SpaceErrorCode.BOX_NOT_FOUND, () -> seatRegistry.claim(companyName, 10L, "user1", 3L));
+            SEAT_EXCEPTION(SpaceErrorCode.BOX_NOT_FOUND, () -> seatRegistry.claim(companyName, 10L, "user1", 99L));
+        }
+
+        @Test
+        void 자리를_옮기면_이전_박스가_비워진다() {
+            // given
+            좌석_배치(occupancy(1L, 10L, "user1"));
+
+            // when
+            seatRegistry.claim(companyName, 10L, "user1", 2L);
+            seatRegistry.claim(companyName, 20L, "user2", 1L);
+
+            // then
+            OccupancySnapshot result = seatRegistry.snapshot(companyName);
+            assertThat(result.getUsernames().get(1L)).containsExactly("user2");
+            assertThat(result.getUsernames().get(2L)).containsExactly("user1");
+        }
+
+        @Test
+        void 멀티박스는_여러_유저가_앉는다() {
+            // given
+            좌석_배치(occupancy(2L, 10L, "user1"));
+
+            // when
+            seatRegistry.claim(companyName, 20L, "user2", 2L);
+
+            // then
+            assertThat(seatRegistry.snapshot(companyName).getUsernames().get(2L)).containsExactlyInAnyOrder("user1", "user2");
+        }
+
+        @Test
+        void 변경_전송은_유저_락을_놓은_뒤에_한다() {
+            // given
+            좌석_배치();
+            AtomicBoolean otherClaimed = new AtomicBoolean();
+            doAnswer(invocation -> {
+                OccupancyChangeResponse change = invocation.getArgument(1);
+                if (change.getUsername().equals("user1")) {
+                    // 같은 줄무늬의 다른 유저가 전송 중에도 자리를 잡을 수 있어야 한다
+                    ExecutorService other = Executors.newSingleThreadExecutor();
+                    try {
+                        other.submit(() -> seatRegistry.claim(companyName, 10L + SeatRegistry.STRIPES, "user2", 2L))
+                                .get(5, TimeUnit.SECONDS);
+                    } finally {
+                        other.shutdownNow();
+                    }
+                    otherClaimed.set(true);
+                }
+                return null;
+            }).when(occupancySubscriptionService).send(eq(companyName), any());
+
+            // when
+            seatRegistry.claim(companyName, 10L, "user1", 1L);
+
+            // then
+            assertThat(otherClaimed).isTrue();
+        }
+
+        @Test
+        void 같은_박스를_동시에_잡으면_한_명만_성공한다() throws InterruptedException {
+            // given
+            좌석_배치();
+            int threads = 16;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            AtomicInteger success = new AtomicInteger();
+            AtomicInteger occupied = new AtomicInteger();
+
+            // when
+            for (long userId = 1; userId <= threads; userId++) {
+                long id = userId;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        seatRegistry.claim(companyName, id, "user" + id, 1L);
+                        success.incrementAndGet();
+                    } catch (SpaceException e) {
+                        occupied.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            done.await(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // then
+            assertThat(success.get()).isEqualTo(1);
+            assertThat(occupied.get()).isEqualTo(threads - 1);
+            assertThat(seatRegistry.snapshot(companyName).getUsernames().get(1L)).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshot 메서드는")
+    class SnapshotTestCase {
+        @Test
+        void 처음_쓸_때만_DB_에서_읽는다() {
+            // given
+            좌석_배치(occupancy(1L, 10L, "user1"), occupancy(2L, 20L, "user2"));
+
+            // when
+            OccupancySnapshot first = seatRegistry.snapshot(companyName);
+            OccupancySnapshot second = seatRegistry.snapshot(companyName);
+
+            // then
+            assertThat(first.getUsernames().get(1L)).containsExactly("user1");
+            assertThat(first.getUsernames().get(2L)).containsExactly("user2");
+            assertThat(second.getRevision()).isEqualTo(first.getRevision());
+            verify(userLocationRepository, times(1)).findOccupancyByCompanyName(companyName);
+        }
+
+        @Test
+        void 캐시된_배치도를_바꾸지_않고_좌석_유저를_채운다() {
+            // given
+            좌석_배치(occupancy(1L, 10L, "user1"), occupancy(2L, 20L, "user2"), occupancy(2L, 30L, "user3"));
+            BoxResponseDto box = new BoxResponseDto(1L, "box", 100.0, 200.0, "stale");
+            MultiBoxResponseDto multiBox = new MultiBoxResponseDto(2L, "multiBox", 300.0, 400.0, List.of());
+            SpaceResponseDto layout = new SpaceResponseDto(1L, "space", null, null,
+                    List.of(box), new ArrayList<>(), List.of(multiBox));
+
+            // when
+            List<SpaceResponseDto> result = seatRegistry.snapshot(companyName).overlay(List.of(layout));
+
+            // then
+            assertThat(result.get(0).getBoxList().get(0).getUsername()).isEqualTo("user1");
+            assertThat(result.get(0).getMultiBoxList().get(0).getUserlist())
+                    .extracting(UserLocationResponseDto::getUsername).containsExactlyInAnyOrder("user2", "user3");
+            assertThat(box.getUsername()).isEqualTo("stale");
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild 메서드는")
+    class RebuildTestCase {
+        @Test
+        void 기동_시_모든_회사의_점유_현황을_읽는다() {
+            // given
+            when(companyRepository.findAllCompanyNames()).thenReturn(List.of(companyName));
+            좌석_배치(occupancy(1L, 10L, "user1"));
+
+            // when
+            seatRegistry.rebuild();
+
+            // then
+            assertThat(seatRegistry.snapshot(companyName).getUsernames().get(1L)).containsExactly("user1");
+            verify(userLocationRepository, times(1)).findOccupancyByCompanyName(companyName);
+        }
+    }
+
+    @Nested
+    @DisplayName("onLayoutChanged 메서드는")
+    class OnLayoutChangedTestCase {
+        @Test
+        void 지워진_좌석의_점유를_정리한다() {
+            // given
+            좌석_배치(occupancy(1L, 10L, "user1"), occupancy(2L, 20L, "user2"));
+            OccupancySnapshot before = seatRegistry.snapshot(companyName);
+            when(locationRepository.findAllByCompanyName(companyName)).thenReturn(List.of(MultiBox_생성_아이디_지정(2L)));
+
+            // when
+            seatRegistry.onLayoutChanged(new LayoutChangedEvent(companyName));
+
+            // then
+            OccupancySnapshot after = seatRegistry.snapshot(companyName);
+            assertThat(after.getUsernames()).doesNotContainKey(1L);
+            assertThat(after.getUsernames().get(2L)).containsExactly("user2");
+            assertThat(after.getRevision()).isNotEqualTo(before.getRevision());
+            SEAT_EXCEPTION(SpaceErrorCode.BOX_NOT_FOUND, () -> seatRegistry.claim(companyName, 10L, "user1", 1L));
+        }
+
+        @Test
+        void 좌석_삭제와_겹친_claim_은_점유를_되살리지_못한다() throws InterruptedException {
+            // given
+            좌석_배치();
+            seatRegistry.snapshot(companyName);
+            when(locationRepository.findAllByCompanyName(companyName)).thenReturn(List.of(MultiBox_생성_아이디_지정(2L)));
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads + 1);
+
+            // when
+            for (long userId = 1; userId <= threads; userId++) {
+                long id = userId;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        seatRegistry.claim(companyName, id, "user" + id, 1L);
+                    } catch (SpaceException e) {
+                        // 이미 다른 유저가 앉았거나 지워진 좌석
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    seatRegistry.onLayoutChanged(new LayoutChangedEvent(companyName));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            start.countDown();
+            done.await(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // then
+            assertThat(seatRegistry.snapshot(companyName).getUsernames()).doesNotContainKey(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("releaseAfterCommit 메서드는")
+    class ReleaseAfterCommitTestCase {
+        @Test
+        void 트랜잭션_밖이면_바로_좌석을_비운다() {
+            // given
+            좌석_배치(occupancy(1L, 10L, "user1"));
+            seatRegistry.snapshot(companyName);
+
+            // when
+            seatRegistry.releaseAfterCommit(10L);
+
+            // then
+            assertThat(seatRegistry.snapshot(companyName).getUsernames()).doesNotContainKey(1L);
+            verify(seatWriteBehind).cancel(10L);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.spaces.entity.Box;
+import com.example.chillisauce.spaces.entity.MultiBox;
+import com.example.chillisauce.spaces.entity.UserLocation;
+import com.example.chillisauce.spaces.repository.LocationRepository;
+import com.example.chillisauce.spaces.repository.UserLocationRepository;
+import com.example.chillisauce.spaces.vo.SeatMovedEvent;
+import com.example.chillisauce.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatWriteBehind 클래스")
+class SeatWriteBehindTest {
+    @Mock
+    private UserLocationRepository userLocationRepository;
+    @Mock
+    private LocationRepository locationRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SeatWriteBehind seatWriteBehind;
+
+    Box box = Box_생성_아이디_지정(1L);
+    MultiBox multiBox = MultiBox_생성_아이디_지정(2L);
+
+    @BeforeEach
+    void init() {
+        seatWriteBehind = new SeatWriteBehind(userLocationRepository, locationRepository, userRepository, transactionManager);
+    }
+
+    @Nested
+    @DisplayName("flush 메서드는")
+    class FlushTestCase {
+        @Test
+        void 유저별_마지막_이동만_쓴다() {
+            // given
+            UserLocation current = UserLocation.builder().userId(10L).username("user1").location(box).build();
+            seatWriteBehind.enqueue(new SeatMovedEvent("testCompany", 10L, "user1", null, 1L));
+            seatWriteBehind.enqueue(new SeatMovedEvent("testCompany", 10L, "user1", 1L, 2L));
+            when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L));
+            when(userLocationRepository.findAllByUserIdIn(anyCollection())).thenReturn(List.of(current));
+            when(locationRepository.findAllById(List.of(2L))).thenReturn(List.of(multiBox));
+
+            // when
+            seatWriteBehind.flush();
+
+            // then
+            assertThat(current.getLocation()).isEqualTo(multiBox);
+            assertThat(seatWriteBehind.pendingCount()).isZero();
+            verify(userLocationRepository, never()).save(any());
+        }
+
+        @Test
+        void 처음_앉은_유저는_새로_저장한다() {
+            // given
+            seatWriteBehind.enqueue(new SeatMovedEvent("testCompany", 10L, "user1", null, 1L));
+            when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L));
+            when(userLocationRepository.findAllByUserIdIn(anyCollection())).thenReturn(List.of());
+            when(locationRepository.findAllById(List.of(1L))).thenReturn(List.of(box));
+
+            // when
+            seatWriteBehind.flush();
+
+            // then
+            ArgumentCaptor<UserLocation> captor = ArgumentCaptor.forClass(UserLocation.class);
+            verify(userLocationRepository).save(captor.capture());
+            assertThat(captor.getValue().getUserId()).isEqualTo(10L);
+            assertThat(captor.getValue().getLocation()).isEqualTo(box);
+        }
+
+        @Test
+        void 지워진_좌석으로의_이동은_건너뛴다() {
+            // given
+            seatWriteBehind.enqueue(new SeatMovedEvent("testCompany", 10L, "user1", null, 1L));
+            when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L));
+            when(userLocationRepository.findAllByUserIdIn(anyCollection())).thenReturn(List.of());
+            when(locationRepository.findAllById(List.of(1L))).thenReturn(List.of());
+
+            // when
+            seatWriteBehind.flush();
+
+            // then
+            verify(userLocationRepository, never()).save(any());
+        }
+
+        @Test
+        void 그_사이_삭제된_유저는_쓰지_않는다() {
+            // given
+            seatWriteBehind.enqueue(new SeatMovedEvent("testCompany", 10L, "user1", null, 1L));
+            when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+            when(userLocationRepository.findAllByUserIdIn(anyCollection())).thenReturn(List.of());
+            when(locationRepository.findAllById(List.of(1L))).thenReturn(List.of(box));
+
+            // when
+            seatWriteBehind.flush();
+
+            // then
+            verify(userLocationRepository, never()).save(any());
+        }
+
+        @Test
+        void 실패하면_다음_주기에_다시_쓴다() {
+            // given
+            seatWriteBehind.enqueue(new SeatMovedEvent("testCompany", 10L, "user1", null, 1L));
+            when(userLocationRepository.findAllByUserIdIn(anyCollection())).thenThrow(new IllegalStateException("db down"));
+
+            // when
+            seatWriteBehind.flush();
+
+            // then
+            assertThat(seatWriteBehind.pendingCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 취소한_유저는_쓰지_않는다() {
+            // given
+            seatWriteBehind.enqueue(new SeatMovedEvent("testCompany", 10L, "user1", null, 1L));
+            seatWriteBehind.cancel(10L);
+
+            // when
+            seatWriteBehind.flush();
+
+            // then
+            verifyNoInteractions(userLocationRepository, locationRepository, userRepository);
+        }
+    }
+}
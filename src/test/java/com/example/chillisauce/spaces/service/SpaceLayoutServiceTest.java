@@ -0,0 +1,258 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.dto.request.BoxRequestDto;
+import com.example.chillisauce.spaces.dto.request.MrRequestDto;
+import com.example.chillisauce.spaces.dto.request.MultiBoxRequestDto;
+import com.example.chillisauce.spaces.dto.request.SpaceLayoutRequestDto;
+import com.example.chillisauce.spaces.dto.response.SpaceLayoutResponseDto;
+import com.example.chillisauce.spaces.entity.Box;
+import com.example.chillisauce.spaces.entity.Location;
+import com.example.chillisauce.spaces.entity.Mr;
+import com.example.chillisauce.spaces.entity.MultiBox;
+import com.example.chillisauce.spaces.entity.Space;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.exception.SpaceLayoutException;
+import com.example.chillisauce.spaces.repository.LocationBulkRepository;
+import com.example.chillisauce.users.entity.Companies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpaceLayoutService 클래스")
+class SpaceLayoutServiceTest {
+    @Mock
+    private SpaceService spaceService;
+    @Mock
+    private LocationBulkRepository locationBulkRepository;
+    @Mock
+    private FloorMapVersion floorMapVersion;
+
+    @InjectMocks
+    private SpaceLayoutService spaceLayoutService;
+
+    Companies companies = Company_생성();
+    String companyName = companies.getCompanyName();
+    UserDetailsImpl details = details_권한_ADMIN_유저_네임_NULL(companies);
+    Space space = Space_생성_아이디_지정(1L);
+
+    @SuppressWarnings("unchecked")
+    private List<Location> 저장된_위치() {
+        ArgumentCaptor<List<Location>> captor = ArgumentCaptor.forClass(List.class);
+        verify(locationBulkRepository).persistAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("importLayout 메서드는")
+    class ImportLayoutTestCase {
+        @Test
+        void 모든_위치를_한_번에_저장하고_배치도_버전을_한_번_올린다() {
+            // given
+            when(spaceService.findCompanyNameAndSpaceId(companyName, 1L)).thenReturn(space);
+            SpaceLayoutRequestDto request = new SpaceLayoutRequestDto(
+                    List.of(new BoxRequestDto("box1", 100.0, 100.0), new BoxRequestDto("box2", 200.0, 100.0)),
+                    List.of(new MrRequestDto("mr", 300.0, 300.0)),
+                    List.of(new MultiBoxRequestDto("multiBox", 400.0, 400.0)));
+
+            // when
+            SpaceLayoutResponseDto result = spaceLayoutService.importLayout(companyName, 1L, request, details);
+
+            // then
+            assertThat(result.getBoxCount()).isEqualTo(2);
+            assertThat(result.getMrCount()).isEqualTo(1);
+            assertThat(result.getMultiBoxCount()).isEqualTo(1);
+            List<Location> saved = 저장된_위치();
+            assertThat(saved).hasSize(4);
+            assertThat(saved).allSatisfy(location -> assertThat(location.getSpace()).isSameAs(space));
+            verify(floorMapVersion, times(1)).layoutChangedAfterCommit(companyName);
+        }
+
+        @Test
+        void 잘못된_행을_모두_모아_알리고_저장하지_않는다() {
+            // given
+            List<BoxRequestDto> boxList = new ArrayList<>();
+            boxList.add(new BoxRequestDto("", 100.0, 100.0));
+            boxList.add(null);
+            SpaceLayoutRequestDto request = new SpaceLayoutRequestDto(boxList,
+                    List.of(new MrRequestDto("mr", null, 300.0)), null);
+
+            // when
+            SpaceLayoutException exception = assertThrows(SpaceLayoutException.class,
+                    () -> spaceLayoutService.importLayout(companyName, 1L, request, details));
+
+            // then
+            assertEquals(SpaceErrorCode.INVALID_LAYOUT, exception.getErrorCode());
+            assertThat(exception.getErrors()).containsExactly(
+                    "boxList[0]: 이름이 비어 있습니다.",
+                    "boxList[1]: 이름이 비어 있습니다.",
+                    "boxList[1]: 좌표가 숫자가 아닙니다.",
+                    "mrList[0]: 좌표가 숫자가 아닙니다.");
+            verify(locationBulkRepository, never()).persistAll(any());
+            verify(floorMapVersion, never()).layoutChangedAfterCommit(anyString());
+        }
+
+        @Test
+        void 최대_개수를_넘으면_예외가_발생한다() {
+            // given
+            List<BoxRequestDto> boxList = new ArrayList<>();
+            for (int i = 0; i <= SpaceLayoutService.MAX_LOCATIONS; i++) {
+                boxList.add(new BoxRequestDto("box" + i, 1.0, 1.0));
+            }
+            SpaceLayoutRequestDto request = new SpaceLayoutRequestDto(boxList, List.of(), List.of());
+
+            // when, then
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> spaceLayoutService.importLayout(companyName, 1L, request, details));
+            assertEquals(SpaceErrorCode.LAYOUT_TOO_LARGE, exception.getErrorCode());
+        }
+
+        @Test
+        void 권한이_없으면_예외가_발생한다() {
+            // given
+            UserDetailsImpl user = details_권한_USER_유저_네임_NULL(companies);
+
+            // when, then
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> spaceLayoutService.importLayout(companyName, 1L, new SpaceLayoutRequestDto(), user));
+            assertEquals(SpaceErrorCode.NOT_HAVE_PERMISSION, exception.getErrorCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("importCsv 메서드는")
+    class ImportCsvTestCase {
+        @Test
+        void 종류별로_나눠_저장한다() {
+            // given
+            when(spaceService.findCompanyNameAndSpaceId(companyName, 1L)).thenReturn(space);
+            String csv = "\uFEFFtype,name,x,y\r\n"
+                    + "box,A-01,100,100\r\n"
+                    + "\r\n"
+                    + "MR,회의실1,250.5,80\r\n"
+                    + "multibox, 라운지 ,400,400\r\n";
+
+            // when
+            SpaceLayoutResponseDto result = spaceLayoutService.importCsv(companyName, 1L, csv, details);
+
+            // then
+            assertThat(result.getBoxCount()).isEqualTo(1);
+            assertThat(result.getMrCount()).isEqualTo(1);
+            assertThat(result.getMultiBoxCount()).isEqualTo(1);
+            List<Location> saved = 저장된_위치();
+            assertThat(saved.get(0)).isInstanceOf(Box.class);
+            assertThat(saved.get(1)).isInstanceOf(Mr.class);
+            assertThat(saved.get(1).getX()).isEqualTo(250.5);
+            assertThat(saved.get(2)).isInstanceOf(MultiBox.class);
+            assertThat(saved.get(2).getLocationName()).isEqualTo("라운지");
+            verify(floorMapVersion, times(1)).layoutChangedAfterCommit(companyName);
+        }
+
+        @Test
+        void 잘못된_행을_행_번호와_함께_알린다() {
+            // given
+            String csv = "type,name,x,y\n"
+                    + "box,A-01,100,100\n"
+                    + "desk,A-02,100,100\n"
+                    + "box,A-03,abc,100\n"
+                    + "box,A-04,100\n";
+
+            // when
+            SpaceLayoutException exception = assertThrows(SpaceLayoutException.class,
+                    () -> spaceLayoutService.importCsv(companyName, 1L, csv, details));
+
+            // then
+            assertThat(exception.getErrors()).containsExactly(
+                    "3행: type 은 box, mr, multibox 중 하나여야 합니다.",
+                    "4행: 좌표가 숫자가 아닙니다.",
+                    "5행: 열이 4개가 아닙니다.");
+            verify(locationBulkRepository, never()).persistAll(any());
+        }
+
+        @Test
+        void 따옴표로_감싼_열은_쉼표와_따옴표를_담을_수_있다() {
+            // given
+            when(spaceService.findCompanyNameAndSpaceId(companyName, 1L)).thenReturn(space);
+            String csv = "type,name,x,y\n"
+                    + "box,\"Desk, A\",1,2\n"
+                    + "mr,\"Desk A\",3,4\n"
+                    + "multibox,\"큰 \"\"라운지\"\"\",5,6\n";
+
+            // when
+            spaceLayoutService.importCsv(companyName, 1L, csv, details);
+
+            // then
+            List<Location> saved = 저장된_위치();
+            assertThat(saved).extracting(Location::getLocationName)
+                    .containsExactly("Desk, A", "Desk A", "큰 \"라운지\"");
+        }
+
+        @Test
+        void 따옴표가_닫히지_않은_행을_알린다() {
+            // given
+            String csv = "type,name,x,y\n"
+                    + "box,\"Desk, A,1,2\n"
+                    + "box,\"Desk\" A,1,2\n"
+                    + "box,De\"sk,1,2\n";
+
+            // when
+            SpaceLayoutException exception = assertThrows(SpaceLayoutException.class,
+                    () -> spaceLayoutService.importCsv(companyName, 1L, csv, details));
+
+            // then
+            assertThat(exception.getErrors()).containsExactly(
+                    "2행: 따옴표가 올바르게 닫히지 않았습니다.",
+                    "3행: 따옴표가 올바르게 닫히지 않았습니다.",
+                    "4행: 따옴표가 올바르게 닫히지 않았습니다.");
+            verify(locationBulkRepository, never()).persistAll(any());
+        }
+
+        @Test
+        void 빈_줄은_최대_개수에_세지_않는다() {
+            // given
+            when(spaceService.findCompanyNameAndSpaceId(companyName, 1L)).thenReturn(space);
+            StringBuilder csv = new StringBuilder("type,name,x,y\n");
+            for (int i = 0; i < SpaceLayoutService.MAX_LOCATIONS; i++) {
+                csv.append("box,box").append(i).append(",1,1\n\n");
+            }
+
+            // when
+            SpaceLayoutResponseDto result = spaceLayoutService.importCsv(companyName, 1L, csv.toString(), details);
+
+            // then
+            assertThat(result.getBoxCount()).isEqualTo(SpaceLayoutService.MAX_LOCATIONS);
+        }
+
+        @Test
+        void 헤더가_없으면_예외가_발생한다() {
+            // when
+            SpaceLayoutException exception = assertThrows(SpaceLayoutException.class,
+                    () -> spaceLayoutService.importCsv(companyName, 1L, "box,A-01,100,100", details));
+
+            // then
+            assertThat(exception.getErrors()).hasSize(1);
+            verify(locationBulkRepository, never()).persistAll(any());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.chillisauce.spaces.service;
 
+import com.example.chillisauce.reservations.service.ReservationCascadeService;
 import com.example.chillisauce.security.UserDetailsImpl;
 import com.example.chillisauce.spaces.dto.request.SpaceRequestDto;
 import com.example.chillisauce.spaces.dto.response.SpaceListResponseDto;
@@ -35,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -47,6 +49,11 @@ public class SpaceServiceTest {
     private SpaceRepository spaceRepository;
     @Mock
     private FloorRepository floorRepository;
+    @Mock
+    private ReservationCascadeService reservationCascadeService;
+    @Mock
+    private FloorMapVersion floorMapVersion;
+
     @InjectMocks
     private SpaceService spaceService;
 
@@ -99,7 +106,7 @@ public class SpaceServiceTest {
             when(spaceRepository.getSpaceAllList(companies.getCompanyName())).thenReturn(spaceList.stream().map(SpaceListResponseDto::new).collect(Collectors.toList()));
 
             // when
-            List<SpaceListResponseDto> result = spaceService.allSpacelist(companies.getCompanyName(), details);
+            List<SpaceListResponseDto> result = spaceService.allSpacelist(companies.getCompanyName(), 1L, details);
 
             // then
             assertNotNull(result);
@@ -116,7 +123,7 @@ public class SpaceServiceTest {
             when(spaceRepository.getSpacesList(space.getId())).thenReturn(spaceList.stream().map(SpaceResponseDto::new).collect(Collectors.toList()));
             when(spaceRepository.findById(eq(space.getId()))).thenReturn(Optional.of(space));
             //when
-            List<SpaceResponseDto> result = spaceService.getSpacelist(companies.getCompanyName(), space.getId(), details);
+            List<SpaceResponseDto> result = spaceService.getSpacelist(companies.getCompanyName(), space.getId(), 1L, details);
 
             //Then
             assertNotNull(result);
@@ -133,7 +140,7 @@ public class SpaceServiceTest {
             when(spaceRepository.getSpacesList(space.getId())).thenReturn(spaceList.stream().map(SpaceResponseDto::new).collect(Collectors.toList()));
             when(spaceRepository.findById(space.getId())).thenReturn(Optional.of(space));
             //when
-            List<SpaceResponseDto> result = spaceService.getSpacelist(companies.getCompanyName(), space.getId(), details);
+            List<SpaceResponseDto> result = spaceService.getSpacelist(companies.getCompanyName(), space.getId(), 1L, details);
 
             //Then
             assertNotNull(result);
@@ -163,7 +170,6 @@ public class SpaceServiceTest {
             //given
             when(companyRepository.findByCompanyName(companies.getCompanyName())).thenReturn(Optional.of(companies));
             when(spaceRepository.findByIdAndCompanies(space.getId(), companies)).thenReturn(Optional.of(space));
-            doNothing().when(spaceRepository).clearAllReservationsForSpace(space.getId());
             doNothing().when(spaceRepository).deleteById(space.getId());
 
             //when
@@ -172,6 +178,7 @@ public class SpaceServiceTest {
             //Then
             assertNotNull(spaceResponseDto);
             assertEquals("testSpace", spaceResponseDto.getSpaceName());
+            verify(reservationCascadeService).detachSpace(space.getId());
         }
 
         @Nested
@@ -234,7 +241,7 @@ public class SpaceServiceTest {
             void 전체_공간_조회_해당_회사_권한_없음() {
                 // when & then
                 CompanyNotPermissionExceptionCase.COMPANIES_NOT_PERMISSION_EXCEPTION(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES, () -> {
-                    spaceService.allSpacelist(differentCompanyName.getCompanyName(), details);
+                    spaceService.allSpacelist(differentCompanyName.getCompanyName(), 1L, details);
                 });
             }
 
@@ -242,7 +249,7 @@ public class SpaceServiceTest {
             void 선택_공간_조회_해당_회사_권한_없음() {
                 // when & then
                 CompanyNotPermissionExceptionCase.COMPANIES_NOT_PERMISSION_EXCEPTION(SpaceErrorCode.NOT_HAVE_PERMISSION_COMPANIES, () -> {
-                    spaceService.getSpacelist(differentCompanyName.getCompanyName(), space.getId(), details);
+                    spaceService.getSpacelist(differentCompanyName.getCompanyName(), space.getId(), 1L, details);
                 });
             }
         }
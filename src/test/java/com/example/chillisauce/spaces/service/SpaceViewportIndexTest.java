@@ -0,0 +1,159 @@
+package com.example.chillisauce.spaces.service;
+
+import com.example.chillisauce.security.UserDetailsImpl;
+import com.example.chillisauce.spaces.dto.response.BoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.MrResponseDto;
+import com.example.chillisauce.spaces.dto.response.MultiBoxResponseDto;
+import com.example.chillisauce.spaces.dto.response.SpaceResponseDto;
+import com.example.chillisauce.spaces.exception.SpaceErrorCode;
+import com.example.chillisauce.spaces.exception.SpaceException;
+import com.example.chillisauce.spaces.vo.LayoutChangedEvent;
+import com.example.chillisauce.users.entity.Companies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.example.chillisauce.fixture.FixtureFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpaceViewportIndex 클래스")
+class SpaceViewportIndexTest {
+    @Mock
+    private SpaceService spaceService;
+
+    @InjectMocks
+    private SpaceViewportIndex spaceViewportIndex;
+
+    Companies companies = Company_생성();
+    String companyName = companies.getCompanyName();
+    UserDetailsImpl details = details_권한_ADMIN_유저_네임_NULL(companies);
+    Long spaceId = 1L;
+
+    private SpaceResponseDto 배치도(List<BoxResponseDto> boxList) {
+        return new SpaceResponseDto(spaceId, "testSpace", null, null, boxList,
+                List.of(new MrResponseDto(10L, "mr", 150.0, 150.0)),
+                List.of(new MultiBoxResponseDto(20L, "multiBox", 900.0, 900.0, List.of())));
+    }
+
+    private BoxResponseDto 박스(long id, double x, double y) {
+        return new BoxResponseDto(id, "box" + id, x, y, null);
+    }
+
+    @Nested
+    @DisplayName("viewport 메서드는")
+    class ViewportTestCase {
+        @Test
+        void 범위_안의_박스_회의실_멀티박스만_돌려준다() {
+            // given
+            when(spaceService.getSpacelist(companyName, spaceId, 3L, details)).thenReturn(List.of(배치도(List.of(
+                    박스(1L, 100.0, 100.0), 박스(2L, 200.0, 200.0), 박스(3L, 800.0, 100.0)))));
+
+            // when
+            SpaceResponseDto result = spaceViewportIndex.viewport(companyName, spaceId, 3L, 0, 0, 200, 200, details);
+
+            // then
+            assertThat(result.getSpaceName()).isEqualTo("testSpace");
+            assertThat(result.getBoxList()).extracting(BoxResponseDto::getBoxId).containsExactly(1L, 2L);
+            assertThat(result.getMrList()).extracting(MrResponseDto::getMrId).containsExactly(10L);
+            assertThat(result.getMultiBoxList()).isEmpty();
+        }
+
+        @Test
+        void 많은_좌석에서도_전체를_훑은_결과와_같다() {
+            // given
+            Random random = new Random(24);
+            List<BoxResponseDto> boxList = new ArrayList<>();
+            for (long id = 1; id <= 5000; id++) {
+                boxList.add(박스(id, random.nextInt(20000) / 10.0, random.nextInt(8000) / 10.0));
+            }
+            when(spaceService.getSpacelist(companyName, spaceId, 3L, details)).thenReturn(List.of(배치도(boxList)));
+
+            for (int i = 0; i < 50; i++) {
+                double minX = random.nextInt(2000), minY = random.nextInt(800);
+                double maxX = minX + random.nextInt(400), maxY = minY + random.nextInt(300);
+
+                // when
+                SpaceResponseDto result = spaceViewportIndex.viewport(companyName, spaceId, 3L, minX, minY, maxX, maxY, details);
+
+                // then
+                List<BoxResponseDto> expected = boxList.stream()
+                        .filter(box -> box.getX() >= minX && box.getX() <= maxX && box.getY() >= minY && box.getY() <= maxY)
+                        .collect(Collectors.toList());
+                assertThat(result.getBoxList()).containsExactlyElementsOf(expected);
+            }
+            verify(spaceService, times(1)).getSpacelist(companyName, spaceId, 3L, details);
+        }
+
+        @Test
+        void 배치도_버전이_바뀌면_다시_만든다() {
+            // given
+            when(spaceService.getSpacelist(companyName, spaceId, 3L, details))
+                    .thenReturn(List.of(배치도(List.of(박스(1L, 100.0, 100.0)))));
+            when(spaceService.getSpacelist(companyName, spaceId, 4L, details))
+                    .thenReturn(List.of(배치도(List.of(박스(2L, 120.0, 120.0)))));
+            spaceViewportIndex.viewport(companyName, spaceId, 3L, 0, 0, 200, 200, details);
+
+            // when
+            SpaceResponseDto result = spaceViewportIndex.viewport(companyName, spaceId, 4L, 0, 0, 200, 200, details);
+
+            // then
+            assertThat(result.getBoxList()).extracting(BoxResponseDto::getBoxId).containsExactly(2L);
+        }
+
+        @Test
+        void 범위가_뒤집혀_있으면_예외가_발생한다() {
+            // when, then
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> spaceViewportIndex.viewport(companyName, spaceId, 3L, 200, 0, 100, 200, details));
+            assertEquals(SpaceErrorCode.INVALID_VIEWPORT, exception.getErrorCode());
+            verify(spaceService, never()).getSpacelist(any(), anyLong(), anyLong(), any());
+        }
+
+        @Test
+        void 공간이_없으면_예외가_발생한다() {
+            // given
+            when(spaceService.getSpacelist(companyName, spaceId, 3L, details)).thenReturn(List.of());
+
+            // when, then
+            SpaceException exception = assertThrows(SpaceException.class,
+                    () -> spaceViewportIndex.viewport(companyName, spaceId, 3L, 0, 0, 200, 200, details));
+            assertEquals(SpaceErrorCode.SPACE_NOT_FOUND, exception.getErrorCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("onLayoutChanged 메서드는")
+    class OnLayoutChangedTestCase {
+        @Test
+        void 해당_회사의_격자를_비운다() {
+            // given
+            when(spaceService.getSpacelist(companyName, spaceId, 3L, details))
+                    .thenReturn(List.of(배치도(List.of(박스(1L, 100.0, 100.0)))));
+            spaceViewportIndex.viewport(companyName, spaceId, 3L, 0, 0, 200, 200, details);
+
+            // when
+            spaceViewportIndex.onLayoutChanged(new LayoutChangedEvent(companyName));
+
+            // then
+            assertThat(spaceViewportIndex.gridCount()).isZero();
+        }
+    }
+}
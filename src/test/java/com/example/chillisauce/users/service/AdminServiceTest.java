@@ -1,12 +1,7 @@
 package com.example.chillisauce.users.service;
 
-import com.example.chillisauce.reservations.entity.Reservation;
-import com.example.chillisauce.reservations.repository.ReservationRepository;
-import com.example.chillisauce.schedules.entity.Schedule;
-import com.example.chillisauce.schedules.repository.ScheduleRepository;
+import com.example.chillisauce.reservations.service.ReservationCascadeService;
 import com.example.chillisauce.security.UserDetailsImpl;
-import com.example.chillisauce.spaces.entity.UserLocation;
-import com.example.chillisauce.spaces.repository.UserLocationRepository;
 import com.example.chillisauce.users.dto.request.RoleDeptUpdateRequestDto;
 import com.example.chillisauce.users.dto.response.UserDetailResponseDto;
 import com.example.chillisauce.users.dto.response.UserListResponseDto;
@@ -44,11 +39,7 @@ class AdminServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private ScheduleRepository scheduleRepository;
-    @Mock
-    private ReservationRepository reservationRepository;
-    @Mock
-    private UserLocationRepository userLocationRepository;
+    private ReservationCascadeService reservationCascadeService;
     @Mock
     CacheManager cacheManager;
     @Mock
@@ -132,33 +123,15 @@ class AdminServiceTest {
             //given
             UserDetailsImpl details = new UserDetailsImpl(admin, admin.getUsername());
 
-
-            Schedule schedule = Schedule.builder()
-                    .user(user)
-                    .build();
-
-            Reservation reservation = Reservation.builder()
-                    .user(user)
-                    .build();
-
-            UserLocation location = UserLocation.builder()
-                    .userId(2L).
-                    build();
-
             //when
             when(userRepository.findById(any())).thenReturn(Optional.of(user));
-            when(scheduleRepository.findAllByUserId(any())).thenReturn(List.of(schedule));
-            when(reservationRepository.findAllByUserId(any())).thenReturn(List.of(reservation));
-            when(userLocationRepository.findByUserId(any())).thenReturn(Optional.of(location));
             when(cacheManager.getCache("UserDetails")).thenReturn(userDetailsCache);
             String result = adminService.deleteUser(2L, details);
 
             //then
             assertThat(result).isEqualTo("사원 삭제 성공");
 
-            verify(scheduleRepository).deleteAll(List.of(schedule));
-            verify(reservationRepository).deleteAll(List.of(reservation));
-            verify(userLocationRepository).delete(location);
+            verify(reservationCascadeService).deleteUser(2L);
             verify(userRepository).delete(user);
             verify(userDetailsCache, times(1)).evict(user.getEmail());
         }